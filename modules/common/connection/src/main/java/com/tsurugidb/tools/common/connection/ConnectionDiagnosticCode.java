@@ -101,6 +101,23 @@ public enum ConnectionDiagnosticCode implements DiagnosticCode {
      */
     IO_ERROR("io", "connection to Tsurugi was failed by I/O error: {0}"), //$NON-NLS-1$ //$NON-NLS-2$
 
+    /**
+     * {@code lease_timeout} - no sessions in the pool became available within the timeout duration.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the endpoint URI </li>
+     * <li> {@code [1]} - the timeout duration in millisecond </li>
+     * </ul>
+     * @see SessionPool
+     * @since 1.17.0
+     */
+    LEASE_TIMEOUT(
+            "lease_timeout", //$NON-NLS-1$
+            "no sessions became available in the pool: {0} ({1}ms)"), //$NON-NLS-1$
+
     ;
 
     private final String tag;
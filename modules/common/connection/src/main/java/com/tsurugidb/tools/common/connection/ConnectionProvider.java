@@ -16,12 +16,14 @@
 package com.tsurugidb.tools.common.connection;
 
 import java.io.IOException;
+import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 
@@ -30,6 +32,7 @@ import org.slf4j.LoggerFactory;
 
 import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
 import com.tsurugidb.tools.common.diagnostic.DiagnosticUtil;
+import com.tsurugidb.tools.common.util.EndpointList;
 import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
 import com.tsurugidb.tsubakuro.common.Session;
 import com.tsurugidb.tsubakuro.common.SessionBuilder;
@@ -51,7 +54,61 @@ public class ConnectionProvider {
      * @throws DiagnosticException if error occurred while connecting to the Tsurugi server
      */
     public Session connect(@Nonnull ConnectionSettings settings) throws InterruptedException, DiagnosticException {
+        return connect(settings, endpoint -> {
+            // do nothing
+        });
+    }
+
+    /**
+     * Creates a new connection.
+     * <p>
+     * If there are more than one {@link ConnectionSettings#getEndpointUris() endpoints}, this tries the
+     * {@link EndpointList#getCandidates() candidates} in order, and falls back to the next one only if the former
+     * could not reach the server (I/O error or timeout).
+     * </p>
+     * @param settings the connection settings
+     * @param listener the listener which receives the endpoint URI of the established connection
+     * @return the created connection session
+     * @throws InterruptedException if interrupted while connecting to the server
+     * @throws DiagnosticException if error occurred while connecting to the Tsurugi server
+     * @since 1.17.0
+     */
+    public Session connect(@Nonnull ConnectionSettings settings, @Nonnull Consumer<? super URI> listener)
+            throws InterruptedException, DiagnosticException {
         Objects.requireNonNull(settings);
+        Objects.requireNonNull(listener);
+        var endpoints = settings.getEndpointUris();
+        var candidates = endpoints.getCandidates();
+        ConnectionException failure = null;
+        for (int i = 0, n = candidates.size(); i < n; i++) {
+            var endpoint = candidates.get(i);
+            var target = endpoints.getEndpoints().size() == 1 ? settings : settings.withEndpointUri(endpoint);
+            try {
+                var result = connectTo(target);
+                LOG.debug("connection was established: {}", endpoint); //$NON-NLS-1$
+                listener.accept(endpoint);
+                return result;
+            } catch (ConnectionException e) {
+                if (failure != null) {
+                    e.addSuppressed(failure);
+                }
+                if (i + 1 < n && isTransportFailure(e)) {
+                    LOG.debug("falling back to the next endpoint: {}", endpoint, e); //$NON-NLS-1$
+                    failure = e;
+                    continue;
+                }
+                throw e;
+            }
+        }
+        throw new AssertionError(settings);
+    }
+
+    private static boolean isTransportFailure(ConnectionException exception) {
+        var code = exception.getDiagnosticCode();
+        return code == ConnectionDiagnosticCode.IO_ERROR || code == ConnectionDiagnosticCode.TIMEOUT;
+    }
+
+    private Session connectTo(ConnectionSettings settings) throws InterruptedException, DiagnosticException {
         LOG.trace("enter: connect: {}", settings); //$NON-NLS-1$
         LOG.debug("connecting to {}", settings.getEndpointUri()); //$NON-NLS-1$
 
@@ -25,6 +25,8 @@ import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import com.tsurugidb.tools.common.util.EndpointList;
+
 /**
  * Settings of Tsurugi connections.
  */
@@ -35,7 +37,7 @@ public class ConnectionSettings {
      */
     public static class Builder {
 
-        private URI endpointUri;
+        private List<URI> endpointUris = List.of();
 
         private String applicationName = null;
 
@@ -59,7 +61,24 @@ public class ConnectionSettings {
          * @return this
          */
         public Builder withEndpointUri(@Nonnull URI value) {
-            this.endpointUri = value;
+            Objects.requireNonNull(value);
+            this.endpointUris = List.of(value);
+            return this;
+        }
+
+        /**
+         * Sets the connection endpoint URIs in order of preference.
+         * <p>
+         * The library will fall back to the next endpoint only if the transport of the former one is not available.
+         * </p>
+         * @param value the endpoint URIs
+         * @return this
+         * @see EndpointList
+         * @since 1.17.0
+         */
+        public Builder withEndpointUris(@Nonnull EndpointList value) {
+            Objects.requireNonNull(value);
+            this.endpointUris = value.getEndpoints();
             return this;
         }
 
@@ -139,7 +158,7 @@ public class ConnectionSettings {
      */
     public static final Duration MINIMUM_TIMEOUT_DURATION = Duration.ofMillis(1);
 
-    private final @Nonnull URI endpointUri;
+    private final @Nonnull List<URI> endpointUris;
 
     private final @Nullable String applicationName;
 
@@ -165,10 +184,10 @@ public class ConnectionSettings {
      */
     public ConnectionSettings(@Nonnull Builder builder) {
         Objects.requireNonNull(builder);
-        if (builder.endpointUri == null) {
+        if (builder.endpointUris.isEmpty()) {
             throw new IllegalStateException("endpoint URI is not set");
         }
-        this.endpointUri = builder.endpointUri;
+        this.endpointUris = builder.endpointUris;
         this.applicationName = builder.applicationName;
         this.sessionLabel = builder.sessionLabel;
         this.credentialProviders = builder.credentialProviders;
@@ -185,10 +204,58 @@ public class ConnectionSettings {
 
     /**
      * Returns the connection endpoint URI.
+     * <p>
+     * If there are more than one endpoints, this returns the most preferred one.
+     * </p>
      * @return the endpoint URI
      */
     public URI getEndpointUri() {
-        return endpointUri;
+        return endpointUris.get(0);
+    }
+
+    /**
+     * Returns the connection endpoint URIs in order of preference.
+     * @return the endpoint URIs
+     * @since 1.17.0
+     */
+    public EndpointList getEndpointUris() {
+        return EndpointList.of(endpointUris);
+    }
+
+    /**
+     * Returns a copy of this settings which only connects to the given endpoint.
+     * @param endpoint the endpoint URI
+     * @return the created copy
+     * @since 1.17.0
+     */
+    public ConnectionSettings withEndpointUri(@Nonnull URI endpoint) {
+        Objects.requireNonNull(endpoint);
+        var builder = toBuilder();
+        builder.endpointUris = List.of(endpoint);
+        return new ConnectionSettings(builder);
+    }
+
+    /**
+     * Returns a copy of this settings which attempts only the given credential providers.
+     * @param values the credential providers
+     * @return the created copy
+     * @since 1.17.0
+     */
+    public ConnectionSettings withCredentialProviders(@Nonnull List<? extends CredentialProvider> values) {
+        Objects.requireNonNull(values);
+        var builder = toBuilder();
+        builder.withCredentialProviders(values);
+        return new ConnectionSettings(builder);
+    }
+
+    private Builder toBuilder() {
+        var builder = new Builder();
+        builder.endpointUris = endpointUris;
+        builder.applicationName = applicationName;
+        builder.sessionLabel = sessionLabel;
+        builder.credentialProviders = credentialProviders;
+        builder.establishTimeout = establishTimeout;
+        return builder;
     }
 
     /**
@@ -240,12 +307,12 @@ public class ConnectionSettings {
     public String toString() {
         return String.format(
                 "ConnectionSettings(" //$NON-NLS-1$
-                + "endpointUri=%s, " //$NON-NLS-1$
+                + "endpointUris=%s, " //$NON-NLS-1$
                 + "applicationName=%s, sessionLabel=%s, " //$NON-NLS-1$
                 + "credentialProviders=%s, " //$NON-NLS-1$
                 + "establishTimeout=%s" //$NON-NLS-1$
                 + ")", //$NON-NLS-1$
-                endpointUri,
+                EndpointList.of(endpointUris),
                 applicationName, sessionLabel,
                 credentialProviders,
                 establishTimeout);
@@ -0,0 +1,633 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.connection;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
+import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
+import com.tsurugidb.tsubakuro.common.Session;
+
+/**
+ * A pool of {@link Session sessions} to Tsurugi server.
+ *
+ * <p>
+ * The first session is established by {@link ConnectionProvider} with the original {@link ConnectionSettings},
+ * that is, the credential providers are attempted in order and the endpoints may fall back.
+ * The later sessions reuse the endpoint and the credential which were accepted by the first one,
+ * so that the credential providers (including interactive prompts) are attempted only once per pool.
+ * </p>
+ *
+ * <p>
+ * Each session is {@link #lease(Duration) leased} from this pool, and must be returned by {@link Lease#close()}.
+ * The sessions are checked by {@link Session#isAlive()} before leasing and after returning,
+ * and the sessions idle longer than {@link Builder#withIdleTimeout(Duration) the idle timeout} are closed,
+ * as long as the number of sessions does not fall below {@link Builder#withMinimumSize(int) the minimum size}.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ * @since 1.17.0
+ */
+public class SessionPool implements AutoCloseable {
+
+    static final Logger LOG = LoggerFactory.getLogger(SessionPool.class);
+
+    /**
+     * The default maximum number of sessions.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1;
+
+    /**
+     * The default timeout duration of {@link SessionPool#lease()}.
+     */
+    public static final Duration DEFAULT_LEASE_TIMEOUT = Duration.ofSeconds(60);
+
+    /**
+     * A builder of {@link SessionPool}.
+     * @since 1.17.0
+     */
+    public static class Builder {
+
+        private final ConnectionSettings settings;
+
+        private ConnectionProvider connectionProvider = new ConnectionProvider();
+
+        private int minimumSize = 0;
+
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+        private Duration idleTimeout = null;
+
+        private Duration leaseTimeout = DEFAULT_LEASE_TIMEOUT;
+
+        Builder(@Nonnull ConnectionSettings settings) {
+            Objects.requireNonNull(settings);
+            this.settings = settings;
+        }
+
+        /**
+         * Creates a new {@link SessionPool} from this builder.
+         * <p>
+         * The created pool does not establish any sessions until {@link SessionPool#prepare()} or
+         * {@link SessionPool#lease()} is invoked.
+         * </p>
+         * @return the created pool
+         * @throws IllegalStateException if the settings are not consistent
+         */
+        public SessionPool build() {
+            if (minimumSize > maximumSize) {
+                throw new IllegalStateException(String.format(
+                        "minimum size must be less than or equal to the maximum size: min=%d, max=%d", //$NON-NLS-1$
+                        minimumSize,
+                        maximumSize));
+            }
+            return new SessionPool(this);
+        }
+
+        /**
+         * Sets the connection provider to establish sessions.
+         * @param value the connection provider
+         * @return this
+         */
+        public Builder withConnectionProvider(@Nonnull ConnectionProvider value) {
+            Objects.requireNonNull(value);
+            this.connectionProvider = value;
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of sessions, which are kept even if they are idle.
+         * @param value the minimum number of sessions
+         * @return this
+         * @throws IllegalArgumentException if the value is negative
+         */
+        public Builder withMinimumSize(int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("minimum size must not be negative"); //$NON-NLS-1$
+            }
+            this.minimumSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of sessions, including leased ones.
+         * @param value the maximum number of sessions
+         * @return this
+         * @throws IllegalArgumentException if the value is less than {@code 1}
+         */
+        public Builder withMaximumSize(int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException("maximum size must be positive"); //$NON-NLS-1$
+            }
+            this.maximumSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the duration while the idle sessions are kept.
+         * @param value the idle timeout, or {@code null} to keep idle sessions until the pool is closed
+         * @return this
+         */
+        public Builder withIdleTimeout(@Nullable Duration value) {
+            this.idleTimeout = value;
+            return this;
+        }
+
+        /**
+         * Sets the default timeout duration of {@link SessionPool#lease()}.
+         * @param value the lease timeout
+         * @return this
+         */
+        public Builder withLeaseTimeout(@Nonnull Duration value) {
+            Objects.requireNonNull(value);
+            this.leaseTimeout = value;
+            return this;
+        }
+    }
+
+    /**
+     * A session leased from {@link SessionPool}.
+     * <p>
+     * Closing this object returns the session to the pool instead of closing the session itself.
+     * </p>
+     * @since 1.17.0
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final Entry entry;
+
+        private boolean returned;
+
+        private boolean broken;
+
+        Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        /**
+         * Returns the leased session.
+         * @return the leased session
+         * @throws IllegalStateException if this lease was already returned
+         */
+        public Session getSession() {
+            synchronized (this) {
+                if (returned) {
+                    throw new IllegalStateException("session was already returned to the pool"); //$NON-NLS-1$
+                }
+            }
+            return entry.session;
+        }
+
+        /**
+         * Marks the leased session broken, and then it will be closed instead of returning to the pool.
+         */
+        public synchronized void invalidate() {
+            this.broken = true;
+        }
+
+        /**
+         * Returns the leased session to the pool.
+         * <p>
+         * This does nothing if the session was already returned.
+         * </p>
+         */
+        @Override
+        public void close() {
+            boolean discard;
+            synchronized (this) {
+                if (returned) {
+                    return;
+                }
+                returned = true;
+                discard = broken;
+            }
+            release(entry, discard);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("SessionPool.Lease(session=%s)", entry.session); //$NON-NLS-1$
+        }
+    }
+
+    private static final class Entry {
+
+        final Session session;
+
+        long lastReleased;
+
+        Entry(Session session) {
+            this.session = session;
+            this.lastReleased = System.nanoTime();
+        }
+    }
+
+    private final ConnectionProvider connectionProvider;
+
+    private final ConnectionSettings settings;
+
+    private final int minimumSize;
+
+    private final int maximumSize;
+
+    private final @Nullable Duration idleTimeout;
+
+    private final Duration leaseTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition available = lock.newCondition();
+
+    // the head is the most recently returned one
+    private final Deque<Entry> idleEntries = new ArrayDeque<>();
+
+    // the number of established, leased, and establishing sessions
+    private int totalCount;
+
+    private boolean closed;
+
+    private final Object establishLock = new Object();
+
+    private volatile ConnectionSettings establishedSettings;
+
+    SessionPool(@Nonnull Builder builder) {
+        Objects.requireNonNull(builder);
+        this.connectionProvider = builder.connectionProvider;
+        this.settings = builder.settings;
+        this.minimumSize = builder.minimumSize;
+        this.maximumSize = builder.maximumSize;
+        this.idleTimeout = builder.idleTimeout;
+        this.leaseTimeout = builder.leaseTimeout;
+    }
+
+    /**
+     * Creates a new builder object for this class.
+     * @param settings the connection settings of individual sessions
+     * @return the created builder object
+     */
+    public static Builder newBuilder(@Nonnull ConnectionSettings settings) {
+        Objects.requireNonNull(settings);
+        return new Builder(settings);
+    }
+
+    /**
+     * Returns the connection settings which this pool is based on.
+     * @return the connection settings
+     */
+    public ConnectionSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Returns the endpoint URI which the sessions in this pool are connected to.
+     * @return the endpoint URI, or {@code empty} if no sessions have been established yet
+     */
+    public Optional<URI> getEndpointUri() {
+        var established = establishedSettings;
+        if (established == null) {
+            return Optional.empty();
+        }
+        return Optional.of(established.getEndpointUri());
+    }
+
+    /**
+     * Returns the current number of sessions in this pool, including leased ones.
+     * @return the number of sessions
+     */
+    public int getSize() {
+        lock.lock();
+        try {
+            return totalCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current number of idle sessions in this pool.
+     * @return the number of idle sessions
+     */
+    public int getIdleCount() {
+        lock.lock();
+        try {
+            return idleEntries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Establishes sessions until the pool has {@link Builder#withMinimumSize(int) the minimum number} of them.
+     * @throws InterruptedException if interrupted while connecting to the server
+     * @throws DiagnosticException if error occurred while connecting to the Tsurugi server
+     * @throws IllegalStateException if this pool was already closed
+     */
+    public void prepare() throws InterruptedException, DiagnosticException {
+        while (true) {
+            lock.lock();
+            try {
+                checkOpen();
+                if (totalCount >= minimumSize) {
+                    return;
+                }
+                totalCount++;
+            } finally {
+                lock.unlock();
+            }
+            release(establish(), false);
+        }
+    }
+
+    /**
+     * Leases a session from this pool, with {@link Builder#withLeaseTimeout(Duration) the default timeout}.
+     * @return the leased session, which must be closed after use
+     * @throws InterruptedException if interrupted while waiting for the session
+     * @throws DiagnosticException if error occurred while connecting to the Tsurugi server,
+     *      or no sessions became available within the timeout duration
+     * @throws IllegalStateException if this pool was already closed
+     * @see #lease(Duration)
+     */
+    public Lease lease() throws InterruptedException, DiagnosticException {
+        return lease(leaseTimeout);
+    }
+
+    /**
+     * Leases a session from this pool.
+     * <p>
+     * This returns an idle session if it is still alive, or establishes a new session if the pool has not reached
+     * {@link Builder#withMaximumSize(int) the maximum size}.
+     * Otherwise, this waits for another session is returned.
+     * </p>
+     * @param timeout the maximum duration to wait for an available session
+     * @return the leased session, which must be closed after use
+     * @throws InterruptedException if interrupted while waiting for the session
+     * @throws DiagnosticException if error occurred while connecting to the Tsurugi server,
+     *      or no sessions became available within the timeout duration
+     * @throws IllegalStateException if this pool was already closed
+     */
+    public Lease lease(@Nonnull Duration timeout) throws InterruptedException, DiagnosticException {
+        Objects.requireNonNull(timeout);
+        LOG.trace("enter: lease: {}", timeout); //$NON-NLS-1$
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            Entry entry = null;
+            var expired = new ArrayList<Entry>();
+            lock.lock();
+            try {
+                while (true) {
+                    checkOpen();
+                    collectExpired(expired);
+                    entry = idleEntries.pollFirst();
+                    if (entry != null || totalCount < maximumSize) {
+                        break;
+                    }
+                    long rest = deadline - System.nanoTime();
+                    if (rest <= 0) {
+                        throw new ConnectionException(
+                                ConnectionDiagnosticCode.LEASE_TIMEOUT,
+                                List.of(getEndpointUri().orElse(settings.getEndpointUri()), timeout.toMillis()));
+                    }
+                    available.awaitNanos(rest);
+                }
+                if (entry == null) {
+                    totalCount++;
+                }
+            } finally {
+                lock.unlock();
+                expired.forEach(SessionPool::closeSession);
+            }
+            if (entry == null) {
+                entry = establish();
+            } else if (!isAlive(entry)) {
+                LOG.debug("discarding the dead session in pool: {}", entry.session); //$NON-NLS-1$
+                discard(entry);
+                continue;
+            }
+            LOG.trace("exit: lease: {}", entry.session); //$NON-NLS-1$
+            return new Lease(entry);
+        }
+    }
+
+    /**
+     * Closes the sessions which have been idle longer than {@link Builder#withIdleTimeout(Duration) the idle timeout}.
+     * <p>
+     * This is also done automatically during {@link #lease(Duration)}, so that calling this is optional.
+     * </p>
+     */
+    public void evictIdle() {
+        var expired = new ArrayList<Entry>();
+        lock.lock();
+        try {
+            collectExpired(expired);
+        } finally {
+            lock.unlock();
+        }
+        expired.forEach(SessionPool::closeSession);
+    }
+
+    /**
+     * Closes this pool and all idle sessions in it.
+     * <p>
+     * The leased sessions will be closed when they are returned.
+     * </p>
+     */
+    @Override
+    public void close() {
+        List<Entry> entries;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            entries = new ArrayList<>(idleEntries);
+            totalCount -= idleEntries.size();
+            idleEntries.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        LOG.debug("closing session pool: {} idle sessions", entries.size()); //$NON-NLS-1$
+        entries.forEach(SessionPool::closeSession);
+    }
+
+    private Entry establish() throws InterruptedException, DiagnosticException {
+        boolean success = false;
+        try {
+            var entry = new Entry(connect());
+            success = true;
+            return entry;
+        } finally {
+            if (!success) {
+                lock.lock();
+                try {
+                    totalCount--;
+                    available.signal();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    private Session connect() throws InterruptedException, DiagnosticException {
+        var established = establishedSettings;
+        if (established != null) {
+            return connectionProvider.connect(established);
+        }
+        synchronized (establishLock) {
+            established = establishedSettings;
+            if (established != null) {
+                return connectionProvider.connect(established);
+            }
+            // remembers the last retrieved credential, which is the accepted one if the connection was established
+            var accepted = new AtomicReference<CredentialProvider>();
+            var recording = new ArrayList<CredentialProvider>();
+            for (var provider : settings.getCredentialProviders()) {
+                recording.add(new CredentialProvider() {
+                    @Override
+                    public String getType() {
+                        return provider.getType();
+                    }
+
+                    @Override
+                    public Optional<? extends Credential> get() throws InterruptedException, DiagnosticException {
+                        var credential = provider.get();
+                        accepted.set(credential
+                                .map(it -> (CredentialProvider) new BasicCredentialProvider(provider.getType(), it))
+                                .orElse(null));
+                        return credential;
+                    }
+                });
+            }
+            var endpoint = new AtomicReference<URI>();
+            var session = connectionProvider.connect(settings.withCredentialProviders(recording), endpoint::set);
+            var credential = accepted.get();
+            if (credential != null && endpoint.get() != null) {
+                LOG.debug("session pool reuses the accepted credential: {} ({})", //$NON-NLS-1$
+                        endpoint.get(), credential.getType());
+                establishedSettings = settings
+                        .withEndpointUri(endpoint.get())
+                        .withCredentialProviders(List.of(credential));
+            }
+            return session;
+        }
+    }
+
+    private void release(Entry entry, boolean broken) {
+        boolean discard = broken || !isAlive(entry);
+        lock.lock();
+        try {
+            if (!discard && !closed) {
+                entry.lastReleased = System.nanoTime();
+                idleEntries.addFirst(entry);
+                available.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        LOG.debug("discarding the session: {}", entry.session); //$NON-NLS-1$
+        discard(entry);
+    }
+
+    private void discard(Entry entry) {
+        lock.lock();
+        try {
+            totalCount--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        closeSession(entry);
+    }
+
+    private void collectExpired(List<Entry> results) {
+        assert lock.isHeldByCurrentThread();
+        if (idleTimeout == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long limit = idleTimeout.toNanos();
+        while (totalCount > minimumSize) {
+            var oldest = idleEntries.peekLast();
+            if (oldest == null || now - oldest.lastReleased < limit) {
+                break;
+            }
+            LOG.debug("evicting the idle session: {}", oldest.session); //$NON-NLS-1$
+            idleEntries.pollLast();
+            totalCount--;
+            results.add(oldest);
+        }
+        if (!results.isEmpty()) {
+            available.signalAll();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("session pool was already closed"); //$NON-NLS-1$
+        }
+    }
+
+    private static boolean isAlive(Entry entry) {
+        try {
+            return entry.session.isAlive();
+        } catch (RuntimeException e) {
+            LOG.debug("failed to check the session", e); //$NON-NLS-1$
+            return false;
+        }
+    }
+
+    private static void closeSession(Entry entry) {
+        try {
+            entry.session.close();
+        } catch (InterruptedException e) {
+            LOG.debug("interrupted while closing the session", e); //$NON-NLS-1$
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOG.warn("failed to close the session in pool", e); //$NON-NLS-1$
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "SessionPool(settings=%s, minimumSize=%d, maximumSize=%d, idleTimeout=%s)", //$NON-NLS-1$
+                settings,
+                minimumSize,
+                maximumSize,
+                idleTimeout);
+    }
+}
@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -26,6 +27,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
+import com.tsurugidb.tools.common.util.EndpointList;
 import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
 import com.tsurugidb.tsubakuro.channel.common.connection.NullCredential;
 import com.tsurugidb.tsubakuro.channel.common.connection.UsernamePasswordCredential;
@@ -199,4 +201,84 @@ class ConnectionProviderTest {
         var e = assertThrows(DiagnosticException.class, () -> provider.connect(settings));
         assertEquals(ConnectionDiagnosticCode.IO_ERROR, e.getDiagnosticCode());
     }
+
+    @Test
+    void connect_fallback() throws Exception {
+        var attempts = new ArrayList<URI>();
+        var provider = new ConnectionProvider() {
+            @Override
+            protected Session attempt(ConnectionSettings settings, Credential credential) throws IOException {
+                attempts.add(settings.getEndpointUri());
+                if (settings.getEndpointUri().getHost().equals("a")) {
+                    throw new IOException();
+                }
+                return MOCK;
+            }
+        };
+        var settings = ConnectionSettings.newBuilder()
+                .withEndpointUris(EndpointList.parse("tcp://a:12345,tcp://b:12345"))
+                .withCredentialProviders(List.of(CP))
+                .build();
+        var connected = new ArrayList<URI>();
+        var result = provider.connect(settings, connected::add);
+        assertSame(MOCK, result);
+        assertEquals(List.of(URI.create("tcp://a:12345"), URI.create("tcp://b:12345")), attempts);
+        assertEquals(List.of(URI.create("tcp://b:12345")), connected);
+    }
+
+    @Test
+    void connect_fallback_preferred() throws Exception {
+        var attempts = new ArrayList<URI>();
+        var provider = new ConnectionProvider() {
+            @Override
+            protected Session attempt(ConnectionSettings settings, Credential credential) {
+                attempts.add(settings.getEndpointUri());
+                return MOCK;
+            }
+        };
+        var settings = ConnectionSettings.newBuilder()
+                .withEndpointUris(EndpointList.parse("tcp://a:12345,tcp://b:12345"))
+                .withCredentialProviders(List.of(CP))
+                .build();
+        var connected = new ArrayList<URI>();
+        provider.connect(settings, connected::add);
+        assertEquals(List.of(URI.create("tcp://a:12345")), attempts);
+        assertEquals(List.of(URI.create("tcp://a:12345")), connected);
+    }
+
+    @Test
+    void connect_fallback_not_transport_error() throws Exception {
+        var attempts = new AtomicInteger();
+        var provider = new ConnectionProvider() {
+            @Override
+            protected Session attempt(ConnectionSettings settings, Credential credential) throws CoreServiceException {
+                attempts.incrementAndGet();
+                throw new CoreServiceException(CoreServiceCode.AUTHENTICATION_ERROR);
+            }
+        };
+        var settings = ConnectionSettings.newBuilder()
+                .withEndpointUris(EndpointList.parse("tcp://a:12345,tcp://b:12345"))
+                .withCredentialProviders(List.of(CP))
+                .build();
+        var e = assertThrows(DiagnosticException.class, () -> provider.connect(settings));
+        assertEquals(ConnectionDiagnosticCode.AUTHENTICATION_FAILURE, e.getDiagnosticCode());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void connect_fallback_all_failed() throws Exception {
+        var provider = new ConnectionProvider() {
+            @Override
+            protected Session attempt(ConnectionSettings settings, Credential credential) throws IOException {
+                throw new IOException(settings.getEndpointUri().toString());
+            }
+        };
+        var settings = ConnectionSettings.newBuilder()
+                .withEndpointUris(EndpointList.parse("tcp://a:12345,tcp://b:12345"))
+                .withCredentialProviders(List.of(CP))
+                .build();
+        var e = assertThrows(DiagnosticException.class, () -> provider.connect(settings));
+        assertEquals(ConnectionDiagnosticCode.IO_ERROR, e.getDiagnosticCode());
+        assertEquals(1, e.getSuppressed().length);
+    }
 }
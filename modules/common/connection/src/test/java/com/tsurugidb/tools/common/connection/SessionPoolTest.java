@@ -0,0 +1,346 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
+import com.tsurugidb.tools.common.util.EndpointList;
+import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
+import com.tsurugidb.tsubakuro.channel.common.connection.NullCredential;
+import com.tsurugidb.tsubakuro.channel.common.connection.UsernamePasswordCredential;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.exception.CoreServiceCode;
+import com.tsurugidb.tsubakuro.exception.CoreServiceException;
+
+class SessionPoolTest {
+
+    static final CredentialProvider CP = new BasicCredentialProvider("testing", NullCredential.INSTANCE);
+
+    static final ConnectionSettings SETTINGS = ConnectionSettings.newBuilder()
+            .withEndpointUri(URI.create("ipc:testing"))
+            .withCredentialProviders(List.of(CP))
+            .build();
+
+    static class MockProvider extends ConnectionProvider {
+
+        final List<Session> sessions = new CopyOnWriteArrayList<>();
+
+        final List<ConnectionSettings> attempts = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected Session attempt(ConnectionSettings settings, Credential credential) throws IOException, CoreServiceException {
+            attempts.add(settings);
+            var session = mock(Session.class);
+            when(session.isAlive()).thenReturn(true);
+            sessions.add(session);
+            return session;
+        }
+    }
+
+    @Test
+    void lease() throws Exception {
+        var provider = new MockProvider();
+        try (var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider).build()) {
+            Session session;
+            try (var lease = pool.lease()) {
+                session = lease.getSession();
+                assertEquals(1, pool.getSize());
+                assertEquals(0, pool.getIdleCount());
+            }
+            assertEquals(1, pool.getIdleCount());
+            try (var lease = pool.lease()) {
+                assertSame(session, lease.getSession());
+            }
+            assertEquals(1, provider.sessions.size());
+            assertEquals(Optional.of(URI.create("ipc:testing")), pool.getEndpointUri());
+        }
+        verify(provider.sessions.get(0)).close();
+    }
+
+    @Test
+    void lease_multiple() throws Exception {
+        var provider = new MockProvider();
+        try (var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider).withMaximumSize(2).build()) {
+            try (var a = pool.lease(); var b = pool.lease()) {
+                assertNotSame(a.getSession(), b.getSession());
+                assertEquals(2, pool.getSize());
+            }
+            assertEquals(2, pool.getIdleCount());
+        }
+    }
+
+    @Test
+    void lease_timeout() throws Exception {
+        var provider = new MockProvider();
+        try (var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider).build()) {
+            try (var lease = pool.lease()) {
+                var e = assertThrows(DiagnosticException.class, () -> pool.lease(Duration.ofMillis(10)));
+                assertEquals(ConnectionDiagnosticCode.LEASE_TIMEOUT, e.getDiagnosticCode());
+            }
+        }
+    }
+
+    @Test
+    void lease_wait() throws Exception {
+        var provider = new MockProvider();
+        try (var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider).build()) {
+            var lease = pool.lease();
+            var thread = new Thread(() -> {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                lease.close();
+            });
+            thread.start();
+            try (var next = pool.lease(Duration.ofSeconds(10))) {
+                assertSame(provider.sessions.get(0), next.getSession());
+            }
+            thread.join();
+        }
+    }
+
+    @Test
+    void lease_dead() throws Exception {
+        var provider = new MockProvider();
+        try (var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider).build()) {
+            try (var lease = pool.lease()) {
+                lease.getSession();
+            }
+            var dead = provider.sessions.get(0);
+            when(dead.isAlive()).thenReturn(false);
+            try (var lease = pool.lease()) {
+                assertNotSame(dead, lease.getSession());
+            }
+            verify(dead).close();
+            assertEquals(1, pool.getSize());
+        }
+    }
+
+    @Test
+    void lease_invalidate() throws Exception {
+        var provider = new MockProvider();
+        try (var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider).build()) {
+            try (var lease = pool.lease()) {
+                lease.invalidate();
+            }
+            verify(provider.sessions.get(0)).close();
+            assertEquals(0, pool.getSize());
+        }
+    }
+
+    @Test
+    void lease_returned() throws Exception {
+        var provider = new MockProvider();
+        try (var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider).build()) {
+            var lease = pool.lease();
+            lease.close();
+            lease.close();
+            assertThrows(IllegalStateException.class, () -> lease.getSession());
+            assertEquals(1, pool.getIdleCount());
+        }
+    }
+
+    @Test
+    void lease_closed() throws Exception {
+        var provider = new MockProvider();
+        var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider).build();
+        var lease = pool.lease();
+        pool.close();
+        assertThrows(IllegalStateException.class, () -> pool.lease());
+
+        lease.close();
+        verify(provider.sessions.get(0)).close();
+        assertEquals(0, pool.getSize());
+    }
+
+    @Test
+    void lease_failure() throws Exception {
+        var provider = new ConnectionProvider() {
+            @Override
+            protected Session attempt(ConnectionSettings settings, Credential credential) throws IOException {
+                throw new IOException("testing");
+            }
+        };
+        try (var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider).build()) {
+            var e = assertThrows(DiagnosticException.class, () -> pool.lease());
+            assertEquals(ConnectionDiagnosticCode.IO_ERROR, e.getDiagnosticCode());
+            assertEquals(0, pool.getSize());
+            assertEquals(Optional.empty(), pool.getEndpointUri());
+        }
+    }
+
+    @Test
+    void prepare() throws Exception {
+        var provider = new MockProvider();
+        try (var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider)
+                .withMinimumSize(2)
+                .withMaximumSize(3)
+                .build()) {
+            pool.prepare();
+            assertEquals(2, pool.getSize());
+            assertEquals(2, pool.getIdleCount());
+        }
+    }
+
+    @Test
+    void evictIdle() throws Exception {
+        var provider = new MockProvider();
+        try (var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider)
+                .withMaximumSize(2)
+                .withIdleTimeout(Duration.ZERO)
+                .build()) {
+            try (var a = pool.lease(); var b = pool.lease()) {
+                // do nothing
+            }
+            pool.evictIdle();
+            assertEquals(0, pool.getSize());
+            verify(provider.sessions.get(0)).close();
+            verify(provider.sessions.get(1)).close();
+        }
+    }
+
+    @Test
+    void evictIdle_minimum() throws Exception {
+        var provider = new MockProvider();
+        try (var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider)
+                .withMinimumSize(1)
+                .withMaximumSize(2)
+                .withIdleTimeout(Duration.ZERO)
+                .build()) {
+            try (var a = pool.lease(); var b = pool.lease()) {
+                // do nothing
+            }
+            pool.evictIdle();
+            assertEquals(1, pool.getSize());
+            assertEquals(1, pool.getIdleCount());
+        }
+    }
+
+    @Test
+    void evictIdle_disabled() throws Exception {
+        var provider = new MockProvider();
+        try (var pool = SessionPool.newBuilder(SETTINGS).withConnectionProvider(provider).build()) {
+            try (var lease = pool.lease()) {
+                // do nothing
+            }
+            pool.evictIdle();
+            assertEquals(1, pool.getIdleCount());
+        }
+    }
+
+    @Test
+    void build_inconsistent_size() {
+        var builder = SessionPool.newBuilder(SETTINGS).withMinimumSize(2).withMaximumSize(1);
+        assertThrows(IllegalStateException.class, () -> builder.build());
+    }
+
+    @Test
+    void credential_reuse() throws Exception {
+        var rejected = new UsernamePasswordCredential("a", "b");
+        var rejectedCount = new AtomicInteger();
+        var acceptedCount = new AtomicInteger();
+        var settings = ConnectionSettings.newBuilder()
+                .withEndpointUri(URI.create("ipc:testing"))
+                .withCredentialProviders(List.of(
+                        new CountingCredentialProvider(rejected, rejectedCount),
+                        new CountingCredentialProvider(NullCredential.INSTANCE, acceptedCount)))
+                .build();
+        var credentials = new CopyOnWriteArrayList<Credential>();
+        var provider = new MockProvider() {
+            @Override
+            protected Session attempt(ConnectionSettings s, Credential credential) throws IOException, CoreServiceException {
+                credentials.add(credential);
+                if (credential == rejected) {
+                    throw new CoreServiceException(CoreServiceCode.AUTHENTICATION_ERROR);
+                }
+                return super.attempt(s, credential);
+            }
+        };
+        try (var pool = SessionPool.newBuilder(settings).withConnectionProvider(provider).withMaximumSize(3).build()) {
+            try (var a = pool.lease(); var b = pool.lease(); var c = pool.lease()) {
+                // do nothing
+            }
+        }
+        assertEquals(1, rejectedCount.get());
+        assertEquals(1, acceptedCount.get());
+        assertEquals(List.of(rejected, NullCredential.INSTANCE, NullCredential.INSTANCE, NullCredential.INSTANCE), credentials);
+    }
+
+    @Test
+    void endpoint_reuse() throws Exception {
+        var settings = ConnectionSettings.newBuilder()
+                .withEndpointUris(EndpointList.parse("tcp://a:12345,tcp://b:12345"))
+                .withCredentialProviders(List.of(CP))
+                .build();
+        var provider = new MockProvider() {
+            @Override
+            protected Session attempt(ConnectionSettings s, Credential credential) throws IOException, CoreServiceException {
+                if (s.getEndpointUri().equals(URI.create("tcp://a:12345"))) {
+                    attempts.add(s);
+                    throw new IOException("unreachable");
+                }
+                return super.attempt(s, credential);
+            }
+        };
+        try (var pool = SessionPool.newBuilder(settings).withConnectionProvider(provider).withMaximumSize(2).build()) {
+            try (var a = pool.lease(); var b = pool.lease()) {
+                // do nothing
+            }
+            assertEquals(Optional.of(URI.create("tcp://b:12345")), pool.getEndpointUri());
+        }
+        assertEquals(3, provider.attempts.size());
+        assertEquals(URI.create("tcp://a:12345"), provider.attempts.get(0).getEndpointUri());
+        assertEquals(URI.create("tcp://b:12345"), provider.attempts.get(1).getEndpointUri());
+        assertEquals(URI.create("tcp://b:12345"), provider.attempts.get(2).getEndpointUri());
+    }
+
+    static class CountingCredentialProvider implements CredentialProvider {
+
+        final Credential credential;
+
+        final AtomicInteger counter;
+
+        CountingCredentialProvider(Credential credential, AtomicInteger counter) {
+            this.credential = credential;
+            this.counter = counter;
+        }
+
+        @Override
+        public String getType() {
+            return "counting";
+        }
+
+        @Override
+        public Optional<? extends Credential> get() {
+            counter.incrementAndGet();
+            return Optional.of(credential);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link Metric} of monotonically increasing value.
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ * @since 1.17.0
+ */
+public final class Counter implements Metric {
+
+    private final String name;
+
+    private final String description;
+
+    private final LongAdder value = new LongAdder();
+
+    Counter(@Nonnull String name, @Nonnull String description) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(description);
+        this.name = name;
+        this.description = description;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.COUNTER;
+    }
+
+    /**
+     * Increments the counter.
+     */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Adds the given value to the counter.
+     * @param delta the value to add
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public void add(long delta) {
+        if (delta < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "counter cannot be decreased: %s (%d)", //$NON-NLS-1$
+                    name,
+                    delta));
+        }
+        value.add(delta);
+    }
+
+    /**
+     * Returns the current value.
+     * @return the current value
+     */
+    public long get() {
+        return value.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Counter(name=%s, value=%d)", name, get()); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.metrics;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link Metric} of instantaneous value, which is computed on each snapshot.
+ * @since 1.17.0
+ */
+public final class Gauge implements Metric {
+
+    private final String name;
+
+    private final String description;
+
+    private final LongSupplier supplier;
+
+    Gauge(@Nonnull String name, @Nonnull String description, @Nonnull LongSupplier supplier) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(description);
+        Objects.requireNonNull(supplier);
+        this.name = name;
+        this.description = description;
+        this.supplier = supplier;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.GAUGE;
+    }
+
+    /**
+     * Returns the current value.
+     * @return the current value
+     */
+    public long get() {
+        return supplier.getAsLong();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Gauge(name=%s)", name); //$NON-NLS-1$
+    }
+}
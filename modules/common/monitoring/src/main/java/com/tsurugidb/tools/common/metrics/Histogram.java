@@ -0,0 +1,228 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.metrics;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link Metric} of latency distribution in nanoseconds.
+ * <p>
+ * Each power of two range is split into {@value #SUB_BUCKETS} buckets, so that the relative error of percentiles is at
+ * most 1/{@value #SUB_BUCKETS}. The buckets cover the whole range of {@code long}, and recording a value never blocks.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ * @since 1.17.0
+ */
+public final class Histogram implements Metric {
+
+    /**
+     * A point-in-time copy of {@link Histogram}.
+     * <p>
+     * The snapshot is not atomic: values recorded while taking the snapshot may be partially reflected.
+     * </p>
+     * @since 1.17.0
+     */
+    public static final class Snapshot {
+
+        private final long[] buckets;
+
+        private final long count;
+
+        private final long total;
+
+        private final long max;
+
+        Snapshot(long[] buckets, long total, long max) {
+            long sum = 0;
+            for (long bucket : buckets) {
+                sum += bucket;
+            }
+            this.buckets = buckets;
+            this.count = sum;
+            this.total = total;
+            this.max = max;
+        }
+
+        /**
+         * Returns the number of recorded values.
+         * @return the count
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the sum of recorded values.
+         * @return the total in nanoseconds
+         */
+        public long getTotal() {
+            return total;
+        }
+
+        /**
+         * Returns the maximum value.
+         * @return the maximum value in nanoseconds, or {@code 0} if no values are recorded
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Returns the approximate value at the given percentile.
+         * @param percentile the percentile (0.0 - 1.0)
+         * @return the value in nanoseconds, or {@code 0} if no values are recorded
+         */
+        public long getPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max((long) Math.ceil(Math.min(Math.max(percentile, 0.0), 1.0) * count), 1);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(upperBoundOf(i), max);
+                }
+            }
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "Histogram.Snapshot(count=%d, total=%d, max=%d)", //$NON-NLS-1$
+                    count,
+                    total,
+                    max);
+        }
+    }
+
+    /** the number of buckets in each power of two range. */
+    static final int SUB_BUCKETS = 8;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+
+    /** values less than this are recorded exactly. */
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+
+    private static final int BUCKET_COUNT = indexOf(Long.MAX_VALUE) + 1;
+
+    private final String name;
+
+    private final String description;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder total = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates a new instance.
+     * <p>
+     * Use {@link MetricsRegistry#histogram(String, String)} instead to publish the histogram. The histogram created by
+     * this constructor is not registered to any registry.
+     * </p>
+     * @param name the metric name
+     * @param description the metric description
+     */
+    public Histogram(@Nonnull String name, @Nonnull String description) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(description);
+        this.name = name;
+        this.description = description;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.HISTOGRAM;
+    }
+
+    /**
+     * Records a latency.
+     * @param nanos the latency in nanoseconds (negative values are treated as {@code 0})
+     */
+    public void record(long nanos) {
+        long v = Math.max(nanos, 0);
+        buckets.incrementAndGet(indexOf(v));
+        total.add(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * Records a latency.
+     * @param duration the latency
+     */
+    public void record(@Nonnull Duration duration) {
+        Objects.requireNonNull(duration);
+        record(duration.toNanos());
+    }
+
+    /**
+     * Returns a snapshot of this histogram.
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        var copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = buckets.get(i);
+        }
+        return new Snapshot(copy, total.sum(), max.get());
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        int sub = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + sub) << shift;
+        return lower + ((1L << shift) - 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Histogram(name=%s)", name); //$NON-NLS-1$
+    }
+}
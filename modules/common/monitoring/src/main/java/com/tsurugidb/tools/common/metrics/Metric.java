@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.metrics;
+
+/**
+ * A named metric in {@link MetricsRegistry}.
+ * @since 1.17.0
+ */
+public interface Metric {
+
+    /**
+     * The kind of metrics.
+     */
+    enum Kind {
+
+        /**
+         * A monotonically increasing value.
+         * @see Counter
+         */
+        COUNTER,
+
+        /**
+         * An instantaneous value.
+         * @see Gauge
+         */
+        GAUGE,
+
+        /**
+         * A distribution of latencies.
+         * @see Histogram
+         */
+        HISTOGRAM,
+    }
+
+    /**
+     * Returns the metric name.
+     * @return the metric name
+     */
+    String getName();
+
+    /**
+     * Returns the description of this metric.
+     * @return the description
+     */
+    String getDescription();
+
+    /**
+     * Returns the kind of this metric.
+     * @return the metric kind
+     */
+    Kind getKind();
+}
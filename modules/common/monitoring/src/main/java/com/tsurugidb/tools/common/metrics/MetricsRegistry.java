@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.metrics;
+
+import java.text.MessageFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A registry of {@link Metric metrics}.
+ *
+ * <p>
+ * The metric names must be valid as Prometheus metric names ({@code [a-zA-Z_:][a-zA-Z0-9_:]*}),
+ * like {@code tgdump_dump_files_total}.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ * @since 1.17.0
+ */
+public class MetricsRegistry {
+
+    private static final Pattern PATTERN_NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*"); //$NON-NLS-1$
+
+    private final Map<String, Metric> metrics = new LinkedHashMap<>();
+
+    /**
+     * Returns the counter of the given name, or registers a new one if it does not exist.
+     * @param name the metric name
+     * @param description the description of the metric
+     * @return the counter
+     * @throws IllegalArgumentException if the name is not valid, or another kind of metric is already registered
+     */
+    public Counter counter(@Nonnull String name, @Nonnull String description) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(description);
+        return register(Counter.class, name, () -> new Counter(name, description));
+    }
+
+    /**
+     * Returns the histogram of the given name, or registers a new one if it does not exist.
+     * @param name the metric name
+     * @param description the description of the metric
+     * @return the histogram
+     * @throws IllegalArgumentException if the name is not valid, or another kind of metric is already registered
+     */
+    public Histogram histogram(@Nonnull String name, @Nonnull String description) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(description);
+        return register(Histogram.class, name, () -> new Histogram(name, description));
+    }
+
+    /**
+     * Registers a new gauge.
+     * @param name the metric name
+     * @param description the description of the metric
+     * @param supplier the supplier of the current value, must be thread-safe
+     * @return the registered gauge
+     * @throws IllegalArgumentException if the name is not valid, or the name is already registered
+     */
+    public synchronized Gauge gauge(@Nonnull String name, @Nonnull String description, @Nonnull LongSupplier supplier) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(description);
+        Objects.requireNonNull(supplier);
+        checkName(name);
+        if (metrics.containsKey(name)) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "metric is already registered: {0}",
+                    name));
+        }
+        var gauge = new Gauge(name, description, supplier);
+        metrics.put(name, gauge);
+        return gauge;
+    }
+
+    /**
+     * Returns the registered metrics in order of registration.
+     * @return the registered metrics
+     */
+    public synchronized List<Metric> getMetrics() {
+        return List.copyOf(metrics.values());
+    }
+
+    private synchronized <T extends Metric> T register(
+            Class<T> type, String name, Supplier<? extends T> factory) {
+        checkName(name);
+        var found = metrics.get(name);
+        if (found == null) {
+            var created = factory.get();
+            metrics.put(name, created);
+            return created;
+        }
+        if (!type.isInstance(found)) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "metric is already registered as {1}: {0}",
+                    name,
+                    found.getKind()));
+        }
+        return type.cast(found);
+    }
+
+    private static void checkName(String name) {
+        if (!PATTERN_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "invalid metric name: \"{0}\"",
+                    name));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MetricsRegistry(%s)", getMetrics()); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tools.common.monitoring.Monitor;
+import com.tsurugidb.tools.common.monitoring.MonitoringException;
+import com.tsurugidb.tools.common.value.Property;
+import com.tsurugidb.tools.common.value.Record;
+import com.tsurugidb.tools.common.value.Value;
+
+/**
+ * Periodically reports snapshots of {@link MetricsRegistry} to a {@link Monitor},
+ * and optionally to a {@link PrometheusTextfileExporter Prometheus text file}.
+ *
+ * <p>
+ * Each snapshot is reported as {@link Monitor#onData(String, List) data} with the format {@value #FORMAT_METRICS},
+ * which has a property {@value #PROPERTY_METRICS} of the record of metric names and their values.
+ * Counters and gauges are integers, and histograms are records of {@code count}, {@code total}, {@code max},
+ * {@code p50}, {@code p90} and {@code p99} in nanoseconds.
+ * </p>
+ *
+ * <p>
+ * The snapshots are reported from a background thread, so that the monitor must be thread-safe.
+ * </p>
+ * @since 1.17.0
+ */
+public class MetricsReporter implements Closeable {
+
+    static final Logger LOG = LoggerFactory.getLogger(MetricsReporter.class);
+
+    /**
+     * The data format name of metrics snapshots.
+     */
+    public static final String FORMAT_METRICS = "metrics"; //$NON-NLS-1$
+
+    /**
+     * The property name of metrics in the snapshots.
+     */
+    public static final String PROPERTY_METRICS = "metrics"; //$NON-NLS-1$
+
+    private final MetricsRegistry registry;
+
+    private final Monitor monitor;
+
+    private final @Nullable PrometheusTextfileExporter exporter;
+
+    private ScheduledExecutorService scheduler;
+
+    private boolean closed;
+
+    /**
+     * Creates a new instance.
+     * @param registry the source metrics registry
+     * @param monitor the destination monitor
+     * @param exporter the Prometheus text file exporter, or {@code null} to disable it
+     */
+    public MetricsReporter(
+            @Nonnull MetricsRegistry registry,
+            @Nonnull Monitor monitor,
+            @Nullable PrometheusTextfileExporter exporter) {
+        Objects.requireNonNull(registry);
+        Objects.requireNonNull(monitor);
+        this.registry = registry;
+        this.monitor = monitor;
+        this.exporter = exporter;
+    }
+
+    /**
+     * Starts reporting snapshots periodically.
+     * @param interval the reporting interval
+     * @throws IllegalArgumentException if the interval is not positive
+     * @throws IllegalStateException if this was already started or closed
+     */
+    public synchronized void start(@Nonnull Duration interval) {
+        Objects.requireNonNull(interval);
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException(String.format(
+                    "reporting interval must be positive: %s", //$NON-NLS-1$
+                    interval));
+        }
+        if (closed || scheduler != null) {
+            throw new IllegalStateException("metrics reporter was already started"); //$NON-NLS-1$
+        }
+        LOG.debug("start reporting metrics: interval={}", interval); //$NON-NLS-1$
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = new Thread(r, "metrics-reporter"); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = Math.max(interval.toMillis(), 1);
+        scheduler.scheduleAtFixedRate(this::reportQuietly, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reports the current snapshot immediately.
+     * @throws MonitoringException if error was occurred while reporting to the monitor
+     * @throws IOException if I/O error was occurred while writing the Prometheus text file
+     */
+    public synchronized void report() throws MonitoringException, IOException {
+        var metrics = registry.getMetrics();
+        monitor.onData(FORMAT_METRICS, Property.of(PROPERTY_METRICS, toRecord(metrics)));
+        if (exporter != null) {
+            exporter.export(metrics);
+        }
+    }
+
+    private void reportQuietly() {
+        try {
+            report();
+        } catch (MonitoringException | IOException | RuntimeException e) {
+            LOG.warn("failed to report metrics", e); //$NON-NLS-1$
+        }
+    }
+
+    static Record toRecord(@Nonnull List<? extends Metric> metrics) {
+        var properties = new ArrayList<Property>(metrics.size());
+        for (var metric : metrics) {
+            properties.add(Property.of(metric.getName(), toValue(metric)));
+        }
+        return new Record(properties);
+    }
+
+    private static Value toValue(Metric metric) {
+        switch (metric.getKind()) {
+        case COUNTER:
+            return Value.of(((Counter) metric).get());
+        case GAUGE:
+            return Value.of(((Gauge) metric).get());
+        case HISTOGRAM:
+            var snapshot = ((Histogram) metric).snapshot();
+            return Value.of(Record.of(
+                    Property.of("count", snapshot.getCount()), //$NON-NLS-1$
+                    Property.of("total", snapshot.getTotal()), //$NON-NLS-1$
+                    Property.of("max", snapshot.getMax()), //$NON-NLS-1$
+                    Property.of("p50", snapshot.getPercentile(0.5)), //$NON-NLS-1$
+                    Property.of("p90", snapshot.getPercentile(0.9)), //$NON-NLS-1$
+                    Property.of("p99", snapshot.getPercentile(0.99)))); //$NON-NLS-1$
+        default:
+            throw new AssertionError(metric.getKind());
+        }
+    }
+
+    /**
+     * Stops reporting, and then reports the last snapshot.
+     * <p>
+     * This does not close the monitor.
+     * </p>
+     * @throws IOException if I/O error was occurred while reporting the last snapshot
+     */
+    @Override
+    public void close() throws IOException {
+        ScheduledExecutorService s;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            s = scheduler;
+            scheduler = null;
+        }
+        if (s != null) {
+            s.shutdown();
+            try {
+                if (!s.awaitTermination(10, TimeUnit.SECONDS)) {
+                    LOG.debug("metrics reporter is still running"); //$NON-NLS-1$
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            report();
+        } catch (MonitoringException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MetricsReporter(monitor=%s, exporter=%s)", monitor, exporter); //$NON-NLS-1$
+    }
+}
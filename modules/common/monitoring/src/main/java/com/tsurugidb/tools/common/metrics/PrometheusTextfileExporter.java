@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.metrics;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports {@link Metric metrics} as a Prometheus text file, for the textfile collector of the node exporter.
+ *
+ * <p>
+ * The file is replaced atomically on each export, so that the collector never reads a partially written file.
+ * {@link Histogram Histograms} are exported as summaries in seconds.
+ * </p>
+ * @since 1.17.0
+ */
+public class PrometheusTextfileExporter {
+
+    static final Logger LOG = LoggerFactory.getLogger(PrometheusTextfileExporter.class);
+
+    /**
+     * The quantiles of exported summaries.
+     */
+    static final List<BigDecimal> QUANTILES = List.of(
+            new BigDecimal("0.5"), //$NON-NLS-1$
+            new BigDecimal("0.9"), //$NON-NLS-1$
+            new BigDecimal("0.99")); //$NON-NLS-1$
+
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000L);
+
+    private final Path output;
+
+    /**
+     * Creates a new instance.
+     * @param output the output file path, should have the {@code .prom} extension
+     */
+    public PrometheusTextfileExporter(@Nonnull Path output) {
+        Objects.requireNonNull(output);
+        this.output = output.toAbsolutePath();
+    }
+
+    /**
+     * Returns the output file path.
+     * @return the output file path
+     */
+    public Path getOutput() {
+        return output;
+    }
+
+    /**
+     * Writes the current values of the metrics into the output file.
+     * @param metrics the metrics to export
+     * @throws IOException if I/O error was occurred while writing the file
+     */
+    public void export(@Nonnull List<? extends Metric> metrics) throws IOException {
+        Objects.requireNonNull(metrics);
+        var text = format(metrics);
+        var parent = output.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        var temporary = Files.createTempFile(parent, output.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+        boolean success = false;
+        try {
+            Files.writeString(temporary, text, StandardCharsets.UTF_8);
+            try {
+                Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                LOG.debug("atomic move is not supported: {}", output, e); //$NON-NLS-1$
+                Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING);
+            }
+            success = true;
+        } finally {
+            if (!success) {
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    /**
+     * Returns the metrics in the Prometheus text format.
+     * @param metrics the metrics
+     * @return the formatted text
+     */
+    static String format(@Nonnull List<? extends Metric> metrics) {
+        var buf = new StringBuilder();
+        for (var metric : metrics) {
+            var name = metric.getName();
+            buf.append("# HELP ").append(name).append(' ').append(escapeHelp(metric.getDescription())).append('\n'); //$NON-NLS-1$
+            switch (metric.getKind()) {
+            case COUNTER:
+                buf.append("# TYPE ").append(name).append(" counter\n"); //$NON-NLS-1$ //$NON-NLS-2$
+                buf.append(name).append(' ').append(((Counter) metric).get()).append('\n');
+                break;
+            case GAUGE:
+                buf.append("# TYPE ").append(name).append(" gauge\n"); //$NON-NLS-1$ //$NON-NLS-2$
+                buf.append(name).append(' ').append(((Gauge) metric).get()).append('\n');
+                break;
+            case HISTOGRAM:
+                var snapshot = ((Histogram) metric).snapshot();
+                buf.append("# TYPE ").append(name).append(" summary\n"); //$NON-NLS-1$ //$NON-NLS-2$
+                for (var quantile : QUANTILES) {
+                    buf.append(name)
+                            .append("{quantile=\"").append(quantile.toPlainString()).append("\"} ") //$NON-NLS-1$ //$NON-NLS-2$
+                            .append(seconds(snapshot.getPercentile(quantile.doubleValue())))
+                            .append('\n');
+                }
+                buf.append(name).append("_sum ").append(seconds(snapshot.getTotal())).append('\n'); //$NON-NLS-1$
+                buf.append(name).append("_count ").append(snapshot.getCount()).append('\n'); //$NON-NLS-1$
+                break;
+            default:
+                throw new AssertionError(metric.getKind());
+            }
+        }
+        return buf.toString();
+    }
+
+    private static String seconds(long nanos) {
+        return BigDecimal.valueOf(nanos).divide(NANOS_PER_SECOND).stripTrailingZeros().toPlainString();
+    }
+
+    private static String escapeHelp(String text) {
+        return text.replace("\\", "\\\\").replace("\n", "\\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PrometheusTextfileExporter(%s)", output); //$NON-NLS-1$
+    }
+}
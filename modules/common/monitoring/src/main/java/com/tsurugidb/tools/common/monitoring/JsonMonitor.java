@@ -44,6 +44,9 @@ import com.tsurugidb.tools.common.value.Value;
 
 /**
  * A {@link Monitor} that output monitoring information as JSON Lines.
+ * <p>
+ * This class is thread-safe.
+ * </p>
  */
 public class JsonMonitor implements Monitor {
 
@@ -99,7 +102,7 @@ public class JsonMonitor implements Monitor {
         }
 
         @Override
-        public void write(@Nonnull Record record) throws MonitoringException {
+        public synchronized void write(@Nonnull Record record) throws MonitoringException {
             Objects.requireNonNull(record);
             if (closed.get()) {
                 throw new IllegalStateException(MessageFormat.format(
@@ -165,7 +168,7 @@ public class JsonMonitor implements Monitor {
         }
 
         @Override
-        public void close() throws IOException {
+        public synchronized void close() throws IOException {
             if (!closed.compareAndSet(false, true)) {
                 return;
             }
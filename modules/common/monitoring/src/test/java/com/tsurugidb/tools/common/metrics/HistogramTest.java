@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+class HistogramTest {
+
+    @Test
+    void simple() {
+        var histogram = new Histogram("testing", "testing");
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000L);
+        }
+        var snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(5_050_000L, snapshot.getTotal());
+        assertEquals(100_000L, snapshot.getMax());
+        assertEquals(100_000L, snapshot.getPercentile(1.0));
+        assertWithin(50_000L, snapshot.getPercentile(0.5));
+        assertWithin(90_000L, snapshot.getPercentile(0.9));
+    }
+
+    @Test
+    void empty() {
+        var snapshot = new Histogram("testing", "testing").snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.getPercentile(0.5));
+    }
+
+    @Test
+    void negative() {
+        var histogram = new Histogram("testing", "testing");
+        histogram.record(-1);
+        var snapshot = histogram.snapshot();
+        assertEquals(1, snapshot.getCount());
+        assertEquals(0, snapshot.getPercentile(0.5));
+    }
+
+    @Test
+    void extreme() {
+        var histogram = new Histogram("testing", "testing");
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.snapshot().getPercentile(0.5));
+    }
+
+    @Test
+    void buckets() {
+        for (long v = 0; v < 100_000; v++) {
+            int index = Histogram.indexOf(v);
+            assertTrue(v <= Histogram.upperBoundOf(index), () -> String.valueOf(index));
+            assertTrue(Histogram.upperBoundOf(index) - v <= v / Histogram.SUB_BUCKETS, () -> String.valueOf(index));
+            if (index > 0) {
+                assertTrue(v > Histogram.upperBoundOf(index - 1), () -> String.valueOf(index));
+            }
+        }
+    }
+
+    @Test
+    void concurrent() throws Exception {
+        var histogram = new Histogram("testing", "testing");
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < 4; i++) {
+            var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int j = 0; j < 10_000; j++) {
+                    histogram.record(j);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+        var snapshot = histogram.snapshot();
+        assertEquals(40_000, snapshot.getCount());
+        assertEquals(4L * (9_999L * 10_000L / 2), snapshot.getTotal());
+        assertEquals(9_999, snapshot.getMax());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        double error = Math.abs(actual - expected) / (double) expected;
+        assertTrue(error <= 1.0 / Histogram.SUB_BUCKETS, () -> String.format("%d ~ %d", expected, actual));
+    }
+}
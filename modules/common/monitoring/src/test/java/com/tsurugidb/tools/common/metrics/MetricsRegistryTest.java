@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class MetricsRegistryTest {
+
+    @Test
+    void counter() {
+        var registry = new MetricsRegistry();
+        var counter = registry.counter("a_total", "A");
+        counter.increment();
+        counter.add(2);
+        assertEquals(3, counter.get());
+        assertSame(counter, registry.counter("a_total", "A"));
+        assertThrows(IllegalArgumentException.class, () -> counter.add(-1));
+    }
+
+    @Test
+    void gauge() {
+        var registry = new MetricsRegistry();
+        var gauge = registry.gauge("a", "A", () -> 100);
+        assertEquals(100, gauge.get());
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("a", "A", () -> 0));
+    }
+
+    @Test
+    void histogram() {
+        var registry = new MetricsRegistry();
+        var histogram = registry.histogram("a_seconds", "A");
+        assertSame(histogram, registry.histogram("a_seconds", "A"));
+    }
+
+    @Test
+    void inconsistent_kind() {
+        var registry = new MetricsRegistry();
+        registry.counter("a", "A");
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("a", "A"));
+    }
+
+    @Test
+    void invalid_name() {
+        var registry = new MetricsRegistry();
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("1a", "A"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("a-b", "A"));
+    }
+
+    @Test
+    void getMetrics() {
+        var registry = new MetricsRegistry();
+        registry.counter("c", "C");
+        registry.gauge("a", "A", () -> 0);
+        registry.histogram("b", "B");
+        assertEquals(
+                List.of("c", "a", "b"),
+                registry.getMetrics().stream().map(Metric::getName).collect(Collectors.toList()));
+    }
+}
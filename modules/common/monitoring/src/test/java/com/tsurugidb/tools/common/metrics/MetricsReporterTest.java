@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.tools.common.diagnostic.DiagnosticCode;
+import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
+import com.tsurugidb.tools.common.monitoring.Monitor;
+import com.tsurugidb.tools.common.value.Property;
+import com.tsurugidb.tools.common.value.Record;
+import com.tsurugidb.tools.common.value.Value;
+
+class MetricsReporterTest {
+
+    static class Mock implements Monitor {
+
+        final List<Record> records = new CopyOnWriteArrayList<>();
+
+        final CountDownLatch latch = new CountDownLatch(2);
+
+        @Override
+        public void onStart() {
+            return;
+        }
+
+        @Override
+        public void onData(String format, List<? extends Property> properties) {
+            assertEquals(MetricsReporter.FORMAT_METRICS, format);
+            assertEquals(1, properties.size());
+            assertEquals(MetricsReporter.PROPERTY_METRICS, properties.get(0).getName());
+            records.add(properties.get(0).getValue().asRecord());
+            latch.countDown();
+        }
+
+        @Override
+        public void onSuccess() {
+            return;
+        }
+
+        @Override
+        public void onFailure(Throwable cause, DiagnosticCode code, List<?> arguments) {
+            return;
+        }
+
+        @Override
+        public void onFailure(DiagnosticException exception) {
+            return;
+        }
+
+        @Override
+        public void close() {
+            return;
+        }
+    }
+
+    @Test
+    void report() throws Exception {
+        var registry = new MetricsRegistry();
+        registry.counter("a_total", "A").add(10);
+        registry.gauge("b", "B", () -> 20);
+        registry.histogram("c_seconds", "C").record(100);
+        var monitor = new Mock();
+        var reporter = new MetricsReporter(registry, monitor, null);
+        reporter.report();
+
+        assertEquals(1, monitor.records.size());
+        var record = monitor.records.get(0);
+        var properties = record.getProperties();
+        assertEquals(Property.of("a_total", Value.of(10L)), properties.get(0));
+        assertEquals(Property.of("b", Value.of(20L)), properties.get(1));
+        var histogram = properties.get(2).getValue().asRecord();
+        assertEquals(Property.of("count", Value.of(1L)), histogram.getProperties().get(0));
+        assertEquals(Property.of("max", Value.of(100L)), histogram.getProperties().get(2));
+    }
+
+    @Test
+    void start(@TempDir Path temporary) throws Exception {
+        var registry = new MetricsRegistry();
+        var counter = registry.counter("a_total", "A");
+        var monitor = new Mock();
+        var output = temporary.resolve("metrics.prom");
+        try (var reporter = new MetricsReporter(registry, monitor, new PrometheusTextfileExporter(output))) {
+            reporter.start(Duration.ofMillis(10));
+            counter.increment();
+            assertTrue(monitor.latch.await(10, TimeUnit.SECONDS));
+            assertThrows(IllegalStateException.class, () -> reporter.start(Duration.ofMillis(10)));
+            counter.increment();
+        }
+        int last = monitor.records.size();
+        var properties = monitor.records.get(last - 1).getProperties();
+        assertEquals(Property.of("a_total", Value.of(2L)), properties.get(0));
+        assertTrue(Files.readAllLines(output).contains("a_total 2"));
+
+        Thread.sleep(50);
+        assertEquals(last, monitor.records.size());
+    }
+
+    @Test
+    void start_invalid_interval() {
+        var reporter = new MetricsReporter(new MetricsRegistry(), new Mock(), null);
+        assertThrows(IllegalArgumentException.class, () -> reporter.start(Duration.ZERO));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PrometheusTextfileExporterTest {
+
+    @Test
+    void format() {
+        var registry = new MetricsRegistry();
+        registry.counter("files_total", "Dump files").add(3);
+        registry.gauge("active", "Active\nsessions", () -> 2);
+        var text = PrometheusTextfileExporter.format(registry.getMetrics());
+        assertEquals(String.join("\n",
+                "# HELP files_total Dump files",
+                "# TYPE files_total counter",
+                "files_total 3",
+                "# HELP active Active\\nsessions",
+                "# TYPE active gauge",
+                "active 2",
+                ""), text);
+    }
+
+    @Test
+    void format_histogram() {
+        var registry = new MetricsRegistry();
+        var histogram = registry.histogram("latency_seconds", "Latency");
+        histogram.record(1_000_000_000L);
+        histogram.record(500_000_000L);
+        var text = PrometheusTextfileExporter.format(registry.getMetrics());
+        var lines = List.of(text.split("\n"));
+        assertEquals("# TYPE latency_seconds summary", lines.get(1));
+        assertTrue(lines.get(2).startsWith("latency_seconds{quantile=\"0.5\"} 0.5"), lines.get(2));
+        assertTrue(lines.get(4).startsWith("latency_seconds{quantile=\"0.99\"} 1"), lines.get(4));
+        assertEquals("latency_seconds_sum 1.5", lines.get(5));
+        assertEquals("latency_seconds_count 2", lines.get(6));
+    }
+
+    @Test
+    void export(@TempDir Path temporary) throws Exception {
+        var output = temporary.resolve("a/metrics.prom");
+        var registry = new MetricsRegistry();
+        var counter = registry.counter("files_total", "Dump files");
+        var exporter = new PrometheusTextfileExporter(output);
+
+        exporter.export(registry.getMetrics());
+        assertTrue(Files.readAllLines(output).contains("files_total 0"));
+
+        counter.increment();
+        exporter.export(registry.getMetrics());
+        assertTrue(Files.readAllLines(output).contains("files_total 1"));
+
+        try (var files = Files.list(output.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+}
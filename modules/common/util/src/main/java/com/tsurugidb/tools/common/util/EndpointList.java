@@ -0,0 +1,231 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A list of Tsurugi server endpoint URIs in order of preference.
+ *
+ * <p>
+ * The text form is comma separated endpoint URIs, like {@code ipc:tsurugi,tcp://localhost:12345}.
+ * Clients should try the {@link #getCandidates() candidates} in order, and fall back to the next one
+ * only if the transport is not available.
+ * </p>
+ * @since 1.17.0
+ */
+public final class EndpointList {
+
+    /**
+     * The URI scheme of IPC endpoints.
+     */
+    public static final String SCHEME_IPC = "ipc"; //$NON-NLS-1$
+
+    /**
+     * The directory where the shared memory objects are placed on Linux.
+     */
+    public static final Path DEFAULT_SHARED_MEMORY_DIRECTORY = Path.of("/dev/shm"); //$NON-NLS-1$
+
+    /**
+     * The separator of endpoint URIs.
+     */
+    public static final char SEPARATOR = ',';
+
+    static final Logger LOG = LoggerFactory.getLogger(EndpointList.class);
+
+    private final List<URI> endpoints;
+
+    private final Path sharedMemoryDirectory;
+
+    private EndpointList(List<URI> endpoints, Path sharedMemoryDirectory) {
+        this.endpoints = endpoints;
+        this.sharedMemoryDirectory = sharedMemoryDirectory;
+    }
+
+    /**
+     * Creates a new instance.
+     * @param endpoints the endpoint URIs in order of preference
+     * @return the created instance
+     * @throws IllegalArgumentException if the list is empty
+     */
+    public static EndpointList of(@Nonnull List<URI> endpoints) {
+        Objects.requireNonNull(endpoints);
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("endpoint list must not be empty");
+        }
+        return new EndpointList(List.copyOf(endpoints), DEFAULT_SHARED_MEMORY_DIRECTORY);
+    }
+
+    /**
+     * Parses comma separated endpoint URIs.
+     * @param text the text
+     * @return the parsed list
+     * @throws IllegalArgumentException if the text is not a valid endpoint list
+     */
+    public static EndpointList parse(@Nonnull String text) {
+        Objects.requireNonNull(text);
+        var results = new ArrayList<URI>();
+        for (var element : text.split(String.valueOf(SEPARATOR), -1)) {
+            var trimmed = element.trim();
+            if (trimmed.isEmpty()) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "endpoint list must not contain empty elements: \"{0}\"",
+                        text));
+            }
+            URI uri;
+            try {
+                uri = new URI(trimmed);
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "invalid endpoint URI: \"{0}\" ({1})",
+                        trimmed,
+                        e.getMessage()), e);
+            }
+            if (uri.getScheme() == null) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "endpoint URI must have a scheme: \"{0}\"",
+                        trimmed));
+            }
+            results.add(uri);
+        }
+        return of(results);
+    }
+
+    /**
+     * Returns a copy of this list which detects shared memory objects in the given directory.
+     * @param directory the shared memory directory
+     * @return the created copy
+     */
+    public EndpointList withSharedMemoryDirectory(@Nonnull Path directory) {
+        Objects.requireNonNull(directory);
+        return new EndpointList(endpoints, directory);
+    }
+
+    /**
+     * Returns the all endpoint URIs in order of preference.
+     * @return the endpoint URIs
+     */
+    public List<URI> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Returns the most preferred endpoint URI.
+     * @return the most preferred endpoint URI
+     */
+    public URI getPrimary() {
+        return endpoints.get(0);
+    }
+
+    /**
+     * Returns the endpoint URIs to try in order.
+     *
+     * <p>
+     * IPC endpoints are excluded if it is sure that the database is not running on this host.
+     * If no endpoints are left, this returns all endpoints so that the connection error is reported as usual.
+     * </p>
+     * @return the endpoint URIs to try
+     */
+    public List<URI> getCandidates() {
+        if (endpoints.size() == 1) {
+            return endpoints;
+        }
+        var results = new ArrayList<URI>(endpoints.size());
+        for (var endpoint : endpoints) {
+            if (isLocallyAvailable(endpoint)) {
+                results.add(endpoint);
+            } else {
+                LOG.debug("skip unavailable endpoint: {}", endpoint); //$NON-NLS-1$
+            }
+        }
+        if (results.isEmpty()) {
+            return endpoints;
+        }
+        return results;
+    }
+
+    /**
+     * Returns whether or not the endpoint may be available from this host.
+     *
+     * <p>
+     * This only inspects IPC endpoints: it returns {@code false} if the shared memory directory exists
+     * but the shared memory object named after the database does not.
+     * Other endpoints are always considered available.
+     * </p>
+     * @param endpoint the endpoint URI
+     * @return {@code false} if the endpoint is not available, otherwise {@code true}
+     */
+    public boolean isLocallyAvailable(@Nonnull URI endpoint) {
+        Objects.requireNonNull(endpoint);
+        if (!isIpc(endpoint)) {
+            return true;
+        }
+        var name = endpoint.getSchemeSpecificPart();
+        if (name == null || name.isEmpty() || name.indexOf('/') >= 0) {
+            return true;
+        }
+        if (!Files.isDirectory(sharedMemoryDirectory)) {
+            // not sure
+            return true;
+        }
+        return Files.exists(sharedMemoryDirectory.resolve(name));
+    }
+
+    /**
+     * Returns whether or not the endpoint uses the IPC transport.
+     * @param endpoint the endpoint URI
+     * @return {@code true} if it is an IPC endpoint, otherwise {@code false}
+     */
+    public static boolean isIpc(@Nonnull URI endpoint) {
+        Objects.requireNonNull(endpoint);
+        return SCHEME_IPC.equals(getTransport(endpoint));
+    }
+
+    /**
+     * Returns the transport name of the endpoint.
+     * @param endpoint the endpoint URI
+     * @return the transport name (e.g. {@code ipc}, {@code tcp}), or empty string if it is not clear
+     */
+    public static String getTransport(@Nonnull URI endpoint) {
+        Objects.requireNonNull(endpoint);
+        var scheme = endpoint.getScheme();
+        if (scheme == null) {
+            return ""; //$NON-NLS-1$
+        }
+        return scheme.toLowerCase(Locale.ENGLISH);
+    }
+
+    @Override
+    public String toString() {
+        return endpoints.stream()
+                .map(URI::toString)
+                .collect(Collectors.joining(String.valueOf(SEPARATOR)));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EndpointListTest {
+
+    @TempDir
+    Path shm;
+
+    @Test
+    void parse_single() {
+        var list = EndpointList.parse("tcp://localhost:12345");
+        assertEquals(List.of(URI.create("tcp://localhost:12345")), list.getEndpoints());
+        assertEquals(URI.create("tcp://localhost:12345"), list.getPrimary());
+        assertEquals("tcp://localhost:12345", list.toString());
+    }
+
+    @Test
+    void parse_multiple() {
+        var list = EndpointList.parse("ipc:tsurugi, tcp://localhost:12345");
+        assertEquals(List.of(URI.create("ipc:tsurugi"), URI.create("tcp://localhost:12345")), list.getEndpoints());
+        assertEquals("ipc:tsurugi,tcp://localhost:12345", list.toString());
+    }
+
+    @Test
+    void parse_invalid() {
+        assertThrows(IllegalArgumentException.class, () -> EndpointList.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> EndpointList.parse("ipc:tsurugi,"));
+        assertThrows(IllegalArgumentException.class, () -> EndpointList.parse("localhost"));
+        assertThrows(IllegalArgumentException.class, () -> EndpointList.parse("tcp://local host"));
+    }
+
+    @Test
+    void candidates_ipc_available() throws Exception {
+        Files.createFile(shm.resolve("tsurugi"));
+        var list = EndpointList.parse("ipc:tsurugi,tcp://localhost:12345").withSharedMemoryDirectory(shm);
+        assertTrue(list.isLocallyAvailable(URI.create("ipc:tsurugi")));
+        assertEquals(list.getEndpoints(), list.getCandidates());
+    }
+
+    @Test
+    void candidates_ipc_unavailable() {
+        var list = EndpointList.parse("ipc:tsurugi,tcp://localhost:12345").withSharedMemoryDirectory(shm);
+        assertFalse(list.isLocallyAvailable(URI.create("ipc:tsurugi")));
+        assertEquals(List.of(URI.create("tcp://localhost:12345")), list.getCandidates());
+    }
+
+    @Test
+    void candidates_nothing_available() {
+        var list = EndpointList.parse("ipc:a,ipc:b").withSharedMemoryDirectory(shm);
+        assertEquals(list.getEndpoints(), list.getCandidates());
+    }
+
+    @Test
+    void candidates_unknown_shared_memory() {
+        var list = EndpointList.parse("ipc:tsurugi,tcp://localhost:12345")
+                .withSharedMemoryDirectory(shm.resolve("missing"));
+        assertEquals(list.getEndpoints(), list.getCandidates());
+    }
+
+    @Test
+    void transport() {
+        assertEquals("ipc", EndpointList.getTransport(URI.create("IPC:tsurugi")));
+        assertEquals("tcp", EndpointList.getTransport(URI.create("tcp://localhost:12345")));
+        assertTrue(EndpointList.isIpc(URI.create("ipc:tsurugi")));
+        assertFalse(EndpointList.isIpc(URI.create("tcp://localhost:12345")));
+    }
+}
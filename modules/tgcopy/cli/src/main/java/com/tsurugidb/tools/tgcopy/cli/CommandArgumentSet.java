@@ -0,0 +1,776 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.cli;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.beust.jcommander.IParameterValidator;
+import com.beust.jcommander.IValueValidator;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
+import com.tsurugidb.tools.common.connection.ConnectionProvider;
+import com.tsurugidb.tools.tgcopy.core.model.CopySettings;
+
+/**
+ * A parameter set of Tsurugi Table Copy Tool ({@literal a.k.a.} {@code tgcopy}}) command.
+ */
+public class CommandArgumentSet {
+
+    /**
+     * A validator to restrict empty names.
+     */
+    public static final class NoEmptyElementValidator implements IParameterValidator {
+        @Override
+        public void validate(String name, String value) throws ParameterException {
+            if (value.isEmpty()) {
+                throw new ParameterException(MessageFormat.format(
+                        "\"{0}\" must have one or more characters",
+                        name));
+            }
+        }
+    }
+
+    /**
+     * A validator to ensure zero or more parameter values.
+     */
+    public static class ZeroOrMoreValidator implements IValueValidator<Integer> {
+        @Override
+        public void validate(String name, Integer value) throws ParameterException {
+            if (value < 0) {
+                throw new ParameterException(MessageFormat.format(
+                        "\"{0}\" must be >= 0 (specified: {1})",
+                        name,
+                        value));
+            }
+        }
+    }
+
+    /**
+     * A validator to ensure one or more parameter values.
+     */
+    public static class OneOrMoreValidator implements IValueValidator<Integer> {
+        @Override
+        public void validate(String name, Integer value) throws ParameterException {
+            if (value <= 0) {
+                throw new ParameterException(MessageFormat.format(
+                        "\"{0}\" must be >= 1 (specified: {1})",
+                        name,
+                        value));
+            }
+        }
+    }
+
+    /**
+     * A validator to ensure valid endpoint URI.
+     */
+    public static class ConnectionUriValidator implements IValueValidator<URI> {
+        @Override
+        public void validate(String name, URI value) throws ParameterException {
+            var schema = value.getScheme();
+            if (!AVAILABLE_ENDPOINT_URI_SCHEMA.contains(schema)) {
+                throw new ParameterException(MessageFormat.format(
+                        "\"{0}\" schema must be one of {1} (specified: {2})",
+                        name,
+                        AVAILABLE_ENDPOINT_URI_SCHEMA.stream().sorted().collect(Collectors.toList()),
+                        value));
+            }
+        }
+    }
+
+    /**
+     * The available endpoint URI schemas.
+     */
+    public static final Set<String> AVAILABLE_ENDPOINT_URI_SCHEMA = Set.of("ipc", "tcp");
+
+    private static final Logger LOG = LoggerFactory.getLogger(CommandArgumentSet.class);
+
+    // NOTE: cannot annotate setter method with a list parameter
+    @Parameter(
+            description = "<table-name-list>",
+            validateWith = NoEmptyElementValidator.class,
+            required = true)
+    private List<String> tableNames;
+
+    private boolean queryMode = false;
+
+    private String partitionKey = null;
+
+    private URI sourceUri;
+
+    private URI destinationUri;
+
+    private String connectionLabel = null;
+
+    private long connectionTimeoutMillis;
+
+    private String transactionLabel = null;
+
+    private Integer numberOfScanParallels = null;
+
+    private int numberOfPartitions = CopySettings.DEFAULT_NUMBER_OF_PARTITIONS;
+
+    private int numberOfWriters = CopySettings.DEFAULT_NUMBER_OF_WRITERS;
+
+    private int batchSize = CopySettings.DEFAULT_BATCH_SIZE;
+
+    private int queueCapacity = CopySettings.DEFAULT_QUEUE_CAPACITY;
+
+    private String authenticationUser = null;
+
+    private String authenticationToken = null;
+
+    private Path authenticationCredentialFile = null;
+
+    private boolean authenticationGuest = false;
+
+    private boolean verbose = false;
+
+    private Path monitorOutput = null;
+
+    private boolean printHelp;
+
+    private boolean printVersion;
+
+    // non-configurable arguments
+
+    private ConnectionProvider connectionProvider;
+
+    /**
+     * Returns the copy target table names.
+     * <p>
+     * Each element is formatted as {@code <source-table>[:<destination-table>]}, or
+     * {@code <destination-table>:<query-text>} if {@link #isQueryMode() query mode} is enabled.
+     * </p>
+     * @return the table name list
+     * @see #isQueryMode()
+     */
+    public List<String> getTableNames() {
+        if (tableNames == null) {
+            return List.of();
+        }
+        return List.copyOf(tableNames);
+    }
+
+    /**
+     * Sets the copy target table names.
+     * @param nameList the table name list
+     */
+    public void setTableNames(@Nonnull List<String> nameList) {
+        Objects.requireNonNull(nameList);
+        LOG.trace("argument: <table-name>: {}", nameList); //$NON-NLS-1$
+        this.tableNames = List.copyOf(nameList);
+    }
+
+    /**
+     * Returns whether to specify query text instead of table names.
+     * @return {@code true} if use query text, or {@code false} if use table names
+     */
+    public boolean isQueryMode() {
+        return queryMode;
+    }
+
+    /**
+     * Sets whether to specify query text instead of table names.
+     * @param enable {@code true} to allow query text, {@code false} to use table names
+     */
+    @Parameter(
+            order = 10,
+            names = { "--sql" },
+            arity = 0,
+            description = "specify \"<destination-table>:<SQL text>\" instead of table names",
+            required = false)
+    public void setQueryMode(boolean enable) {
+        LOG.trace("argument: --sql: {}", enable); //$NON-NLS-1$
+        this.queryMode = enable;
+    }
+
+    /**
+     * Returns the column name to split the source tables by key ranges.
+     * @return the partition key, or {@code null} if it is not specified
+     */
+    public String getPartitionKey() {
+        return partitionKey;
+    }
+
+    /**
+     * Sets the column name to split the source tables by key ranges.
+     * @param column the partition key column name
+     */
+    @Parameter(
+            order = 11,
+            names = { "--partition-key" },
+            arity = 1,
+            description = "Integral column name to split the source tables into key ranges.",
+            validateWith = NoEmptyElementValidator.class,
+            required = false)
+    public void setPartitionKey(@Nonnull String column) {
+        Objects.requireNonNull(column);
+        LOG.trace("argument: --partition-key: {}", column); //$NON-NLS-1$
+        this.partitionKey = column;
+    }
+
+    /**
+     * Returns the server end-point URI of the source tsurugidb.
+     * @return the server end-point URI, or {@code null} if it is not set
+     */
+    public URI getSourceUri() {
+        return sourceUri;
+    }
+
+    /**
+     * Sets the server end-point URI of the source tsurugidb.
+     * @param uri the server end-point URI
+     */
+    @Parameter(
+            order = 20,
+            names = { "--from" },
+            arity = 1,
+            description = "Tsurugi server endpoint URI to read rows from.",
+            validateValueWith = ConnectionUriValidator.class,
+            required = true)
+    public void setSourceUri(@Nonnull URI uri) {
+        Objects.requireNonNull(uri);
+        LOG.trace("argument: --from: {}", uri); //$NON-NLS-1$
+        this.sourceUri = uri;
+    }
+
+    /**
+     * Returns the server end-point URI of the destination tsurugidb.
+     * @return the server end-point URI, or {@code null} if it is not set
+     */
+    public URI getDestinationUri() {
+        return destinationUri;
+    }
+
+    /**
+     * Sets the server end-point URI of the destination tsurugidb.
+     * @param uri the server end-point URI
+     */
+    @Parameter(
+            order = 21,
+            names = { "--to" },
+            arity = 1,
+            description = "Tsurugi server endpoint URI to write rows into.",
+            validateValueWith = ConnectionUriValidator.class,
+            required = true)
+    public void setDestinationUri(@Nonnull URI uri) {
+        Objects.requireNonNull(uri);
+        LOG.trace("argument: --to: {}", uri); //$NON-NLS-1$
+        this.destinationUri = uri;
+    }
+
+    /**
+     * Returns the connection label.
+     * @return the connection label, or {@code null} if it is not specified
+     */
+    public String getConnectionLabel() {
+        return connectionLabel;
+    }
+
+    /**
+     * Sets the connection label.
+     * @param label the connection label, or {@code null} to clear it
+     */
+    @Parameter(
+            order = 22,
+            names = { "--connection-label" },
+            arity = 1,
+            description = "Tsurugi connection session label.",
+            required = false)
+    public void setConnectionLabel(@Nullable String label) {
+        LOG.trace("argument: --connection-label: {}", label); //$NON-NLS-1$
+        this.connectionLabel = label;
+    }
+
+    /**
+     * Returns the connection timeout in milliseconds.
+     * @return the connection timeout in milliseconds, or {@code 0} to disable connection timeout
+     */
+    public long getConnectionTimeoutMillis() {
+        return connectionTimeoutMillis;
+    }
+
+    /**
+     * Sets the connection timeout in milliseconds.
+     * @param value  the connection timeout in milliseconds, or {@code 0} to disable connection timeout
+     */
+    @Parameter(
+            order = 23,
+            names = { "--connection-timeout" },
+            arity = 1,
+            description = "Connection timeout (in milliseconds).",
+            required = false)
+    public void setConnectionTimeoutMillis(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "timeout must be >= 0 (specified: {0})",
+                    value));
+        }
+        LOG.trace("argument: --connection-timeout: {}", value); //$NON-NLS-1$
+        this.connectionTimeoutMillis = value;
+    }
+
+    /**
+     * Returns the authentication user name.
+     * @return the user name, or {@code null} if it is not specified
+     */
+    public String getAuthenticationUser() {
+        return authenticationUser;
+    }
+
+    /**
+     * Sets the authentication user name.
+     * @param name the user name, must not be empty
+     */
+    @Parameter(
+            order = 30,
+            names = { "--user" },
+            arity = 1,
+            description = "Authentication user name.",
+            validateWith = NoEmptyElementValidator.class,
+            required = false)
+    public void setAuthenticationUser(@Nonnull String name) {
+        Objects.requireNonNull(name);
+        LOG.trace("argument: --user: {}", name); //$NON-NLS-1$
+        this.authenticationUser = name;
+    }
+
+    /**
+     * Returns the authentication token.
+     * @return the token string, or {@code null} if it is not specified
+     */
+    public String getAuthenticationToken() {
+        return authenticationToken;
+    }
+
+    /**
+     * Sets the authentication token.
+     * @param token the token string
+     */
+    @Parameter(
+            order = 31,
+            names = { "--auth-token" },
+            arity = 1,
+            description = "Authentication token.",
+            validateWith = NoEmptyElementValidator.class,
+            required = false)
+    public void setAuthenticationToken(@Nonnull String token) {
+        Objects.requireNonNull(token);
+        LOG.trace("argument: --auth-token: {}", token); //$NON-NLS-1$
+        this.authenticationToken = token;
+    }
+
+    /**
+     * Returns the authentication credential file.
+     * @return the credential file path, or {@code null} if it is not specified
+     */
+    public Path getAuthenticationCredentialFile() {
+        return authenticationCredentialFile;
+    }
+
+    /**
+     * Sets the authentication credential file.
+     * @param file the file path
+     */
+    @Parameter(
+            order = 32,
+            names = { "--credentials" },
+            arity = 1,
+            description = "Authentication credential file path.",
+            required = false)
+    public void setAuthenticationCredentialFile(@Nonnull Path file) {
+        Objects.requireNonNull(file);
+        LOG.trace("argument: --credentials: {}", file); //$NON-NLS-1$
+        this.authenticationCredentialFile = file;
+    }
+
+    /**
+     * Returns whether to connect to server as guest user.
+     * @return {@code true} if connect as guest user, {@code false} otherwise
+     */
+    public boolean isAuthenticationGuest() {
+        return authenticationGuest;
+    }
+
+    /**
+     * Sets whether to connect to server as guest user.
+     * @param guest {@code true} to connect as guest user, {@code false} otherwise
+     */
+    @Parameter(
+            order = 33,
+            names = { "--no-auth" },
+            arity = 0,
+            description = "Connect as a guest user.",
+            required = false)
+    public void setAuthenticationGuest(boolean guest) {
+        LOG.trace("argument: --no-auth: {}", guest); //$NON-NLS-1$
+        this.authenticationGuest = guest;
+    }
+
+    /**
+     * Returns the transaction label.
+     * @return the transaction label, or {@code null} if it is not specified
+     */
+    public String getTransactionLabel() {
+        return transactionLabel;
+    }
+
+    /**
+     * Sets the transaction label.
+     * @param label the transaction label, or {@code null} to clear it
+     */
+    @Parameter(
+            order = 111,
+            names = { "--transaction-label" },
+            arity = 1,
+            description = "Transaction label",
+            required = false)
+    public void setTransactionLabel(@Nullable String label) {
+        LOG.trace("argument: --transaction-label: {}", label); //$NON-NLS-1$
+        this.transactionLabel = label;
+    }
+
+    /**
+     * Returns the number of scan parallels for reading tables.
+     * @return the number of scan parallels, or {@code null} if it is not specified
+     */
+    public Integer getNumberOfScanParallels() {
+        return numberOfScanParallels;
+    }
+
+    /**
+     * Sets the number of scan parallels for reading tables.
+     * @param count the number of scan parallels, or {@code null} to clear it
+     * @throws IllegalArgumentException if the value is less than {@code 0}
+     */
+    @Parameter(
+            order = 120,
+            names = { "--scan-parallel" },
+            arity = 1,
+            description = "The number of scan parallels for reading tables",
+            validateValueWith = ZeroOrMoreValidator.class,
+            required = false)
+    public void setNumberOfScanParallels(@Nullable Integer count) {
+        if (count != null && count < 0) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "the number of scan parallels must be >= 0 (specified: {0})",
+                    count));
+        }
+        LOG.trace("argument: --scan-parallel: {}", count); //$NON-NLS-1$
+        this.numberOfScanParallels = count;
+    }
+
+    /**
+     * Returns the number of key range partitions for reading each source table.
+     * @return the number of partitions
+     */
+    public int getNumberOfPartitions() {
+        return numberOfPartitions;
+    }
+
+    /**
+     * Sets the number of key range partitions for reading each source table.
+     * @param count the number of partitions
+     * @throws IllegalArgumentException if the value is less than {@code 1}
+     */
+    @Parameter(
+            order = 200,
+            names = { "--partitions" },
+            arity = 1,
+            description = "The number of key range partitions read in parallel (requires --partition-key)",
+            validateValueWith = OneOrMoreValidator.class,
+            required = false)
+    public void setNumberOfPartitions(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "the number of partitions must be >= 1 (specified: {0})",
+                    count));
+        }
+        LOG.trace("argument: --partitions: {}", count); //$NON-NLS-1$
+        this.numberOfPartitions = count;
+    }
+
+    /**
+     * Returns the number of writer threads.
+     * @return the number of threads
+     */
+    public int getNumberOfWriters() {
+        return numberOfWriters;
+    }
+
+    /**
+     * Sets the number of writer threads.
+     * @param count the number of threads
+     * @throws IllegalArgumentException if the value is less than {@code 1}
+     */
+    @Parameter(
+            order = 201,
+            names = { "--writers" },
+            arity = 1,
+            description = "The number of threads inserting rows into the destination",
+            validateValueWith = OneOrMoreValidator.class,
+            required = false)
+    public void setNumberOfWriters(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "the number of writers must be >= 1 (specified: {0})",
+                    count));
+        }
+        LOG.trace("argument: --writers: {}", count); //$NON-NLS-1$
+        this.numberOfWriters = count;
+    }
+
+    /**
+     * Returns the number of rows in each insert batch.
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of rows in each insert batch.
+     * @param count the batch size
+     * @throws IllegalArgumentException if the value is less than {@code 1}
+     */
+    @Parameter(
+            order = 210,
+            names = { "--batch-size" },
+            arity = 1,
+            description = "The number of rows inserted in each destination transaction",
+            validateValueWith = OneOrMoreValidator.class,
+            required = false)
+    public void setBatchSize(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "batch size must be >= 1 (specified: {0})",
+                    count));
+        }
+        LOG.trace("argument: --batch-size: {}", count); //$NON-NLS-1$
+        this.batchSize = count;
+    }
+
+    /**
+     * Returns the maximum number of batches waiting between readers and writers.
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Sets the maximum number of batches waiting between readers and writers.
+     * @param count the queue capacity
+     * @throws IllegalArgumentException if the value is less than {@code 1}
+     */
+    @Parameter(
+            order = 211,
+            names = { "--queue-size" },
+            arity = 1,
+            description = "The maximum number of batches waiting to be written",
+            validateValueWith = OneOrMoreValidator.class,
+            required = false)
+    public void setQueueCapacity(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "queue size must be >= 1 (specified: {0})",
+                    count));
+        }
+        LOG.trace("argument: --queue-size: {}", count); //$NON-NLS-1$
+        this.queueCapacity = count;
+    }
+
+    /**
+     * Returns whether or not to enable verbose output.
+     * @return {@code true} if enable verbose output, {@code false} otherwise
+     */
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    /**
+     * Sets whether or not to enable verbose output.
+     * @param enable {@code true} to enable verbose output, {@code false} otherwise
+     */
+    @Parameter(
+            order = 1000,
+            names = { "-v", "--verbose" },
+            arity = 0,
+            description = "Enables verbose output messages",
+            required = false)
+    public void setVerbose(boolean enable) {
+        LOG.trace("argument: --verbose: {}", enable); //$NON-NLS-1$
+        this.verbose = enable;
+    }
+
+    /**
+     * Returns the output path of monitoring information.
+     * @return the monitoring information output
+     */
+    public Path getMonitorOutputPath() {
+        return monitorOutput;
+    }
+
+    /**
+     * Sets the output path of monitoring information.
+     * @param path the monitoring information output
+     */
+    @Parameter(
+            names = { "--monitor" },
+            arity = 1,
+            description = "Monitoring information destination file",
+            hidden = true,
+            required = false)
+    public void setMonitorOutputPath(@Nonnull Path path) {
+        Objects.requireNonNull(path);
+        LOG.trace("argument: --monitor: {}", path); //$NON-NLS-1$
+        this.monitorOutput = path;
+    }
+
+    /**
+     * Returns whether or not to show the command help.
+     * @return {@code true} to show the command help, {@code false} otherwise
+     */
+    public boolean isPrintHelp() {
+        return printHelp;
+    }
+
+    /**
+     * Sets whether or not to show the command help.
+     * @param enable {@code true} to show the command help, {@code false} otherwise
+     */
+    @Parameter(
+            order = 10000,
+            names = { "-h", "--help" },
+            arity = 0,
+            description = "Print command help",
+            help = true)
+    public void setPrintHelp(boolean enable) {
+        LOG.trace("argument: --help: {}", enable); //$NON-NLS-1$
+        this.printHelp = enable;
+    }
+
+    /**
+     * Returns whether or not to show the major library versions.
+     * @return {@code true} to show the versions, {@code false} otherwise
+     */
+    public boolean isPrintVersion() {
+        return printVersion;
+    }
+
+    /**
+     * Sets whether or not to show the major library version.
+     * @param enable {@code true} to show the versions, {@code false} otherwise
+     */
+    @Parameter(
+            order = 10001,
+            names = { "--version" },
+            arity = 0,
+            description = "Print library versions",
+            help = true)
+    public void setPrintVersion(boolean enable) {
+        LOG.trace("argument: --version: {}", enable); //$NON-NLS-1$
+        this.printVersion = enable;
+    }
+
+    /**
+     * Returns the connection provider.
+     *
+     * <p>
+     * This is designed only for tests, and may be removed later versions.
+     * </p>
+     * @return the connection provider
+     */
+    protected ConnectionProvider getConnectionProvider() {
+        if (connectionProvider != null) {
+            return connectionProvider;
+        }
+        return new ConnectionProvider();
+    }
+
+    /**
+     * Sets the connection provider.
+     *
+     * <p>
+     * This is designed only for tests, and may be removed later versions.
+     * </p>
+     * @param value the value to set, or {@code null} to set it to default
+     */
+    protected void setConnectionProvider(@Nullable ConnectionProvider value) {
+        this.connectionProvider = value;
+    }
+
+    /**
+     * Builds copy settings from this arguments.
+     * @return the copy settings
+     */
+    public CopySettings toCopySettings() {
+        return CopySettings.newBuilder()
+                .withBatchSize(batchSize)
+                .withQueueCapacity(queueCapacity)
+                .withNumberOfPartitions(numberOfPartitions)
+                .withNumberOfWriters(numberOfWriters)
+                .withTransactionLabel(transactionLabel)
+                .withScanParallel(numberOfScanParallels)
+                .build();
+    }
+
+    /**
+     * Validates the combination of the command arguments.
+     * @throws ParameterException if this command arguments contain invalid combinations
+     */
+    public void validateCombination() {
+        if (queryMode && partitionKey != null) {
+            throw new ParameterException("Cannot specify --partition-key with --sql.");
+        }
+        if (numberOfPartitions > 1 && partitionKey == null) {
+            throw new ParameterException("--partitions requires --partition-key.");
+        }
+
+        // check authentication mode
+        var sawAuthentications = new ArrayList<String>();
+        if (authenticationUser != null) {
+            sawAuthentications.add("--user");
+        }
+        if (authenticationToken != null) {
+            sawAuthentications.add("--auth-token");
+        }
+        if (authenticationCredentialFile != null) {
+            sawAuthentications.add("--credentials");
+        }
+        if (authenticationGuest) {
+            sawAuthentications.add("--no-auth");
+        }
+        if (sawAuthentications.size() > 1) {
+            throw new ParameterException(MessageFormat.format(
+                    "Cannot specify multiple authentication options: {0}",
+                    String.join(", ", sawAuthentications)));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tools.common.connection.CredentialProvider;
+import com.tsurugidb.tools.common.connection.CredentialProviderFactory;
+import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
+import com.tsurugidb.tools.common.monitoring.CompositeMonitor;
+import com.tsurugidb.tools.common.monitoring.JsonMonitor;
+import com.tsurugidb.tools.common.monitoring.LoggingMonitor;
+import com.tsurugidb.tools.common.monitoring.Monitor;
+import com.tsurugidb.tools.common.util.LibraryVersion;
+import com.tsurugidb.tools.tgcopy.core.model.CopyTarget;
+import com.tsurugidb.tsubakuro.client.ServiceClientCollector;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+
+/**
+ * Utilities about Tsurugi Table Copy Tool.
+ */
+final class CommandUtil {
+
+    private static final String SELF_MODULE_NAME = "tanzawa-tgcopy-cli"; //$NON-NLS-1$
+
+    private static final String TSUBAKURO_MODULE_NAME = "tsubakuro-session"; //$NON-NLS-1$
+
+    private static final String TSUBAKURO_PRODUCT_LABEL = "Tsubakuro"; //$NON-NLS-1$
+
+    /**
+     * The separator of each copy target specification.
+     */
+    static final char TARGET_SEPARATOR = ':';
+
+    static final Logger LOG = LoggerFactory.getLogger(Main.class); // use Main log-name
+
+    private CommandUtil() {
+        return;
+    }
+
+    static void printVersion(@Nonnull Printer printer, @Nullable ClassLoader loader) {
+        Objects.requireNonNull(printer);
+
+        printLibraryVersion(printer, loader, SELF_MODULE_NAME, Constants.APPLICATION_NAME);
+        printLibraryVersion(printer, loader, TSUBAKURO_MODULE_NAME, TSUBAKURO_PRODUCT_LABEL);
+
+        var smv = ServiceClientCollector.findServiceMessageVersion(SqlClient.class);
+        printer.printf("Service message version: %s", smv.orElse("N/A"));
+    }
+
+    private static void printLibraryVersion(Printer printer, ClassLoader loader, String libraryName, String label) {
+        try {
+            var myself = LibraryVersion.loadByName(libraryName, loader);
+            printer.printf("%s: %s", label, myself.getBuildVersion().orElse("N/A"));
+        } catch (IOException e) {
+            LOG.warn("cannot extract library version: {}", libraryName, e);
+        }
+    }
+
+    static void printArgumentSet(@Nonnull Printer printer, @Nonnull CommandArgumentSet args) {
+        Objects.requireNonNull(printer);
+        Objects.requireNonNull(args);
+
+        // copy core settings
+        printArgument(printer, "(positional)", args.getTableNames());
+        printArgument(printer, "--sql", args.isQueryMode()); //$NON-NLS-1$
+        printArgument(printer, "--partition-key", args.getPartitionKey()); //$NON-NLS-1$
+
+        // connection settings
+        printArgument(printer, "--from", args.getSourceUri()); //$NON-NLS-1$
+        printArgument(printer, "--to", args.getDestinationUri()); //$NON-NLS-1$
+        printArgument(printer, "--connection-label", args.getConnectionLabel()); //$NON-NLS-1$
+        printArgument(printer, "--connection-timeout", args.getConnectionTimeoutMillis()); //$NON-NLS-1$
+
+        // transaction settings
+        printArgument(printer, "--transaction-label", args.getTransactionLabel()); //$NON-NLS-1$
+        printArgument(printer, "--scan-parallel", args.getNumberOfScanParallels()); //$NON-NLS-1$
+        printArgument(printer, "--partitions", args.getNumberOfPartitions()); //$NON-NLS-1$
+        printArgument(printer, "--writers", args.getNumberOfWriters()); //$NON-NLS-1$
+        printArgument(printer, "--batch-size", args.getBatchSize()); //$NON-NLS-1$
+        printArgument(printer, "--queue-size", args.getQueueCapacity()); //$NON-NLS-1$
+
+        // information settings
+        printArgument(printer, "--verbose", args.isVerbose()); //$NON-NLS-1$
+        printArgument(printer, "--monitor", args.getMonitorOutputPath()); //$NON-NLS-1$
+
+        // special options
+        printArgument(printer, "--help", args.isPrintHelp()); //$NON-NLS-1$
+        printArgument(printer, "--version", args.isPrintVersion()); //$NON-NLS-1$
+    }
+
+    private static void printArgument(Printer printer, String title, Object value) {
+        printer.printf("%s - %s", title, value); //$NON-NLS-1$
+    }
+
+    static Monitor createMonitor(@Nullable Path path) throws IOException {
+        if (path == null) {
+            // default monitoring
+            return new LoggingMonitor(Constants.APPLICATION_NAME, LOG);
+        }
+        if (Files.exists(path)) {
+            throw new IOException(MessageFormat.format(
+                    "file already exists on the monitor output path: {0}",
+                    path));
+        }
+        LOG.debug("creating monitor output: {}", path); //$NON-NLS-1$
+        var parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new CompositeMonitor(List.of(createMonitor(null), new JsonMonitor(path)));
+    }
+
+    static List<CredentialProvider> prepareCredentials(
+            @Nullable String user,
+            @Nullable String token,
+            @Nullable Path credentialFile,
+            boolean guest) throws DiagnosticException {
+        var factory = new CredentialProviderFactory();
+        if (user != null) {
+            return List.of(factory.getPromptCredentialProvider(factory.getDefaultCredentialPrompt(), user));
+        }
+        if (token != null) {
+            return List.of(factory.getRememberMeCredentialProvider(token));
+        }
+        if (credentialFile != null) {
+            return List.of(factory.getFileCredentialProvider(credentialFile));
+        }
+        if (guest) {
+            return List.of(factory.getNullCredentialProvider());
+        }
+        return factory.getDefaultCredentialProviders(factory.getDefaultCredentialPrompt());
+    }
+
+    /**
+     * Parses the copy target specifications.
+     * <p>
+     * Each specification is {@code <source-table>[:<destination-table>]} for table targets, or
+     * {@code <destination-table>:<query-text>} for query targets.
+     * </p>
+     * @param specs the copy target specifications
+     * @param queryMode whether or not the specifications are query targets
+     * @param partitionKey the partition key for table targets, or {@code null} to disable partitioning
+     * @return the copy targets
+     * @throws CliException if the specifications are not valid
+     */
+    static List<CopyTarget> prepareTargets(
+            @Nonnull List<String> specs,
+            boolean queryMode,
+            @Nullable String partitionKey) throws CliException {
+        Objects.requireNonNull(specs);
+        if (specs.isEmpty()) {
+            throw new CliException(CliDiagnosticCode.INVALID_PARAMETER,
+                    List.of("no table name or query text specified"));
+        }
+        var results = new ArrayList<CopyTarget>(specs.size());
+        for (var spec : specs) {
+            int index = spec.indexOf(TARGET_SEPARATOR);
+            if (queryMode) {
+                if (index <= 0) {
+                    throw new CliException(CliDiagnosticCode.INVALID_PARAMETER, List.of(MessageFormat.format(
+                            "query must be \"<destination-table>:<query-text>\": {0}",
+                            spec)));
+                }
+                var destination = spec.substring(0, index).strip();
+                var query = spec.substring(index + 1).strip();
+                if (destination.isEmpty() || query.isEmpty()) {
+                    throw new CliException(CliDiagnosticCode.INVALID_PARAMETER, List.of(MessageFormat.format(
+                            "query must be \"<destination-table>:<query-text>\": {0}",
+                            spec)));
+                }
+                results.add(new CopyTarget(CopyTarget.TargetType.QUERY, destination, query, destination, null));
+            } else {
+                var source = index < 0 ? spec : spec.substring(0, index);
+                var destination = index < 0 ? spec : spec.substring(index + 1);
+                if (source.isEmpty() || destination.isEmpty()) {
+                    throw new CliException(CliDiagnosticCode.INVALID_PARAMETER, List.of(MessageFormat.format(
+                            "table must be \"<source-table>[:<destination-table>]\": {0}",
+                            spec)));
+                }
+                results.add(new CopyTarget(CopyTarget.TargetType.TABLE, source, source, destination, partitionKey));
+            }
+        }
+        LOG.debug("copy targets: {}", results); //$NON-NLS-1$
+        return results;
+    }
+}
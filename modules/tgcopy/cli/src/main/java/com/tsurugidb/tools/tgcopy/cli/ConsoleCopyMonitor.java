@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.cli;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.TextFormat;
+import com.tsurugidb.tools.tgcopy.core.engine.CopyMonitor;
+import com.tsurugidb.tools.tgcopy.core.model.CopyTarget;
+
+/**
+ * An implementation of {@link CopyMonitor} that prints progress messages.
+ */
+public class ConsoleCopyMonitor implements CopyMonitor {
+
+    private final Printer output;
+
+    private final boolean verbose;
+
+    /**
+     * Creates a new instance.
+     * @param output the message output
+     * @param verbose whether or not to print verbose messages
+     */
+    public ConsoleCopyMonitor(@Nonnull Printer output, boolean verbose) {
+        Objects.requireNonNull(output);
+        this.output = output;
+        this.verbose = verbose;
+    }
+
+    private void print(String format, Object... arguments) {
+        Object[] args = arguments;
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] instanceof Message) {
+                // escape before edit
+                if (args == arguments) {
+                    args = Arrays.copyOf(arguments, arguments.length);
+                }
+                args[i] = TextFormat.shortDebugString((Message) arguments[i]);
+            }
+        }
+        output.print(MessageFormat.format(format, args)); //$NON-NLS-1$
+    }
+
+    @Override
+    public void verbose(@Nonnull String format, @Nonnull Object... arguments) {
+        Objects.requireNonNull(format);
+        Objects.requireNonNull(arguments);
+        if (verbose) {
+            print(format, arguments);
+        }
+    }
+
+    @Override
+    public void onCopyStart(@Nonnull CopyTarget target, int numberOfPartitions) {
+        Objects.requireNonNull(target);
+        print("copy operation was started: target={0}, destination={1}, partitions={2}",
+                target.getLabel(), target.getDestinationTableName(), numberOfPartitions);
+    }
+
+    @Override
+    public void onCopyProgress(@Nonnull CopyTarget target, long rows, @Nonnull Duration elapsed) {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(elapsed);
+        verbose("copying: target={0}, rows={1}, elapsed={2}ms, throughput={3}rows/s",
+                target.getLabel(), rows, elapsed.toMillis(), CopyMonitor.computeRowsPerSecond(rows, elapsed));
+    }
+
+    @Override
+    public void onCopyFinish(@Nonnull CopyTarget target, long rows, @Nonnull Duration elapsed) {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(elapsed);
+        print("copy operation was finished: target={0}, destination={1}, rows={2}, elapsed={3}ms, throughput={4}rows/s",
+                target.getLabel(), target.getDestinationTableName(),
+                rows, elapsed.toMillis(), CopyMonitor.computeRowsPerSecond(rows, elapsed));
+    }
+
+    @Override
+    public String toString() {
+        return "CopyMonitor(console)"; //$NON-NLS-1$
+    }
+}
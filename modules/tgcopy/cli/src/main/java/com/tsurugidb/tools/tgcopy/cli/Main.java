@@ -0,0 +1,214 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.cli;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
+import com.tsurugidb.tools.common.connection.ConnectionSettings;
+import com.tsurugidb.tools.common.connection.CredentialProvider;
+import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
+import com.tsurugidb.tools.common.diagnostic.DiagnosticUtil;
+import com.tsurugidb.tools.common.monitoring.MonitoringException;
+import com.tsurugidb.tools.tgcopy.core.engine.BasicCopyMonitor;
+import com.tsurugidb.tools.tgcopy.core.engine.CompositeCopyMonitor;
+import com.tsurugidb.tools.tgcopy.core.engine.CopyEngine;
+import com.tsurugidb.tools.tgcopy.core.engine.CopyMonitor;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+
+/**
+ * The program entry for Tsurugi Table Copy Tool ({@literal a.k.a.} {@code tgcopy}}).
+ * @see CommandArgumentSet
+ */
+public class Main {
+
+    static final Logger LOG = LoggerFactory.getLogger(Main.class);
+
+    private final Printer printer;
+
+    /**
+     * Creates a new instance.
+     */
+    public Main() {
+        this(new PrintStreamPrinter(System.out));
+    }
+
+    /**
+     * Creates a new instance.
+     * @param printer the message printer
+     */
+    public Main(@Nonnull Printer printer) {
+        Objects.requireNonNull(printer);
+        this.printer = printer;
+    }
+
+    /**
+     * Program entry for Tsurugi Table Copy Tool.
+     * <p>
+     * This operation may terminate the current Java VM.
+     * </p>
+     * @param args the program arguments
+     * @see #execute(String...)
+     */
+    public static void main(@Nonnull String... args) {
+        Objects.requireNonNull(args);
+        var app = new Main();
+        System.exit(app.execute(args));
+    }
+
+    /**
+     * Program entry for Tsurugi Table Copy Tool, without shutdown the Java VM.
+     * @param args the program argument
+     * @return the exit status code
+     */
+    public int execute(@Nonnull String... args) {
+        Objects.requireNonNull(args);
+        CommandArgumentSet arguments;
+        try {
+            arguments = parseArguments(args);
+        } catch (ParameterException e) {
+            LOG.debug("error occurred while analyzing command options", e); //$NON-NLS-1$
+            LOG.error("invalid_parameter: {}", DiagnosticUtil.getMessage(e));
+            return Constants.EXIT_STATUS_PARAMETER_ERROR;
+        }
+        return execute(arguments);
+    }
+
+    /**
+     * Parses the command arguments.
+     * @param args the command arguments
+     * @return the parsed command configuration
+     * @throws ParameterException if the arguments are wrong for the command
+     */
+    protected CommandArgumentSet parseArguments(@Nonnull String... args) {
+        Objects.requireNonNull(args);
+        var result = new CommandArgumentSet();
+        var analyzer = getCommandAnalyzerFor(result);
+        analyzer.parse(args);
+        try {
+            result.validateCombination();
+        } catch (ParameterException e) {
+            e.setJCommander(analyzer);
+            throw e;
+        }
+        return result;
+    }
+
+    /**
+     * Program entry for Tsurugi Table Copy Tool, without shutdown the Java VM.
+     * @param arguments the parsed command arguments
+     * @return the exit status code
+     */
+    protected int execute(@Nonnull CommandArgumentSet arguments) {
+        Objects.requireNonNull(arguments);
+        if (arguments.isPrintHelp()) {
+            getCommandAnalyzerFor(new CommandArgumentSet()).usage();
+            return Constants.EXIT_STATUS_OK;
+        }
+        if (arguments.isPrintVersion()) {
+            CommandUtil.printVersion(printer, Main.class.getClassLoader());
+            return Constants.EXIT_STATUS_OK;
+        }
+        if (arguments.isVerbose()) {
+            CommandUtil.printArgumentSet(printer, arguments);
+        }
+        try (var monitor = CommandUtil.createMonitor(arguments.getMonitorOutputPath())) {
+            monitor.onStart();
+            try {
+                var copyMonitor = new CompositeCopyMonitor(List.of(
+                        new ConsoleCopyMonitor(printer, arguments.isVerbose()),
+                        new BasicCopyMonitor(monitor)));
+                executeBody(copyMonitor, arguments);
+            } catch (DiagnosticException e) {
+                LOG.error("{} - {}", e.getDiagnosticCode().getTag(), e.getMessage());
+                monitor.onFailure(e);
+                return Constants.EXIT_STATUS_OPERATION_ERROR;
+            } catch (IOException e) {
+                LOG.error("{}", CliDiagnosticCode.IO_ERROR.getTag());
+                monitor.onFailure(e, CliDiagnosticCode.IO_ERROR, List.of(DiagnosticUtil.getMessage(e)));
+                return Constants.EXIT_STATUS_OPERATION_ERROR;
+            } catch (InterruptedException e) {
+                LOG.error("{}", CliDiagnosticCode.INTERRUPTED.getTag());
+                monitor.onFailure(e, CliDiagnosticCode.INTERRUPTED, List.of());
+                return Constants.EXIT_STATUS_INTERRUPTED;
+            } catch (RuntimeException e) {
+                LOG.error("{}", CliDiagnosticCode.INTERNAL.getTag());
+                monitor.onFailure(e, CliDiagnosticCode.INTERNAL, List.of(DiagnosticUtil.getMessage(e)));
+                return Constants.EXIT_STATUS_INTERNAL_ERROR;
+            }
+            monitor.onSuccess();
+        } catch (IOException | MonitoringException e) {
+            LOG.error("error occurred while monitoring copy operations", e);
+            return Constants.EXIT_STATUS_MONITOR_ERROR;
+        }
+        return Constants.EXIT_STATUS_OK;
+    }
+
+    void executeBody(CopyMonitor monitor, CommandArgumentSet args)
+            throws DiagnosticException, InterruptedException, IOException {
+        var credentials = CommandUtil.prepareCredentials(
+                args.getAuthenticationUser(),
+                args.getAuthenticationToken(),
+                args.getAuthenticationCredentialFile(),
+                args.isAuthenticationGuest());
+        var targets = CommandUtil.prepareTargets(args.getTableNames(), args.isQueryMode(), args.getPartitionKey());
+        var engine = new CopyEngine(args.toCopySettings());
+        var provider = args.getConnectionProvider();
+        try (
+            var sourceConnection = provider.connect(createConnectionSettings(args, args.getSourceUri(), credentials));
+            var destinationConnection = provider.connect(
+                    createConnectionSettings(args, args.getDestinationUri(), credentials));
+            var source = SqlClient.attach(sourceConnection);
+            var destination = SqlClient.attach(destinationConnection);
+        ) {
+            engine.execute(monitor, source, destination, targets);
+        } catch (ServerException e) {
+            throw new CliException(CliDiagnosticCode.SERVER_ERROR,
+                    List.of(DiagnosticUtil.getMessage(e)),
+                    e);
+        }
+    }
+
+    private static ConnectionSettings createConnectionSettings(
+            CommandArgumentSet args, URI endpoint, List<CredentialProvider> credentials) {
+        return ConnectionSettings.newBuilder()
+                .withEndpointUri(endpoint)
+                .withApplicationName(Constants.APPLICATION_NAME)
+                .withSessionLabel(args.getConnectionLabel())
+                .withEstablishTimeout(Duration.ofMillis(args.getConnectionTimeoutMillis()))
+                .withCredentialProviders(credentials)
+                .build();
+    }
+
+    static JCommander getCommandAnalyzerFor(CommandArgumentSet result) {
+        var analyzer = JCommander.newBuilder()
+                .programName(Constants.APPLICATION_NAME)
+                .addObject(result)
+                .build();
+        return analyzer;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.cli;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.beust.jcommander.ParameterException;
+import com.tsurugidb.tools.tgcopy.core.model.CopySettings;
+
+class CommandArgumentSetTest {
+
+    @Test
+    void getConnectionProvider() {
+        var args = new CommandArgumentSet();
+        assertNotNull(args.getConnectionProvider());
+    }
+
+    @Test
+    void toCopySettings_defaults() {
+        var args = new CommandArgumentSet();
+        assertEquals(new CopySettings(), args.toCopySettings());
+    }
+
+    @Test
+    void toCopySettings() {
+        var args = new CommandArgumentSet();
+        args.setBatchSize(10);
+        args.setQueueCapacity(2);
+        args.setNumberOfPartitions(4);
+        args.setNumberOfWriters(3);
+        args.setTransactionLabel("TESTING");
+        args.setNumberOfScanParallels(5);
+        var settings = args.toCopySettings();
+        assertEquals(10, settings.getBatchSize());
+        assertEquals(2, settings.getQueueCapacity());
+        assertEquals(4, settings.getNumberOfPartitions());
+        assertEquals(3, settings.getNumberOfWriters());
+    }
+
+    @Test
+    void validateCombination_ok() {
+        var args = new CommandArgumentSet();
+        args.setTableNames(List.of("tbl"));
+        args.setPartitionKey("k");
+        args.setNumberOfPartitions(4);
+        args.validateCombination();
+    }
+
+    @Test
+    void validateCombination_partitions_without_key() {
+        var args = new CommandArgumentSet();
+        args.setTableNames(List.of("tbl"));
+        args.setNumberOfPartitions(4);
+        assertThrows(ParameterException.class, () -> args.validateCombination());
+    }
+
+    @Test
+    void validateCombination_partition_key_with_query() {
+        var args = new CommandArgumentSet();
+        args.setQueryMode(true);
+        args.setTableNames(List.of("dst:SELECT * FROM src"));
+        args.setPartitionKey("k");
+        assertThrows(ParameterException.class, () -> args.validateCombination());
+    }
+
+    @Test
+    void validateCombination_multiple_authentication() {
+        var args = new CommandArgumentSet();
+        args.setTableNames(List.of("tbl"));
+        args.setAuthenticationUser("u");
+        args.setAuthenticationGuest(true);
+        assertThrows(ParameterException.class, () -> args.validateCombination());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.cli;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.tools.tgcopy.core.model.CopyTarget;
+
+class CommandUtilTest {
+
+    @Test
+    void prepareTargets_table() throws Exception {
+        var targets = CommandUtil.prepareTargets(List.of("a", "b:c"), false, null);
+        assertEquals(List.of(new CopyTarget("a", "a"), new CopyTarget("b", "c")), targets);
+    }
+
+    @Test
+    void prepareTargets_table_partition() throws Exception {
+        var targets = CommandUtil.prepareTargets(List.of("a"), false, "k");
+        assertEquals(List.of(new CopyTarget("a", "a").withPartitionKey("k")), targets);
+    }
+
+    @Test
+    void prepareTargets_query() throws Exception {
+        var targets = CommandUtil.prepareTargets(List.of("dst: SELECT * FROM t WHERE k = 1"), true, null);
+        assertEquals(List.of(new CopyTarget(
+                CopyTarget.TargetType.QUERY, "dst", "SELECT * FROM t WHERE k = 1", "dst", null)),
+                targets);
+    }
+
+    @Test
+    void prepareTargets_query_without_destination() {
+        var e = assertThrows(CliException.class,
+                () -> CommandUtil.prepareTargets(List.of("SELECT * FROM t"), true, null));
+        assertEquals(CliDiagnosticCode.INVALID_PARAMETER, e.getDiagnosticCode());
+    }
+
+    @Test
+    void prepareTargets_table_empty_destination() {
+        var e = assertThrows(CliException.class,
+                () -> CommandUtil.prepareTargets(List.of("a:"), false, null));
+        assertEquals(CliDiagnosticCode.INVALID_PARAMETER, e.getDiagnosticCode());
+    }
+
+    @Test
+    void prepareTargets_empty() {
+        var e = assertThrows(CliException.class,
+                () -> CommandUtil.prepareTargets(List.of(), false, null));
+        assertEquals(CliDiagnosticCode.INVALID_PARAMETER, e.getDiagnosticCode());
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.engine;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.tools.common.monitoring.Monitor;
+import com.tsurugidb.tools.common.monitoring.MonitoringException;
+import com.tsurugidb.tools.common.value.Property;
+import com.tsurugidb.tools.common.value.Value;
+import com.tsurugidb.tools.tgcopy.core.model.CopyTarget;
+
+/**
+ * An adapter of {@link Monitor} to track individual copy operations.
+ */
+public class BasicCopyMonitor implements CopyMonitor {
+
+    /**
+     * The monitoring format name that individual copy operations were started.
+     */
+    public static final String FORMAT_COPY_START = "copy-start";
+
+    /**
+     * The monitoring format name that individual copy operations have progressed.
+     */
+    public static final String FORMAT_COPY_PROGRESS = "copy-progress";
+
+    /**
+     * The monitoring format name that individual copy operations were finished.
+     */
+    public static final String FORMAT_COPY_FINISH = "copy-finish";
+
+    /**
+     * The monitoring property of the target type.
+     */
+    public static final String PROPERTY_TYPE = "type";
+
+    /**
+     * The monitoring value of the table type.
+     */
+    public static final String TYPE_TABLE = "table";
+
+    /**
+     * The monitoring value of the query type.
+     */
+    public static final String TYPE_QUERY = "query";
+
+    /**
+     * The monitoring property of the target label.
+     */
+    public static final String PROPERTY_LABEL = "label";
+
+    /**
+     * The monitoring property of the source table name or query text.
+     */
+    public static final String PROPERTY_SOURCE = "source";
+
+    /**
+     * The monitoring property of the destination table name.
+     */
+    public static final String PROPERTY_DESTINATION = "destination";
+
+    /**
+     * The monitoring property of the number of source partitions.
+     */
+    public static final String PROPERTY_PARTITIONS = "partitions";
+
+    /**
+     * The monitoring property of the number of written rows.
+     */
+    public static final String PROPERTY_ROWS = "rows";
+
+    /**
+     * The monitoring property of the elapsed time in milliseconds.
+     */
+    public static final String PROPERTY_ELAPSED = "elapsed";
+
+    /**
+     * The monitoring property of the throughput (rows per second).
+     */
+    public static final String PROPERTY_THROUGHPUT = "rows_per_second";
+
+    private final Monitor monitor;
+
+    /**
+     * Creates a new instance.
+     * @param monitor the delegated monitor
+     */
+    public BasicCopyMonitor(@Nonnull Monitor monitor) {
+        Objects.requireNonNull(monitor);
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void onCopyStart(@Nonnull CopyTarget target, int numberOfPartitions) throws MonitoringException {
+        Objects.requireNonNull(target);
+        monitor.onData(FORMAT_COPY_START, List.of(
+                Property.of(PROPERTY_TYPE, Value.of(getTypeName(target))),
+                Property.of(PROPERTY_LABEL, Value.of(target.getLabel())),
+                Property.of(PROPERTY_SOURCE, Value.of(target.getSource())),
+                Property.of(PROPERTY_DESTINATION, Value.of(target.getDestinationTableName())),
+                Property.of(PROPERTY_PARTITIONS, Value.of(numberOfPartitions))));
+    }
+
+    @Override
+    public void onCopyProgress(@Nonnull CopyTarget target, long rows, @Nonnull Duration elapsed)
+            throws MonitoringException {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(elapsed);
+        monitor.onData(FORMAT_COPY_PROGRESS, List.of(
+                Property.of(PROPERTY_LABEL, Value.of(target.getLabel())),
+                Property.of(PROPERTY_ROWS, Value.of(rows)),
+                Property.of(PROPERTY_ELAPSED, Value.of(elapsed.toMillis())),
+                Property.of(PROPERTY_THROUGHPUT, Value.of(CopyMonitor.computeRowsPerSecond(rows, elapsed)))));
+    }
+
+    @Override
+    public void onCopyFinish(@Nonnull CopyTarget target, long rows, @Nonnull Duration elapsed)
+            throws MonitoringException {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(elapsed);
+        monitor.onData(FORMAT_COPY_FINISH, List.of(
+                Property.of(PROPERTY_LABEL, Value.of(target.getLabel())),
+                Property.of(PROPERTY_DESTINATION, Value.of(target.getDestinationTableName())),
+                Property.of(PROPERTY_ROWS, Value.of(rows)),
+                Property.of(PROPERTY_ELAPSED, Value.of(elapsed.toMillis())),
+                Property.of(PROPERTY_THROUGHPUT, Value.of(CopyMonitor.computeRowsPerSecond(rows, elapsed)))));
+    }
+
+    private static String getTypeName(CopyTarget target) {
+        switch (target.getTargetType()) {
+        case TABLE:
+            return TYPE_TABLE;
+        case QUERY:
+            return TYPE_QUERY;
+        default:
+            throw new AssertionError(target.getTargetType());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CopyMonitor(%s)", monitor); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.engine;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.tools.common.monitoring.MonitoringException;
+import com.tsurugidb.tools.tgcopy.core.model.CopyTarget;
+
+/**
+ * A {@link CopyMonitor} that dispatches each message to sub-monitors.
+ */
+public class CompositeCopyMonitor implements CopyMonitor {
+
+    private final CopyMonitor[] elements;
+
+    /**
+     * Creates a new instance.
+     * @param elements the element monitors
+     */
+    public CompositeCopyMonitor(@Nonnull CopyMonitor... elements) {
+        Objects.requireNonNull(elements);
+        this.elements = Arrays.copyOf(elements, elements.length);
+    }
+
+    /**
+     * Creates a new instance.
+     * @param elements the element monitors
+     */
+    public CompositeCopyMonitor(@Nonnull List<? extends CopyMonitor> elements) {
+        Objects.requireNonNull(elements);
+        this.elements = elements.toArray(new CopyMonitor[elements.size()]);
+    }
+
+    @Override
+    public void verbose(@Nonnull String format, @Nonnull Object... arguments) throws MonitoringException {
+        Objects.requireNonNull(format);
+        Objects.requireNonNull(arguments);
+        for (var element : elements) {
+            element.verbose(format, arguments);
+        }
+    }
+
+    @Override
+    public void onCopyStart(@Nonnull CopyTarget target, int numberOfPartitions) throws MonitoringException {
+        Objects.requireNonNull(target);
+        for (var element : elements) {
+            element.onCopyStart(target, numberOfPartitions);
+        }
+    }
+
+    @Override
+    public void onCopyProgress(@Nonnull CopyTarget target, long rows, @Nonnull Duration elapsed)
+            throws MonitoringException {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(elapsed);
+        for (var element : elements) {
+            element.onCopyProgress(target, rows, elapsed);
+        }
+    }
+
+    @Override
+    public void onCopyFinish(@Nonnull CopyTarget target, long rows, @Nonnull Duration elapsed)
+            throws MonitoringException {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(elapsed);
+        for (var element : elements) {
+            element.onCopyFinish(target, rows, elapsed);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.engine;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.tools.common.diagnostic.DiagnosticCode;
+import com.tsurugidb.tools.common.diagnostic.DiagnosticUtil;
+
+/**
+ * Diagnostic codes for the copy operations.
+ * @see CopyException
+ */
+public enum CopyDiagnosticCode implements DiagnosticCode {
+
+    /**
+     * {@code unknown} - unknown error.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the message </li>
+     * </ul>
+     */
+    UNKNOWN("unknown", "unknown exception was occurred: {0}"), //$NON-NLS-1$, //$NON-NLS-2$
+
+    /**
+     * {@code table_not_found} - the source or destination table is not found on the database.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the table name </li>
+     * </ul>
+     */
+    TABLE_NOT_FOUND("table_not_found", "table is not found on the database: {0}"), //$NON-NLS-1$ //$NON-NLS-2$
+
+    /**
+     * {@code begin_failure} - transaction cannot be started.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the target label </li>
+     * </ul>
+     */
+    BEGIN_FAILURE("begin_failure", "transaction cannot be started: {0}"), //$NON-NLS-1$ //$NON-NLS-2$
+
+    /**
+     * {@code prepare_failure} - cannot prepare statements for copy operation.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the target label </li>
+     * <li> {@code [1]} - SQL command </li>
+     * </ul>
+     */
+    PREPARE_FAILURE("prepare_failure", "command preparation was failed: {0} ({1})"), //$NON-NLS-1$ //$NON-NLS-2$
+
+    /**
+     * {@code read_failure} - reading the source rows was failed.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the target label </li>
+     * <li> {@code [1]} - SQL command </li>
+     * </ul>
+     */
+    READ_FAILURE("read_failure", "reading source rows was failed: {0} ({1})"), //$NON-NLS-1$ //$NON-NLS-2$
+
+    /**
+     * {@code write_failure} - writing rows into the destination table was failed.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the target label </li>
+     * <li> {@code [1]} - the destination table name </li>
+     * </ul>
+     */
+    WRITE_FAILURE("write_failure", "writing rows was failed: {0} ({1})"), //$NON-NLS-1$ //$NON-NLS-2$
+
+    /**
+     * {@code unsupported_type} - the source column type is not supported in copy operations.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the target label </li>
+     * <li> {@code [1]} - the column name </li>
+     * <li> {@code [2]} - the column type </li>
+     * </ul>
+     */
+    UNSUPPORTED_TYPE("unsupported_type", "unsupported column type: {0} (column={1}, type={2})"), //$NON-NLS-1$ //$NON-NLS-2$
+
+    /**
+     * {@code unnamed_column} - the source query contains unnamed columns.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the target label </li>
+     * <li> {@code [1]} - the column position (0-origin) </li>
+     * </ul>
+     */
+    UNNAMED_COLUMN("unnamed_column", "source column must have a name: {0} (position={1})"), //$NON-NLS-1$ //$NON-NLS-2$
+
+    /**
+     * {@code unsupported_partition_key} - the partition key column is not available for key range partitioning.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the target label </li>
+     * <li> {@code [1]} - the column name </li>
+     * </ul>
+     */
+    UNSUPPORTED_PARTITION_KEY("unsupported_partition_key", "partition key must be an integral column: {0} (column={1})"), //$NON-NLS-1$ //$NON-NLS-2$
+
+    /**
+     * {@code commit_failure} - transaction was aborted.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the target label </li>
+     * </ul>
+     */
+    COMMIT_FAILURE("commit_failure", "transaction was aborted: {0}"), //$NON-NLS-1$ //$NON-NLS-2$
+
+    /**
+     * {@code io} - copy operation was failed by I/O error.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the I/O error message </li>
+     * </ul>
+     */
+    IO_ERROR("io", "copy operation was failed by I/O error: {0}"), //$NON-NLS-1$ //$NON-NLS-2$
+
+    /**
+     * {@code server} - copy operation was failed by server-side error.
+     *
+     * <p>
+     * Parameters:
+     * </p>
+     * <ul>
+     * <li> {@code [0]} - the error message from the server </li>
+     * </ul>
+     */
+    SERVER_ERROR("server", "copy operation was failed by server: {0}"), //$NON-NLS-1$ //$NON-NLS-2$
+    ;
+
+    private final String tag;
+
+    private final String format;
+
+    private final int parameterCount;
+
+    CopyDiagnosticCode(String tag, String format) {
+        this.tag = tag;
+        this.format = format;
+        this.parameterCount = DiagnosticUtil.getParameterCount(format);
+    }
+
+    @Override
+    public String getTag() {
+        return tag;
+    }
+
+    @Override
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    @Override
+    public String getMessage(@Nonnull List<?> parameters) {
+        Objects.requireNonNull(parameters);
+        return MessageFormat.format(format, parameters.toArray());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.engine;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.sql.proto.SqlCommon;
+import com.tsurugidb.sql.proto.SqlRequest;
+import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
+import com.tsurugidb.tools.common.diagnostic.DiagnosticUtil;
+import com.tsurugidb.tools.common.monitoring.MonitoringException;
+import com.tsurugidb.tools.tgcopy.core.model.CopySettings;
+import com.tsurugidb.tools.tgcopy.core.model.CopyTarget;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+
+/**
+ * Performs copy operations between two databases.
+ *
+ * <p>
+ * All source tables and queries are read in a single read-only transaction, so that the copied rows reflect the same
+ * snapshot of the source database.
+ * On the other hand, the destination rows are inserted in individual transactions for each batch, and thus they are
+ * not atomic.
+ * </p>
+ */
+public class CopyEngine {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CopyEngine.class);
+
+    private final CopySettings settings;
+
+    /**
+     * Creates a new instance with default settings.
+     */
+    public CopyEngine() {
+        this(new CopySettings());
+    }
+
+    /**
+     * Creates a new instance.
+     * @param settings the copy settings
+     */
+    public CopyEngine(@Nonnull CopySettings settings) {
+        Objects.requireNonNull(settings);
+        this.settings = settings;
+    }
+
+    /**
+     * Executes a series of copy operations.
+     * @param monitor the execution monitor
+     * @param source the SQL client of the source database
+     * @param destination the SQL client of the destination database
+     * @param targets the copy targets
+     * @throws InterruptedException if interrupted during the operation
+     * @throws CopyException if error occurred while executing copy operations
+     * @throws MonitoringException if error occurred while providing monitoring information
+     * @throws DiagnosticException if error occurred while the execution
+     */
+    public void execute(
+            @Nonnull CopyMonitor monitor,
+            @Nonnull SqlClient source,
+            @Nonnull SqlClient destination,
+            @Nonnull List<? extends CopyTarget> targets) throws InterruptedException, DiagnosticException {
+        Objects.requireNonNull(monitor);
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(destination);
+        Objects.requireNonNull(targets);
+        LOG.debug("copy settings: {}", settings); //$NON-NLS-1$
+        var options = settings.toSourceTransactionOption();
+        monitor.verbose("starting a source transaction: {0}", options); //$NON-NLS-1$
+        try (var transaction = begin(source, options)) {
+            monitor.verbose("source transaction was started: {0}", transaction.getTransactionId()); //$NON-NLS-1$
+            for (var target : targets) {
+                copy(monitor, transaction, destination, target);
+            }
+            monitor.verbose("finishing the source transaction: {0}", transaction.getTransactionId()); //$NON-NLS-1$
+            try {
+                transaction.commit().await();
+            } catch (ServerException e) {
+                LOG.debug("exception was occurred in commit", e); //$NON-NLS-1$
+                throw new CopyException(CopyDiagnosticCode.COMMIT_FAILURE, List.of("source"), e); //$NON-NLS-1$
+            }
+        } catch (IOException e) {
+            LOG.debug("exception was occurred in copy", e); //$NON-NLS-1$
+            throw new CopyException(CopyDiagnosticCode.IO_ERROR, List.of(e.toString()), e);
+        } catch (ServerException e) {
+            LOG.debug("exception was occurred in copy", e); //$NON-NLS-1$
+            throw new CopyException(CopyDiagnosticCode.SERVER_ERROR, List.of(DiagnosticUtil.getMessage(e)), e);
+        }
+        monitor.verbose("completed copy operations"); //$NON-NLS-1$
+    }
+
+    private static Transaction begin(SqlClient source, SqlRequest.TransactionOption options)
+            throws InterruptedException, DiagnosticException {
+        try {
+            return source.createTransaction(options).await();
+        } catch (IOException e) {
+            LOG.debug("exception was occurred in begin", e); //$NON-NLS-1$
+            throw new CopyException(CopyDiagnosticCode.IO_ERROR, List.of(e.toString()), e);
+        } catch (ServerException e) {
+            LOG.debug("exception was occurred in begin", e); //$NON-NLS-1$
+            throw new CopyException(CopyDiagnosticCode.BEGIN_FAILURE, List.of("source"), e); //$NON-NLS-1$
+        }
+    }
+
+    private void copy(CopyMonitor monitor, Transaction source, SqlClient destination, CopyTarget target)
+            throws InterruptedException, DiagnosticException {
+        var ranges = computePartitions(monitor, source, target);
+        var queries = ranges.stream()
+                .map(range -> CopyStatements.select(target, range))
+                .collect(Collectors.toList());
+        monitor.onCopyStart(target, queries.size());
+        var operation = new CopyOperation(monitor, settings, target, destination);
+        long rows = operation.execute(source, queries);
+        monitor.onCopyFinish(target, rows, operation.getElapsed());
+    }
+
+    List<KeyRange> computePartitions(CopyMonitor monitor, Transaction source, CopyTarget target)
+            throws InterruptedException, DiagnosticException {
+        var key = target.getPartitionKey();
+        int count = settings.getNumberOfPartitions();
+        if (key.isEmpty() || count <= 1) {
+            return List.of(KeyRange.all());
+        }
+        var query = CopyStatements.selectKeyRange(target.getSourceTableName(), key.get());
+        monitor.verbose("inspecting partition key range: {0} ({1})", target.getLabel(), query); //$NON-NLS-1$
+        long min;
+        long max;
+        try (var rs = source.executeQuery(query).await()) {
+            var columns = rs.getMetadata().getColumns();
+            var type = columns.isEmpty() ? null : columns.get(0).getAtomType();
+            if (type != SqlCommon.AtomType.INT4 && type != SqlCommon.AtomType.INT8) {
+                throw new CopyException(CopyDiagnosticCode.UNSUPPORTED_PARTITION_KEY,
+                        List.of(target.getLabel(), key.get()));
+            }
+            if (!rs.nextRow() || !rs.nextColumn() || rs.isNull()) {
+                monitor.verbose("source table is empty: {0}", target.getLabel()); //$NON-NLS-1$
+                return List.of(KeyRange.all());
+            }
+            min = type == SqlCommon.AtomType.INT4 ? rs.fetchInt4Value() : rs.fetchInt8Value();
+            if (!rs.nextColumn()) {
+                throw new IllegalStateException("broken key range result (less columns in the result set)");
+            }
+            max = type == SqlCommon.AtomType.INT4 ? rs.fetchInt4Value() : rs.fetchInt8Value();
+        } catch (ServerException e) {
+            LOG.debug("exception was occurred in partitioning", e); //$NON-NLS-1$
+            throw new CopyException(CopyDiagnosticCode.READ_FAILURE, List.of(target.getLabel(), query), e);
+        } catch (IOException e) {
+            LOG.debug("exception was occurred in partitioning", e); //$NON-NLS-1$
+            throw new CopyException(CopyDiagnosticCode.IO_ERROR, List.of(e.toString()), e);
+        }
+        var results = KeyRange.split(min, max, count);
+        monitor.verbose("partition key ranges: {0} ({1})", target.getLabel(), results); //$NON-NLS-1$
+        return results;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.engine;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.tools.common.monitoring.MonitoringException;
+import com.tsurugidb.tools.tgcopy.core.model.CopyTarget;
+
+/**
+ * Copy operation monitor.
+ */
+public interface CopyMonitor {
+
+    /**
+     * Records a verbose log message.
+     * @param format the message format
+     * @param arguments the message arguments
+     * @throws MonitoringException if error was occurred while monitoring the event
+     */
+    default void verbose(@Nonnull String format, @Nonnull Object... arguments) throws MonitoringException {
+        Objects.requireNonNull(format);
+        Objects.requireNonNull(arguments);
+    }
+
+    /**
+     * Invoked when a copy operation was started.
+     * @param target the copy target
+     * @param numberOfPartitions the number of source partitions read in parallel
+     * @throws MonitoringException if error was occurred while monitoring the event
+     */
+    void onCopyStart(@Nonnull CopyTarget target, int numberOfPartitions) throws MonitoringException;
+
+    /**
+     * Invoked when a copy operation has written some rows into the destination table.
+     * @param target the copy target
+     * @param rows the total number of rows written so far
+     * @param elapsed the elapsed time from the operation was started
+     * @throws MonitoringException if error was occurred while monitoring the event
+     */
+    void onCopyProgress(@Nonnull CopyTarget target, long rows, @Nonnull Duration elapsed) throws MonitoringException;
+
+    /**
+     * Invoked when each copy operation was finished.
+     * @param target the copy target
+     * @param rows the total number of written rows
+     * @param elapsed the elapsed time of the operation
+     * @throws MonitoringException if error was occurred while monitoring the event
+     */
+    void onCopyFinish(@Nonnull CopyTarget target, long rows, @Nonnull Duration elapsed) throws MonitoringException;
+
+    /**
+     * Computes the throughput in rows per second.
+     * @param rows the number of rows
+     * @param elapsed the elapsed time
+     * @return the number of rows per second, or {@code 0} if the elapsed time is too short
+     */
+    static long computeRowsPerSecond(long rows, @Nonnull Duration elapsed) {
+        Objects.requireNonNull(elapsed);
+        long millis = elapsed.toMillis();
+        if (millis <= 0) {
+            return 0;
+        }
+        return rows * 1_000 / millis;
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.engine;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.sql.proto.SqlCommon;
+import com.tsurugidb.sql.proto.SqlRequest;
+import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
+import com.tsurugidb.tools.common.diagnostic.DiagnosticUtil;
+import com.tsurugidb.tools.common.monitoring.MonitoringException;
+import com.tsurugidb.tools.tgcopy.core.model.CopySettings;
+import com.tsurugidb.tools.tgcopy.core.model.CopyTarget;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+
+/**
+ * A copy operation for an individual {@link CopyTarget}.
+ *
+ * <p>
+ * This reads the source partitions on individual reader threads, and the readers decode each row into parameters of
+ * the destination insert statement.
+ * The decoded rows are grouped into batches, and passed to the writer threads through a bounded queue.
+ * Each writer inserts the batch into the destination table in its own transaction.
+ * </p>
+ */
+class CopyOperation {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CopyOperation.class);
+
+    private static final ThreadFactory THREAD_FACTORY = new ThreadFactory() {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            var result = new Thread(r);
+            result.setName(String.format("TSURUGI-COPY-WORKER-%d", counter.incrementAndGet())); //$NON-NLS-1$
+            result.setDaemon(true);
+            return result;
+        }
+    };
+
+    /**
+     * A marker of end of batches.
+     */
+    private static final List<List<SqlRequest.Parameter>> END_OF_BATCHES = List.of();
+
+    static final long PROGRESS_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final CopyMonitor monitor;
+
+    private final CopySettings settings;
+
+    private final CopyTarget target;
+
+    private final SqlClient destination;
+
+    private final BlockingQueue<List<List<SqlRequest.Parameter>>> queue;
+
+    private final AtomicInteger remainingReaders = new AtomicInteger();
+
+    private final AtomicLong writtenRows = new AtomicLong();
+
+    private final Object insertLock = new Object();
+
+    private RowDecoder decoder;
+
+    private PreparedStatement insert;
+
+    private long startNanos;
+
+    private long nextProgressNanos;
+
+    /**
+     * Creates a new instance.
+     * @param monitor the operation monitor
+     * @param settings the copy settings
+     * @param target the copy target
+     * @param destination the SQL client of the destination database
+     */
+    CopyOperation(
+            @Nonnull CopyMonitor monitor,
+            @Nonnull CopySettings settings,
+            @Nonnull CopyTarget target,
+            @Nonnull SqlClient destination) {
+        Objects.requireNonNull(monitor);
+        Objects.requireNonNull(settings);
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(destination);
+        this.monitor = monitor;
+        this.settings = settings;
+        this.target = target;
+        this.destination = destination;
+        this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+    }
+
+    /**
+     * Executes this operation.
+     * @param source the source transaction
+     * @param queries the queries to read individual source partitions
+     * @return the number of written rows
+     * @throws InterruptedException if interrupted during the operation
+     * @throws DiagnosticException if error was occurred
+     */
+    long execute(@Nonnull Transaction source, @Nonnull List<String> queries)
+            throws InterruptedException, DiagnosticException {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(queries);
+        if (queries.isEmpty()) {
+            throw new IllegalArgumentException("source queries must not be empty");
+        }
+        int numberOfWriters = settings.getNumberOfWriters();
+        LOG.debug("creating copy workers: {} (readers={}, writers={})", //$NON-NLS-1$
+                target.getLabel(), queries.size(), numberOfWriters);
+        var jobs = new ArrayList<Callable<Void>>();
+        for (var query : queries) {
+            jobs.add(() -> read(source, query, numberOfWriters));
+        }
+        for (int i = 0; i < numberOfWriters; i++) {
+            jobs.add(this::write);
+        }
+        remainingReaders.set(queries.size());
+        startNanos = System.nanoTime();
+        nextProgressNanos = startNanos + PROGRESS_INTERVAL_NANOS;
+        var threads = Executors.newFixedThreadPool(jobs.size(), THREAD_FACTORY);
+        try {
+            runAll(threads, jobs);
+        } finally {
+            threads.shutdown();
+        }
+        // NOTE: on failure, the prepared statement will be disposed together with the destination session
+        closeInsert();
+        return writtenRows.get();
+    }
+
+    /**
+     * Returns the elapsed time from this operation was started.
+     * @return the elapsed time
+     */
+    Duration getElapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    private Void read(Transaction source, String query, int numberOfWriters)
+            throws InterruptedException, DiagnosticException {
+        monitor.verbose("start reading source rows: {0} ({1})", target.getLabel(), query); //$NON-NLS-1$
+        int batchSize = settings.getBatchSize();
+        try (var rs = source.executeQuery(query).await()) {
+            var rowDecoder = prepareInsert(rs.getMetadata().getColumns());
+            var batch = new ArrayList<List<SqlRequest.Parameter>>(batchSize);
+            while (rs.nextRow()) {
+                batch.add(rowDecoder.decode(rs));
+                if (batch.size() >= batchSize) {
+                    queue.put(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                queue.put(batch);
+            }
+        } catch (ServerException e) {
+            LOG.debug("exception was occurred in read", e); //$NON-NLS-1$
+            throw new CopyException(CopyDiagnosticCode.READ_FAILURE, List.of(target.getLabel(), query), e);
+        } catch (IOException e) {
+            LOG.debug("exception was occurred in read", e); //$NON-NLS-1$
+            throw new CopyException(CopyDiagnosticCode.IO_ERROR, List.of(e.toString()), e);
+        }
+        monitor.verbose("finish reading source rows: {0} ({1})", target.getLabel(), query); //$NON-NLS-1$
+        if (remainingReaders.decrementAndGet() == 0) {
+            for (int i = 0; i < numberOfWriters; i++) {
+                queue.put(END_OF_BATCHES);
+            }
+        }
+        return null;
+    }
+
+    private RowDecoder prepareInsert(List<? extends SqlCommon.Column> columns)
+            throws InterruptedException, DiagnosticException {
+        synchronized (insertLock) {
+            if (decoder != null) {
+                return decoder;
+            }
+            var rowDecoder = RowDecoder.of(target.getLabel(), columns);
+            var statement = CopyStatements.insert(target.getDestinationTableName(), rowDecoder.getColumnNames());
+            monitor.verbose("preparing insert statement: {0} ({1})", target.getLabel(), statement); //$NON-NLS-1$
+            try {
+                insert = destination.prepare(statement, rowDecoder.getPlaceholders()).await();
+            } catch (ServerException e) {
+                LOG.debug("exception was occurred in prepare", e); //$NON-NLS-1$
+                throw new CopyException(CopyDiagnosticCode.PREPARE_FAILURE, List.of(target.getLabel(), statement), e);
+            } catch (IOException e) {
+                LOG.debug("exception was occurred in prepare", e); //$NON-NLS-1$
+                throw new CopyException(CopyDiagnosticCode.IO_ERROR, List.of(e.toString()), e);
+            }
+            decoder = rowDecoder;
+            return rowDecoder;
+        }
+    }
+
+    private @Nullable PreparedStatement getInsert() {
+        synchronized (insertLock) {
+            return insert;
+        }
+    }
+
+    private void closeInsert() throws InterruptedException, DiagnosticException {
+        var statement = getInsert();
+        if (statement == null) {
+            return;
+        }
+        try {
+            statement.close();
+        } catch (ServerException e) {
+            LOG.debug("exception was occurred in close", e); //$NON-NLS-1$
+            throw new CopyException(CopyDiagnosticCode.SERVER_ERROR, List.of(DiagnosticUtil.getMessage(e)), e);
+        } catch (IOException e) {
+            LOG.debug("exception was occurred in close", e); //$NON-NLS-1$
+            throw new CopyException(CopyDiagnosticCode.IO_ERROR, List.of(e.toString()), e);
+        }
+    }
+
+    private Void write() throws InterruptedException, DiagnosticException {
+        var options = settings.toDestinationTransactionOption(target.getDestinationTableName());
+        while (true) {
+            var batch = queue.take();
+            if (batch == END_OF_BATCHES) {
+                return null;
+            }
+            // the statement must be prepared before the first batch was queued
+            var statement = getInsert();
+            try (var transaction = destination.createTransaction(options).await()) {
+                transaction.batch(statement, batch).await();
+                transaction.commit().await();
+            } catch (ServerException e) {
+                LOG.debug("exception was occurred in write", e); //$NON-NLS-1$
+                throw new CopyException(CopyDiagnosticCode.WRITE_FAILURE,
+                        List.of(target.getLabel(), target.getDestinationTableName()), e);
+            } catch (IOException e) {
+                LOG.debug("exception was occurred in write", e); //$NON-NLS-1$
+                throw new CopyException(CopyDiagnosticCode.IO_ERROR, List.of(e.toString()), e);
+            }
+            long total = writtenRows.addAndGet(batch.size());
+            reportProgress(total);
+        }
+    }
+
+    private synchronized void reportProgress(long total) throws MonitoringException {
+        long now = System.nanoTime();
+        if (now - nextProgressNanos < 0) {
+            return;
+        }
+        nextProgressNanos = now + PROGRESS_INTERVAL_NANOS;
+        monitor.onCopyProgress(target, total, Duration.ofNanos(now - startNanos));
+    }
+
+    private static void runAll(ExecutorService threads, List<Callable<Void>> jobs)
+            throws InterruptedException, DiagnosticException {
+        var completion = new ExecutorCompletionService<Void>(threads);
+        for (var job : jobs) {
+            completion.submit(job);
+        }
+        boolean green = false;
+        try {
+            // NOTE: wait for the first failure rather than the job order, because the other jobs may be blocked
+            for (int i = 0; i < jobs.size(); i++) {
+                try {
+                    completion.take().get();
+                } catch (ExecutionException e) {
+                    var cause = e.getCause();
+                    if (cause instanceof DiagnosticException) {
+                        throw (DiagnosticException) cause;
+                    }
+                    if (cause instanceof InterruptedException) {
+                        throw (InterruptedException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw new CopyException(CopyDiagnosticCode.UNKNOWN, List.of(cause.toString()), cause);
+                }
+            }
+            green = true;
+        } finally {
+            if (!green) {
+                threads.shutdownNow();
+            }
+        }
+    }
+}
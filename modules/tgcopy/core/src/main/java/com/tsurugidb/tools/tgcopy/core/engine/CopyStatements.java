@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.engine;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.tools.tgcopy.core.model.CopyTarget;
+
+/**
+ * Builds SQL statements for copy operations.
+ */
+final class CopyStatements {
+
+    private static final Pattern PATTERN_REGULAR_IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*"); //$NON-NLS-1$
+
+    private CopyStatements() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the placeholder name of the column.
+     * @param index the column index (0-origin)
+     * @return the placeholder name
+     */
+    static String getPlaceholderName(int index) {
+        return String.format("p%d", index); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns a query to read the source rows of the copy target.
+     * @param target the copy target
+     * @param range the key range of the partition, only available for table targets
+     * @return the query text
+     */
+    static String select(@Nonnull CopyTarget target, @Nonnull KeyRange range) {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(range);
+        if (target.getTargetType() == CopyTarget.TargetType.QUERY) {
+            return target.getSource();
+        }
+        var table = quoteName(target.getSourceTableName());
+        var condition = target.getPartitionKey()
+                .flatMap(key -> range.toCondition(quote(key)));
+        if (condition.isEmpty()) {
+            return String.format("SELECT * FROM %s", table); //$NON-NLS-1$
+        }
+        return String.format("SELECT * FROM %s WHERE %s", table, condition.get()); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns a query to obtain the minimum and maximum value of the partition key.
+     * @param tableName the source table name
+     * @param column the partition key column name
+     * @return the query text
+     */
+    static String selectKeyRange(@Nonnull String tableName, @Nonnull String column) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(column);
+        var key = quote(column);
+        return String.format("SELECT MIN(%s), MAX(%s) FROM %s", key, key, quoteName(tableName)); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns a statement to insert a row into the destination table.
+     * @param tableName the destination table name
+     * @param columnNames the destination column names
+     * @return the statement text, which placeholders are named by {@link #getPlaceholderName(int)}
+     */
+    static String insert(@Nonnull String tableName, @Nonnull List<String> columnNames) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(columnNames);
+        var columns = columnNames.stream()
+                .map(CopyStatements::quote)
+                .collect(Collectors.joining(", ")); //$NON-NLS-1$
+        var values = new StringBuilder();
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (i > 0) {
+                values.append(", "); //$NON-NLS-1$
+            }
+            values.append(':').append(getPlaceholderName(i));
+        }
+        return String.format("INSERT INTO %s (%s) VALUES (%s)", quoteName(tableName), columns, values); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns the SQL representation of the table name, which may be qualified with dots.
+     * <p>
+     * Each part of the name is quoted by {@link #quote(String)} unless it is already a delimited identifier.
+     * </p>
+     * @param name the table name, like {@code schema.table}
+     * @return the SQL representation
+     * @throws IllegalArgumentException if the name contains an empty part or an unterminated delimited identifier
+     */
+    static String quoteName(@Nonnull String name) {
+        Objects.requireNonNull(name);
+        var results = new ArrayList<String>();
+        for (var part : splitName(name)) {
+            if (part.length() >= 2 && part.charAt(0) == '"' && part.charAt(part.length() - 1) == '"') {
+                results.add(part);
+            } else if (part.isEmpty() || part.indexOf('"') >= 0) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "invalid table name: {0}",
+                        name));
+            } else {
+                results.add(quote(part));
+            }
+        }
+        return String.join(".", results); //$NON-NLS-1$
+    }
+
+    private static List<String> splitName(String name) {
+        var results = new ArrayList<String>();
+        boolean delimited = false;
+        int start = 0;
+        for (int i = 0; i < name.length(); i++) {
+            var c = name.charAt(i);
+            if (c == '"') {
+                delimited = !delimited;
+            } else if (c == '.' && !delimited) {
+                results.add(name.substring(start, i));
+                start = i + 1;
+            }
+        }
+        if (delimited) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "unterminated delimited identifier in table name: {0}",
+                    name));
+        }
+        results.add(name.substring(start));
+        return results;
+    }
+
+    /**
+     * Returns the SQL identifier, which is quoted only if it is not a regular identifier.
+     * <p>
+     * The whole name is treated as a single identifier, use {@link #quoteName(String)} for qualified table names.
+     * </p>
+     * @param name the identifier
+     * @return the SQL representation
+     */
+    static String quote(@Nonnull String name) {
+        Objects.requireNonNull(name);
+        var matcher = PATTERN_REGULAR_IDENTIFIER.matcher(name);
+        if (matcher.matches()) {
+            return name;
+        }
+        var string = new StringBuilder();
+        string.append('"');
+        for (int i = 0; i < name.length(); i++) {
+            var c = name.charAt(i);
+            if (c == '"') {
+                string.append('"');
+                string.append('"');
+            } else {
+                string.append(c);
+            }
+        }
+        string.append('"');
+        return string.toString();
+    }
+}
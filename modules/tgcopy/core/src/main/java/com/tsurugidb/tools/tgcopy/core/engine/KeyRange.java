@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.engine;
+
+import java.math.BigInteger;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A range of integral partition keys, used to read a source table in parallel.
+ *
+ * <p>
+ * Each range is {@code [lower, upper)}, and the first range also contains {@code NULL} keys.
+ * The lower bound of the first range and the upper bound of the last range are unbounded.
+ * </p>
+ */
+final class KeyRange {
+
+    private static final KeyRange ALL = new KeyRange(null, null);
+
+    private final Long lower;
+
+    private final Long upper;
+
+    private KeyRange(@Nullable Long lower, @Nullable Long upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * Returns a range which contains all keys.
+     * @return the range
+     */
+    static KeyRange all() {
+        return ALL;
+    }
+
+    /**
+     * Splits the key range {@code [min, max]} into the given number of ranges.
+     * <p>
+     * The resulting ranges are disjoint, and they cover all keys including {@code NULL}.
+     * This may return fewer ranges than the requested count if the key range is too narrow.
+     * </p>
+     * @param min the minimum key value
+     * @param max the maximum key value
+     * @param count the number of ranges
+     * @return the split ranges, ordered by their keys
+     * @throws IllegalArgumentException if {@code min > max}, or {@code count < 1}
+     */
+    static List<KeyRange> split(long min, long max, int count) {
+        if (min > max) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "min must be <= max: min={0}, max={1}",
+                    min,
+                    max));
+        }
+        if (count < 1) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "count must be >= 1: {0}",
+                    count));
+        }
+        var base = BigInteger.valueOf(min);
+        var width = BigInteger.valueOf(max).subtract(base).add(BigInteger.ONE);
+        int actualCount = width.min(BigInteger.valueOf(count)).intValueExact();
+        if (actualCount == 1) {
+            return List.of(ALL);
+        }
+        var divisor = BigInteger.valueOf(actualCount);
+        var results = new ArrayList<KeyRange>(actualCount);
+        Long last = null;
+        for (int i = 1; i < actualCount; i++) {
+            long boundary = base.add(width.multiply(BigInteger.valueOf(i)).divide(divisor)).longValueExact();
+            results.add(new KeyRange(last, boundary));
+            last = boundary;
+        }
+        results.add(new KeyRange(last, null));
+        return results;
+    }
+
+    /**
+     * Returns the inclusive lower bound.
+     * @return the lower bound, or empty if it is unbounded
+     */
+    OptionalLong getLower() {
+        return lower == null ? OptionalLong.empty() : OptionalLong.of(lower);
+    }
+
+    /**
+     * Returns the exclusive upper bound.
+     * @return the upper bound, or empty if it is unbounded
+     */
+    OptionalLong getUpper() {
+        return upper == null ? OptionalLong.empty() : OptionalLong.of(upper);
+    }
+
+    /**
+     * Returns a SQL condition expression which selects keys in this range.
+     * @param column the quoted partition key column name
+     * @return the condition expression, or empty if this range contains all keys
+     */
+    Optional<String> toCondition(@Nonnull String column) {
+        Objects.requireNonNull(column);
+        if (lower == null && upper == null) {
+            return Optional.empty();
+        }
+        if (lower == null) {
+            return Optional.of(String.format("(%s < %d OR %s IS NULL)", column, upper, column)); //$NON-NLS-1$
+        }
+        if (upper == null) {
+            return Optional.of(String.format("%s >= %d", column, lower)); //$NON-NLS-1$
+        }
+        return Optional.of(String.format("%s >= %d AND %s < %d", column, lower, column, upper)); //$NON-NLS-1$
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lower, upper);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        KeyRange other = (KeyRange) obj;
+        return Objects.equals(lower, other.lower) && Objects.equals(upper, other.upper);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s, %s)", //$NON-NLS-1$
+                lower == null ? "-inf" : lower, //$NON-NLS-1$
+                upper == null ? "+inf" : upper); //$NON-NLS-1$
+    }
+}
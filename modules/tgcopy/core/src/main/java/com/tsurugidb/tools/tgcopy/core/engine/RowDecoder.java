@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.engine;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.sql.proto.SqlCommon;
+import com.tsurugidb.sql.proto.SqlRequest;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.Parameters;
+import com.tsurugidb.tsubakuro.sql.Placeholders;
+import com.tsurugidb.tsubakuro.sql.RelationCursor;
+
+/**
+ * Decodes rows in the source result set into parameters of the destination insert statement.
+ */
+final class RowDecoder {
+
+    private final List<SqlCommon.AtomType> types;
+
+    private final List<String> columnNames;
+
+    private RowDecoder(List<SqlCommon.AtomType> types, List<String> columnNames) {
+        this.types = types;
+        this.columnNames = columnNames;
+    }
+
+    /**
+     * Creates a new instance for the source columns.
+     * @param label the copy target label
+     * @param columns the source columns
+     * @return the created instance
+     * @throws CopyException if some columns are not supported
+     */
+    static RowDecoder of(@Nonnull String label, @Nonnull List<? extends SqlCommon.Column> columns)
+            throws CopyException {
+        Objects.requireNonNull(label);
+        Objects.requireNonNull(columns);
+        var types = new ArrayList<SqlCommon.AtomType>(columns.size());
+        var names = new ArrayList<String>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            var column = columns.get(i);
+            if (column.getName().isEmpty()) {
+                throw new CopyException(CopyDiagnosticCode.UNNAMED_COLUMN, List.of(label, i));
+            }
+            if (column.getTypeInfoCase() != SqlCommon.Column.TypeInfoCase.ATOM_TYPE
+                    || column.getDimension() != 0
+                    || !isSupported(column.getAtomType())) {
+                throw new CopyException(CopyDiagnosticCode.UNSUPPORTED_TYPE, List.of(
+                        label,
+                        column.getName(),
+                        column.getTypeInfoCase() == SqlCommon.Column.TypeInfoCase.ATOM_TYPE
+                                ? column.getAtomType()
+                                : column.getTypeInfoCase()));
+            }
+            types.add(column.getAtomType());
+            names.add(column.getName());
+        }
+        return new RowDecoder(List.copyOf(types), List.copyOf(names));
+    }
+
+    private static boolean isSupported(SqlCommon.AtomType type) {
+        switch (type) {
+        case BOOLEAN:
+        case INT4:
+        case INT8:
+        case FLOAT4:
+        case FLOAT8:
+        case DECIMAL:
+        case CHARACTER:
+        case OCTET:
+        case DATE:
+        case TIME_OF_DAY:
+        case TIME_OF_DAY_WITH_TIME_ZONE:
+        case TIME_POINT:
+        case TIME_POINT_WITH_TIME_ZONE:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Returns the column names.
+     * @return the column names
+     */
+    List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * Returns the placeholders of the destination insert statement.
+     * @return the placeholders
+     * @see CopyStatements#insert(String, List)
+     */
+    List<SqlRequest.Placeholder> getPlaceholders() {
+        var results = new ArrayList<SqlRequest.Placeholder>(types.size());
+        for (int i = 0; i < types.size(); i++) {
+            results.add(Placeholders.of(CopyStatements.getPlaceholderName(i), types.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * Decodes the current row of the cursor.
+     * @param cursor the source cursor, which must be on a row
+     * @return the decoded parameters
+     * @throws IOException if I/O error was occurred while reading the row
+     * @throws ServerException if server side error was occurred while reading the row
+     * @throws InterruptedException if interrupted while reading the row
+     */
+    List<SqlRequest.Parameter> decode(@Nonnull RelationCursor cursor)
+            throws IOException, ServerException, InterruptedException {
+        Objects.requireNonNull(cursor);
+        var results = new ArrayList<SqlRequest.Parameter>(types.size());
+        for (int i = 0; i < types.size(); i++) {
+            if (!cursor.nextColumn()) {
+                throw new IllegalStateException(MessageFormat.format(
+                        "row data is shorter than the metadata: column={0}",
+                        columnNames.get(i)));
+            }
+            results.add(decode(cursor, CopyStatements.getPlaceholderName(i), types.get(i)));
+        }
+        return results;
+    }
+
+    private static SqlRequest.Parameter decode(RelationCursor cursor, String name, SqlCommon.AtomType type)
+            throws IOException, ServerException, InterruptedException {
+        if (cursor.isNull()) {
+            return Parameters.ofNull(name);
+        }
+        switch (type) {
+        case BOOLEAN:
+            return Parameters.of(name, cursor.fetchBooleanValue());
+        case INT4:
+            return Parameters.of(name, cursor.fetchInt4Value());
+        case INT8:
+            return Parameters.of(name, cursor.fetchInt8Value());
+        case FLOAT4:
+            return Parameters.of(name, cursor.fetchFloat4Value());
+        case FLOAT8:
+            return Parameters.of(name, cursor.fetchFloat8Value());
+        case DECIMAL:
+            return Parameters.of(name, cursor.fetchDecimalValue());
+        case CHARACTER:
+            return Parameters.of(name, cursor.fetchCharacterValue());
+        case OCTET:
+            return Parameters.of(name, cursor.fetchOctetValue());
+        case DATE:
+            return Parameters.of(name, cursor.fetchDateValue());
+        case TIME_OF_DAY:
+            return Parameters.of(name, cursor.fetchTimeOfDayValue());
+        case TIME_OF_DAY_WITH_TIME_ZONE:
+            return Parameters.of(name, cursor.fetchTimeOfDayWithTimeZoneValue());
+        case TIME_POINT:
+            return Parameters.of(name, cursor.fetchTimePointValue());
+        case TIME_POINT_WITH_TIME_ZONE:
+            return Parameters.of(name, cursor.fetchTimePointWithTimeZoneValue());
+        default:
+            // may not occur: checked in of(...)
+            throw new IllegalStateException(MessageFormat.format(
+                    "unsupported column type: {0}",
+                    type));
+        }
+    }
+}
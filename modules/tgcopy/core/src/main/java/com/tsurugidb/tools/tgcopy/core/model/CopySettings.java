@@ -0,0 +1,314 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.model;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.tsurugidb.sql.proto.SqlRequest;
+
+/**
+ * Settings of copy operations.
+ */
+public class CopySettings {
+
+    /**
+     * A builder of {@link CopySettings}.
+     */
+    public static class Builder {
+
+        int batchSize = DEFAULT_BATCH_SIZE;
+
+        int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+        int numberOfPartitions = DEFAULT_NUMBER_OF_PARTITIONS;
+
+        int numberOfWriters = DEFAULT_NUMBER_OF_WRITERS;
+
+        @Nullable String transactionLabel;
+
+        @Nullable Integer scanParallel;
+
+        /**
+         * Creates a new instance from this builder settings.
+         * @return the created instance
+         */
+        public CopySettings build() {
+            return new CopySettings(this);
+        }
+
+        /**
+         * Sets the number of rows in each insert batch.
+         * @param value the number of rows
+         * @return this
+         * @throws IllegalArgumentException if the value is less than {@code 1}
+         */
+        public Builder withBatchSize(int value) {
+            checkPositive("batch size", value); //$NON-NLS-1$
+            this.batchSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches waiting between readers and writers.
+         * @param value the number of batches
+         * @return this
+         * @throws IllegalArgumentException if the value is less than {@code 1}
+         */
+        public Builder withQueueCapacity(int value) {
+            checkPositive("queue capacity", value); //$NON-NLS-1$
+            this.queueCapacity = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of key range partitions for reading each source table.
+         * @param value the number of partitions
+         * @return this
+         * @throws IllegalArgumentException if the value is less than {@code 1}
+         */
+        public Builder withNumberOfPartitions(int value) {
+            checkPositive("number of partitions", value); //$NON-NLS-1$
+            this.numberOfPartitions = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of writer threads for each copy target.
+         * @param value the number of writers
+         * @return this
+         * @throws IllegalArgumentException if the value is less than {@code 1}
+         */
+        public Builder withNumberOfWriters(int value) {
+            checkPositive("number of writers", value); //$NON-NLS-1$
+            this.numberOfWriters = value;
+            return this;
+        }
+
+        /**
+         * Sets the transaction label.
+         * @param value the value to set, or {@code null} to clear the setting
+         * @return this
+         */
+        public Builder withTransactionLabel(@Nullable String value) {
+            this.transactionLabel = value;
+            return this;
+        }
+
+        /**
+         * Sets the scan parallel value of the source transaction.
+         * @param value the value to set, or {@code null} to clear the setting
+         * @return this
+         * @throws IllegalArgumentException if the given value is negative ({@code < 0})
+         */
+        public Builder withScanParallel(@Nullable Integer value) {
+            if (value != null && value < 0) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "scan parallel must be >= 0: {0}",
+                        value));
+            }
+            this.scanParallel = value;
+            return this;
+        }
+
+        private static void checkPositive(String name, int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "{0} must be >= 1: {1}",
+                        name,
+                        value));
+            }
+        }
+    }
+
+    /**
+     * The default number of rows in each insert batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    /**
+     * The default maximum number of batches waiting between readers and writers.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+    /**
+     * The default number of key range partitions.
+     */
+    public static final int DEFAULT_NUMBER_OF_PARTITIONS = 1;
+
+    /**
+     * The default number of writer threads.
+     */
+    public static final int DEFAULT_NUMBER_OF_WRITERS = 1;
+
+    private final int batchSize;
+
+    private final int queueCapacity;
+
+    private final int numberOfPartitions;
+
+    private final int numberOfWriters;
+
+    private final String transactionLabel;
+
+    private final Integer scanParallel;
+
+    /**
+     * Creates a new instance with default settings.
+     * @see #newBuilder()
+     */
+    public CopySettings() {
+        this(new Builder());
+    }
+
+    /**
+     * Creates a new instance from the builder.
+     * @param builder the source builder
+     * @see #newBuilder()
+     */
+    public CopySettings(@Nonnull Builder builder) {
+        Objects.requireNonNull(builder);
+        this.batchSize = builder.batchSize;
+        this.queueCapacity = builder.queueCapacity;
+        this.numberOfPartitions = builder.numberOfPartitions;
+        this.numberOfWriters = builder.numberOfWriters;
+        this.transactionLabel = builder.transactionLabel;
+        this.scanParallel = builder.scanParallel;
+    }
+
+    /**
+     * Creates a new builder object for this class.
+     * @return the created builder object
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of rows in each insert batch.
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns the maximum number of batches waiting between readers and writers.
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns the number of key range partitions for reading each source table.
+     * @return the number of partitions
+     */
+    public int getNumberOfPartitions() {
+        return numberOfPartitions;
+    }
+
+    /**
+     * Returns the number of writer threads for each copy target.
+     * @return the number of writers
+     */
+    public int getNumberOfWriters() {
+        return numberOfWriters;
+    }
+
+    /**
+     * Returns the transaction label.
+     * @return the transaction label, or empty if it is not set
+     */
+    public Optional<String> getTransactionLabel() {
+        return Optional.ofNullable(transactionLabel);
+    }
+
+    /**
+     * Returns the scan parallel value of the source transaction.
+     * @return the scan parallel value, or empty if it is not set
+     */
+    public OptionalInt getScanParallel() {
+        if (scanParallel == null) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(scanParallel);
+    }
+
+    /**
+     * Builds transaction options for reading the source database.
+     * @return the built protocol buffer object (read-only transaction)
+     */
+    public SqlRequest.TransactionOption toSourceTransactionOption() {
+        var options = SqlRequest.TransactionOption.newBuilder()
+                .setType(SqlRequest.TransactionType.READ_ONLY);
+        getTransactionLabel().ifPresent(options::setLabel);
+        getScanParallel().ifPresent(options::setScanParallel);
+        return options.build();
+    }
+
+    /**
+     * Builds transaction options for writing into the destination table.
+     * @param tableName the destination table name
+     * @return the built protocol buffer object (long transaction with write preserve)
+     */
+    public SqlRequest.TransactionOption toDestinationTransactionOption(@Nonnull String tableName) {
+        Objects.requireNonNull(tableName);
+        var options = SqlRequest.TransactionOption.newBuilder()
+                .setType(SqlRequest.TransactionType.LONG)
+                .addWritePreserves(SqlRequest.WritePreserve.newBuilder().setTableName(tableName));
+        getTransactionLabel().ifPresent(options::setLabel);
+        return options.build();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batchSize, queueCapacity, numberOfPartitions, numberOfWriters,
+                transactionLabel, scanParallel);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        CopySettings other = (CopySettings) obj;
+        return batchSize == other.batchSize
+            && queueCapacity == other.queueCapacity
+            && numberOfPartitions == other.numberOfPartitions
+            && numberOfWriters == other.numberOfWriters
+            && Objects.equals(transactionLabel, other.transactionLabel)
+            && Objects.equals(scanParallel, other.scanParallel);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "CopySettings(batchSize=%s, queueCapacity=%s, partitions=%s, writers=%s, label=%s, scanParallel=%s)", //$NON-NLS-1$
+                batchSize, queueCapacity, numberOfPartitions, numberOfWriters, transactionLabel, scanParallel);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.model;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Represents target of copy operation.
+ */
+public class CopyTarget {
+
+    /**
+     * Represents a target type.
+     */
+    public enum TargetType {
+
+        /**
+         * Operation was represented as a query text.
+         */
+        QUERY,
+
+        /**
+         * Represents a table target.
+         */
+        TABLE,
+    }
+
+    private final TargetType targetType;
+
+    private final String label;
+
+    private final String source;
+
+    private final String destinationTableName;
+
+    private final String partitionKey;
+
+    /**
+     * Creates a new instance.
+     * @param targetType the target type
+     * @param label the target label
+     * @param source the source text depending on the target type
+     * @param destinationTableName the destination table name
+     * @param partitionKey the column name to split the source table by key ranges, or {@code null} to disable it
+     * @throws IllegalArgumentException if partition key is specified for non-table targets
+     */
+    public CopyTarget(
+            @Nonnull TargetType targetType,
+            @Nonnull String label,
+            @Nonnull String source,
+            @Nonnull String destinationTableName,
+            @Nullable String partitionKey) {
+        Objects.requireNonNull(targetType);
+        Objects.requireNonNull(label);
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(destinationTableName);
+        if (partitionKey != null && targetType != TargetType.TABLE) {
+            throw new IllegalArgumentException("partition key is only available for table targets");
+        }
+        this.targetType = targetType;
+        this.label = label;
+        this.source = source;
+        this.destinationTableName = destinationTableName;
+        this.partitionKey = partitionKey;
+    }
+
+    /**
+     * Creates a new instance for a table copy target.
+     * @param sourceTableName the source table name
+     * @param destinationTableName the destination table name
+     */
+    public CopyTarget(@Nonnull String sourceTableName, @Nonnull String destinationTableName) {
+        this(TargetType.TABLE, sourceTableName, sourceTableName, destinationTableName, null);
+    }
+
+    /**
+     * Returns the target type.
+     * @return the target type
+     */
+    public TargetType getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * Returns the target label.
+     * @return the target label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns the source text for the copy operation.
+     * This can either be the name of a table or a SQL text, depending on {@link #getTargetType()}.
+     * @return the source text
+     * @see #getTargetType()
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the source table name.
+     * @return the table name
+     * @throws IllegalStateException if the {@link #getTargetType() target type} is not {@link TargetType#TABLE}
+     */
+    public String getSourceTableName() {
+        if (targetType != TargetType.TABLE) {
+            throw new IllegalStateException("Target type must be TABLE");
+        }
+        return source;
+    }
+
+    /**
+     * Returns the destination table name.
+     * @return the destination table name
+     */
+    public String getDestinationTableName() {
+        return destinationTableName;
+    }
+
+    /**
+     * Returns the column name to split the source table by key ranges.
+     * @return the partition key column name, or empty if it is not specified
+     */
+    public Optional<String> getPartitionKey() {
+        return Optional.ofNullable(partitionKey);
+    }
+
+    /**
+     * Returns a copy of this object with the given partition key.
+     * @param column the partition key column name, or {@code null} to disable partitioning
+     * @return the created copy
+     * @throws IllegalArgumentException if this is not a table target
+     */
+    public CopyTarget withPartitionKey(@Nullable String column) {
+        return new CopyTarget(targetType, label, source, destinationTableName, column);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(targetType, label, source, destinationTableName, partitionKey);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        CopyTarget other = (CopyTarget) obj;
+        return targetType == other.targetType
+                && Objects.equals(label, other.label)
+                && Objects.equals(source, other.source)
+                && Objects.equals(destinationTableName, other.destinationTableName)
+                && Objects.equals(partitionKey, other.partitionKey);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "CopyTarget [targetType=%s, label=%s, source=%s, destination=%s, partitionKey=%s]", //$NON-NLS-1$
+                targetType, label, source, destinationTableName, partitionKey);
+    }
+}
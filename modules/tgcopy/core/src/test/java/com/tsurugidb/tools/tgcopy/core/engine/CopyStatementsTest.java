@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.engine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.tools.tgcopy.core.model.CopyTarget;
+
+class CopyStatementsTest {
+
+    @Test
+    void select_table() {
+        var target = new CopyTarget("src", "dst");
+        assertEquals("SELECT * FROM src", CopyStatements.select(target, KeyRange.all()));
+    }
+
+    @Test
+    void select_table_partition() {
+        var target = new CopyTarget("src", "dst").withPartitionKey("k");
+        var ranges = KeyRange.split(0, 9, 2);
+        assertEquals("SELECT * FROM src WHERE (k < 5 OR k IS NULL)", CopyStatements.select(target, ranges.get(0)));
+        assertEquals("SELECT * FROM src WHERE k >= 5", CopyStatements.select(target, ranges.get(1)));
+    }
+
+    @Test
+    void select_query() {
+        var target = new CopyTarget(CopyTarget.TargetType.QUERY, "q", "SELECT a FROM t", "dst", null);
+        assertEquals("SELECT a FROM t", CopyStatements.select(target, KeyRange.all()));
+    }
+
+    @Test
+    void selectKeyRange() {
+        assertEquals("SELECT MIN(k), MAX(k) FROM t", CopyStatements.selectKeyRange("t", "k"));
+    }
+
+    @Test
+    void insert() {
+        assertEquals("INSERT INTO t (a, b) VALUES (:p0, :p1)", CopyStatements.insert("t", List.of("a", "b")));
+    }
+
+    @Test
+    void quote() {
+        assertEquals("t", CopyStatements.quote("t"));
+        assertEquals("\"a b\"", CopyStatements.quote("a b"));
+        assertEquals("\"a\"\"b\"", CopyStatements.quote("a\"b"));
+    }
+
+    @Test
+    void quoteName() {
+        assertEquals("t", CopyStatements.quoteName("t"));
+        assertEquals("s.t", CopyStatements.quoteName("s.t"));
+        assertEquals("s.\"a b\"", CopyStatements.quoteName("s.a b"));
+        assertEquals("\"a.b\".t", CopyStatements.quoteName("\"a.b\".t"));
+    }
+
+    @Test
+    void quoteName_invalid() {
+        assertThrows(IllegalArgumentException.class, () -> CopyStatements.quoteName("s..t"));
+        assertThrows(IllegalArgumentException.class, () -> CopyStatements.quoteName("s.t."));
+        assertThrows(IllegalArgumentException.class, () -> CopyStatements.quoteName("\"s.t"));
+        assertThrows(IllegalArgumentException.class, () -> CopyStatements.quoteName("s\"x\".t"));
+    }
+
+    @Test
+    void select_qualified() {
+        var target = new CopyTarget("s.src", "dst");
+        assertEquals("SELECT * FROM s.src", CopyStatements.select(target, KeyRange.all()));
+    }
+}
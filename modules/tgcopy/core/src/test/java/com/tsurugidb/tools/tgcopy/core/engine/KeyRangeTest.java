@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.engine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+class KeyRangeTest {
+
+    @Test
+    void all() {
+        var range = KeyRange.all();
+        assertEquals(OptionalLong.empty(), range.getLower());
+        assertEquals(OptionalLong.empty(), range.getUpper());
+        assertEquals(Optional.empty(), range.toCondition("k"));
+    }
+
+    @Test
+    void split_single() {
+        var ranges = KeyRange.split(0, 100, 1);
+        assertEquals(List.of(KeyRange.all()), ranges);
+    }
+
+    @Test
+    void split_even() {
+        var ranges = KeyRange.split(0, 99, 4);
+        assertEquals(4, ranges.size());
+        assertEquals(OptionalLong.empty(), ranges.get(0).getLower());
+        assertEquals(OptionalLong.of(25), ranges.get(0).getUpper());
+        assertEquals(OptionalLong.of(25), ranges.get(1).getLower());
+        assertEquals(OptionalLong.of(50), ranges.get(1).getUpper());
+        assertEquals(OptionalLong.of(50), ranges.get(2).getLower());
+        assertEquals(OptionalLong.of(75), ranges.get(2).getUpper());
+        assertEquals(OptionalLong.of(75), ranges.get(3).getLower());
+        assertEquals(OptionalLong.empty(), ranges.get(3).getUpper());
+    }
+
+    @Test
+    void split_narrow() {
+        var ranges = KeyRange.split(10, 11, 4);
+        assertEquals(2, ranges.size());
+        assertEquals(OptionalLong.of(11), ranges.get(0).getUpper());
+        assertEquals(OptionalLong.of(11), ranges.get(1).getLower());
+    }
+
+    @Test
+    void split_same() {
+        var ranges = KeyRange.split(5, 5, 4);
+        assertEquals(List.of(KeyRange.all()), ranges);
+    }
+
+    @Test
+    void split_extreme() {
+        var ranges = KeyRange.split(Long.MIN_VALUE, Long.MAX_VALUE, 2);
+        assertEquals(2, ranges.size());
+        assertEquals(OptionalLong.of(0), ranges.get(0).getUpper());
+        assertEquals(OptionalLong.of(0), ranges.get(1).getLower());
+    }
+
+    @Test
+    void split_invalid() {
+        assertThrows(IllegalArgumentException.class, () -> KeyRange.split(1, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> KeyRange.split(0, 1, 0));
+    }
+
+    @Test
+    void toCondition() {
+        var ranges = KeyRange.split(0, 29, 3);
+        assertEquals(Optional.of("(k < 10 OR k IS NULL)"), ranges.get(0).toCondition("k"));
+        assertEquals(Optional.of("k >= 10 AND k < 20"), ranges.get(1).toCondition("k"));
+        assertEquals(Optional.of("k >= 20"), ranges.get(2).toCondition("k"));
+    }
+}
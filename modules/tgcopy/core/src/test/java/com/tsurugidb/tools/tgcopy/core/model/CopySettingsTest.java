@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgcopy.core.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.sql.proto.SqlRequest;
+
+class CopySettingsTest {
+
+    @Test
+    void defaults() {
+        var s = CopySettings.newBuilder()
+                .build();
+        assertEquals(CopySettings.DEFAULT_BATCH_SIZE, s.getBatchSize());
+        assertEquals(CopySettings.DEFAULT_QUEUE_CAPACITY, s.getQueueCapacity());
+        assertEquals(CopySettings.DEFAULT_NUMBER_OF_PARTITIONS, s.getNumberOfPartitions());
+        assertEquals(CopySettings.DEFAULT_NUMBER_OF_WRITERS, s.getNumberOfWriters());
+        assertEquals(Optional.empty(), s.getTransactionLabel());
+        assertEquals(OptionalInt.empty(), s.getScanParallel());
+
+        assertEquals(s, new CopySettings(), s.toString());
+        assertEquals(
+                SqlRequest.TransactionOption.newBuilder()
+                        .setType(SqlRequest.TransactionType.READ_ONLY)
+                        .build(),
+                s.toSourceTransactionOption());
+    }
+
+    @Test
+    void toSourceTransactionOption() {
+        var s = CopySettings.newBuilder()
+                .withTransactionLabel("TESTING")
+                .withScanParallel(4)
+                .build();
+        assertEquals(
+                SqlRequest.TransactionOption.newBuilder()
+                        .setType(SqlRequest.TransactionType.READ_ONLY)
+                        .setLabel("TESTING")
+                        .setScanParallel(4)
+                        .build(),
+                s.toSourceTransactionOption());
+    }
+
+    @Test
+    void toDestinationTransactionOption() {
+        var s = CopySettings.newBuilder()
+                .withTransactionLabel("TESTING")
+                .build();
+        assertEquals(
+                SqlRequest.TransactionOption.newBuilder()
+                        .setType(SqlRequest.TransactionType.LONG)
+                        .addWritePreserves(SqlRequest.WritePreserve.newBuilder().setTableName("T1"))
+                        .setLabel("TESTING")
+                        .build(),
+                s.toDestinationTransactionOption("T1"));
+    }
+
+    @Test
+    void invalid_values() {
+        var b = CopySettings.newBuilder();
+        assertThrows(IllegalArgumentException.class, () -> b.withBatchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> b.withQueueCapacity(0));
+        assertThrows(IllegalArgumentException.class, () -> b.withNumberOfPartitions(0));
+        assertThrows(IllegalArgumentException.class, () -> b.withNumberOfWriters(0));
+        assertThrows(IllegalArgumentException.class, () -> b.withScanParallel(-1));
+    }
+}
@@ -16,6 +16,7 @@
 package com.tsurugidb.tools.tgdump.cli;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.ArrayList;
@@ -38,10 +39,13 @@ import com.beust.jcommander.IValueValidator;
 import com.beust.jcommander.Parameter;
 import com.beust.jcommander.ParameterException;
 import com.tsurugidb.tools.common.connection.ConnectionProvider;
+import com.tsurugidb.tools.common.util.EndpointList;
+import com.tsurugidb.tools.tgdump.core.engine.DestinationPolicy;
 import com.tsurugidb.tools.tgdump.core.engine.DumpTargetSelector;
 import com.tsurugidb.tools.tgdump.core.engine.QueryDumpTargetSelector;
 import com.tsurugidb.tools.tgdump.core.engine.TableDumpTargetSelector;
 import com.tsurugidb.tools.tgdump.core.model.TransactionSettings;
+import com.tsurugidb.tools.tgdump.core.upload.S3UploadSettings;
 import com.tsurugidb.tools.tgdump.profile.DumpProfileBundleLoader;
 import com.tsurugidb.tools.tgdump.profile.DumpProfileReader;
 
@@ -111,6 +115,48 @@ public class CommandArgumentSet {
         }
     }
 
+    /**
+     * A converter to convert comma separated endpoint URIs.
+     */
+    public static class EndpointListConverter implements IStringConverter<EndpointList> {
+
+        private final String optionName;
+
+        /**
+         * Creates a new instance.
+         * @param optionName the option name.
+         */
+        public EndpointListConverter(String optionName) {
+            this.optionName = optionName;
+        }
+
+        @Override
+        public EndpointList convert(String value) {
+            try {
+                return EndpointList.parse(value);
+            } catch (IllegalArgumentException e) {
+                throw new ParameterException(MessageFormat.format(
+                        "\"{1}\" ({0}) is not a valid endpoint URI list: {2}",
+                        optionName,
+                        value,
+                        e.getMessage()), e);
+            }
+        }
+    }
+
+    /**
+     * A validator to ensure valid endpoint URIs.
+     */
+    public static class ConnectionUriListValidator implements IValueValidator<EndpointList> {
+        @Override
+        public void validate(String name, EndpointList value) throws ParameterException {
+            var validator = new ConnectionUriValidator();
+            for (var endpoint : value.getEndpoints()) {
+                validator.validate(name, endpoint);
+            }
+        }
+    }
+
     /**
      * A convert to convert transaction types.
      */
@@ -152,6 +198,32 @@ public class CommandArgumentSet {
         }
     }
 
+    /**
+     * A converter to convert destination policies.
+     */
+    public static class DestinationPolicyConverter implements IStringConverter<DestinationPolicy> {
+
+        private final String optionName;
+
+        /**
+         * Creates a new instance.
+         * @param optionName the option name.
+         */
+        public DestinationPolicyConverter(String optionName) {
+            this.optionName = optionName;
+        }
+
+        @Override
+        public DestinationPolicy convert(String value) {
+            return DestinationPolicy.fromSymbol(value)
+                    .orElseThrow(() -> new ParameterException(MessageFormat.format(
+                            "\"{1}\" ({0}) is not a valid destination policy. "
+                            + "It must be one of '{'round-robin, free-space'}'.",
+                            optionName,
+                            value)));
+        }
+    }
+
     /**
      * The default profile name.
      */
@@ -167,6 +239,36 @@ public class CommandArgumentSet {
      */
     public static final int DEFAULT_NUMBER_OF_WORKER_THREADS = 1;
 
+    /**
+     * The default policy to distribute dump targets over multiple destination directories.
+     * @since 1.17.0
+     */
+    public static final DestinationPolicy DEFAULT_DESTINATION_POLICY = DestinationPolicy.ROUND_ROBIN;
+
+    /**
+     * The default number of threads to process the individual dump files.
+     * @since 1.17.0
+     */
+    public static final int DEFAULT_NUMBER_OF_POST_PROCESS_THREADS = 1;
+
+    /**
+     * The URI scheme of upload destinations.
+     * @since 1.17.0
+     */
+    public static final String UPLOAD_DESTINATION_SCHEME = "s3"; //$NON-NLS-1$
+
+    /**
+     * The default size of individual parts of multipart uploads in MiB.
+     * @since 1.17.0
+     */
+    public static final int DEFAULT_UPLOAD_PART_SIZE_MIB = (int) (S3UploadSettings.DEFAULT_PART_SIZE / (1024 * 1024));
+
+    /**
+     * The default interval of printing the dump progress in milliseconds.
+     * @since 1.17.0
+     */
+    public static final long DEFAULT_PROGRESS_INTERVAL_MILLIS = 10_000;
+
     /**
      * The available endpoint URI schemas.
      */
@@ -185,11 +287,27 @@ public class CommandArgumentSet {
 
     private boolean singleMode = false;
 
-    private Path destinationPath;
+    private List<Path> destinationPaths;
+
+    private DestinationPolicy destinationPolicy = DEFAULT_DESTINATION_POLICY;
+
+    private URI uploadDestination = null;
+
+    private URI uploadEndpoint = null;
+
+    private String uploadRegion = S3UploadSettings.DEFAULT_REGION;
+
+    private boolean uploadDelete = false;
+
+    private int uploadPartSizeMib = DEFAULT_UPLOAD_PART_SIZE_MIB;
+
+    private int uploadParallel = S3UploadSettings.DEFAULT_MAX_CONCURRENT_PARTS;
+
+    private int uploadRetries = S3UploadSettings.DEFAULT_MAX_RETRIES;
 
     private Path profile = Path.of(DEFAULT_PROFILE);
 
-    private URI connectionUri;
+    private EndpointList connectionUris;
 
     private String connectionLabel = null;
 
@@ -201,6 +319,8 @@ public class CommandArgumentSet {
 
     private int numberOfWorkerThreads = DEFAULT_NUMBER_OF_WORKER_THREADS;
 
+    private int numberOfPostProcessThreads = DEFAULT_NUMBER_OF_POST_PROCESS_THREADS;
+
     private Integer numberOfScanParallels = null;
 
     private String authenticationUser = null;
@@ -215,6 +335,12 @@ public class CommandArgumentSet {
 
     private Path monitorOutput = null;
 
+    private long progressIntervalMillis = DEFAULT_PROGRESS_INTERVAL_MILLIS;
+
+    private Long metricsIntervalMillis = null;
+
+    private Path metricsTextfile = null;
+
     private boolean printHelp;
 
     private boolean printVersion;
@@ -307,26 +433,223 @@ public class CommandArgumentSet {
 
     /**
      * Returns the dump files destination path.
+     * <p>
+     * If multiple destination paths are specified, this returns the first one.
+     * </p>
      * @return the destination path
+     * @see #getDestinationPaths()
      */
     public Path getDestinationPath() {
-        return destinationPath;
+        if (destinationPaths == null) {
+            return null;
+        }
+        return destinationPaths.get(0);
+    }
+
+    /**
+     * Returns the dump files destination paths.
+     * @return the destination paths
+     * @since 1.17.0
+     */
+    public List<Path> getDestinationPaths() {
+        return destinationPaths;
     }
 
     /**
      * Sets the dump files destination path.
      * @param path the destination path
      */
+    public void setDestinationPath(@Nonnull Path path) {
+        Objects.requireNonNull(path);
+        setDestinationPaths(List.of(path));
+    }
+
+    /**
+     * Sets the dump files destination paths.
+     * @param paths the destination paths
+     * @throws IllegalArgumentException if the paths are empty
+     * @since 1.17.0
+     */
+    public void setDestinationPaths(@Nonnull List<Path> paths) {
+        Objects.requireNonNull(paths);
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("destination paths must not be empty"); //$NON-NLS-1$
+        }
+        LOG.trace("argument: --to: {}", paths); //$NON-NLS-1$
+        this.destinationPaths = List.copyOf(paths);
+    }
+
+    /**
+     * Sets the dump files destination paths.
+     * @param paths the comma separated destination paths
+     * @throws ParameterException if the paths contain empty elements
+     * @since 1.17.0
+     */
     @Parameter(
             order = 12,
             names = { "--to" },
             arity = 1,
-            description = "Destination directory of dump files.",
+            description = "Destination directory of dump files. "
+                    + "Comma separated directories distribute the dump targets over them.",
             required = true)
-    public void setDestinationPath(@Nonnull Path path) {
-        Objects.requireNonNull(path);
-        LOG.trace("argument: --to: {}", path); //$NON-NLS-1$
-        this.destinationPath = path;
+    public void setDestinationPathList(@Nonnull String paths) {
+        Objects.requireNonNull(paths);
+        var results = new ArrayList<Path>();
+        for (var element : paths.split(",", -1)) { //$NON-NLS-1$
+            if (element.isEmpty()) {
+                throw new ParameterException(MessageFormat.format(
+                        "\"--to\" must not contain empty elements (specified: {0})",
+                        paths));
+            }
+            results.add(Path.of(element));
+        }
+        setDestinationPaths(results);
+    }
+
+    /**
+     * Returns the policy to distribute dump targets over the destination paths.
+     * @return the destination policy
+     * @since 1.17.0
+     */
+    public DestinationPolicy getDestinationPolicy() {
+        return destinationPolicy;
+    }
+
+    /**
+     * Sets the policy to distribute dump targets over the destination paths.
+     * @param policy the destination policy
+     * @since 1.17.0
+     */
+    @Parameter(
+            order = 14,
+            names = { "--to-policy" },
+            arity = 1,
+            description = "Policy to distribute dump targets over multiple destination directories "
+                    + "(round-robin or free-space).",
+            converter = DestinationPolicyConverter.class,
+            required = false)
+    public void setDestinationPolicy(@Nonnull DestinationPolicy policy) {
+        Objects.requireNonNull(policy);
+        LOG.trace("argument: --to-policy: {}", policy); //$NON-NLS-1$
+        this.destinationPolicy = policy;
+    }
+
+    /**
+     * Returns the upload destination of the dump files.
+     * @return the destination URI ({@code s3://<bucket>/<prefix>}), or {@code null} to disable uploading
+     * @since 1.17.0
+     */
+    public @Nullable URI getUploadDestination() {
+        return uploadDestination;
+    }
+
+    /**
+     * Sets the upload destination of the dump files.
+     * @param destination the destination URI ({@code s3://<bucket>/<prefix>})
+     * @throws ParameterException if the destination is not valid
+     * @since 1.17.0
+     */
+    @Parameter(
+            order = 16,
+            names = { "--upload-to" },
+            arity = 1,
+            description = "Upload dump files to the S3 compatible object storage (s3://<bucket>/<prefix>)",
+            required = false)
+    public void setUploadDestination(@Nonnull String destination) {
+        Objects.requireNonNull(destination);
+        URI uri;
+        try {
+            uri = new URI(destination);
+        } catch (URISyntaxException e) {
+            throw new ParameterException(MessageFormat.format(
+                    "\"{0}\" (--upload-to) is not a valid URI",
+                    destination), e);
+        }
+        if (!UPLOAD_DESTINATION_SCHEME.equals(uri.getScheme())
+                || uri.getAuthority() == null || uri.getAuthority().isEmpty()) {
+            throw new ParameterException(MessageFormat.format(
+                    "\"{0}\" (--upload-to) must be in form of \"s3://<bucket>/<prefix>\"",
+                    destination));
+        }
+        LOG.trace("argument: --upload-to: {}", uri); //$NON-NLS-1$
+        this.uploadDestination = uri;
+    }
+
+    /**
+     * Returns the endpoint URI of the object storage.
+     * @return the endpoint URI, or {@code null} to use the AWS endpoint of {@link #getUploadRegion() the region}
+     * @since 1.17.0
+     */
+    public @Nullable URI getUploadEndpoint() {
+        return uploadEndpoint;
+    }
+
+    /**
+     * Sets the endpoint URI of the object storage.
+     * @param endpoint the endpoint URI (e.g. {@code http://localhost:9000})
+     * @since 1.17.0
+     */
+    @Parameter(
+            order = 17,
+            names = { "--upload-endpoint" },
+            arity = 1,
+            description = "Endpoint URI of the S3 compatible object storage (default: AWS endpoint of the region)",
+            required = false)
+    public void setUploadEndpoint(@Nonnull URI endpoint) {
+        Objects.requireNonNull(endpoint);
+        LOG.trace("argument: --upload-endpoint: {}", endpoint); //$NON-NLS-1$
+        this.uploadEndpoint = endpoint;
+    }
+
+    /**
+     * Returns the region name of the object storage.
+     * @return the region name
+     * @since 1.17.0
+     */
+    public String getUploadRegion() {
+        return uploadRegion;
+    }
+
+    /**
+     * Sets the region name of the object storage.
+     * @param region the region name
+     * @since 1.17.0
+     */
+    @Parameter(
+            order = 18,
+            names = { "--upload-region" },
+            arity = 1,
+            description = "Region name of the S3 compatible object storage",
+            required = false)
+    public void setUploadRegion(@Nonnull String region) {
+        Objects.requireNonNull(region);
+        LOG.trace("argument: --upload-region: {}", region); //$NON-NLS-1$
+        this.uploadRegion = region;
+    }
+
+    /**
+     * Returns whether to delete the local dump files after they were uploaded.
+     * @return {@code true} to delete the local files, {@code false} otherwise
+     * @since 1.17.0
+     */
+    public boolean isUploadDelete() {
+        return uploadDelete;
+    }
+
+    /**
+     * Sets whether to delete the local dump files after they were uploaded.
+     * @param enable {@code true} to delete the local files, {@code false} otherwise
+     * @since 1.17.0
+     */
+    @Parameter(
+            order = 19,
+            names = { "--upload-delete" },
+            arity = 0,
+            description = "Delete the local dump files after they were uploaded",
+            required = false)
+    public void setUploadDelete(boolean enable) {
+        LOG.trace("argument: --upload-delete: {}", enable); //$NON-NLS-1$
+        this.uploadDelete = enable;
     }
 
     /**
@@ -355,27 +678,53 @@ public class CommandArgumentSet {
 
     /**
      * Returns the server end-point URI of the target tsurugidb.
+     * <p>
+     * If there are more than one end-points, this returns the most preferred one.
+     * </p>
      * @return the server end-point URI, or {@code null} if it is not set
      */
     public URI getConnectionUri() {
-        return connectionUri;
+        if (connectionUris == null) {
+            return null;
+        }
+        return connectionUris.getPrimary();
+    }
+
+    /**
+     * Returns the server end-point URIs of the target tsurugidb in order of preference.
+     * @return the server end-point URIs, or {@code null} if it is not set
+     * @since 1.17.0
+     */
+    public EndpointList getConnectionUris() {
+        return connectionUris;
     }
 
     /**
      * Sets the server end-point URI of the target tsurugidb.
      * @param uri the server end-point URI
      */
+    public void setConnectionUri(@Nonnull URI uri) {
+        Objects.requireNonNull(uri);
+        setConnectionUris(EndpointList.of(List.of(uri)));
+    }
+
+    /**
+     * Sets the server end-point URIs of the target tsurugidb in order of preference.
+     * @param uris the server end-point URIs
+     * @since 1.17.0
+     */
     @Parameter(
             order = 20,
             names = { "-c", "--connection" },
             arity = 1,
-            description = "Tsurugi server endpoint URI.",
-            validateValueWith = ConnectionUriValidator.class,
+            description = "Tsurugi server endpoint URI, or comma separated URIs in order of preference.",
+            converter = EndpointListConverter.class,
+            validateValueWith = ConnectionUriListValidator.class,
             required = true)
-    public void setConnectionUri(@Nonnull URI uri) {
-        Objects.requireNonNull(uri);
-        LOG.trace("argument: --connection: {}", uri); //$NON-NLS-1$
-        this.connectionUri = uri;
+    public void setConnectionUris(@Nonnull EndpointList uris) {
+        Objects.requireNonNull(uris);
+        LOG.trace("argument: --connection: {}", uris); //$NON-NLS-1$
+        this.connectionUris = uris;
     }
 
     /**
@@ -635,6 +984,136 @@ public class CommandArgumentSet {
         this.numberOfWorkerThreads = count;
     }
 
+    /**
+     * Returns the number of threads to process the individual dump files.
+     * @return the number of threads
+     * @since 1.17.0
+     */
+    public int getNumberOfPostProcessThreads() {
+        return numberOfPostProcessThreads;
+    }
+
+    /**
+     * Sets the number of threads to process the individual dump files.
+     * @param count the number of threads
+     * @throws IllegalArgumentException if the value is less than {@code 1}
+     * @since 1.17.0
+     */
+    @Parameter(
+            order = 201,
+            names = { "--post-process-threads" },
+            arity = 1,
+            description = "The number of threads to process the individual dump files (e.g. --upload-to)",
+            validateValueWith = OneOrMoreValidator.class,
+            required = false)
+    public void setNumberOfPostProcessThreads(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "the number of post-process threads must be > 1 (specified: {0})",
+                    count));
+        }
+        LOG.trace("argument: --post-process-threads: {}", count); //$NON-NLS-1$
+        this.numberOfPostProcessThreads = count;
+    }
+
+    /**
+     * Returns the size of individual parts of multipart uploads in MiB.
+     * @return the part size in MiB
+     * @since 1.17.0
+     */
+    public int getUploadPartSizeMib() {
+        return uploadPartSizeMib;
+    }
+
+    /**
+     * Sets the size of individual parts of multipart uploads in MiB.
+     * @param size the part size in MiB
+     * @throws ParameterException if the size is out of range
+     * @since 1.17.0
+     */
+    @Parameter(
+            order = 202,
+            names = { "--upload-part-size" },
+            arity = 1,
+            description = "The size of individual parts of multipart uploads in MiB",
+            required = false)
+    public void setUploadPartSizeMib(int size) {
+        long bytes = (long) size * 1024 * 1024;
+        if (bytes < S3UploadSettings.MIN_PART_SIZE || bytes > S3UploadSettings.MAX_PART_SIZE) {
+            throw new ParameterException(MessageFormat.format(
+                    "\"--upload-part-size\" must be in [{0}, {1}] (specified: {2})",
+                    S3UploadSettings.MIN_PART_SIZE / (1024 * 1024),
+                    S3UploadSettings.MAX_PART_SIZE / (1024 * 1024),
+                    size));
+        }
+        LOG.trace("argument: --upload-part-size: {}", size); //$NON-NLS-1$
+        this.uploadPartSizeMib = size;
+    }
+
+    /**
+     * Returns the max number of parts uploaded at once.
+     * @return the max number of parts
+     * @since 1.17.0
+     */
+    public int getUploadParallel() {
+        return uploadParallel;
+    }
+
+    /**
+     * Sets the max number of parts uploaded at once.
+     * @param count the max number of parts
+     * @throws IllegalArgumentException if the value is less than {@code 1}
+     * @since 1.17.0
+     */
+    @Parameter(
+            order = 203,
+            names = { "--upload-parallel" },
+            arity = 1,
+            description = "The max number of parts uploaded at once, which also bounds the upload buffers",
+            validateValueWith = OneOrMoreValidator.class,
+            required = false)
+    public void setUploadParallel(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "the number of upload parallel must be > 1 (specified: {0})",
+                    count));
+        }
+        LOG.trace("argument: --upload-parallel: {}", count); //$NON-NLS-1$
+        this.uploadParallel = count;
+    }
+
+    /**
+     * Returns the max number of retries of individual upload requests.
+     * @return the max number of retries
+     * @since 1.17.0
+     */
+    public int getUploadRetries() {
+        return uploadRetries;
+    }
+
+    /**
+     * Sets the max number of retries of individual upload requests.
+     * @param count the max number of retries
+     * @throws IllegalArgumentException if the value is negative
+     * @since 1.17.0
+     */
+    @Parameter(
+            order = 204,
+            names = { "--upload-retries" },
+            arity = 1,
+            description = "The max number of retries of individual upload requests",
+            validateValueWith = ZeroOrMoreValidator.class,
+            required = false)
+    public void setUploadRetries(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "the number of upload retries must be >= 0 (specified: {0})",
+                    count));
+        }
+        LOG.trace("argument: --upload-retries: {}", count); //$NON-NLS-1$
+        this.uploadRetries = count;
+    }
+
     /**
      * Returns whether or not to enable verbose output.
      * @return {@code true} if enable verbose output, {@code false} otherwise
@@ -682,6 +1161,94 @@ public class CommandArgumentSet {
         this.monitorOutput = path;
     }
 
+    /**
+     * Returns the interval of printing the dump progress in milliseconds.
+     * @return the interval in milliseconds, or {@code 0} to disable printing the progress
+     * @since 1.17.0
+     */
+    public long getProgressIntervalMillis() {
+        return progressIntervalMillis;
+    }
+
+    /**
+     * Sets the interval of printing the dump progress in milliseconds.
+     * @param value the interval in milliseconds, or {@code 0} to disable printing the progress
+     * @throws IllegalArgumentException if the value is negative
+     * @since 1.17.0
+     */
+    @Parameter(
+            order = 1001,
+            names = { "--progress-interval" },
+            arity = 1,
+            description = "Interval of printing the dump progress (in milliseconds), or 0 to disable it.",
+            required = false)
+    public void setProgressIntervalMillis(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "progress interval must be >= 0 (specified: {0})",
+                    value));
+        }
+        LOG.trace("argument: --progress-interval: {}", value); //$NON-NLS-1$
+        this.progressIntervalMillis = value;
+    }
+
+    /**
+     * Returns the metrics reporting interval in milliseconds.
+     * @return the reporting interval in milliseconds, or {@code null} if it is not specified
+     * @since 1.17.0
+     */
+    public @Nullable Long getMetricsIntervalMillis() {
+        return metricsIntervalMillis;
+    }
+
+    /**
+     * Sets the metrics reporting interval in milliseconds.
+     * @param value the reporting interval in milliseconds
+     * @throws IllegalArgumentException if the value is less than {@code 1}
+     * @since 1.17.0
+     */
+    @Parameter(
+            order = 1002,
+            names = { "--metrics-interval" },
+            arity = 1,
+            description = "Interval of reporting metrics snapshots (in milliseconds).",
+            required = false)
+    public void setMetricsIntervalMillis(long value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "metrics interval must be >= 1 (specified: {0})",
+                    value));
+        }
+        LOG.trace("argument: --metrics-interval: {}", value); //$NON-NLS-1$
+        this.metricsIntervalMillis = value;
+    }
+
+    /**
+     * Returns the output path of Prometheus text file of metrics.
+     * @return the output path, or {@code null} if it is not specified
+     * @since 1.17.0
+     */
+    public @Nullable Path getMetricsTextfile() {
+        return metricsTextfile;
+    }
+
+    /**
+     * Sets the output path of Prometheus text file of metrics.
+     * @param path the output path
+     * @since 1.17.0
+     */
+    @Parameter(
+            order = 1003,
+            names = { "--metrics-textfile" },
+            arity = 1,
+            description = "Prometheus text file to write metrics snapshots.",
+            required = false)
+    public void setMetricsTextfile(@Nonnull Path path) {
+        Objects.requireNonNull(path);
+        LOG.trace("argument: --metrics-textfile: {}", path); //$NON-NLS-1$
+        this.metricsTextfile = path;
+    }
+
     /**
      * Returns whether or not to show the command help.
      * @return {@code true} to show the command help, {@code false} otherwise
@@ -853,6 +1420,12 @@ public class CommandArgumentSet {
             }
             throw new ParameterException("Cannot specify multiple table names with --single.");
         }
+        if (singleMode && destinationPaths != null && destinationPaths.size() > 1) {
+            throw new ParameterException("Cannot specify multiple destination directories with --single.");
+        }
+        if (uploadDestination == null && (uploadEndpoint != null || uploadDelete)) {
+            throw new ParameterException("--upload-endpoint and --upload-delete require --upload-to.");
+        }
 
         // check authentication mode
         var sawAuthentications = new ArrayList<String>();
@@ -15,13 +15,20 @@
  */
 package com.tsurugidb.tools.tgdump.cli;
 
+import java.io.Closeable;
 import java.io.IOError;
 import java.io.IOException;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -33,14 +40,23 @@ import com.tsurugidb.tools.common.connection.CredentialProvider;
 import com.tsurugidb.tools.common.connection.CredentialProviderFactory;
 import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
 import com.tsurugidb.tools.common.diagnostic.DiagnosticUtil;
+import com.tsurugidb.tools.common.metrics.MetricsRegistry;
+import com.tsurugidb.tools.common.metrics.MetricsReporter;
+import com.tsurugidb.tools.common.metrics.PrometheusTextfileExporter;
 import com.tsurugidb.tools.common.monitoring.CompositeMonitor;
 import com.tsurugidb.tools.common.monitoring.JsonMonitor;
 import com.tsurugidb.tools.common.monitoring.LoggingMonitor;
 import com.tsurugidb.tools.common.monitoring.Monitor;
 import com.tsurugidb.tools.common.util.LibraryVersion;
+import com.tsurugidb.tools.tgdump.core.engine.DestinationPolicy;
+import com.tsurugidb.tools.tgdump.core.engine.DumpFilePipeline;
+import com.tsurugidb.tools.tgdump.core.engine.DumpFileProcessor;
+import com.tsurugidb.tools.tgdump.core.engine.DumpMonitor;
 import com.tsurugidb.tools.tgdump.core.engine.DumpTargetSelector;
 import com.tsurugidb.tools.tgdump.core.model.DumpProfile;
 import com.tsurugidb.tools.tgdump.core.model.DumpTarget;
+import com.tsurugidb.tools.tgdump.core.upload.S3UploadProcessor;
+import com.tsurugidb.tools.tgdump.core.upload.S3UploadSettings;
 import com.tsurugidb.tools.tgdump.profile.DumpProfileBundleLoader;
 import com.tsurugidb.tsubakuro.client.ServiceClientCollector;
 import com.tsurugidb.tsubakuro.sql.SqlClient;
@@ -58,6 +74,10 @@ final class CommandUtil {
 
     static final Logger LOG = LoggerFactory.getLogger(Main.class); // use Main log-name
 
+    static final String ENV_UPLOAD_ACCESS_KEY_ID = "AWS_ACCESS_KEY_ID"; //$NON-NLS-1$
+
+    static final String ENV_UPLOAD_SECRET_ACCESS_KEY = "AWS_SECRET_ACCESS_KEY"; //$NON-NLS-1$
+
     private CommandUtil() {
         return;
     }
@@ -89,7 +109,12 @@ final class CommandUtil {
         printArgument(printer, "(positional)", args.getTableNames());
         printArgument(printer, "--sql", args.isQueryMode()); //$NON-NLS-1$
         printArgument(printer, "--single", args.isSingleMode()); //$NON-NLS-1$
-        printArgument(printer, "--to", args.getDestinationPath()); //$NON-NLS-1$
+        printArgument(printer, "--to", args.getDestinationPaths()); //$NON-NLS-1$
+        printArgument(printer, "--to-policy", args.getDestinationPolicy().getSymbol()); //$NON-NLS-1$
+        printArgument(printer, "--upload-to", args.getUploadDestination()); //$NON-NLS-1$
+        printArgument(printer, "--upload-endpoint", args.getUploadEndpoint()); //$NON-NLS-1$
+        printArgument(printer, "--upload-region", args.getUploadRegion()); //$NON-NLS-1$
+        printArgument(printer, "--upload-delete", args.isUploadDelete()); //$NON-NLS-1$
         printArgument(printer, "--profile", args.getProfile()); //$NON-NLS-1$
 
         // connection settings
@@ -101,11 +126,18 @@ final class CommandUtil {
         printArgument(printer, "--transaction", args.getTransactionType()); //$NON-NLS-1$
         printArgument(printer, "--transaction-label", args.getTransactionLabel()); //$NON-NLS-1$
         printArgument(printer, "--threads", args.getNumberOfWorkerThreads()); //$NON-NLS-1$
+        printArgument(printer, "--post-process-threads", args.getNumberOfPostProcessThreads()); //$NON-NLS-1$
+        printArgument(printer, "--upload-part-size", args.getUploadPartSizeMib()); //$NON-NLS-1$
+        printArgument(printer, "--upload-parallel", args.getUploadParallel()); //$NON-NLS-1$
+        printArgument(printer, "--upload-retries", args.getUploadRetries()); //$NON-NLS-1$
         printArgument(printer, "--scan-parallel", args.getNumberOfScanParallels()); //$NON-NLS-1$
 
         // information settings
         printArgument(printer, "--verbose", args.isVerbose()); //$NON-NLS-1$
         printArgument(printer, "--monitor", args.getMonitorOutputPath()); //$NON-NLS-1$
+        printArgument(printer, "--progress-interval", args.getProgressIntervalMillis()); //$NON-NLS-1$
+        printArgument(printer, "--metrics-interval", args.getMetricsIntervalMillis()); //$NON-NLS-1$
+        printArgument(printer, "--metrics-textfile", args.getMetricsTextfile()); //$NON-NLS-1$
 
         // special options
         printArgument(printer, "--help", args.isPrintHelp()); //$NON-NLS-1$
@@ -134,6 +166,110 @@ final class CommandUtil {
         return new CompositeMonitor(List.of(createMonitor(null), new JsonMonitor(path)));
     }
 
+    static @Nullable MetricsReporter createMetricsReporter(
+            @Nonnull MetricsRegistry registry,
+            @Nonnull Monitor monitor,
+            @Nullable Long intervalMillis,
+            @Nullable Path textfile) {
+        Objects.requireNonNull(registry);
+        Objects.requireNonNull(monitor);
+        if (intervalMillis == null && textfile == null) {
+            return null;
+        }
+        var interval = intervalMillis == null
+                ? Constants.DEFAULT_METRICS_INTERVAL
+                : Duration.ofMillis(intervalMillis);
+        LOG.debug("creating metrics reporter: interval={}, textfile={}", interval, textfile); //$NON-NLS-1$
+        var exporter = textfile == null ? null : new PrometheusTextfileExporter(textfile);
+        var reporter = new MetricsReporter(registry, monitor, exporter);
+        reporter.start(interval);
+        return reporter;
+    }
+
+    static @Nullable Closeable startProgress(@Nonnull ConsoleDumpMonitor console, long intervalMillis) {
+        Objects.requireNonNull(console);
+        if (intervalMillis <= 0) {
+            return null;
+        }
+        LOG.debug("starting progress output: interval={}ms", intervalMillis); //$NON-NLS-1$
+        var executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = new Thread(r, "dump-progress"); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(() -> {
+            try {
+                console.printProgress();
+            } catch (RuntimeException e) {
+                LOG.debug("failed to print progress", e); //$NON-NLS-1$
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return () -> executor.shutdownNow();
+    }
+
+    static @Nullable S3UploadProcessor createUploader(
+            @Nonnull CommandArgumentSet args,
+            @Nonnull List<Path> destinationPaths) throws CliException {
+        return createUploader(args, destinationPaths, System::getenv);
+    }
+
+    static @Nullable S3UploadProcessor createUploader(
+            @Nonnull CommandArgumentSet args,
+            @Nonnull List<Path> destinationPaths,
+            @Nonnull Function<String, String> environment) throws CliException {
+        Objects.requireNonNull(args);
+        Objects.requireNonNull(destinationPaths);
+        Objects.requireNonNull(environment);
+        var destination = args.getUploadDestination();
+        if (destination == null) {
+            return null;
+        }
+        var accessKeyId = environment.apply(ENV_UPLOAD_ACCESS_KEY_ID);
+        var secretAccessKey = environment.apply(ENV_UPLOAD_SECRET_ACCESS_KEY);
+        if (accessKeyId == null || accessKeyId.isEmpty() || secretAccessKey == null || secretAccessKey.isEmpty()) {
+            throw new CliException(CliDiagnosticCode.INVALID_PARAMETER,
+                    List.of(MessageFormat.format(
+                            "--upload-to requires credentials in environment variables: {0}, {1}",
+                            ENV_UPLOAD_ACCESS_KEY_ID,
+                            ENV_UPLOAD_SECRET_ACCESS_KEY)));
+        }
+        var endpoint = args.getUploadEndpoint();
+        if (endpoint == null) {
+            endpoint = URI.create(String.format("https://s3.%s.amazonaws.com", args.getUploadRegion())); //$NON-NLS-1$
+        }
+        var settings = S3UploadSettings.newBuilder()
+                .withEndpoint(endpoint)
+                .withRegion(args.getUploadRegion())
+                .withBucket(destination.getAuthority())
+                .withPrefix(destination.getPath() == null ? "" : destination.getPath()) //$NON-NLS-1$
+                .withCredentials(accessKeyId, secretAccessKey)
+                .withPartSize((long) args.getUploadPartSizeMib() * 1024 * 1024)
+                .withMaxConcurrentParts(args.getUploadParallel())
+                .withMaxRetries(args.getUploadRetries())
+                .withDeleteAfterUpload(args.isUploadDelete())
+                .build();
+        LOG.debug("upload settings: {}", settings); //$NON-NLS-1$
+        return new S3UploadProcessor(settings, destinationPaths);
+    }
+
+    static @Nullable DumpFilePipeline createFilePipeline(
+            @Nonnull CommandArgumentSet args,
+            @Nonnull DumpMonitor downstream,
+            @Nullable S3UploadProcessor uploader) {
+        Objects.requireNonNull(args);
+        Objects.requireNonNull(downstream);
+        var processors = new ArrayList<DumpFileProcessor>();
+        if (uploader != null) {
+            processors.add(uploader);
+        }
+        if (processors.isEmpty()) {
+            return null;
+        }
+        LOG.debug("starting dump file pipeline: processors={}, threads={}", //$NON-NLS-1$
+                processors, args.getNumberOfPostProcessThreads());
+        return new DumpFilePipeline(processors, downstream, args.getNumberOfPostProcessThreads());
+    }
+
     static List<CredentialProvider> prepareCredentials(
             @Nullable String user,
             @Nullable String token,
@@ -184,9 +320,29 @@ final class CommandUtil {
             @Nonnull Path destinationPath,
             @Nonnull List<String> tableNames,
             boolean singleMode) throws DiagnosticException {
-        Objects.requireNonNull(selector);
         Objects.requireNonNull(destinationPath);
+        return prepareDestination(selector, List.of(destinationPath), tableNames, singleMode,
+                CommandArgumentSet.DEFAULT_DESTINATION_POLICY);
+    }
+
+    static List<DumpTarget> prepareDestination(
+            @Nonnull DumpTargetSelector selector,
+            @Nonnull List<Path> destinationPaths,
+            @Nonnull List<String> tableNames,
+            boolean singleMode,
+            @Nonnull DestinationPolicy policy) throws DiagnosticException {
+        Objects.requireNonNull(selector);
+        Objects.requireNonNull(destinationPaths);
         Objects.requireNonNull(tableNames);
+        Objects.requireNonNull(policy);
+        if (destinationPaths.isEmpty()) {
+            throw new CliException(CliDiagnosticCode.INVALID_PARAMETER,
+                    List.of("no destination directory specified"));
+        }
+        if (singleMode && destinationPaths.size() != 1) {
+            throw new CliException(CliDiagnosticCode.INVALID_PARAMETER,
+                    List.of("single mode requires only one destination directory"));
+        }
         if (tableNames.isEmpty()) {
             throw new CliException(CliDiagnosticCode.INVALID_PARAMETER,
                     List.of("no table name or query text specified"));
@@ -195,6 +351,44 @@ final class CommandUtil {
             throw new CliException(CliDiagnosticCode.INVALID_PARAMETER,
                     List.of("single mode requires only one table name or query text"));
         }
+        var destinations = new ArrayList<Path>(destinationPaths.size());
+        for (var destinationPath : destinationPaths) {
+            var destination = prepareDestinationDirectory(destinationPath);
+            if (destinations.contains(destination)) {
+                throw new CliException(CliDiagnosticCode.INVALID_PARAMETER,
+                        List.of(MessageFormat.format("duplicate destination directory: {0}", destinationPath)));
+            }
+            destinations.add(destination);
+        }
+
+        LOG.debug("compute individual dump output directories");
+        List<DumpTarget> targets;
+        try {
+            if (singleMode) {
+                targets = List.of(selector.getTarget(destinations.get(0), tableNames.get(0)));
+            } else {
+                targets = selector.getTargets(destinations.get(0), tableNames);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new CliException(CliDiagnosticCode.INVALID_PARAMETER,
+                    List.of(DiagnosticUtil.getMessage(e)),
+                    e);
+        }
+        if (destinations.size() >= 2) {
+            LOG.debug("distribute dump targets: policy={}, destinations={}", policy, destinations); //$NON-NLS-1$
+            try {
+                targets = policy.assign(targets, destinations);
+            } catch (IOException e) {
+                throw new CliException(CliDiagnosticCode.DESTINATION_FAILURE,
+                        List.of(destinationPaths),
+                        e);
+            }
+        }
+        LOG.debug("dump targets: {}", targets);
+        return targets;
+    }
+
+    private static Path prepareDestinationDirectory(Path destinationPath) throws CliException {
         LOG.debug("inspecting destination: {}", destinationPath);
         Path destination;
         try {
@@ -213,21 +407,6 @@ final class CommandUtil {
                     List.of(destinationPath),
                     e);
         }
-
-        LOG.debug("compute individual dump output directories");
-        List<DumpTarget> targets;
-        try {
-            if (singleMode) {
-                targets = List.of(selector.getTarget(destination, tableNames.get(0)));
-            } else {
-                targets = selector.getTargets(destination, tableNames);
-            }
-        } catch (IllegalArgumentException e) {
-            throw new CliException(CliDiagnosticCode.INVALID_PARAMETER,
-                    List.of(DiagnosticUtil.getMessage(e)),
-                    e);
-        }
-        LOG.debug("dump targets: {}", targets);
-        return targets;
+        return destination;
     }
 }
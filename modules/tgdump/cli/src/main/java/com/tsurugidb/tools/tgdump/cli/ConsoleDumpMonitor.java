@@ -15,6 +15,7 @@
  */
 package com.tsurugidb.tools.tgdump.cli;
 
+import java.net.URI;
 import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.Arrays;
@@ -22,11 +23,14 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import com.google.protobuf.Message;
 import com.google.protobuf.TextFormat;
 import com.tsurugidb.tools.common.monitoring.MonitoringException;
+import com.tsurugidb.tools.common.util.EndpointList;
 import com.tsurugidb.tools.tgdump.core.engine.DumpMonitor;
+import com.tsurugidb.tools.tgdump.core.engine.DumpProgress;
 import com.tsurugidb.tsubakuro.sql.TableMetadata;
 
 /**
@@ -38,15 +42,30 @@ public class ConsoleDumpMonitor implements DumpMonitor {
 
     private final boolean verbose;
 
+    private final DumpProgress progress;
+
     /**
      * Creates a new instance.
      * @param output the message output
      * @param verbose whether or not to print verbose messages
      */
     public ConsoleDumpMonitor(@Nonnull Printer output, boolean verbose) {
+        this(output, verbose, null);
+    }
+
+    /**
+     * Creates a new instance.
+     * @param output the message output
+     * @param verbose whether or not to print verbose messages
+     * @param progress the progress of dump operations, which must receive events before this monitor,
+     *      or {@code null} to print no progress information
+     * @since 1.17.0
+     */
+    public ConsoleDumpMonitor(@Nonnull Printer output, boolean verbose, @Nullable DumpProgress progress) {
         Objects.requireNonNull(output);
         this.output = output;
         this.verbose = verbose;
+        this.progress = progress;
     }
 
     private void print(String format, Object... arguments) {
@@ -72,6 +91,12 @@ public class ConsoleDumpMonitor implements DumpMonitor {
         }
     }
 
+    @Override
+    public void onConnect(@Nonnull URI endpoint) {
+        Objects.requireNonNull(endpoint);
+        verbose("connected: endpoint={0}, transport={1}", endpoint, EndpointList.getTransport(endpoint));
+    }
+
     @Override
     public void onDumpInfo(@Nonnull String tableName, @Nonnull TableMetadata tableInfo, @Nonnull Path dumpDirectory) {
         Objects.requireNonNull(tableName);
@@ -119,7 +144,58 @@ public class ConsoleDumpMonitor implements DumpMonitor {
     public void onDumpFinish(@Nonnull String tableName, @Nonnull Path dumpDirectory) {
         Objects.requireNonNull(tableName);
         Objects.requireNonNull(dumpDirectory);
-        print("dump operation was finished: target={0}, output={1}", tableName, dumpDirectory);
+        var target = progress == null ? null : progress.findTarget(tableName).orElse(null);
+        if (target == null) {
+            print("dump operation was finished: target={0}, output={1}", tableName, dumpDirectory);
+        } else {
+            print("dump operation was finished: target={0}, output={1}, files={2}, size={3}, elapsed={4}, rate={5}",
+                    tableName, dumpDirectory,
+                    target.getFiles(),
+                    DumpProgress.formatSize(target.getBytes()),
+                    DumpProgress.formatDuration(target.getElapsed()),
+                    DumpProgress.formatRate(target.getBytesPerSecond()));
+        }
+    }
+
+    /**
+     * Prints the current progress of the dump operations.
+     * <p>
+     * This does nothing if the progress is not available, or no dump targets are registered yet.
+     * </p>
+     * @since 1.17.0
+     */
+    public void printProgress() {
+        if (progress == null || progress.getTargetCount() == 0) {
+            return;
+        }
+        print("dump progress: targets={0}/{1}, files={2}, size={3}, rate={4}, elapsed={5}, idle={6}, remaining={7}",
+                progress.getFinishedTargetCount(),
+                progress.getTargetCount(),
+                progress.getFiles(),
+                DumpProgress.formatSize(progress.getBytes()),
+                DumpProgress.formatRate(progress.getBytesPerSecond()),
+                DumpProgress.formatDuration(progress.getElapsed()),
+                DumpProgress.formatDuration(progress.getIdle().orElse(null)),
+                DumpProgress.formatDuration(progress.getEstimatedRemaining().orElse(null)));
+    }
+
+    /**
+     * Prints the summary of the dump operations.
+     * <p>
+     * This does nothing if the progress is not available.
+     * </p>
+     * @since 1.17.0
+     */
+    public void printSummary() {
+        if (progress == null) {
+            return;
+        }
+        print("dump operation summary: targets={0}, files={1}, size={2}, elapsed={3}, rate={4}",
+                progress.getTargetCount(),
+                progress.getFiles(),
+                DumpProgress.formatSize(progress.getBytes()),
+                DumpProgress.formatDuration(progress.getElapsed()),
+                DumpProgress.formatRate(progress.getBytesPerSecond()));
     }
 
     @Override
@@ -15,6 +15,8 @@
  */
 package com.tsurugidb.tools.tgdump.cli;
 
+import java.time.Duration;
+
 /**
  * The application constants of Tsurugi Dump Tool.
  */
@@ -55,6 +57,12 @@ public final class Constants {
      */
     public static final int EXIT_STATUS_INTERRUPTED = 5;
 
+    /**
+     * The default interval of reporting metrics snapshots.
+     * @since 1.17.0
+     */
+    public static final Duration DEFAULT_METRICS_INTERVAL = Duration.ofSeconds(10);
+
     private Constants() {
         return;
     }
@@ -16,10 +16,12 @@
 package com.tsurugidb.tools.tgdump.cli;
 
 import java.io.IOException;
+import java.net.URI;
 import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.annotation.Nonnull;
 
@@ -31,12 +33,16 @@ import com.beust.jcommander.ParameterException;
 import com.tsurugidb.tools.common.connection.ConnectionSettings;
 import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
 import com.tsurugidb.tools.common.diagnostic.DiagnosticUtil;
+import com.tsurugidb.tools.common.metrics.MetricsRegistry;
 import com.tsurugidb.tools.common.monitoring.MonitoringException;
 import com.tsurugidb.tools.tgdump.core.engine.BasicDumpMonitor;
 import com.tsurugidb.tools.tgdump.core.engine.BasicDumpSession;
 import com.tsurugidb.tools.tgdump.core.engine.CompositeDumpMonitor;
 import com.tsurugidb.tools.tgdump.core.engine.DumpEngine;
+import com.tsurugidb.tools.tgdump.core.engine.DumpManifest;
 import com.tsurugidb.tools.tgdump.core.engine.DumpMonitor;
+import com.tsurugidb.tools.tgdump.core.engine.DumpProgress;
+import com.tsurugidb.tools.tgdump.core.engine.MetricsDumpMonitor;
 import com.tsurugidb.tools.tgdump.core.model.TransactionSettings;
 import com.tsurugidb.tools.tgdump.profile.DumpProfileBundle;
 import com.tsurugidb.tools.tgdump.profile.DumpProfileBundleLoader;
@@ -144,11 +150,22 @@ public class Main {
         }
         try (var monitor = CommandUtil.createMonitor(arguments.getMonitorOutputPath())) {
             monitor.onStart();
-            try {
+            var metrics = new MetricsRegistry();
+            var progress = new DumpProgress();
+            var consoleMonitor = new ConsoleDumpMonitor(printer, arguments.isVerbose(), progress);
+            var basicMonitor = new BasicDumpMonitor(monitor);
+            try (var reporter = CommandUtil.createMetricsReporter(
+                    metrics, monitor,
+                    arguments.getMetricsIntervalMillis(), arguments.getMetricsTextfile());
+                    var ticker = CommandUtil.startProgress(consoleMonitor, arguments.getProgressIntervalMillis())) {
                 var dumpMonitor = new CompositeDumpMonitor(List.of(
-                        new ConsoleDumpMonitor(printer, arguments.isVerbose()),
-                        new BasicDumpMonitor(monitor)));
+                        progress,
+                        consoleMonitor,
+                        basicMonitor,
+                        new MetricsDumpMonitor(metrics)));
                 executeBody(dumpMonitor, arguments);
+                consoleMonitor.printSummary();
+                basicMonitor.onDumpSummary(progress);
             } catch (DiagnosticException e) {
                 LOG.error("{} - {}", e.getDiagnosticCode().getTag(), e.getMessage());
                 monitor.onFailure(e);
@@ -200,7 +217,7 @@ public class Main {
     void executeBody(DumpMonitor monitor, CommandArgumentSet args)
             throws DiagnosticException, InterruptedException, IOException {
         var connectionSettings = ConnectionSettings.newBuilder()
-                .withEndpointUri(args.getConnectionUri())
+                .withEndpointUris(args.getConnectionUris())
                 .withApplicationName(Constants.APPLICATION_NAME)
                 .withSessionLabel(args.getConnectionLabel())
                 .withEstablishTimeout(Duration.ofMillis(args.getConnectionTimeoutMillis()))
@@ -217,18 +234,55 @@ public class Main {
                 .build();
         var engine = new DumpEngine(args.getNumberOfWorkerThreads());
         var profile = CommandUtil.loadProfile(args.getProfileBundleLoader(), args.getProfile());
+        var destinationPaths = args.getDestinationPaths();
         var targets = CommandUtil.prepareDestination(
-                args.getTargetSelector(), args.getDestinationPath(), args.getTableNames(), args.isSingleMode());
-        try (
-            var connection = args.getConnectionProvider().connect(connectionSettings);
-            var sql = SqlClient.attach(connection);
-            var session = new BasicDumpSession(sql, transactionSettings, profile, true);
-        ) {
-            engine.execute(monitor, session, targets);
-        } catch (ServerException e) {
-            throw new CliException(CliDiagnosticCode.SERVER_ERROR,
-                    List.of(DiagnosticUtil.getMessage(e)),
-                    e);
+                args.getTargetSelector(), destinationPaths, args.getTableNames(), args.isSingleMode(),
+                args.getDestinationPolicy());
+        DumpManifest manifest = null;
+        if (destinationPaths.size() >= 2) {
+            manifest = new DumpManifest(destinationPaths, args.getDestinationPolicy());
+        }
+        var uploader = CommandUtil.createUploader(args, destinationPaths);
+        var pipeline = CommandUtil.createFilePipeline(args,
+                manifest != null ? manifest : new CompositeDumpMonitor(),
+                uploader);
+        if (pipeline != null) {
+            monitor = new CompositeDumpMonitor(List.of(monitor, pipeline));
+        } else if (manifest != null) {
+            monitor = new CompositeDumpMonitor(List.of(monitor, manifest));
+        }
+        var endpoint = new AtomicReference<URI>();
+        try (uploader) {
+            try (
+                pipeline;
+                var connection = args.getConnectionProvider().connect(connectionSettings, endpoint::set);
+                var sql = SqlClient.attach(connection);
+                var session = new BasicDumpSession(sql, transactionSettings, profile, true);
+            ) {
+                monitor.onConnect(endpoint.get());
+                engine.execute(monitor, session, targets);
+            } catch (ServerException e) {
+                throw new CliException(CliDiagnosticCode.SERVER_ERROR,
+                        List.of(DiagnosticUtil.getMessage(e)),
+                        e);
+            }
+            // the pipeline was closed, so that all dump files were uploaded
+            if (uploader != null) {
+                uploader.writeManifest();
+            }
+        }
+        if (manifest != null) {
+            for (var destination : destinationPaths) {
+                var file = destination.resolve(DumpManifest.FILE_NAME);
+                LOG.debug("writing dump manifest: {}", file); //$NON-NLS-1$
+                try {
+                    manifest.write(file);
+                } catch (IOException e) {
+                    throw new CliException(CliDiagnosticCode.DESTINATION_FAILURE,
+                            List.of(destination),
+                            e);
+                }
+            }
         }
     }
 
@@ -18,6 +18,7 @@ package com.tsurugidb.tools.tgdump.cli;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.IOException;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -30,6 +31,8 @@ import org.junit.jupiter.api.Test;
 import com.tsurugidb.tools.common.connection.CredentialProviderFactory;
 import com.tsurugidb.tools.common.connection.PromptCredentialProvider;
 import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
+import com.tsurugidb.tools.tgdump.core.engine.CompositeDumpMonitor;
+import com.tsurugidb.tools.tgdump.core.engine.DestinationPolicy;
 import com.tsurugidb.tools.tgdump.core.model.DumpTarget;
 import com.tsurugidb.tools.tgdump.profile.ProfileDiagnosticCode;
 
@@ -218,6 +221,86 @@ class CommandUtilTest {
         assertEquals(CliDiagnosticCode.DESTINATION_FAILURE, e.getDiagnosticCode());
     }
 
+    @Test
+    void createFilePipeline_disabled() throws Exception {
+        CommandArgumentSet args = new CommandArgumentSet();
+        var pipeline = CommandUtil.createFilePipeline(args, new CompositeDumpMonitor(), null);
+        assertNull(pipeline);
+    }
+
+    @Test
+    void createFilePipeline_upload() throws Exception {
+        CommandArgumentSet args = new CommandArgumentSet();
+        args.setUploadDestination("s3://bucket/prefix");
+        args.setUploadEndpoint(URI.create("http://localhost:9000"));
+        try (var uploader = CommandUtil.createUploader(args, List.of(getTemporaryDir()), name -> "testing");
+                var pipeline = CommandUtil.createFilePipeline(args, new CompositeDumpMonitor(), uploader)) {
+            assertNotNull(pipeline);
+        }
+    }
+
+    @Test
+    void createUploader_disabled() throws Exception {
+        CommandArgumentSet args = new CommandArgumentSet();
+        var uploader = CommandUtil.createUploader(args, List.of(getTemporaryDir()), name -> "testing");
+        assertNull(uploader);
+    }
+
+    @Test
+    void createUploader() throws Exception {
+        CommandArgumentSet args = new CommandArgumentSet();
+        args.setUploadDestination("s3://bucket/prefix");
+        args.setUploadEndpoint(URI.create("http://localhost:9000"));
+        try (var uploader = CommandUtil.createUploader(args, List.of(getTemporaryDir()), name -> "testing")) {
+            assertNotNull(uploader);
+        }
+    }
+
+    @Test
+    void createUploader_credentials_missing() throws Exception {
+        CommandArgumentSet args = new CommandArgumentSet();
+        args.setUploadDestination("s3://bucket/prefix");
+        var e = assertThrows(DiagnosticException.class,
+                () -> CommandUtil.createUploader(args, List.of(getTemporaryDir()), name -> null));
+        assertEquals(CliDiagnosticCode.INVALID_PARAMETER, e.getDiagnosticCode());
+    }
+
+    @Test
+    void prepareDestination_destination_multiple() throws Exception {
+        CommandArgumentSet args = new CommandArgumentSet();
+        var root = getTemporaryDir();
+        var dest1 = root.resolve("d1");
+        var dest2 = root.resolve("d2");
+
+        var targets = CommandUtil.prepareDestination(
+                args.getTargetSelector(), List.of(dest1, dest2), List.of("a", "b", "c"), false,
+                DestinationPolicy.ROUND_ROBIN);
+        assertTrue(Files.isDirectory(dest1));
+        assertTrue(Files.isDirectory(dest2));
+        dest1 = dest1.toRealPath();
+        dest2 = dest2.toRealPath();
+
+        assertEquals(
+                List.of(
+                        new DumpTarget("a", dest1.resolve("a")),
+                        new DumpTarget("b", dest2.resolve("b")),
+                        new DumpTarget("c", dest1.resolve("c"))),
+                targets);
+    }
+
+    @Test
+    void prepareDestination_destination_duplicate() throws Exception {
+        CommandArgumentSet args = new CommandArgumentSet();
+        var root = getTemporaryDir();
+        var dest = root.resolve("destination");
+
+        var e = assertThrows(DiagnosticException.class,
+                () -> CommandUtil.prepareDestination(
+                        args.getTargetSelector(), List.of(dest, dest), List.of("testing"), false,
+                        DestinationPolicy.ROUND_ROBIN));
+        assertEquals(CliDiagnosticCode.INVALID_PARAMETER, e.getDiagnosticCode());
+    }
+
     @Test
     void prepareDestination_destination_exists_nonempty() throws Exception {
         CommandArgumentSet args = new CommandArgumentSet();
@@ -19,12 +19,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.tsurugidb.tools.tgdump.core.engine.DumpProgress;
 import com.tsurugidb.tools.tgdump.core.model.TransactionSettings;
 
 class ConsoleDumpMonitorTest {
@@ -59,6 +61,21 @@ class ConsoleDumpMonitorTest {
         monitor.verbose("testing: {0}", TransactionSettings.newBuilder().build().toProtocolBuffer(List.of("A")));
     }
 
+    @Test
+    void onConnect_on() {
+        var monitor = new ConsoleDumpMonitor(printer, true);
+        monitor.onConnect(URI.create("ipc:testing"));
+        assertEquals(1, output.size());
+        assertTrue(output.get(0).contains("ipc:testing"));
+    }
+
+    @Test
+    void onConnect_off() {
+        var monitor = new ConsoleDumpMonitor(printer, false);
+        monitor.onConnect(URI.create("ipc:testing"));
+        assertEquals(0, output.size());
+    }
+
     @Test
     void onDumpInfo_on() {
         var monitor = new ConsoleDumpMonitor(printer, true);
@@ -104,4 +121,48 @@ class ConsoleDumpMonitorTest {
         assertEquals(1, output.size());
         assertTrue(output.get(0).contains("XXX"));
     }
+
+    @Test
+    void onDumpFinish_progress() {
+        var progress = new DumpProgress();
+        var monitor = new ConsoleDumpMonitor(printer, false, progress);
+        progress.onDumpStart("XXX", Path.of("x"));
+        progress.onDumpFinish("XXX", Path.of("x"));
+        monitor.onDumpFinish("XXX", Path.of("x"));
+        assertEquals(1, output.size());
+        assertTrue(output.get(0).contains("XXX"));
+        assertTrue(output.get(0).contains("MB/s"), output.get(0));
+    }
+
+    @Test
+    void printProgress() {
+        var progress = new DumpProgress();
+        var monitor = new ConsoleDumpMonitor(printer, false, progress);
+        monitor.printProgress();
+        assertEquals(0, output.size());
+
+        progress.onDumpStart("XXX", Path.of("x"));
+        monitor.printProgress();
+        assertEquals(1, output.size());
+        assertTrue(output.get(0).contains("targets=0/1"), output.get(0));
+    }
+
+    @Test
+    void printProgress_without_progress() {
+        var monitor = new ConsoleDumpMonitor(printer, false);
+        monitor.printProgress();
+        monitor.printSummary();
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    void printSummary() {
+        var progress = new DumpProgress();
+        var monitor = new ConsoleDumpMonitor(printer, false, progress);
+        progress.onDumpStart("XXX", Path.of("x"));
+        progress.onDumpFinish("XXX", Path.of("x"));
+        monitor.printSummary();
+        assertEquals(1, output.size());
+        assertTrue(output.get(0).contains("targets=1"), output.get(0));
+    }
 }
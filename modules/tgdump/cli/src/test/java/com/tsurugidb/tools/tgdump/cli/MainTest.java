@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import com.beust.jcommander.ParameterException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.tsurugidb.tools.common.diagnostic.DiagnosticException;
+import com.tsurugidb.tools.tgdump.core.engine.DestinationPolicy;
 import com.tsurugidb.tools.tgdump.core.engine.DumpMonitor;
 import com.tsurugidb.tools.tgdump.core.model.TransactionSettings;
 
@@ -126,6 +127,41 @@ class MainTest {
                 .count());
     }
 
+    @Test
+    void execute_metrics() throws Exception {
+        var app = new Main() {
+            @Override
+            void executeBody(DumpMonitor monitor, CommandArgumentSet args) throws DiagnosticException {
+                monitor.onDumpStart("testing", args.getDestinationPath());
+                monitor.onDumpFinish("testing", args.getDestinationPath());
+            }
+        };
+
+        var dir = getTemporaryDir();
+        var outputDir = dir.resolve("output");
+        var monitorFile = dir.resolve("monitor.json");
+        var textfile = dir.resolve("tgdump.prom");
+
+        CommandArgumentSet args = new CommandArgumentSet();
+        args.setTableNames(List.of("testing"));
+        args.setDestinationPath(outputDir);
+        args.setConnectionUri(URI.create("ipc:testing"));
+        args.setMonitorOutputPath(monitorFile);
+        args.setMetricsTextfile(textfile);
+
+        var status = app.execute(args);
+        assertEquals(Constants.EXIT_STATUS_OK, status);
+
+        assertTrue(readKind(monitorFile, "data")
+                .anyMatch(it -> getString(it, "format").filter(p -> p.equals("metrics")).isPresent()));
+        var text = Files.readString(textfile);
+        assertTrue(text.contains("tgdump_targets_finished_total 1"), text);
+
+        assertEquals(1, readKind(monitorFile, "data")
+                .filter(it -> getString(it, "format").filter(p -> p.equals("dump-summary")).isPresent())
+                .count());
+    }
+
     @Test
     void execute_raise_diagnostics() throws Exception {
         var app = new Main() {
@@ -269,8 +305,12 @@ class MainTest {
         assertEquals(TransactionSettings.Type.RTX, args.getTransactionType());
         assertNull(args.getTransactionLabel());
         assertEquals(1, args.getNumberOfWorkerThreads());
+        assertEquals(CommandArgumentSet.DEFAULT_NUMBER_OF_POST_PROCESS_THREADS, args.getNumberOfPostProcessThreads());
         assertFalse(args.isVerbose());
         assertNull(args.getMonitorOutputPath());
+        assertEquals(CommandArgumentSet.DEFAULT_PROGRESS_INTERVAL_MILLIS, args.getProgressIntervalMillis());
+        assertNull(args.getMetricsIntervalMillis());
+        assertNull(args.getMetricsTextfile());
         assertFalse(args.isVerbose());
         assertFalse(args.isPrintHelp());
         assertFalse(args.isPrintVersion());
@@ -320,6 +360,29 @@ class MainTest {
         assertEquals(List.of("A", "B", "C"), args.getTableNames());
     }
 
+    @Test
+    void parseArguments_connection_list() {
+        var app = new Main();
+        var args = app.parseArguments("--connection", "ipc:testing,ipc:fallback", "A", "--to", "output");
+        assertEquals(URI.create("ipc:testing"), args.getConnectionUri());
+        assertEquals(List.of(URI.create("ipc:testing"), URI.create("ipc:fallback")),
+                args.getConnectionUris().getEndpoints());
+    }
+
+    @Test
+    void parseArguments_connection_list_unsupported() {
+        var app = new Main();
+        assertThrows(ParameterException.class,
+                () -> app.parseArguments("--connection", "ipc:testing,invalid:testing", "--to", "output", "A"));
+    }
+
+    @Test
+    void parseArguments_connection_list_empty_element() {
+        var app = new Main();
+        assertThrows(ParameterException.class,
+                () -> app.parseArguments("--connection", "ipc:testing,", "--to", "output", "A"));
+    }
+
     @Test
     void parseArguments_connection_unsupported() {
         var app = new Main();
@@ -341,6 +404,45 @@ class MainTest {
                 () -> app.parseArguments("--connection", "ipc:testing", "A"));
     }
 
+    @Test
+    void parseArguments_destination_list() {
+        var app = new Main();
+        var args = app.parseArguments("--connection", "ipc:testing", "A", "--to", "output1,output2");
+        assertEquals(List.of(Path.of("output1"), Path.of("output2")), args.getDestinationPaths());
+        assertEquals(Path.of("output1"), args.getDestinationPath());
+        assertEquals(CommandArgumentSet.DEFAULT_DESTINATION_POLICY, args.getDestinationPolicy());
+    }
+
+    @Test
+    void parseArguments_destination_list_empty_element() {
+        var app = new Main();
+        assertThrows(ParameterException.class,
+                () -> app.parseArguments("--connection", "ipc:testing", "A", "--to", "output1,"));
+    }
+
+    @Test
+    void parseArguments_destination_list_single() {
+        var app = new Main();
+        assertThrows(ParameterException.class,
+                () -> app.parseArguments("--connection", "ipc:testing", "--single", "A", "--to", "output1,output2"));
+    }
+
+    @Test
+    void parseArguments_destination_policy() {
+        var app = new Main();
+        var args = app.parseArguments("--connection", "ipc:testing", "A", "--to", "output1,output2",
+                "--to-policy", "free-space");
+        assertEquals(DestinationPolicy.FREE_SPACE, args.getDestinationPolicy());
+    }
+
+    @Test
+    void parseArguments_destination_policy_invalid() {
+        var app = new Main();
+        assertThrows(ParameterException.class,
+                () -> app.parseArguments("--connection", "ipc:testing", "A", "--to", "output",
+                        "--to-policy", "unknown"));
+    }
+
     @Test
     void parseArguments_profile() {
         var app = new Main();
@@ -511,6 +613,69 @@ class MainTest {
                 "--threads", "0"));
     }
 
+    @Test
+    void parseArguments_post_process_threads() {
+        var app = new Main();
+        var args = app.parseArguments(
+                "--connection", "ipc:testing", "A", "--to", "output",
+                "--post-process-threads", "4");
+        assertEquals(4, args.getNumberOfPostProcessThreads());
+    }
+
+    @Test
+    void parseArguments_upload() {
+        var app = new Main();
+        var args = app.parseArguments(
+                "--connection", "ipc:testing", "A", "--to", "output",
+                "--upload-to", "s3://bucket/prefix",
+                "--upload-endpoint", "http://localhost:9000",
+                "--upload-region", "ap-northeast-1",
+                "--upload-delete",
+                "--upload-part-size", "64",
+                "--upload-parallel", "8",
+                "--upload-retries", "0");
+        assertEquals(URI.create("s3://bucket/prefix"), args.getUploadDestination());
+        assertEquals(URI.create("http://localhost:9000"), args.getUploadEndpoint());
+        assertEquals("ap-northeast-1", args.getUploadRegion());
+        assertTrue(args.isUploadDelete());
+        assertEquals(64, args.getUploadPartSizeMib());
+        assertEquals(8, args.getUploadParallel());
+        assertEquals(0, args.getUploadRetries());
+    }
+
+    @Test
+    void parseArguments_upload_to_invalid() {
+        var app = new Main();
+        assertThrows(ParameterException.class, () -> app.parseArguments(
+                "--connection", "ipc:testing", "A", "--to", "output",
+                "--upload-to", "http://bucket/prefix"));
+    }
+
+    @Test
+    void parseArguments_upload_part_size_invalid() {
+        var app = new Main();
+        assertThrows(ParameterException.class, () -> app.parseArguments(
+                "--connection", "ipc:testing", "A", "--to", "output",
+                "--upload-to", "s3://bucket",
+                "--upload-part-size", "4"));
+    }
+
+    @Test
+    void parseArguments_upload_delete_without_destination() {
+        var app = new Main();
+        assertThrows(ParameterException.class, () -> app.parseArguments(
+                "--connection", "ipc:testing", "A", "--to", "output",
+                "--upload-delete"));
+    }
+
+    @Test
+    void parseArguments_post_process_threads_invalid() {
+        var app = new Main();
+        assertThrows(ParameterException.class, () -> app.parseArguments(
+                "--connection", "ipc:testing", "A", "--to", "output",
+                "--post-process-threads", "0"));
+    }
+
     @Test
     void parseArguments_scan_parallel() {
         var app = new Main();
@@ -546,6 +711,34 @@ class MainTest {
         assertEquals(Path.of("monitor.jsonl"), args.getMonitorOutputPath());
     }
 
+    @Test
+    void parseArguments_progress_interval() {
+        var app = new Main();
+        var args = app.parseArguments(
+                "--connection", "ipc:testing", "A", "--to", "output",
+                "--progress-interval", "0");
+        assertEquals(0, args.getProgressIntervalMillis());
+    }
+
+    @Test
+    void parseArguments_metrics() {
+        var app = new Main();
+        var args = app.parseArguments(
+                "--connection", "ipc:testing", "A", "--to", "output",
+                "--metrics-interval", "5000",
+                "--metrics-textfile", "tgdump.prom");
+        assertEquals(5000L, args.getMetricsIntervalMillis());
+        assertEquals(Path.of("tgdump.prom"), args.getMetricsTextfile());
+    }
+
+    @Test
+    void parseArguments_metrics_interval_invalid() {
+        var app = new Main();
+        assertThrows(ParameterException.class, () -> app.parseArguments(
+                "--connection", "ipc:testing", "A", "--to", "output",
+                "--metrics-interval", "0"));
+    }
+
     @Test
     void parseArguments_verbose() {
         var app = new Main();
@@ -15,6 +15,7 @@
  */
 package com.tsurugidb.tools.tgdump.core.engine;
 
+import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +26,7 @@ import javax.annotation.Nonnull;
 import com.tsurugidb.sql.proto.SqlCommon;
 import com.tsurugidb.tools.common.monitoring.Monitor;
 import com.tsurugidb.tools.common.monitoring.MonitoringException;
+import com.tsurugidb.tools.common.util.EndpointList;
 import com.tsurugidb.tools.common.value.Array;
 import com.tsurugidb.tools.common.value.Property;
 import com.tsurugidb.tools.common.value.Record;
@@ -36,6 +38,12 @@ import com.tsurugidb.tsubakuro.sql.TableMetadata;
  */
 public class BasicDumpMonitor implements DumpMonitor {
 
+    /**
+     * The monitoring format name that the connection was established.
+     * @since 1.17.0
+     */
+    public static final String FORMAT_CONNECTION = "connection";
+
     /**
      * The monitoring format name that a target table information was provided.
      */
@@ -56,6 +64,24 @@ public class BasicDumpMonitor implements DumpMonitor {
      */
     public static final String FORMAT_DUMP_FINISH = "dump-finish";
 
+    /**
+     * The monitoring format name of the summary of individual dump operations.
+     * @since 1.17.0
+     */
+    public static final String FORMAT_DUMP_SUMMARY = "dump-summary";
+
+    /**
+     * The monitoring property of the connection endpoint URI.
+     * @since 1.17.0
+     */
+    public static final String PROPERTY_ENDPOINT = "endpoint";
+
+    /**
+     * The monitoring property of the connection transport.
+     * @since 1.17.0
+     */
+    public static final String PROPERTY_TRANSPORT = "transport";
+
     /**
      * The monitoring property of the target type.
      */
@@ -101,6 +127,30 @@ public class BasicDumpMonitor implements DumpMonitor {
      */
     public static final String PROPERTY_COLUMN_TYPE = "type";
 
+    /**
+     * The monitoring property of the summary of individual dump targets.
+     * @since 1.17.0
+     */
+    public static final String PROPERTY_TARGETS = "targets";
+
+    /**
+     * The monitoring property of the number of dump files.
+     * @since 1.17.0
+     */
+    public static final String PROPERTY_FILES = "files";
+
+    /**
+     * The monitoring property of the total size of dump files in bytes.
+     * @since 1.17.0
+     */
+    public static final String PROPERTY_BYTES = "bytes";
+
+    /**
+     * The monitoring property of the elapsed time in milliseconds.
+     * @since 1.17.0
+     */
+    public static final String PROPERTY_ELAPSED = "elapsed";
+
     private final Monitor monitor;
 
     /**
@@ -112,6 +162,14 @@ public class BasicDumpMonitor implements DumpMonitor {
         this.monitor = monitor;
     }
 
+    @Override
+    public void onConnect(@Nonnull URI endpoint) throws MonitoringException {
+        Objects.requireNonNull(endpoint);
+        monitor.onData(FORMAT_CONNECTION, List.of(
+                Property.of(PROPERTY_ENDPOINT, Value.of(endpoint.toString())),
+                Property.of(PROPERTY_TRANSPORT, Value.of(EndpointList.getTransport(endpoint)))));
+    }
+
     @Override
     public void onDumpInfo(@Nonnull String tableName, @Nonnull TableMetadata tableInfo, @Nonnull Path dumpDirectory)
             throws MonitoringException {
@@ -182,6 +240,29 @@ public class BasicDumpMonitor implements DumpMonitor {
                 Property.of(PROPERTY_DESTINATION, Value.of(dumpDirectory.toString()))));
     }
 
+    /**
+     * Reports the summary of individual dump operations.
+     * @param progress the progress of the dump operations
+     * @throws MonitoringException if error was occurred while processing the event
+     * @since 1.17.0
+     */
+    public void onDumpSummary(@Nonnull DumpProgress progress) throws MonitoringException {
+        Objects.requireNonNull(progress);
+        var targets = new ArrayList<Record>();
+        for (var target : progress.getTargets()) {
+            targets.add(Record.of(
+                    Property.of(PROPERTY_TABLE_NAME, Value.of(target.getName())),
+                    Property.of(PROPERTY_FILES, Value.of(target.getFiles())),
+                    Property.of(PROPERTY_BYTES, Value.of(target.getBytes())),
+                    Property.of(PROPERTY_ELAPSED, Value.of(target.getElapsed().toMillis()))));
+        }
+        monitor.onData(FORMAT_DUMP_SUMMARY, List.of(
+                Property.of(PROPERTY_TARGETS, Value.of(Array.fromList(targets))),
+                Property.of(PROPERTY_FILES, Value.of(progress.getFiles())),
+                Property.of(PROPERTY_BYTES, Value.of(progress.getBytes())),
+                Property.of(PROPERTY_ELAPSED, Value.of(progress.getElapsed().toMillis()))));
+    }
+
     @Override
     public String toString() {
         return String.format("DumpMonitor(%s)", monitor); //$NON-NLS-1$
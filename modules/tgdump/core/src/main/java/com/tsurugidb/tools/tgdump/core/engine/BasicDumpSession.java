@@ -194,8 +194,11 @@ public class BasicDumpSession implements DumpSession {
             var tables = operation.getTargetTables();
             var txOptions = transactionSettings.toProtocolBuffer(tables);
             monitor.verbose("starting a new transaction: {0}", txOptions); //$NON-NLS-1$
+            var event = new DumpEvents.Begin();
+            event.begin();
             try {
                 var transaction = client.createTransaction(txOptions).await();
+                event.finish(transaction, tables.size());
                 transactionRef.set(transaction); // TODO: check existing
                 monitor.verbose("transaction was started: {0}", transaction.getTransactionId()); //$NON-NLS-1$
             } catch (IOException e) {
@@ -253,8 +256,11 @@ public class BasicDumpSession implements DumpSession {
                 throw new IllegalStateException("transaction object is missing");
             }
             monitor.verbose("committing the current transaction: {0}", transaction.getTransactionId()); //$NON-NLS-1$
+            var event = new DumpEvents.Commit();
+            event.begin();
             try {
                 transaction.commit().await();
+                event.finish(transaction);
             } catch (IOException e) {
                 LOG.debug("exception was occurred in commit", e); //$NON-NLS-1$
                 throw new DumpException(DumpDiagnosticCode.IO_ERROR, List.of(e.toString()), e);
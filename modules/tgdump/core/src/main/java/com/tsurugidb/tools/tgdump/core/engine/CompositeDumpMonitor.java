@@ -15,6 +15,7 @@
  */
 package com.tsurugidb.tools.tgdump.core.engine;
 
+import java.net.URI;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
@@ -59,6 +60,14 @@ public class CompositeDumpMonitor implements DumpMonitor {
         }
     }
 
+    @Override
+    public void onConnect(@Nonnull URI endpoint) throws MonitoringException {
+        Objects.requireNonNull(endpoint);
+        for (var element : elements) {
+            element.onConnect(endpoint);
+        }
+    }
+
     @Override
     public void onDumpInfo(@Nonnull String tableName, @Nonnull TableMetadata tableInfo, @Nonnull Path dumpDirectory)
             throws MonitoringException {
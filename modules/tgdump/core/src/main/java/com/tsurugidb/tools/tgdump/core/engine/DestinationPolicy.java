@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.tools.tgdump.core.model.DumpTarget;
+
+/**
+ * Policies to distribute dump targets over multiple destination directories.
+ * <p>
+ * Each dump target is placed into one of the destination directories, so that the dump files can be written onto
+ * several volumes in parallel.
+ * </p>
+ * @since 1.17.0
+ */
+public enum DestinationPolicy {
+
+    /**
+     * Assigns dump targets to the destination directories in turn.
+     */
+    ROUND_ROBIN("round-robin"), //$NON-NLS-1$
+
+    /**
+     * Assigns dump targets to the destination directories in proportion to their usable space.
+     */
+    FREE_SPACE("free-space"), //$NON-NLS-1$
+    ;
+
+    private final String symbol;
+
+    DestinationPolicy(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Returns the symbol of this policy.
+     * @return the symbol
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Returns the policy of the given symbol.
+     * @param symbol the symbol
+     * @return the corresponding policy, or empty if there is no such a policy
+     */
+    public static Optional<DestinationPolicy> fromSymbol(@Nonnull String symbol) {
+        Objects.requireNonNull(symbol);
+        var normalized = symbol.toLowerCase(Locale.ENGLISH);
+        for (var policy : values()) {
+            if (policy.symbol.equals(normalized)) {
+                return Optional.of(policy);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Moves the individual dump targets into the destination directories.
+     * <p>
+     * The destination of each target is replaced with the same name under the selected destination directory.
+     * </p>
+     * @param targets the dump targets, which destinations must have distinct names
+     * @param destinations the destination directories
+     * @return the relocated dump targets, in the same order of {@code targets}
+     * @throws IOException if I/O error was occurred while inspecting the destination directories
+     * @throws IllegalArgumentException if {@code destinations} is empty
+     */
+    public List<DumpTarget> assign(
+            @Nonnull List<DumpTarget> targets,
+            @Nonnull List<Path> destinations) throws IOException {
+        Objects.requireNonNull(targets);
+        Objects.requireNonNull(destinations);
+        var weights = new long[destinations.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = this == FREE_SPACE ? Files.getFileStore(destinations.get(i)).getUsableSpace() : 1;
+        }
+        return assign(targets, destinations, weights);
+    }
+
+    List<DumpTarget> assign(List<DumpTarget> targets, List<Path> destinations, long[] weights) {
+        if (destinations.isEmpty()) {
+            throw new IllegalArgumentException("destinations must not be empty"); //$NON-NLS-1$
+        }
+        var counts = new int[destinations.size()];
+        var results = new ArrayList<DumpTarget>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            int index = this == ROUND_ROBIN ? i % counts.length : selectWeighted(weights, counts);
+            counts[index]++;
+            var target = targets.get(i);
+            var name = target.getDestination().getFileName();
+            Objects.requireNonNull(name);
+            results.add(new DumpTarget(
+                    target.getTargetType(),
+                    target.getLabel(),
+                    target.getTarget(),
+                    destinations.get(index).resolve(name.toString())));
+        }
+        return results;
+    }
+
+    private static int selectWeighted(long[] weights, int[] counts) {
+        // choose the directory which has the largest weight per assigned target
+        int result = 0;
+        double best = -1;
+        for (int i = 0; i < weights.length; i++) {
+            double score = (double) weights[i] / (counts[i] + 1);
+            if (score > best) {
+                best = score;
+                result = i;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import java.nio.file.Path;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.tsurugidb.tools.tgdump.core.model.DumpTarget;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events of dump operations.
+ *
+ * <p>
+ * The events are recorded only while a flight recording is running with them enabled, for example,
+ * {@code -XX:StartFlightRecording} or {@code jcmd <pid> JFR.start}.
+ * Otherwise, the event objects are never committed and their attributes are never computed.
+ * </p>
+ * @since 1.17.0
+ */
+final class DumpEvents {
+
+    private static final String PREFIX = "com.tsurugidb.tgdump."; //$NON-NLS-1$
+
+    @Category({ "Tsurugi", "tgdump" })
+    @StackTrace(false)
+    abstract static class DumpEvent extends Event {
+
+        @Label("Target")
+        @Description("the table name or query label")
+        String target;
+
+        @Label("Target Type")
+        String targetType;
+
+        void setTarget(@Nonnull DumpTarget value) {
+            this.target = value.getLabel();
+            this.targetType = value.getTargetType().name();
+        }
+    }
+
+    /**
+     * Inspects a dump target before starting the transaction.
+     */
+    @Name(PREFIX + "Register")
+    @Label("Register Dump Target")
+    @Description("Inspects a dump target before starting the transaction.")
+    static final class Register extends DumpEvent {
+
+        void finish(@Nonnull DumpTarget dumpTarget) {
+            end();
+            if (shouldCommit()) {
+                setTarget(dumpTarget);
+                commit();
+            }
+        }
+    }
+
+    /**
+     * Starts the dump transaction.
+     */
+    @Name(PREFIX + "Begin")
+    @Label("Begin Transaction")
+    @Description("Starts the dump transaction.")
+    @Category({ "Tsurugi", "tgdump" })
+    @StackTrace(false)
+    static final class Begin extends Event {
+
+        @Label("Transaction ID")
+        String transactionId;
+
+        @Label("Table Count")
+        @Description("the number of tables read in the transaction")
+        int tableCount;
+
+        void finish(@Nonnull Transaction transaction, int tables) {
+            end();
+            if (shouldCommit()) {
+                this.transactionId = transaction.getTransactionId();
+                this.tableCount = tables;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * Executes the dump operation for a target, until all dump files are retrieved.
+     */
+    @Name(PREFIX + "ExecuteDump")
+    @Label("Execute Dump")
+    @Description("Executes the dump operation for a target, until all dump files are retrieved.")
+    static final class ExecuteDump extends DumpEvent {
+
+        @Label("Transaction ID")
+        String transactionId;
+
+        @Label("File Count")
+        long fileCount;
+
+        void finish(@Nonnull DumpTarget dumpTarget, @Nonnull Transaction transaction, long files) {
+            end();
+            if (shouldCommit()) {
+                setTarget(dumpTarget);
+                this.transactionId = transaction.getTransactionId();
+                this.fileCount = files;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * Waits for a dump file, since the dump operation was started or the previous file was retrieved.
+     */
+    @Name(PREFIX + "DumpFile")
+    @Label("Dump File")
+    @Description("Waits for a dump file, since the dump operation was started or the previous file was retrieved.")
+    static final class DumpFile extends DumpEvent {
+
+        @Label("Transaction ID")
+        String transactionId;
+
+        @Label("File")
+        String file;
+
+        void finish(@Nonnull DumpTarget dumpTarget, @Nonnull Transaction transaction, @Nullable Path path) {
+            end();
+            if (shouldCommit()) {
+                setTarget(dumpTarget);
+                this.transactionId = transaction.getTransactionId();
+                this.file = String.valueOf(path);
+                commit();
+            }
+        }
+    }
+
+    /**
+     * Commits the dump transaction.
+     */
+    @Name(PREFIX + "Commit")
+    @Label("Commit Transaction")
+    @Description("Commits the dump transaction.")
+    @Category({ "Tsurugi", "tgdump" })
+    @StackTrace(false)
+    static final class Commit extends Event {
+
+        @Label("Transaction ID")
+        String transactionId;
+
+        void finish(@Nonnull Transaction transaction) {
+            end();
+            if (shouldCommit()) {
+                this.transactionId = transaction.getTransactionId();
+                commit();
+            }
+        }
+    }
+
+    private DumpEvents() {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tools.common.monitoring.MonitoringDiagnosticCode;
+import com.tsurugidb.tools.common.monitoring.MonitoringException;
+import com.tsurugidb.tsubakuro.sql.TableMetadata;
+
+/**
+ * An implementation of {@link DumpMonitor} which applies {@link DumpFileProcessor}s to the individual dump files.
+ * <p>
+ * Each dump file is processed on a bounded thread pool as soon as it was reported, so that the processing overlaps
+ * with the rest of dump operations. If the pool is saturated, the dump operation thread which reported the file
+ * processes it by itself.
+ * </p>
+ * <p>
+ * The events are forwarded to the downstream monitor: {@link #onDumpFile(String, Path)} is forwarded with the
+ * processed file after all processors were applied, and {@link #onDumpFinish(String, Path)} is deferred until all
+ * dump files of the target were processed.
+ * </p>
+ * <p>
+ * If any processor failed, the subsequent events and {@link #close()} raise the error.
+ * {@link #close()} must be called after the dump operation, to wait for the all pending files.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ * @since 1.17.0
+ */
+public class DumpFilePipeline implements DumpMonitor, Closeable {
+
+    static final Logger LOG = LoggerFactory.getLogger(DumpFilePipeline.class);
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 4;
+
+    private static final class Target {
+
+        int pending;
+
+        Path finished;
+    }
+
+    private final List<DumpFileProcessor> processors;
+
+    private final DumpMonitor downstream;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, Target> targets = new HashMap<>();
+
+    private Throwable failure;
+
+    /**
+     * Creates a new instance.
+     * @param processors the processors to apply in order
+     * @param downstream the downstream monitor
+     * @param numberOfThreads the number of processing threads
+     * @throws IllegalArgumentException if {@code numberOfThreads} is less than {@code 1}
+     */
+    public DumpFilePipeline(
+            @Nonnull List<? extends DumpFileProcessor> processors,
+            @Nonnull DumpMonitor downstream,
+            int numberOfThreads) {
+        Objects.requireNonNull(processors);
+        Objects.requireNonNull(downstream);
+        if (numberOfThreads < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "the number of processing threads must be >= 1 (specified: %d)", //$NON-NLS-1$
+                    numberOfThreads));
+        }
+        this.processors = List.copyOf(processors);
+        this.downstream = downstream;
+        var counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                numberOfThreads, numberOfThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(numberOfThreads * QUEUE_CAPACITY_PER_THREAD),
+                r -> {
+                    var thread = new Thread(r, String.format(
+                            "dump-file-pipeline-%d", //$NON-NLS-1$
+                            counter.incrementAndGet()));
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public void verbose(@Nonnull String format, @Nonnull Object... arguments) throws MonitoringException {
+        downstream.verbose(format, arguments);
+    }
+
+    @Override
+    public void onConnect(@Nonnull URI endpoint) throws MonitoringException {
+        downstream.onConnect(endpoint);
+    }
+
+    @Override
+    public void onDumpInfo(@Nonnull String tableName, @Nonnull TableMetadata tableInfo, @Nonnull Path dumpDirectory)
+            throws MonitoringException {
+        checkFailure();
+        downstream.onDumpInfo(tableName, tableInfo, dumpDirectory);
+    }
+
+    @Override
+    public void onDumpInfo(@Nonnull String label, @Nonnull String query, @Nonnull Path dumpDirectory)
+            throws MonitoringException {
+        checkFailure();
+        downstream.onDumpInfo(label, query, dumpDirectory);
+    }
+
+    @Override
+    public void onDumpStart(@Nonnull String tableName, @Nonnull Path dumpDirectory) throws MonitoringException {
+        checkFailure();
+        downstream.onDumpStart(tableName, dumpDirectory);
+    }
+
+    @Override
+    public void onDumpFile(@Nonnull String tableName, @Nonnull Path dumpFile) throws MonitoringException {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(dumpFile);
+        checkFailure();
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("dump file pipeline is already closed"); //$NON-NLS-1$
+        }
+        synchronized (this) {
+            targets.computeIfAbsent(tableName, k -> new Target()).pending++;
+        }
+        executor.execute(() -> process(tableName, dumpFile));
+    }
+
+    @Override
+    public void onDumpFinish(@Nonnull String tableName, @Nonnull Path dumpDirectory) throws MonitoringException {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(dumpDirectory);
+        checkFailure();
+        synchronized (this) {
+            var target = targets.computeIfAbsent(tableName, k -> new Target());
+            if (target.pending > 0) {
+                LOG.debug("deferring dump finish until its files are processed: {}", tableName); //$NON-NLS-1$
+                target.finished = dumpDirectory;
+                return;
+            }
+        }
+        downstream.onDumpFinish(tableName, dumpDirectory);
+    }
+
+    private void process(String tableName, Path dumpFile) {
+        try {
+            Path current = dumpFile;
+            for (var processor : processors) {
+                current = processor.process(tableName, current);
+            }
+            downstream.onDumpFile(tableName, current);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(tableName, dumpFile, e);
+        } catch (Exception e) {
+            fail(tableName, dumpFile, e);
+        }
+        Path finished = null;
+        synchronized (this) {
+            var target = targets.get(tableName);
+            target.pending--;
+            if (target.pending == 0) {
+                finished = target.finished;
+                target.finished = null;
+            }
+        }
+        if (finished != null) {
+            try {
+                downstream.onDumpFinish(tableName, finished);
+            } catch (MonitoringException e) {
+                fail(tableName, finished, e);
+            }
+        }
+    }
+
+    private synchronized void fail(String tableName, Path dumpFile, Throwable cause) {
+        LOG.debug("error occurred while processing dump file: {} ({})", dumpFile, tableName, cause); //$NON-NLS-1$
+        if (failure == null) {
+            failure = cause;
+        } else {
+            failure.addSuppressed(cause);
+        }
+    }
+
+    private synchronized void checkFailure() throws MonitoringException {
+        if (failure != null) {
+            throw new MonitoringException(MonitoringDiagnosticCode.OUTPUT_ERROR,
+                    List.of(failure.toString()),
+                    failure);
+        }
+    }
+
+    /**
+     * Waits for the all pending dump files were processed, and then shuts down the processing threads.
+     * @throws IOException if error was occurred while processing the dump files
+     */
+    @Override
+    public void close() throws IOException {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                LOG.debug("waiting for dump files are processed: {}", executor.getQueue().size()); //$NON-NLS-1$
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            var error = new InterruptedIOException("interrupted while processing dump files"); //$NON-NLS-1$
+            error.initCause(e);
+            throw error;
+        }
+        synchronized (this) {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure != null) {
+                throw new IOException(failure.toString(), failure);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DumpFilePipeline(processors=%s)", processors); //$NON-NLS-1$
+    }
+}
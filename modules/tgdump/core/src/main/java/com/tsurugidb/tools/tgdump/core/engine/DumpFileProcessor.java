@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Processes individual dump files after they were written.
+ * <p>
+ * Implementations must be thread-safe, because {@link DumpFilePipeline} may process several files at once.
+ * </p>
+ * @see DumpFilePipeline
+ * @since 1.17.0
+ */
+@FunctionalInterface
+public interface DumpFileProcessor {
+
+    /**
+     * Processes the dump file.
+     * @param tableName the target table name, or query label
+     * @param dumpFile the dump file path
+     * @return the processed file path, which the next processor receives;
+     *      this may be the same as {@code dumpFile}
+     * @throws IOException if I/O error was occurred while processing the file
+     * @throws InterruptedException if interrupted while processing the file
+     */
+    @Nonnull
+    Path process(@Nonnull String tableName, @Nonnull Path dumpFile) throws IOException, InterruptedException;
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.tsurugidb.tsubakuro.sql.TableMetadata;
+
+/**
+ * An implementation of {@link DumpMonitor} which records where the individual dump files were placed.
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ * @since 1.17.0
+ */
+public class DumpManifest implements DumpMonitor {
+
+    static final Logger LOG = LoggerFactory.getLogger(DumpManifest.class);
+
+    /**
+     * The default file name of manifest files.
+     */
+    public static final String FILE_NAME = "tgdump-manifest.json"; //$NON-NLS-1$
+
+    /**
+     * The manifest field of the destination directories.
+     */
+    public static final String FIELD_DESTINATIONS = "destinations"; //$NON-NLS-1$
+
+    /**
+     * The manifest field of the destination policy.
+     */
+    public static final String FIELD_POLICY = "policy"; //$NON-NLS-1$
+
+    /**
+     * The manifest field of the dump targets.
+     */
+    public static final String FIELD_TARGETS = "targets"; //$NON-NLS-1$
+
+    /**
+     * The manifest field of the target name.
+     */
+    public static final String FIELD_TARGET = "target"; //$NON-NLS-1$
+
+    /**
+     * The manifest field of the target destination directory.
+     */
+    public static final String FIELD_DESTINATION = "destination"; //$NON-NLS-1$
+
+    /**
+     * The manifest field of the dump files.
+     */
+    public static final String FIELD_FILES = "files"; //$NON-NLS-1$
+
+    private static final class Entry {
+
+        final Path destination;
+
+        final List<Path> files = new ArrayList<>();
+
+        Entry(Path destination) {
+            this.destination = destination;
+        }
+    }
+
+    private final List<Path> destinations;
+
+    private final DestinationPolicy policy;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Creates a new instance.
+     * @param destinations the destination directories
+     * @param policy the destination policy
+     */
+    public DumpManifest(@Nonnull List<Path> destinations, @Nonnull DestinationPolicy policy) {
+        Objects.requireNonNull(destinations);
+        Objects.requireNonNull(policy);
+        this.destinations = List.copyOf(destinations);
+        this.policy = policy;
+    }
+
+    @Override
+    public void onDumpInfo(@Nonnull String tableName, @Nonnull TableMetadata tableInfo, @Nonnull Path dumpDirectory) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(tableInfo);
+        Objects.requireNonNull(dumpDirectory);
+        register(tableName, dumpDirectory);
+    }
+
+    @Override
+    public void onDumpInfo(@Nonnull String label, @Nonnull String query, @Nonnull Path dumpDirectory) {
+        Objects.requireNonNull(label);
+        Objects.requireNonNull(query);
+        Objects.requireNonNull(dumpDirectory);
+        register(label, dumpDirectory);
+    }
+
+    private synchronized Entry register(String name, Path dumpDirectory) {
+        return entries.computeIfAbsent(name, k -> new Entry(dumpDirectory));
+    }
+
+    @Override
+    public void onDumpStart(@Nonnull String tableName, @Nonnull Path dumpDirectory) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(dumpDirectory);
+        register(tableName, dumpDirectory);
+    }
+
+    @Override
+    public synchronized void onDumpFile(@Nonnull String tableName, @Nonnull Path dumpFile) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(dumpFile);
+        var parent = dumpFile.getParent();
+        register(tableName, parent == null ? dumpFile : parent).files.add(dumpFile);
+    }
+
+    @Override
+    public void onDumpFinish(@Nonnull String tableName, @Nonnull Path dumpDirectory) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(dumpDirectory);
+        register(tableName, dumpDirectory);
+    }
+
+    /**
+     * Writes the manifest into the given file.
+     * @param file the destination file
+     * @throws IOException if I/O error was occurred while writing the manifest
+     */
+    public synchronized void write(@Nonnull Path file) throws IOException {
+        Objects.requireNonNull(file);
+        LOG.debug("writing dump manifest: {}", file); //$NON-NLS-1$
+        try (var generator = new JsonFactory().createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(FIELD_DESTINATIONS);
+            for (var destination : destinations) {
+                generator.writeString(destination.toString());
+            }
+            generator.writeEndArray();
+            generator.writeStringField(FIELD_POLICY, policy.getSymbol());
+            generator.writeArrayFieldStart(FIELD_TARGETS);
+            for (var entry : entries.entrySet()) {
+                generator.writeStartObject();
+                generator.writeStringField(FIELD_TARGET, entry.getKey());
+                generator.writeStringField(FIELD_DESTINATION, entry.getValue().destination.toString());
+                generator.writeArrayFieldStart(FIELD_FILES);
+                for (var dumpFile : entry.getValue().files) {
+                    generator.writeString(dumpFile.toString());
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("DumpManifest(destinations=%s, policy=%s, targets=%d)", //$NON-NLS-1$
+                destinations, policy.getSymbol(), entries.size());
+    }
+}
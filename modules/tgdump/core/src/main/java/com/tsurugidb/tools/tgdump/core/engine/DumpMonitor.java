@@ -15,6 +15,7 @@
  */
 package com.tsurugidb.tools.tgdump.core.engine;
 
+import java.net.URI;
 import java.nio.file.Path;
 import java.util.Objects;
 
@@ -39,6 +40,16 @@ public interface DumpMonitor {
         Objects.requireNonNull(arguments);
     }
 
+    /**
+     * Invoked when the connection to the database was established.
+     * @param endpoint the endpoint URI which the connection was actually established to
+     * @throws MonitoringException if error was occurred while monitoring the event
+     * @since 1.17.0
+     */
+    default void onConnect(@Nonnull URI endpoint) throws MonitoringException {
+        Objects.requireNonNull(endpoint);
+    }
+
     /**
      * Invoked when a target dump table information was provided.
      * @param tableName the target table name
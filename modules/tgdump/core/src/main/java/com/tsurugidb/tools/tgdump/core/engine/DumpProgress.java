@@ -0,0 +1,407 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tsubakuro.sql.TableMetadata;
+
+/**
+ * An implementation of {@link DumpMonitor} which tracks the progress of individual dump targets.
+ * <p>
+ * This tracks the number and the total size of dump files, and the elapsed time for each dump target and for the
+ * whole dump operation. The size of each dump file is obtained when it is reported in
+ * {@link #onDumpFile(String, Path)}, so that this should be placed before the other monitors which refer this
+ * progress.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ * @since 1.17.0
+ */
+public class DumpProgress implements DumpMonitor {
+
+    static final Logger LOG = LoggerFactory.getLogger(DumpProgress.class);
+
+    /**
+     * The progress of individual dump targets.
+     */
+    public static final class Target {
+
+        private final String name;
+
+        private final long files;
+
+        private final long bytes;
+
+        private final long elapsedNanos;
+
+        private final boolean started;
+
+        private final boolean finished;
+
+        Target(String name, long files, long bytes, long elapsedNanos, boolean started, boolean finished) {
+            this.name = name;
+            this.files = files;
+            this.bytes = bytes;
+            this.elapsedNanos = elapsedNanos;
+            this.started = started;
+            this.finished = finished;
+        }
+
+        /**
+         * Returns the target name.
+         * @return the target name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the number of dump files.
+         * @return the number of dump files
+         */
+        public long getFiles() {
+            return files;
+        }
+
+        /**
+         * Returns the total size of dump files.
+         * @return the total size in bytes
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Returns the elapsed time since the dump operation was started.
+         * @return the elapsed time, or the total time if it was already finished
+         */
+        public Duration getElapsed() {
+            return Duration.ofNanos(elapsedNanos);
+        }
+
+        /**
+         * Returns whether or not the dump operation was started.
+         * @return {@code true} if it was started, otherwise {@code false}
+         */
+        public boolean isStarted() {
+            return started;
+        }
+
+        /**
+         * Returns whether or not the dump operation was finished.
+         * @return {@code true} if it was finished, otherwise {@code false}
+         */
+        public boolean isFinished() {
+            return finished;
+        }
+
+        /**
+         * Returns the throughput of the dump operation.
+         * @return the throughput in bytes per second
+         */
+        public double getBytesPerSecond() {
+            return DumpProgress.getBytesPerSecond(bytes, elapsedNanos);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "Target(name=%s, files=%,d, bytes=%,d, elapsed=%s, finished=%s)", //$NON-NLS-1$
+                    name, files, bytes, getElapsed(), finished);
+        }
+    }
+
+    private static final class State {
+
+        final String name;
+
+        long files;
+
+        long bytes;
+
+        long startedAt = -1;
+
+        long finishedAt = -1;
+
+        State(String name) {
+            this.name = name;
+        }
+
+        Target toTarget(long now) {
+            long elapsed;
+            if (startedAt < 0) {
+                elapsed = 0;
+            } else if (finishedAt < 0) {
+                elapsed = now - startedAt;
+            } else {
+                elapsed = finishedAt - startedAt;
+            }
+            return new Target(name, files, bytes, elapsed, startedAt >= 0, finishedAt >= 0);
+        }
+    }
+
+    private final LongSupplier clock;
+
+    private final long createdAt;
+
+    private final Map<String, State> targets = new LinkedHashMap<>();
+
+    private long lastFileAt = -1;
+
+    /**
+     * Creates a new instance.
+     */
+    public DumpProgress() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a new instance.
+     * @param clock the nanosecond clock
+     */
+    DumpProgress(@Nonnull LongSupplier clock) {
+        Objects.requireNonNull(clock);
+        this.clock = clock;
+        this.createdAt = clock.getAsLong();
+    }
+
+    @Override
+    public void onDumpInfo(@Nonnull String tableName, @Nonnull TableMetadata tableInfo, @Nonnull Path dumpDirectory) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(tableInfo);
+        Objects.requireNonNull(dumpDirectory);
+        register(tableName);
+    }
+
+    @Override
+    public void onDumpInfo(@Nonnull String label, @Nonnull String query, @Nonnull Path dumpDirectory) {
+        Objects.requireNonNull(label);
+        Objects.requireNonNull(query);
+        Objects.requireNonNull(dumpDirectory);
+        register(label);
+    }
+
+    private synchronized State register(String name) {
+        return targets.computeIfAbsent(name, State::new);
+    }
+
+    @Override
+    public void onDumpStart(@Nonnull String tableName, @Nonnull Path dumpDirectory) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(dumpDirectory);
+        long now = clock.getAsLong();
+        synchronized (this) {
+            register(tableName).startedAt = now;
+        }
+    }
+
+    @Override
+    public void onDumpFile(@Nonnull String tableName, @Nonnull Path dumpFile) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(dumpFile);
+        long size = 0;
+        try {
+            size = Files.size(dumpFile);
+        } catch (IOException e) {
+            LOG.debug("cannot obtain dump file size: {}", dumpFile, e); //$NON-NLS-1$
+        }
+        long now = clock.getAsLong();
+        synchronized (this) {
+            var state = register(tableName);
+            state.files++;
+            state.bytes += size;
+            lastFileAt = now;
+        }
+    }
+
+    @Override
+    public void onDumpFinish(@Nonnull String tableName, @Nonnull Path dumpDirectory) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(dumpDirectory);
+        long now = clock.getAsLong();
+        synchronized (this) {
+            register(tableName).finishedAt = now;
+        }
+    }
+
+    /**
+     * Returns the progress of the individual dump target.
+     * @param name the target name
+     * @return the progress, or empty if there is no such a target
+     */
+    public synchronized Optional<Target> findTarget(@Nonnull String name) {
+        Objects.requireNonNull(name);
+        long now = clock.getAsLong();
+        return Optional.ofNullable(targets.get(name)).map(it -> it.toTarget(now));
+    }
+
+    /**
+     * Returns the progress of all dump targets, in registration order.
+     * @return the progress of individual dump targets
+     */
+    public synchronized List<Target> getTargets() {
+        long now = clock.getAsLong();
+        var results = new ArrayList<Target>(targets.size());
+        for (var state : targets.values()) {
+            results.add(state.toTarget(now));
+        }
+        return results;
+    }
+
+    /**
+     * Returns the number of registered dump targets.
+     * @return the number of targets
+     */
+    public synchronized int getTargetCount() {
+        return targets.size();
+    }
+
+    /**
+     * Returns the number of finished dump targets.
+     * @return the number of finished targets
+     */
+    public synchronized int getFinishedTargetCount() {
+        return (int) targets.values().stream().filter(it -> it.finishedAt >= 0).count();
+    }
+
+    /**
+     * Returns the total number of dump files.
+     * @return the number of dump files
+     */
+    public synchronized long getFiles() {
+        return targets.values().stream().mapToLong(it -> it.files).sum();
+    }
+
+    /**
+     * Returns the total size of dump files.
+     * @return the total size in bytes
+     */
+    public synchronized long getBytes() {
+        return targets.values().stream().mapToLong(it -> it.bytes).sum();
+    }
+
+    /**
+     * Returns the elapsed time since this progress was created.
+     * @return the elapsed time
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(clock.getAsLong() - createdAt);
+    }
+
+    /**
+     * Returns the overall throughput of the dump operation.
+     * @return the throughput in bytes per second
+     */
+    public double getBytesPerSecond() {
+        return getBytesPerSecond(getBytes(), clock.getAsLong() - createdAt);
+    }
+
+    /**
+     * Returns the elapsed time since the last dump file was reported.
+     * @return the elapsed time, or empty if no dump files are reported
+     */
+    public synchronized Optional<Duration> getIdle() {
+        if (lastFileAt < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofNanos(clock.getAsLong() - lastFileAt));
+    }
+
+    /**
+     * Returns the estimated remaining time of the whole dump operation.
+     * <p>
+     * This is estimated from the ratio of the finished dump targets, and is only available after at least one of
+     * the targets was finished.
+     * </p>
+     * @return the estimated remaining time, or empty if it is not available
+     */
+    public synchronized Optional<Duration> getEstimatedRemaining() {
+        int total = targets.size();
+        int finished = getFinishedTargetCount();
+        if (finished == 0) {
+            return Optional.empty();
+        }
+        if (finished >= total) {
+            return Optional.of(Duration.ZERO);
+        }
+        long elapsed = clock.getAsLong() - createdAt;
+        double remaining = (double) elapsed * (total - finished) / finished;
+        return Optional.of(Duration.ofNanos((long) remaining));
+    }
+
+    static double getBytesPerSecond(long bytes, long elapsedNanos) {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return bytes * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns the human readable size.
+     * @param bytes the size in bytes
+     * @return the size in megabytes
+     */
+    public static String formatSize(long bytes) {
+        return String.format("%.1fMB", bytes / 1e6); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns the human readable throughput.
+     * @param bytesPerSecond the throughput in bytes per second
+     * @return the throughput in megabytes per second
+     */
+    public static String formatRate(double bytesPerSecond) {
+        return String.format("%.1fMB/s", bytesPerSecond / 1e6); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns the human readable duration.
+     * @param duration the duration, or {@code null} if it is unknown
+     * @return the duration as {@code hh:mm:ss}
+     */
+    public static String formatDuration(@Nullable Duration duration) {
+        if (duration == null) {
+            return "-"; //$NON-NLS-1$
+        }
+        long seconds = duration.getSeconds();
+        return String.format("%02d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60); //$NON-NLS-1$
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "DumpProgress(targets=%d/%d, files=%,d, bytes=%,d)", //$NON-NLS-1$
+                getFinishedTargetCount(), getTargetCount(), getFiles(), getBytes());
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tools.common.metrics.Counter;
+import com.tsurugidb.tools.common.metrics.Histogram;
+import com.tsurugidb.tools.common.metrics.MetricsRegistry;
+import com.tsurugidb.tsubakuro.sql.TableMetadata;
+
+/**
+ * An implementation of {@link DumpMonitor} which records dump operations into {@link MetricsRegistry}.
+ * @since 1.17.0
+ */
+public class MetricsDumpMonitor implements DumpMonitor {
+
+    static final Logger LOG = LoggerFactory.getLogger(MetricsDumpMonitor.class);
+
+    /**
+     * The metric name of the number of registered dump targets.
+     */
+    public static final String METRIC_TARGETS_REGISTERED = "tgdump_targets_registered_total"; //$NON-NLS-1$
+
+    /**
+     * The metric name of the number of started dump targets.
+     */
+    public static final String METRIC_TARGETS_STARTED = "tgdump_targets_started_total"; //$NON-NLS-1$
+
+    /**
+     * The metric name of the number of finished dump targets.
+     */
+    public static final String METRIC_TARGETS_FINISHED = "tgdump_targets_finished_total"; //$NON-NLS-1$
+
+    /**
+     * The metric name of the number of running dump targets.
+     */
+    public static final String METRIC_TARGETS_RUNNING = "tgdump_targets_running"; //$NON-NLS-1$
+
+    /**
+     * The metric name of the number of dump files.
+     */
+    public static final String METRIC_DUMP_FILES = "tgdump_dump_files_total"; //$NON-NLS-1$
+
+    /**
+     * The metric name of the total size of dump files.
+     */
+    public static final String METRIC_DUMP_FILE_BYTES = "tgdump_dump_file_bytes_total"; //$NON-NLS-1$
+
+    /**
+     * The metric name of the elapsed time of individual dump targets.
+     */
+    public static final String METRIC_TARGET_DURATION = "tgdump_target_duration_seconds"; //$NON-NLS-1$
+
+    private final Counter targetsRegistered;
+
+    private final Counter targetsStarted;
+
+    private final Counter targetsFinished;
+
+    private final Counter dumpFiles;
+
+    private final Counter dumpFileBytes;
+
+    private final Histogram targetDuration;
+
+    private final Map<String, Long> running = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     * @param registry the destination metrics registry
+     */
+    public MetricsDumpMonitor(@Nonnull MetricsRegistry registry) {
+        Objects.requireNonNull(registry);
+        this.targetsRegistered = registry.counter(METRIC_TARGETS_REGISTERED,
+                "The number of registered dump targets"); //$NON-NLS-1$
+        this.targetsStarted = registry.counter(METRIC_TARGETS_STARTED,
+                "The number of started dump targets"); //$NON-NLS-1$
+        this.targetsFinished = registry.counter(METRIC_TARGETS_FINISHED,
+                "The number of finished dump targets"); //$NON-NLS-1$
+        registry.gauge(METRIC_TARGETS_RUNNING,
+                "The number of running dump targets", //$NON-NLS-1$
+                () -> running.size());
+        this.dumpFiles = registry.counter(METRIC_DUMP_FILES,
+                "The number of created dump files"); //$NON-NLS-1$
+        this.dumpFileBytes = registry.counter(METRIC_DUMP_FILE_BYTES,
+                "The total size of created dump files in bytes"); //$NON-NLS-1$
+        this.targetDuration = registry.histogram(METRIC_TARGET_DURATION,
+                "The elapsed time of individual dump targets"); //$NON-NLS-1$
+    }
+
+    @Override
+    public void onDumpInfo(@Nonnull String tableName, @Nonnull TableMetadata tableInfo, @Nonnull Path dumpDirectory) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(tableInfo);
+        Objects.requireNonNull(dumpDirectory);
+        targetsRegistered.increment();
+    }
+
+    @Override
+    public void onDumpInfo(@Nonnull String label, @Nonnull String query, @Nonnull Path dumpDirectory) {
+        Objects.requireNonNull(label);
+        Objects.requireNonNull(query);
+        Objects.requireNonNull(dumpDirectory);
+        targetsRegistered.increment();
+    }
+
+    @Override
+    public void onDumpStart(@Nonnull String tableName, @Nonnull Path dumpDirectory) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(dumpDirectory);
+        targetsStarted.increment();
+        running.put(tableName, System.nanoTime());
+    }
+
+    @Override
+    public void onDumpFile(@Nonnull String tableName, @Nonnull Path dumpFile) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(dumpFile);
+        dumpFiles.increment();
+        try {
+            dumpFileBytes.add(Files.size(dumpFile));
+        } catch (IOException e) {
+            LOG.debug("cannot obtain dump file size: {}", dumpFile, e); //$NON-NLS-1$
+        }
+    }
+
+    @Override
+    public void onDumpFinish(@Nonnull String tableName, @Nonnull Path dumpDirectory) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(dumpDirectory);
+        targetsFinished.increment();
+        var started = running.remove(tableName);
+        if (started != null) {
+            targetDuration.record(System.nanoTime() - started);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsDumpMonitor()"; //$NON-NLS-1$
+    }
+}
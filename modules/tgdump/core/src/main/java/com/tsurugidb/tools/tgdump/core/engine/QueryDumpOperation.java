@@ -93,9 +93,12 @@ class QueryDumpOperation implements DumpOperation {
             return;
         }
         monitor.verbose("validating query: {0} ({1})", label, target.getDestination()); //$NON-NLS-1$
+        var event = new DumpEvents.Register();
+        event.begin();
         try (var prepared = client.prepare(statement, List.of()).await()) {
             // NOTE: we don't keep the prepared SQL statement to simplify the server-side resource management
             registered.add(statement);
+            event.finish(target);
             monitor.onDumpInfo(label, statement, target.getDestination());
         } catch (CompileException e) {
             LOG.debug("exception was occurred in prepare", e); //$NON-NLS-1$
@@ -144,6 +147,9 @@ class QueryDumpOperation implements DumpOperation {
                 Files.createDirectories(target.getDestination());
             }
 
+            var executeEvent = new DumpEvents.ExecuteDump();
+            executeEvent.begin();
+            long fileCount = 0;
             try (var rs = transaction.executeDump(prepared, List.of(), target.getDestination(), dumpOptions).await()) {
                 monitor.verbose("start retrieving dump results: {0} ({1})", //$NON-NLS-1$
                         label, transaction.getTransactionId());
@@ -162,18 +168,25 @@ class QueryDumpOperation implements DumpOperation {
                             column,
                             SqlCommon.AtomType.CHARACTER));
                 }
+                var fileEvent = new DumpEvents.DumpFile();
+                fileEvent.begin();
                 while (rs.nextRow()) {
                     if (!rs.nextColumn()) {
                         throw new IllegalStateException("broken dump result (less columns in the result set)");
                     }
                     var file = Path.of(rs.fetchCharacterValue());
+                    fileEvent.finish(target, transaction, file);
+                    fileCount++;
                     monitor.onDumpFile(label, file);
+                    fileEvent = new DumpEvents.DumpFile();
+                    fileEvent.begin();
                 }
             } catch (ServerException e) {
                 LOG.debug("exception was occurred in execute", e); //$NON-NLS-1$
                 throw new DumpException(DumpDiagnosticCode.OPERATION_FAILURE,
                         List.of(label, statement), e);
             }
+            executeEvent.finish(target, transaction, fileCount);
             monitor.onDumpFinish(label, target.getDestination());
         } catch (IOException e) {
             LOG.debug("exception was occurred in execute", e); //$NON-NLS-1$
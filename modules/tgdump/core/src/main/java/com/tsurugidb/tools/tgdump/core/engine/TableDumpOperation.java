@@ -102,9 +102,12 @@ class TableDumpOperation implements DumpOperation {
             return;
         }
         monitor.verbose("inspecting dump table: {0} ({1})", table, target.getDestination()); //$NON-NLS-1$
+        var event = new DumpEvents.Register();
+        event.begin();
         try {
             var metadata = client.getTableMetadata(table).await();
             registered.put(table, metadata);
+            event.finish(target);
             monitor.onDumpInfo(table, metadata, target.getDestination());
         } catch (TargetNotFoundException e) {
             LOG.debug("exception was occurred in prepare", e); //$NON-NLS-1$
@@ -152,6 +155,9 @@ class TableDumpOperation implements DumpOperation {
                 Files.createDirectories(target.getDestination());
             }
 
+            var executeEvent = new DumpEvents.ExecuteDump();
+            executeEvent.begin();
+            long fileCount = 0;
             try (var rs = transaction.executeDump(prepared, List.of(), target.getDestination(), dumpOptions).await()) {
                 monitor.verbose("start retrieving dump results: {0} ({1})", //$NON-NLS-1$
                         table, transaction.getTransactionId());
@@ -170,18 +176,25 @@ class TableDumpOperation implements DumpOperation {
                             column,
                             SqlCommon.AtomType.CHARACTER));
                 }
+                var fileEvent = new DumpEvents.DumpFile();
+                fileEvent.begin();
                 while (rs.nextRow()) {
                     if (!rs.nextColumn()) {
                         throw new IllegalStateException("broken dump result (less columns in the result set)");
                     }
                     var file = Path.of(rs.fetchCharacterValue());
+                    fileEvent.finish(target, transaction, file);
+                    fileCount++;
                     monitor.onDumpFile(table, file);
+                    fileEvent = new DumpEvents.DumpFile();
+                    fileEvent.begin();
                 }
             } catch (ServerException e) {
                 LOG.debug("exception was occurred in execute", e); //$NON-NLS-1$
                 throw new DumpException(DumpDiagnosticCode.OPERATION_FAILURE,
                         List.of(table, statement), e);
             }
+            executeEvent.finish(target, transaction, fileCount);
             monitor.onDumpFinish(table, target.getDestination());
         } catch (IOException e) {
             LOG.debug("exception was occurred in execute", e); //$NON-NLS-1$
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.upload;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A minimal client of S3 compatible object storages, which only supports uploading objects.
+ * <p>
+ * This always uses path-style requests ({@code <endpoint>/<bucket>/<key>}), which are supported by most S3 compatible
+ * storages. Each request carries {@code Content-MD5} and {@code x-amz-content-sha256} so that the storage verifies the
+ * payload, and it is retried on I/O errors or on {@code 5xx}/{@code 429} responses.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+class S3Client {
+
+    static final Logger LOG = LoggerFactory.getLogger(S3Client.class);
+
+    private static final String SERVICE = "s3"; //$NON-NLS-1$
+
+    private static final Pattern PATTERN_UPLOAD_ID = Pattern.compile("<UploadId>([^<]+)</UploadId>"); //$NON-NLS-1$
+
+    private static final Pattern PATTERN_ERROR = Pattern.compile("<Error>"); //$NON-NLS-1$
+
+    private static final long RETRY_BASE_DELAY_MILLIS = 200;
+
+    private static final Duration TIMEOUT_CONNECT = Duration.ofSeconds(30);
+
+    private static final Duration TIMEOUT_REQUEST = Duration.ofMinutes(10);
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final S3UploadSettings settings;
+
+    private final SignatureV4 signer;
+
+    private final HttpClient http;
+
+    S3Client(@Nonnull S3UploadSettings settings) {
+        Objects.requireNonNull(settings);
+        this.settings = settings;
+        this.signer = new SignatureV4(
+                settings.getAccessKeyId(),
+                settings.getSecretAccessKey(),
+                settings.getRegion(),
+                SERVICE);
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT_CONNECT)
+                .build();
+    }
+
+    void putObject(@Nonnull String key, @Nonnull byte[] data, int length) throws IOException, InterruptedException {
+        send("PUT", key, Map.of(), data, length); //$NON-NLS-1$
+    }
+
+    String createMultipartUpload(@Nonnull String key) throws IOException, InterruptedException {
+        var response = send("POST", key, Map.of("uploads", ""), EMPTY, 0); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        var matcher = PATTERN_UPLOAD_ID.matcher(response.body());
+        if (!matcher.find()) {
+            throw new IOException(String.format("missing upload ID in response: %s", key)); //$NON-NLS-1$
+        }
+        return matcher.group(1);
+    }
+
+    String uploadPart(
+            @Nonnull String key,
+            @Nonnull String uploadId,
+            int partNumber,
+            @Nonnull byte[] data,
+            int length) throws IOException, InterruptedException {
+        var response = send("PUT", key, //$NON-NLS-1$
+                Map.of("partNumber", String.valueOf(partNumber), "uploadId", uploadId), //$NON-NLS-1$ //$NON-NLS-2$
+                data, length);
+        return response.headers().firstValue("ETag") //$NON-NLS-1$
+                .orElseThrow(() -> new IOException(String.format(
+                        "missing ETag in response: %s (part=%d)", //$NON-NLS-1$
+                        key, partNumber)));
+    }
+
+    void completeMultipartUpload(
+            @Nonnull String key,
+            @Nonnull String uploadId,
+            @Nonnull List<String> etags) throws IOException, InterruptedException {
+        var buf = new StringBuilder();
+        buf.append("<CompleteMultipartUpload>"); //$NON-NLS-1$
+        for (int i = 0; i < etags.size(); i++) {
+            buf.append("<Part><PartNumber>").append(i + 1).append("</PartNumber>"); //$NON-NLS-1$ //$NON-NLS-2$
+            buf.append("<ETag>").append(etags.get(i)).append("</ETag></Part>"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        buf.append("</CompleteMultipartUpload>"); //$NON-NLS-1$
+        var body = buf.toString().getBytes(StandardCharsets.UTF_8);
+        var response = send("POST", key, Map.of("uploadId", uploadId), body, body.length); //$NON-NLS-1$ //$NON-NLS-2$
+        // may return an error in the body with status 200
+        if (PATTERN_ERROR.matcher(response.body()).find()) {
+            throw new IOException(String.format(
+                    "failed to complete multipart upload: %s (%s)", //$NON-NLS-1$
+                    key, response.body()));
+        }
+    }
+
+    void abortMultipartUpload(@Nonnull String key, @Nonnull String uploadId) throws IOException, InterruptedException {
+        send("DELETE", key, Map.of("uploadId", uploadId), EMPTY, 0); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private HttpResponse<String> send(
+            String method,
+            String key,
+            Map<String, String> parameters,
+            byte[] data,
+            int length) throws IOException, InterruptedException {
+        var endpoint = settings.getEndpoint();
+        var path = endpoint.getRawPath() == null ? "" : endpoint.getRawPath(); //$NON-NLS-1$
+        while (path.endsWith("/")) { //$NON-NLS-1$
+            path = path.substring(0, path.length() - 1);
+        }
+        var canonicalUri = path + '/' + SignatureV4.encode(settings.getBucket(), true)
+                + '/' + SignatureV4.encode(key, false);
+        var canonicalQuery = SignatureV4.canonicalQuery(parameters);
+        var uri = URI.create(endpoint.getScheme() + "://" + endpoint.getRawAuthority() + canonicalUri //$NON-NLS-1$
+                + (canonicalQuery.isEmpty() ? "" : '?' + canonicalQuery)); //$NON-NLS-1$
+        var payloadHash = SignatureV4.hex(digest(SignatureV4.newSha256(), data, length));
+        var contentMd5 = length == 0 ? null : Base64.getEncoder().encodeToString(digest(newMd5(), data, length));
+
+        IOException last = null;
+        for (int attempt = 0; attempt <= settings.getMaxRetries(); attempt++) {
+            if (attempt > 0) {
+                long delay = RETRY_BASE_DELAY_MILLIS << Math.min(attempt - 1, 10);
+                LOG.debug("retrying request: {} {} (attempt={}, delay={}ms)", //$NON-NLS-1$
+                        method, uri, attempt, delay);
+                Thread.sleep(delay);
+            }
+            var request = buildRequest(method, uri, canonicalUri, canonicalQuery, payloadHash, contentMd5,
+                    data, length);
+            HttpResponse<String> response;
+            try {
+                response = http.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                LOG.debug("request failed: {} {}", method, uri, e); //$NON-NLS-1$
+                last = e;
+                continue;
+            }
+            int status = response.statusCode();
+            if (status / 100 == 2) {
+                return response;
+            }
+            var error = new IOException(String.format(
+                    "object storage returned error: %s %s (status=%d, body=%s)", //$NON-NLS-1$
+                    method, uri, status, response.body()));
+            if (status / 100 != 5 && status != 429) {
+                throw error;
+            }
+            LOG.debug("request failed: {} {} (status={})", method, uri, status); //$NON-NLS-1$
+            last = error;
+        }
+        throw Objects.requireNonNull(last);
+    }
+
+    private HttpRequest buildRequest(
+            String method, URI uri, String canonicalUri, String canonicalQuery,
+            String payloadHash, @Nullable String contentMd5,
+            byte[] data, int length) {
+        var time = Instant.now();
+        var headers = new TreeMap<String, String>();
+        headers.put("host", host(uri)); //$NON-NLS-1$
+        headers.put(SignatureV4.HEADER_DATE, SignatureV4.FORMAT_DATE_TIME.format(time));
+        headers.put(SignatureV4.HEADER_CONTENT_SHA256, payloadHash);
+        if (contentMd5 != null) {
+            headers.put("content-md5", contentMd5); //$NON-NLS-1$
+        }
+        var authorization = signer.authorize(method, canonicalUri, canonicalQuery, headers, payloadHash, time);
+        var builder = HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT_REQUEST)
+                .method(method, length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(data, 0, length))
+                .header("Authorization", authorization); //$NON-NLS-1$
+        for (var entry : headers.entrySet()) {
+            // "host" is a restricted header, and the HTTP client computes the same one
+            if (!entry.getKey().equals("host")) { //$NON-NLS-1$
+                builder.header(entry.getKey(), entry.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    private static String host(URI uri) {
+        int port = uri.getPort();
+        boolean defaultPort = port == -1
+                || (port == 80 && "http".equalsIgnoreCase(uri.getScheme())) //$NON-NLS-1$
+                || (port == 443 && "https".equalsIgnoreCase(uri.getScheme())); //$NON-NLS-1$
+        return defaultPort ? uri.getHost() : uri.getHost() + ':' + port;
+    }
+
+    private static byte[] digest(MessageDigest digest, byte[] data, int length) {
+        digest.update(data, 0, length);
+        return digest.digest();
+    }
+
+    private static MessageDigest newMd5() {
+        try {
+            return MessageDigest.getInstance("MD5"); //$NON-NLS-1$
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("S3Client(endpoint=%s, bucket=%s)", //$NON-NLS-1$
+                settings.getEndpoint(), settings.getBucket());
+    }
+}
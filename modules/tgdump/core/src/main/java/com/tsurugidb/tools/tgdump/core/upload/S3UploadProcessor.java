@@ -0,0 +1,373 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.upload;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.tsurugidb.tools.tgdump.core.engine.DumpFileProcessor;
+
+/**
+ * An implementation of {@link DumpFileProcessor} which uploads individual dump files to an S3 compatible object
+ * storage.
+ * <p>
+ * Files larger than {@link S3UploadSettings#getPartSize() the part size} are uploaded with multipart uploads, and
+ * their parts are uploaded in parallel. The part buffers are shared among all files, so that the memory is bounded by
+ * {@code part-size * max-concurrent-parts} regardless of how many files are uploaded at once.
+ * </p>
+ * <p>
+ * The object key of each file is its path relative to the destination directory, following the
+ * {@link S3UploadSettings#getPrefix() key prefix}. After all files were uploaded, {@link #writeManifest()} puts
+ * {@link #MANIFEST_NAME the manifest object}, which lists the uploaded objects with their SHA-256 digests.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ * @see com.tsurugidb.tools.tgdump.core.engine.DumpFilePipeline
+ * @since 1.17.0
+ */
+public class S3UploadProcessor implements DumpFileProcessor, Closeable {
+
+    static final Logger LOG = LoggerFactory.getLogger(S3UploadProcessor.class);
+
+    /**
+     * The object name of the upload manifest, which is placed just under the key prefix.
+     */
+    public static final String MANIFEST_NAME = "tgdump-upload-manifest.json"; //$NON-NLS-1$
+
+    /**
+     * The field name of the destination bucket in the manifest.
+     */
+    public static final String FIELD_BUCKET = "bucket"; //$NON-NLS-1$
+
+    /**
+     * The field name of the uploaded objects in the manifest.
+     */
+    public static final String FIELD_OBJECTS = "objects"; //$NON-NLS-1$
+
+    /**
+     * The field name of the target table name or query label in the manifest.
+     */
+    public static final String FIELD_TARGET = "target"; //$NON-NLS-1$
+
+    /**
+     * The field name of the object key in the manifest.
+     */
+    public static final String FIELD_KEY = "key"; //$NON-NLS-1$
+
+    /**
+     * The field name of the object size in bytes in the manifest.
+     */
+    public static final String FIELD_SIZE = "size"; //$NON-NLS-1$
+
+    /**
+     * The field name of the hex encoded SHA-256 digest of the object contents in the manifest.
+     */
+    public static final String FIELD_SHA256 = "sha256"; //$NON-NLS-1$
+
+    /**
+     * The field name of the number of uploaded parts in the manifest ({@code 0} if it was not a multipart upload).
+     */
+    public static final String FIELD_PARTS = "parts"; //$NON-NLS-1$
+
+    private static final class Entry {
+
+        final String target;
+
+        final String key;
+
+        final long size;
+
+        final String sha256;
+
+        final int parts;
+
+        Entry(String target, String key, long size, String sha256, int parts) {
+            this.target = target;
+            this.key = key;
+            this.size = size;
+            this.sha256 = sha256;
+            this.parts = parts;
+        }
+    }
+
+    private final S3UploadSettings settings;
+
+    private final List<Path> roots;
+
+    private final S3Client client;
+
+    private final ExecutorService partExecutor;
+
+    private final Semaphore bufferPermits;
+
+    private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a new instance.
+     * @param settings the upload settings
+     * @param roots the dump destination directories, which are used to compute the object keys
+     */
+    public S3UploadProcessor(@Nonnull S3UploadSettings settings, @Nonnull List<Path> roots) {
+        Objects.requireNonNull(settings);
+        Objects.requireNonNull(roots);
+        this.settings = settings;
+        this.roots = new ArrayList<>(roots.size());
+        for (var root : roots) {
+            this.roots.add(root.toAbsolutePath().normalize());
+        }
+        this.client = new S3Client(settings);
+        var counter = new AtomicInteger();
+        this.partExecutor = Executors.newFixedThreadPool(settings.getMaxConcurrentParts(), r -> {
+            var thread = new Thread(r, String.format("dump-upload-%d", counter.incrementAndGet())); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.bufferPermits = new Semaphore(settings.getMaxConcurrentParts());
+    }
+
+    @Override
+    public Path process(@Nonnull String tableName, @Nonnull Path dumpFile) throws IOException, InterruptedException {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(dumpFile);
+        var key = settings.getPrefix() + toRelativeKey(dumpFile);
+        long size = Files.size(dumpFile);
+        var digest = SignatureV4.newSha256();
+        int parts;
+        LOG.debug("uploading dump file: {} -> {}/{} ({} bytes)", //$NON-NLS-1$
+                dumpFile, settings.getBucket(), key, size);
+        if (size <= settings.getPartSize()) {
+            var buffer = acquireBuffer();
+            try (var input = Files.newInputStream(dumpFile)) {
+                int length = input.readNBytes(buffer, 0, buffer.length);
+                digest.update(buffer, 0, length);
+                client.putObject(key, buffer, length);
+            } finally {
+                releaseBuffer(buffer);
+            }
+            parts = 0;
+        } else {
+            parts = uploadMultipart(key, dumpFile, digest);
+        }
+        entries.add(new Entry(tableName, key, size, SignatureV4.hex(digest.digest()), parts));
+        if (settings.isDeleteAfterUpload()) {
+            LOG.debug("deleting uploaded dump file: {}", dumpFile); //$NON-NLS-1$
+            Files.delete(dumpFile);
+        }
+        return dumpFile;
+    }
+
+    private int uploadMultipart(String key, Path file, MessageDigest digest) throws IOException, InterruptedException {
+        var uploadId = client.createMultipartUpload(key);
+        var futures = new ArrayList<Future<String>>();
+        boolean success = false;
+        try (var input = Files.newInputStream(file)) {
+            for (int partNumber = 1;; partNumber++) {
+                var buffer = acquireBuffer();
+                int length;
+                try {
+                    length = input.readNBytes(buffer, 0, buffer.length);
+                } catch (IOException e) {
+                    releaseBuffer(buffer);
+                    throw e;
+                }
+                if (length == 0) {
+                    releaseBuffer(buffer);
+                    break;
+                }
+                digest.update(buffer, 0, length);
+                int number = partNumber;
+                futures.add(partExecutor.submit(() -> {
+                    try {
+                        return client.uploadPart(key, uploadId, number, buffer, length);
+                    } finally {
+                        releaseBuffer(buffer);
+                    }
+                }));
+                if (length < buffer.length) {
+                    break;
+                }
+            }
+            var etags = new ArrayList<String>(futures.size());
+            for (var future : futures) {
+                etags.add(await(future));
+            }
+            client.completeMultipartUpload(key, uploadId, etags);
+            success = true;
+            return etags.size();
+        } finally {
+            if (!success) {
+                // wait for the running parts, which hold the shared buffers
+                drain(futures);
+                abort(key, uploadId);
+            }
+        }
+    }
+
+    private void abort(String key, String uploadId) {
+        LOG.debug("aborting multipart upload: {} ({})", key, uploadId); //$NON-NLS-1$
+        try {
+            client.abortMultipartUpload(key, uploadId);
+        } catch (IOException e) {
+            LOG.warn("failed to abort multipart upload: {} ({})", key, uploadId, e); //$NON-NLS-1$
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("interrupted while aborting multipart upload: {} ({})", key, uploadId, e); //$NON-NLS-1$
+        }
+    }
+
+    private static void drain(List<Future<String>> futures) {
+        boolean interrupted = false;
+        for (var future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (ExecutionException | CancellationException e) {
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String await(Future<String> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof InterruptedException) {
+                var error = new InterruptedIOException(cause.getMessage());
+                error.initCause(cause);
+                throw error;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private byte[] acquireBuffer() throws InterruptedException {
+        bufferPermits.acquire();
+        var buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = new byte[(int) settings.getPartSize()];
+        }
+        return buffer;
+    }
+
+    private void releaseBuffer(byte[] buffer) {
+        buffers.add(buffer);
+        bufferPermits.release();
+    }
+
+    private String toRelativeKey(Path file) {
+        var absolute = file.toAbsolutePath().normalize();
+        Path relative = null;
+        for (var root : roots) {
+            if (absolute.startsWith(root) && !absolute.equals(root)) {
+                relative = root.relativize(absolute);
+                break;
+            }
+        }
+        if (relative == null) {
+            // may not occur: use "<parent-name>/<file-name>"
+            var parent = absolute.getParent();
+            relative = parent == null || parent.getFileName() == null
+                    ? absolute.getFileName()
+                    : parent.getFileName().resolve(absolute.getFileName());
+        }
+        var elements = new ArrayList<String>(relative.getNameCount());
+        for (var element : relative) {
+            elements.add(element.toString());
+        }
+        return String.join("/", elements); //$NON-NLS-1$
+    }
+
+    /**
+     * Puts {@link #MANIFEST_NAME the manifest object} of the uploaded files.
+     * @throws IOException if I/O error was occurred while uploading the manifest
+     * @throws InterruptedException if interrupted while uploading the manifest
+     */
+    public void writeManifest() throws IOException, InterruptedException {
+        var output = new ByteArrayOutputStream();
+        try (var generator = new JsonFactory().createGenerator(output, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeStringField(FIELD_BUCKET, settings.getBucket());
+            generator.writeArrayFieldStart(FIELD_OBJECTS);
+            for (var entry : entries) {
+                generator.writeStartObject();
+                generator.writeStringField(FIELD_TARGET, entry.target);
+                generator.writeStringField(FIELD_KEY, entry.key);
+                generator.writeNumberField(FIELD_SIZE, entry.size);
+                generator.writeStringField(FIELD_SHA256, entry.sha256);
+                generator.writeNumberField(FIELD_PARTS, entry.parts);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        var key = settings.getPrefix() + MANIFEST_NAME;
+        LOG.debug("uploading manifest: {}/{}", settings.getBucket(), key); //$NON-NLS-1$
+        var bytes = output.toByteArray();
+        client.putObject(key, bytes, bytes.length);
+    }
+
+    @Override
+    public void close() {
+        partExecutor.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("S3UploadProcessor(settings=%s)", settings); //$NON-NLS-1$
+    }
+}
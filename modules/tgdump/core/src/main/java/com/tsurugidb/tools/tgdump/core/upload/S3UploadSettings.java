@@ -0,0 +1,374 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.upload;
+
+import java.net.URI;
+import java.text.MessageFormat;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Settings of uploading dump files to S3 compatible object storages.
+ * @since 1.17.0
+ */
+public class S3UploadSettings {
+
+    /**
+     * A builder of {@link S3UploadSettings}.
+     */
+    public static class Builder {
+
+        @Nullable URI endpoint;
+
+        String region = DEFAULT_REGION;
+
+        @Nullable String bucket;
+
+        String prefix = ""; //$NON-NLS-1$
+
+        @Nullable String accessKeyId;
+
+        @Nullable String secretAccessKey;
+
+        long partSize = DEFAULT_PART_SIZE;
+
+        int maxConcurrentParts = DEFAULT_MAX_CONCURRENT_PARTS;
+
+        int maxRetries = DEFAULT_MAX_RETRIES;
+
+        boolean deleteAfterUpload = false;
+
+        /**
+         * Creates a new instance from this builder settings.
+         * @return the created instance
+         * @throws IllegalStateException if the endpoint, bucket, or credentials are not set
+         */
+        public S3UploadSettings build() {
+            if (endpoint == null) {
+                throw new IllegalStateException("endpoint must be set"); //$NON-NLS-1$
+            }
+            if (bucket == null) {
+                throw new IllegalStateException("bucket must be set"); //$NON-NLS-1$
+            }
+            if (accessKeyId == null || secretAccessKey == null) {
+                throw new IllegalStateException("credentials must be set"); //$NON-NLS-1$
+            }
+            return new S3UploadSettings(this);
+        }
+
+        /**
+         * Sets the endpoint URI of the object storage (e.g. {@code http://localhost:9000}).
+         * @param value the endpoint URI
+         * @return this
+         */
+        public Builder withEndpoint(@Nonnull URI value) {
+            Objects.requireNonNull(value);
+            this.endpoint = value;
+            return this;
+        }
+
+        /**
+         * Sets the region name.
+         * @param value the region name
+         * @return this
+         */
+        public Builder withRegion(@Nonnull String value) {
+            Objects.requireNonNull(value);
+            this.region = value;
+            return this;
+        }
+
+        /**
+         * Sets the destination bucket name.
+         * @param value the bucket name
+         * @return this
+         */
+        public Builder withBucket(@Nonnull String value) {
+            Objects.requireNonNull(value);
+            this.bucket = value;
+            return this;
+        }
+
+        /**
+         * Sets the prefix of the destination object keys.
+         * <p>
+         * If the prefix is not empty and does not end with {@code /}, it is added.
+         * </p>
+         * @param value the key prefix
+         * @return this
+         */
+        public Builder withPrefix(@Nonnull String value) {
+            Objects.requireNonNull(value);
+            var normalized = value;
+            while (normalized.startsWith("/")) { //$NON-NLS-1$
+                normalized = normalized.substring(1);
+            }
+            if (!normalized.isEmpty() && !normalized.endsWith("/")) { //$NON-NLS-1$
+                normalized = normalized + "/"; //$NON-NLS-1$
+            }
+            this.prefix = normalized;
+            return this;
+        }
+
+        /**
+         * Sets the credentials.
+         * @param id the access key ID
+         * @param secret the secret access key
+         * @return this
+         */
+        public Builder withCredentials(@Nonnull String id, @Nonnull String secret) {
+            Objects.requireNonNull(id);
+            Objects.requireNonNull(secret);
+            this.accessKeyId = id;
+            this.secretAccessKey = secret;
+            return this;
+        }
+
+        /**
+         * Sets the size of individual parts of multipart uploads.
+         * <p>
+         * Files not larger than this size are uploaded by a single request.
+         * </p>
+         * @param value the part size in bytes
+         * @return this
+         * @throws IllegalArgumentException if the value is out of range
+         */
+        public Builder withPartSize(long value) {
+            if (value < MIN_PART_SIZE || value > MAX_PART_SIZE) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "part size must be in [{0}, {1}]: {2}",
+                        MIN_PART_SIZE,
+                        MAX_PART_SIZE,
+                        value));
+            }
+            this.partSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the max number of parts uploaded at once.
+         * <p>
+         * The memory for buffering the parts is bounded by {@code part-size * max-concurrent-parts}.
+         * </p>
+         * @param value the max number of parts
+         * @return this
+         * @throws IllegalArgumentException if the value is less than {@code 1}
+         */
+        public Builder withMaxConcurrentParts(int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "max concurrent parts must be >= 1: {0}",
+                        value));
+            }
+            this.maxConcurrentParts = value;
+            return this;
+        }
+
+        /**
+         * Sets the max number of retries for each request.
+         * @param value the max number of retries
+         * @return this
+         * @throws IllegalArgumentException if the value is negative
+         */
+        public Builder withMaxRetries(int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "max retries must be >= 0: {0}",
+                        value));
+            }
+            this.maxRetries = value;
+            return this;
+        }
+
+        /**
+         * Sets whether to delete the local dump files after they were uploaded.
+         * @param value {@code true} to delete the local files, otherwise {@code false}
+         * @return this
+         */
+        public Builder withDeleteAfterUpload(boolean value) {
+            this.deleteAfterUpload = value;
+            return this;
+        }
+    }
+
+    /**
+     * The default region name.
+     */
+    public static final String DEFAULT_REGION = "us-east-1"; //$NON-NLS-1$
+
+    /**
+     * The minimum part size of multipart uploads.
+     */
+    public static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    /**
+     * The maximum part size of multipart uploads.
+     */
+    public static final long MAX_PART_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The default part size of multipart uploads.
+     */
+    public static final long DEFAULT_PART_SIZE = 16L * 1024 * 1024;
+
+    /**
+     * The default max number of parts uploaded at once.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_PARTS = 4;
+
+    /**
+     * The default max number of retries for each request.
+     */
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    private final URI endpoint;
+
+    private final String region;
+
+    private final String bucket;
+
+    private final String prefix;
+
+    private final String accessKeyId;
+
+    private final String secretAccessKey;
+
+    private final long partSize;
+
+    private final int maxConcurrentParts;
+
+    private final int maxRetries;
+
+    private final boolean deleteAfterUpload;
+
+    /**
+     * Creates a new instance from the builder.
+     * @param builder the source builder
+     * @see #newBuilder()
+     */
+    public S3UploadSettings(@Nonnull Builder builder) {
+        Objects.requireNonNull(builder);
+        this.endpoint = Objects.requireNonNull(builder.endpoint);
+        this.region = builder.region;
+        this.bucket = Objects.requireNonNull(builder.bucket);
+        this.prefix = builder.prefix;
+        this.accessKeyId = Objects.requireNonNull(builder.accessKeyId);
+        this.secretAccessKey = Objects.requireNonNull(builder.secretAccessKey);
+        this.partSize = builder.partSize;
+        this.maxConcurrentParts = builder.maxConcurrentParts;
+        this.maxRetries = builder.maxRetries;
+        this.deleteAfterUpload = builder.deleteAfterUpload;
+    }
+
+    /**
+     * Creates a new builder object for this class.
+     * @return the created builder object
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the endpoint URI of the object storage.
+     * @return the endpoint URI
+     */
+    public URI getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns the region name.
+     * @return the region name
+     */
+    public String getRegion() {
+        return region;
+    }
+
+    /**
+     * Returns the destination bucket name.
+     * @return the bucket name
+     */
+    public String getBucket() {
+        return bucket;
+    }
+
+    /**
+     * Returns the prefix of the destination object keys.
+     * @return the key prefix, which is empty or ends with {@code /}
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Returns the access key ID.
+     * @return the access key ID
+     */
+    public String getAccessKeyId() {
+        return accessKeyId;
+    }
+
+    /**
+     * Returns the secret access key.
+     * @return the secret access key
+     */
+    public String getSecretAccessKey() {
+        return secretAccessKey;
+    }
+
+    /**
+     * Returns the size of individual parts of multipart uploads.
+     * @return the part size in bytes
+     */
+    public long getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * Returns the max number of parts uploaded at once.
+     * @return the max number of parts
+     */
+    public int getMaxConcurrentParts() {
+        return maxConcurrentParts;
+    }
+
+    /**
+     * Returns the max number of retries for each request.
+     * @return the max number of retries
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Returns whether to delete the local dump files after they were uploaded.
+     * @return {@code true} to delete the local files, otherwise {@code false}
+     */
+    public boolean isDeleteAfterUpload() {
+        return deleteAfterUpload;
+    }
+
+    @Override
+    public String toString() {
+        // never print the secret
+        return String.format(
+                "S3UploadSettings(endpoint=%s, region=%s, bucket=%s, prefix=%s, partSize=%d, " //$NON-NLS-1$
+                + "maxConcurrentParts=%d, maxRetries=%d, deleteAfterUpload=%s)", //$NON-NLS-1$
+                endpoint, region, bucket, prefix, partSize, maxConcurrentParts, maxRetries, deleteAfterUpload);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.upload;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Computes AWS Signature Version 4 of HTTP requests.
+ */
+final class SignatureV4 {
+
+    static final String ALGORITHM = "AWS4-HMAC-SHA256"; //$NON-NLS-1$
+
+    static final String HEADER_DATE = "x-amz-date"; //$NON-NLS-1$
+
+    static final String HEADER_CONTENT_SHA256 = "x-amz-content-sha256"; //$NON-NLS-1$
+
+    static final DateTimeFormatter FORMAT_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'") //$NON-NLS-1$
+            .withZone(ZoneOffset.UTC);
+
+    private static final DateTimeFormatter FORMAT_DATE = DateTimeFormatter.ofPattern("yyyyMMdd") //$NON-NLS-1$
+            .withZone(ZoneOffset.UTC);
+
+    private static final String HMAC = "HmacSHA256"; //$NON-NLS-1$
+
+    private static final String TERMINATOR = "aws4_request"; //$NON-NLS-1$
+
+    private final String accessKeyId;
+
+    private final String secretAccessKey;
+
+    private final String region;
+
+    private final String service;
+
+    SignatureV4(
+            @Nonnull String accessKeyId,
+            @Nonnull String secretAccessKey,
+            @Nonnull String region,
+            @Nonnull String service) {
+        this.accessKeyId = Objects.requireNonNull(accessKeyId);
+        this.secretAccessKey = Objects.requireNonNull(secretAccessKey);
+        this.region = Objects.requireNonNull(region);
+        this.service = Objects.requireNonNull(service);
+    }
+
+    /**
+     * Returns the {@code Authorization} header value.
+     * @param method the HTTP method
+     * @param canonicalUri the URI-encoded request path
+     * @param canonicalQuery the canonical query string
+     * @param headers the headers to sign, which names are in lower case,
+     *      and must contain {@code host} and {@link #HEADER_DATE}
+     * @param payloadHash the hex encoded SHA-256 digest of the request payload
+     * @param time the request time, which must be same to the {@link #HEADER_DATE} header
+     * @return the authorization header value
+     */
+    String authorize(
+            @Nonnull String method,
+            @Nonnull String canonicalUri,
+            @Nonnull String canonicalQuery,
+            @Nonnull SortedMap<String, String> headers,
+            @Nonnull String payloadHash,
+            @Nonnull Instant time) {
+        var signedHeaders = String.join(";", headers.keySet()); //$NON-NLS-1$
+        var canonicalRequest = String.join("\n", //$NON-NLS-1$
+                method,
+                canonicalUri,
+                canonicalQuery,
+                headers.entrySet().stream()
+                        .map(it -> it.getKey() + ':' + it.getValue().trim() + '\n')
+                        .collect(Collectors.joining()),
+                signedHeaders,
+                payloadHash);
+        var scope = String.join("/", FORMAT_DATE.format(time), region, service, TERMINATOR); //$NON-NLS-1$
+        var stringToSign = String.join("\n", //$NON-NLS-1$
+                ALGORITHM,
+                FORMAT_DATE_TIME.format(time),
+                scope,
+                hex(sha256(canonicalRequest.getBytes(StandardCharsets.UTF_8))));
+        var signature = hex(hmac(signingKey(time), stringToSign));
+        return String.format("%s Credential=%s/%s, SignedHeaders=%s, Signature=%s", //$NON-NLS-1$
+                ALGORITHM, accessKeyId, scope, signedHeaders, signature);
+    }
+
+    byte[] signingKey(@Nonnull Instant time) {
+        var key = ("AWS4" + secretAccessKey).getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+        for (var element : new String[] { FORMAT_DATE.format(time), region, service, TERMINATOR }) {
+            key = hmac(key, element);
+        }
+        return key;
+    }
+
+    static String canonicalQuery(@Nonnull Map<String, String> parameters) {
+        return parameters.entrySet().stream()
+                .map(it -> encode(it.getKey(), true) + '=' + encode(it.getValue(), true))
+                .sorted()
+                .collect(Collectors.joining("&")); //$NON-NLS-1$
+    }
+
+    /**
+     * URI-encodes the given text as defined in AWS Signature Version 4.
+     * @param text the source text
+     * @param encodeSlash whether to encode {@code /}
+     * @return the encoded text
+     */
+    static String encode(@Nonnull String text, boolean encodeSlash) {
+        var buf = new StringBuilder();
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xff);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~' || (c == '/' && !encodeSlash)) {
+                buf.append(c);
+            } else {
+                buf.append(String.format("%%%02X", b & 0xff)); //$NON-NLS-1$
+            }
+        }
+        return buf.toString();
+    }
+
+    static byte[] sha256(@Nonnull byte[] bytes) {
+        return newSha256().digest(bytes);
+    }
+
+    static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String hex(@Nonnull byte[] bytes) {
+        var buf = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            buf.append(String.format("%02x", b & 0xff)); //$NON-NLS-1$
+        }
+        return buf.toString();
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        try {
+            var mac = Mac.getInstance(HMAC);
+            mac.init(new SecretKeySpec(key, HMAC));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SignatureV4(accessKeyId=%s, region=%s, service=%s)", //$NON-NLS-1$
+                accessKeyId, region, service);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.tools.tgdump.core.model.DumpTarget;
+
+class DestinationPolicyTest {
+
+    @TempDir
+    Path temporaryDir;
+
+    private static List<DumpTarget> targets(Path base, String... names) {
+        var results = new ArrayList<DumpTarget>();
+        for (var name : names) {
+            results.add(new DumpTarget(name, base.resolve(name)));
+        }
+        return results;
+    }
+
+    @Test
+    void fromSymbol() {
+        assertEquals(Optional.of(DestinationPolicy.ROUND_ROBIN), DestinationPolicy.fromSymbol("round-robin"));
+        assertEquals(Optional.of(DestinationPolicy.FREE_SPACE), DestinationPolicy.fromSymbol("FREE-SPACE"));
+        assertEquals(Optional.empty(), DestinationPolicy.fromSymbol("unknown"));
+    }
+
+    @Test
+    void assign_round_robin() throws Exception {
+        var a = temporaryDir.resolve("a");
+        var b = temporaryDir.resolve("b");
+        var results = DestinationPolicy.ROUND_ROBIN.assign(
+                targets(temporaryDir, "t1", "t2", "t3"),
+                List.of(a, b));
+        assertEquals(
+                List.of(
+                        new DumpTarget("t1", a.resolve("t1")),
+                        new DumpTarget("t2", b.resolve("t2")),
+                        new DumpTarget("t3", a.resolve("t3"))),
+                results);
+    }
+
+    @Test
+    void assign_weighted() {
+        var a = temporaryDir.resolve("a");
+        var b = temporaryDir.resolve("b");
+        var results = DestinationPolicy.FREE_SPACE.assign(
+                targets(temporaryDir, "t1", "t2", "t3", "t4"),
+                List.of(a, b),
+                new long[] { 300, 100 });
+        assertEquals(
+                List.of(
+                        new DumpTarget("t1", a.resolve("t1")),
+                        new DumpTarget("t2", a.resolve("t2")),
+                        new DumpTarget("t3", a.resolve("t3")),
+                        new DumpTarget("t4", b.resolve("t4"))),
+                results);
+    }
+
+    @Test
+    void assign_free_space() throws Exception {
+        var results = DestinationPolicy.FREE_SPACE.assign(
+                targets(temporaryDir, "t1", "t2"),
+                List.of(temporaryDir));
+        assertEquals(targets(temporaryDir, "t1", "t2"), results);
+    }
+
+    @Test
+    void assign_empty_destinations() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DestinationPolicy.ROUND_ROBIN.assign(targets(temporaryDir, "t1"), List.of()));
+    }
+}
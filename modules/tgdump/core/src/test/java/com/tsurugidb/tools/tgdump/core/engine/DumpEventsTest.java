@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.tools.tgdump.core.model.DumpProfile;
+import com.tsurugidb.tools.tgdump.core.model.DumpTarget;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class DumpEventsTest {
+
+    private final MockDumpMonitor monitor = new MockDumpMonitor();
+
+    @Test
+    void record(@TempDir Path temporary) throws Exception {
+        var operation = new TableDumpOperation(DumpProfile.newBuilder().build(), false);
+        var target = new DumpTarget("T1", temporary.resolve("T1"));
+        var output = temporary.resolve("events.jfr");
+        try (
+            var recording = new Recording();
+            var client = new MockSqlClient();
+            var tx = client.createTransaction().await();
+        ) {
+            recording.enable("com.tsurugidb.tgdump.Register");
+            recording.enable("com.tsurugidb.tgdump.ExecuteDump");
+            recording.enable("com.tsurugidb.tgdump.DumpFile");
+            recording.start();
+            operation.register(client, monitor, target);
+            operation.execute(client, tx, monitor, target);
+            recording.stop();
+            recording.dump(output);
+        }
+        var events = RecordingFile.readAllEvents(output);
+        assertEquals(
+                List.of(
+                        "com.tsurugidb.tgdump.Register",
+                        "com.tsurugidb.tgdump.DumpFile",
+                        "com.tsurugidb.tgdump.ExecuteDump"),
+                events.stream()
+                        .sorted((a, b) -> a.getEndTime().compareTo(b.getEndTime()))
+                        .map(it -> it.getEventType().getName())
+                        .collect(Collectors.toList()));
+
+        RecordedEvent execute = events.stream()
+                .filter(it -> it.getEventType().getName().equals("com.tsurugidb.tgdump.ExecuteDump"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("T1", execute.getString("target"));
+        assertEquals("TABLE", execute.getString("targetType"));
+        assertEquals("TXID-TESTING", execute.getString("transactionId"));
+        assertEquals(1L, execute.getLong("fileCount"));
+    }
+
+    @Test
+    void record_disabled() throws Exception {
+        var operation = new TableDumpOperation(DumpProfile.newBuilder().build(), false);
+        var target = new DumpTarget("T1", Path.of("T1").toAbsolutePath());
+        try (
+            var client = new MockSqlClient();
+            var tx = client.createTransaction().await();
+        ) {
+            // no recordings: events are just discarded
+            operation.register(client, monitor, target);
+            operation.execute(client, tx, monitor, target);
+            assertEquals(1, monitor.getFiles().get("T1").size());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+class DumpFilePipelineTest {
+
+    private static final Path DIR = Path.of("dump", "a");
+
+    @Test
+    void simple() throws Exception {
+        var downstream = new MockDumpMonitor();
+        try (var pipeline = new DumpFilePipeline(
+                List.of(
+                        (table, file) -> file.resolveSibling(file.getFileName() + ".x"),
+                        (table, file) -> file.resolveSibling(file.getFileName() + ".y")),
+                downstream,
+                1)) {
+            pipeline.onDumpInfo("a", "SELECT * FROM a", DIR);
+            pipeline.onDumpStart("a", DIR);
+            pipeline.onDumpFile("a", DIR.resolve("f1"));
+            pipeline.onDumpFile("a", DIR.resolve("f2"));
+            pipeline.onDumpFinish("a", DIR);
+        }
+        assertEquals(Map.of("a", DIR), downstream.getInfo());
+        assertEquals(Map.of("a", DIR), downstream.getStart());
+        assertEquals(Map.of("a", List.of(DIR.resolve("f1.x.y"), DIR.resolve("f2.x.y"))), downstream.getFiles());
+        assertEquals(Map.of("a", DIR), downstream.getFinish());
+    }
+
+    @Test
+    void finish_deferred() throws Exception {
+        var downstream = new MockDumpMonitor();
+        var latch = new CountDownLatch(1);
+        try (var pipeline = new DumpFilePipeline(
+                List.of((table, file) -> {
+                    latch.await();
+                    return file;
+                }),
+                downstream,
+                1)) {
+            pipeline.onDumpStart("a", DIR);
+            pipeline.onDumpFile("a", DIR.resolve("f1"));
+            pipeline.onDumpFinish("a", DIR);
+            assertEquals(Map.of(), downstream.getFinish());
+            latch.countDown();
+        }
+        assertEquals(Map.of("a", List.of(DIR.resolve("f1"))), downstream.getFiles());
+        assertEquals(Map.of("a", DIR), downstream.getFinish());
+    }
+
+    @Test
+    void finish_without_files() throws Exception {
+        var downstream = new MockDumpMonitor();
+        try (var pipeline = new DumpFilePipeline(List.of(), downstream, 1)) {
+            pipeline.onDumpStart("a", DIR);
+            pipeline.onDumpFinish("a", DIR);
+            assertEquals(Map.of("a", DIR), downstream.getFinish());
+        }
+    }
+
+    @Test
+    void failure() throws Exception {
+        var downstream = new MockDumpMonitor();
+        var error = new IOException("testing");
+        var pipeline = new DumpFilePipeline(
+                List.of((table, file) -> {
+                    throw error;
+                }),
+                downstream,
+                1);
+        pipeline.onDumpStart("a", DIR);
+        pipeline.onDumpFile("a", DIR.resolve("f1"));
+        pipeline.onDumpFinish("a", DIR);
+        var e = assertThrows(IOException.class, pipeline::close);
+        assertSame(error, e);
+        assertEquals(Map.of(), downstream.getFiles());
+    }
+
+    @Test
+    void closed() throws Exception {
+        var pipeline = new DumpFilePipeline(List.of(), new MockDumpMonitor(), 1);
+        pipeline.close();
+        assertThrows(IllegalStateException.class, () -> pipeline.onDumpFile("a", DIR.resolve("f1")));
+    }
+
+    @Test
+    void invalid_threads() {
+        assertThrows(IllegalArgumentException.class, () -> new DumpFilePipeline(List.of(), new MockDumpMonitor(), 0));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+
+class DumpManifestTest {
+
+    @TempDir
+    Path temporaryDir;
+
+    @Test
+    void write() throws Exception {
+        var a = temporaryDir.resolve("a");
+        var b = temporaryDir.resolve("b");
+        var manifest = new DumpManifest(List.of(a, b), DestinationPolicy.ROUND_ROBIN);
+
+        manifest.onDumpInfo("t1", new MockTableMetadata("t1"), a.resolve("t1"));
+        manifest.onDumpInfo("q1", "SELECT * FROM t2", b.resolve("q1"));
+        manifest.onDumpStart("t1", a.resolve("t1"));
+        manifest.onDumpFile("t1", a.resolve("t1").resolve("f1.parquet"));
+        manifest.onDumpFile("t1", a.resolve("t1").resolve("f2.parquet"));
+        manifest.onDumpFinish("t1", a.resolve("t1"));
+
+        var file = temporaryDir.resolve(DumpManifest.FILE_NAME);
+        manifest.write(file);
+        assertTrue(Files.isRegularFile(file));
+
+        var strings = new ArrayList<String>();
+        try (var parser = new JsonFactory().createParser(file.toFile())) {
+            for (var token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                if (token == JsonToken.VALUE_STRING) {
+                    strings.add(parser.getText());
+                }
+            }
+        }
+        assertEquals(
+                List.of(
+                        a.toString(), b.toString(),
+                        "round-robin",
+                        "t1", a.resolve("t1").toString(),
+                        a.resolve("t1").resolve("f1.parquet").toString(),
+                        a.resolve("t1").resolve("f2.parquet").toString(),
+                        "q1", b.resolve("q1").toString()),
+                strings);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DumpProgressTest {
+
+    @TempDir
+    Path temporaryDir;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void simple() throws Exception {
+        var progress = new DumpProgress(clock::get);
+        var file = Files.write(temporaryDir.resolve("a.parquet"), new byte[2_000_000]);
+
+        progress.onDumpInfo("a", new MockTableMetadata("a"), temporaryDir);
+        progress.onDumpStart("a", temporaryDir);
+        advance(Duration.ofSeconds(1));
+        progress.onDumpFile("a", file);
+        advance(Duration.ofSeconds(1));
+        progress.onDumpFinish("a", temporaryDir);
+        advance(Duration.ofSeconds(1));
+
+        var target = progress.findTarget("a").orElseThrow();
+        assertEquals(1, target.getFiles());
+        assertEquals(2_000_000, target.getBytes());
+        assertEquals(Duration.ofSeconds(2), target.getElapsed());
+        assertTrue(target.isFinished());
+        assertEquals(1_000_000, target.getBytesPerSecond(), 1);
+
+        assertEquals(1, progress.getTargetCount());
+        assertEquals(1, progress.getFinishedTargetCount());
+        assertEquals(1, progress.getFiles());
+        assertEquals(2_000_000, progress.getBytes());
+        assertEquals(Duration.ofSeconds(3), progress.getElapsed());
+        assertEquals(Optional.of(Duration.ofSeconds(2)), progress.getIdle());
+        assertEquals(Optional.of(Duration.ZERO), progress.getEstimatedRemaining());
+    }
+
+    @Test
+    void running() {
+        var progress = new DumpProgress(clock::get);
+        progress.onDumpInfo("a", "SELECT * FROM a", temporaryDir);
+        progress.onDumpStart("a", temporaryDir);
+        advance(Duration.ofSeconds(5));
+
+        var target = progress.findTarget("a").orElseThrow();
+        assertTrue(target.isStarted());
+        assertFalse(target.isFinished());
+        assertEquals(Duration.ofSeconds(5), target.getElapsed());
+        assertEquals(Optional.empty(), progress.getIdle());
+        assertEquals(Optional.empty(), progress.getEstimatedRemaining());
+        assertEquals(Optional.empty(), progress.findTarget("b"));
+    }
+
+    @Test
+    void estimate_remaining() {
+        var progress = new DumpProgress(clock::get);
+        for (var name : new String[] { "a", "b", "c", "d" }) {
+            progress.onDumpInfo(name, new MockTableMetadata(name), temporaryDir);
+        }
+        progress.onDumpStart("a", temporaryDir);
+        advance(Duration.ofMinutes(10));
+        progress.onDumpFinish("a", temporaryDir);
+
+        assertEquals(Optional.of(Duration.ofMinutes(30)), progress.getEstimatedRemaining());
+        assertEquals(4, progress.getTargets().size());
+    }
+
+    @Test
+    void dump_file_missing() {
+        var progress = new DumpProgress(clock::get);
+        progress.onDumpFile("a", temporaryDir.resolve("missing.parquet"));
+        assertEquals(1, progress.getFiles());
+        assertEquals(0, progress.getBytes());
+    }
+
+    @Test
+    void format() {
+        assertEquals("1.5MB", DumpProgress.formatSize(1_500_000));
+        assertEquals("2.0MB/s", DumpProgress.formatRate(2_000_000));
+        assertEquals("01:02:03", DumpProgress.formatDuration(Duration.ofSeconds(3723)));
+        assertEquals("-", DumpProgress.formatDuration(null));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.engine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.tools.common.metrics.Gauge;
+import com.tsurugidb.tools.common.metrics.MetricsRegistry;
+
+class MetricsDumpMonitorTest {
+
+    @TempDir
+    Path temporaryDir;
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    private long count(String name) {
+        return registry.counter(name, "").get();
+    }
+
+    private long running() {
+        return registry.getMetrics().stream()
+                .filter(it -> it.getName().equals(MetricsDumpMonitor.METRIC_TARGETS_RUNNING))
+                .map(Gauge.class::cast)
+                .findFirst()
+                .orElseThrow()
+                .get();
+    }
+
+    @Test
+    void simple() throws Exception {
+        var monitor = new MetricsDumpMonitor(registry);
+        var file = Files.write(temporaryDir.resolve("a.parquet"), new byte[100]);
+
+        monitor.onDumpInfo("a", new MockTableMetadata("a"), temporaryDir);
+        assertEquals(1, count(MetricsDumpMonitor.METRIC_TARGETS_REGISTERED));
+        assertEquals(0, running());
+
+        monitor.onDumpStart("a", temporaryDir);
+        assertEquals(1, count(MetricsDumpMonitor.METRIC_TARGETS_STARTED));
+        assertEquals(1, running());
+
+        monitor.onDumpFile("a", file);
+        assertEquals(1, count(MetricsDumpMonitor.METRIC_DUMP_FILES));
+        assertEquals(100, count(MetricsDumpMonitor.METRIC_DUMP_FILE_BYTES));
+
+        monitor.onDumpFinish("a", temporaryDir);
+        assertEquals(1, count(MetricsDumpMonitor.METRIC_TARGETS_FINISHED));
+        assertEquals(0, running());
+
+        var duration = registry.histogram(MetricsDumpMonitor.METRIC_TARGET_DURATION, "").snapshot();
+        assertEquals(1, duration.getCount());
+    }
+
+    @Test
+    void query() throws Exception {
+        var monitor = new MetricsDumpMonitor(registry);
+        monitor.onDumpInfo("q", "SELECT * FROM a", temporaryDir);
+        assertEquals(1, count(MetricsDumpMonitor.METRIC_TARGETS_REGISTERED));
+    }
+
+    @Test
+    void dump_file_missing() throws Exception {
+        var monitor = new MetricsDumpMonitor(registry);
+        monitor.onDumpFile("a", temporaryDir.resolve("missing.parquet"));
+        assertEquals(1, count(MetricsDumpMonitor.METRIC_DUMP_FILES));
+        assertEquals(0, count(MetricsDumpMonitor.METRIC_DUMP_FILE_BYTES));
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.upload;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A stand-in of S3 compatible object storages, which only supports path-style uploads.
+ */
+class MockS3Server implements Closeable {
+
+    private final HttpServer server;
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+
+    private final List<String> aborted = new ArrayList<>();
+
+    private final AtomicInteger uploadIds = new AtomicInteger();
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private volatile boolean failParts;
+
+    MockS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    URI getEndpoint() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    Map<String, byte[]> getObjects() {
+        return objects;
+    }
+
+    synchronized List<String> getAborted() {
+        return new ArrayList<>(aborted);
+    }
+
+    int getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Makes the next requests fail with {@code 503}.
+     * @param count the number of requests to fail
+     */
+    void failNext(int count) {
+        failures.set(count);
+    }
+
+    /**
+     * Sets whether to make the individual part uploads fail with {@code 500}.
+     * @param enable {@code true} to fail
+     */
+    void failParts(boolean enable) {
+        this.failParts = enable;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requests.incrementAndGet();
+            var body = exchange.getRequestBody().readAllBytes();
+            var authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization == null || !authorization.startsWith(SignatureV4.ALGORITHM + " Credential=")) {
+                respond(exchange, 403, "<Error><Code>AccessDenied</Code></Error>");
+                return;
+            }
+            var md5 = exchange.getRequestHeaders().getFirst("Content-MD5");
+            if (md5 != null && !md5.equals(Base64.getEncoder().encodeToString(digest("MD5", body)))) {
+                respond(exchange, 400, "<Error><Code>BadDigest</Code></Error>");
+                return;
+            }
+            var sha256 = exchange.getRequestHeaders().getFirst(SignatureV4.HEADER_CONTENT_SHA256);
+            if (sha256 == null || !sha256.equals(SignatureV4.hex(digest("SHA-256", body)))) {
+                respond(exchange, 400, "<Error><Code>XAmzContentSHA256Mismatch</Code></Error>");
+                return;
+            }
+            if (failures.getAndUpdate(it -> Math.max(it - 1, 0)) > 0) {
+                respond(exchange, 503, "<Error><Code>SlowDown</Code></Error>");
+                return;
+            }
+            var key = exchange.getRequestURI().getPath().substring(1);
+            var query = parseQuery(exchange.getRequestURI().getRawQuery());
+            switch (exchange.getRequestMethod()) {
+            case "PUT":
+                if (query.containsKey("uploadId")) {
+                    if (failParts) {
+                        respond(exchange, 500, "<Error><Code>InternalError</Code></Error>");
+                        break;
+                    }
+                    uploads.get(query.get("uploadId")).put(Integer.parseInt(query.get("partNumber")), body);
+                    exchange.getResponseHeaders().add("ETag", '"' + SignatureV4.hex(digest("MD5", body)) + '"');
+                } else {
+                    objects.put(key, body);
+                }
+                respond(exchange, 200, "");
+                break;
+            case "POST":
+                if (query.containsKey("uploads")) {
+                    var id = "u" + uploadIds.incrementAndGet();
+                    uploads.put(id, new TreeMap<>());
+                    respond(exchange, 200, "<InitiateMultipartUploadResult><UploadId>" + id
+                            + "</UploadId></InitiateMultipartUploadResult>");
+                } else {
+                    var parts = uploads.remove(query.get("uploadId"));
+                    var output = new ByteArrayOutputStream();
+                    for (var part : parts.values()) {
+                        output.write(part);
+                    }
+                    objects.put(key, output.toByteArray());
+                    respond(exchange, 200, "<CompleteMultipartUploadResult/>");
+                }
+                break;
+            case "DELETE":
+                uploads.remove(query.get("uploadId"));
+                synchronized (this) {
+                    aborted.add(key);
+                }
+                respond(exchange, 204, null);
+                break;
+            default:
+                respond(exchange, 405, "");
+                break;
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        var results = new HashMap<String, String>();
+        if (query != null) {
+            for (var pair : query.split("&")) {
+                int index = pair.indexOf('=');
+                results.put(index < 0 ? pair : pair.substring(0, index), index < 0 ? "" : pair.substring(index + 1));
+            }
+        }
+        return results;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        var bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+
+    private static byte[] digest(String algorithm, byte[] bytes) {
+        try {
+            return MessageDigest.getInstance(algorithm).digest(bytes);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.upload;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+
+class S3UploadProcessorTest {
+
+    @TempDir
+    Path temporaryDir;
+
+    private MockS3Server server;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new MockS3Server();
+    }
+
+    @AfterEach
+    void stop() {
+        server.close();
+    }
+
+    private S3UploadSettings.Builder settings() {
+        return S3UploadSettings.newBuilder()
+                .withEndpoint(server.getEndpoint())
+                .withBucket("testing")
+                .withPrefix("dump")
+                .withCredentials("id", "secret")
+                .withPartSize(S3UploadSettings.MIN_PART_SIZE)
+                .withMaxConcurrentParts(2);
+    }
+
+    private Path write(String name, int size) throws IOException {
+        var file = temporaryDir.resolve("t1").resolve(name);
+        Files.createDirectories(file.getParent());
+        var bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return Files.write(file, bytes);
+    }
+
+    @Test
+    void simple() throws Exception {
+        var file = write("a.parquet", 100);
+        try (var processor = new S3UploadProcessor(settings().build(), List.of(temporaryDir))) {
+            var result = processor.process("t1", file);
+            assertEquals(file, result);
+        }
+        assertArrayEquals(Files.readAllBytes(file), server.getObjects().get("testing/dump/t1/a.parquet"));
+    }
+
+    @Test
+    void multipart() throws Exception {
+        var file = write("a.parquet", (int) (S3UploadSettings.MIN_PART_SIZE * 2 + 100));
+        try (var processor = new S3UploadProcessor(settings().build(), List.of(temporaryDir))) {
+            processor.process("t1", file);
+        }
+        assertArrayEquals(Files.readAllBytes(file), server.getObjects().get("testing/dump/t1/a.parquet"));
+    }
+
+    @Test
+    void multipart_exact() throws Exception {
+        var file = write("a.parquet", (int) (S3UploadSettings.MIN_PART_SIZE * 2));
+        try (var processor = new S3UploadProcessor(settings().build(), List.of(temporaryDir))) {
+            processor.process("t1", file);
+        }
+        assertArrayEquals(Files.readAllBytes(file), server.getObjects().get("testing/dump/t1/a.parquet"));
+    }
+
+    @Test
+    void retry() throws Exception {
+        var file = write("a.parquet", 100);
+        server.failNext(2);
+        try (var processor = new S3UploadProcessor(settings().build(), List.of(temporaryDir))) {
+            processor.process("t1", file);
+        }
+        assertEquals(3, server.getRequestCount());
+        assertArrayEquals(Files.readAllBytes(file), server.getObjects().get("testing/dump/t1/a.parquet"));
+    }
+
+    @Test
+    void retry_exhausted() throws Exception {
+        var file = write("a.parquet", 100);
+        server.failNext(3);
+        try (var processor = new S3UploadProcessor(settings().withMaxRetries(1).build(), List.of(temporaryDir))) {
+            assertThrows(IOException.class, () -> processor.process("t1", file));
+        }
+        assertEquals(2, server.getRequestCount());
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    void multipart_failure_abort() throws Exception {
+        var file = write("a.parquet", (int) (S3UploadSettings.MIN_PART_SIZE + 100));
+        server.failParts(true);
+        try (var processor = new S3UploadProcessor(settings().withMaxRetries(0).build(), List.of(temporaryDir))) {
+            assertThrows(IOException.class, () -> processor.process("t1", file));
+        }
+        assertEquals(List.of("testing/dump/t1/a.parquet"), server.getAborted());
+        assertNull(server.getObjects().get("testing/dump/t1/a.parquet"));
+    }
+
+    @Test
+    void delete_after_upload() throws Exception {
+        var file = write("a.parquet", 100);
+        var contents = Files.readAllBytes(file);
+        try (var processor = new S3UploadProcessor(
+                settings().withDeleteAfterUpload(true).build(),
+                List.of(temporaryDir))) {
+            processor.process("t1", file);
+        }
+        assertFalse(Files.exists(file));
+        assertArrayEquals(contents, server.getObjects().get("testing/dump/t1/a.parquet"));
+    }
+
+    @Test
+    void manifest() throws Exception {
+        var file1 = write("a.parquet", 100);
+        var file2 = write("b.parquet", 200);
+        try (var processor = new S3UploadProcessor(settings().build(), List.of(temporaryDir))) {
+            processor.process("t1", file1);
+            processor.process("t1", file2);
+            processor.writeManifest();
+        }
+        var manifest = server.getObjects().get("testing/dump/" + S3UploadProcessor.MANIFEST_NAME);
+        assertNotNull(manifest);
+
+        var keys = new ArrayList<String>();
+        var digests = new ArrayList<String>();
+        try (var parser = new JsonFactory().createParser(manifest)) {
+            String field = null;
+            for (var token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                if (token == JsonToken.FIELD_NAME) {
+                    field = parser.getCurrentName();
+                } else if (token == JsonToken.VALUE_STRING && S3UploadProcessor.FIELD_KEY.equals(field)) {
+                    keys.add(parser.getText());
+                } else if (token == JsonToken.VALUE_STRING && S3UploadProcessor.FIELD_SHA256.equals(field)) {
+                    digests.add(parser.getText());
+                }
+            }
+        }
+        assertEquals(List.of("dump/t1/a.parquet", "dump/t1/b.parquet"), keys);
+        assertEquals(
+                List.of(
+                        SignatureV4.hex(SignatureV4.sha256(Files.readAllBytes(file1))),
+                        SignatureV4.hex(SignatureV4.sha256(Files.readAllBytes(file2)))),
+                digests);
+        assertTrue(new String(manifest, StandardCharsets.UTF_8).contains("\"testing\""));
+    }
+}
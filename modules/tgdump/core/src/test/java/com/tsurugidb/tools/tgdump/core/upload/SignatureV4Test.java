@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tools.tgdump.core.upload;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+class SignatureV4Test {
+
+    // example in the AWS Signature Version 4 documentation
+    private final SignatureV4 signer = new SignatureV4(
+            "AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY", "us-east-1", "iam");
+
+    private final Instant time = Instant.parse("2015-08-30T12:36:00Z");
+
+    @Test
+    void signingKey() {
+        assertEquals(
+                "c4afb1cc5771d871763a393e44b703571b55cc28424d1a5e86da6ed3c154a4b9",
+                SignatureV4.hex(signer.signingKey(time)));
+    }
+
+    @Test
+    void authorize() {
+        var headers = new TreeMap<String, String>();
+        headers.put("content-type", "application/x-www-form-urlencoded; charset=utf-8");
+        headers.put("host", "iam.amazonaws.com");
+        headers.put("x-amz-date", "20150830T123600Z");
+        var result = signer.authorize(
+                "GET", "/", "Action=ListUsers&Version=2010-05-08",
+                headers,
+                SignatureV4.hex(SignatureV4.sha256(new byte[0])),
+                time);
+        assertEquals("AWS4-HMAC-SHA256 "
+                + "Credential=AKIDEXAMPLE/20150830/us-east-1/iam/aws4_request, "
+                + "SignedHeaders=content-type;host;x-amz-date, "
+                + "Signature=5d672d79c15b13162d9279b0855cfba6789a8edb4c82c400e06b5924a6f2b5d7",
+                result);
+    }
+
+    @Test
+    void encode() {
+        assertEquals("a/b%20c~_-.", SignatureV4.encode("a/b c~_-.", false));
+        assertEquals("a%2Fb", SignatureV4.encode("a/b", true));
+        assertEquals("%E3%81%82", SignatureV4.encode("\u3042", true));
+    }
+
+    @Test
+    void canonicalQuery() {
+        var parameters = new LinkedHashMap<String, String>();
+        parameters.put("uploadId", "x y");
+        parameters.put("partNumber", "1");
+        assertEquals("partNumber=1&uploadId=x%20y", SignatureV4.canonicalQuery(parameters));
+    }
+}
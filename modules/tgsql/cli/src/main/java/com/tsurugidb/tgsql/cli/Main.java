@@ -18,7 +18,6 @@ package com.tsurugidb.tgsql.cli;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.StringReader;
-import java.nio.file.Files;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -30,6 +29,8 @@ import com.tsurugidb.tgsql.cli.argument.CliArgument;
 import com.tsurugidb.tgsql.cli.config.ConsoleConfigBuilder;
 import com.tsurugidb.tgsql.cli.config.ExecConfigBuilder;
 import com.tsurugidb.tgsql.cli.config.ScriptConfigBuilder;
+import com.tsurugidb.tgsql.cli.daemon.TgsqlDaemon;
+import com.tsurugidb.tgsql.cli.explain.ExplainAnalyzeRunner;
 import com.tsurugidb.tgsql.cli.explain.ExplainConvertRunner;
 import com.tsurugidb.tgsql.cli.repl.ReplCvKey;
 import com.tsurugidb.tgsql.cli.repl.ReplEngine;
@@ -42,6 +43,9 @@ import com.tsurugidb.tgsql.cli.repl.jline.ReplJLineReader;
 import com.tsurugidb.tgsql.cli.repl.jline.ReplJLineTerminal;
 import com.tsurugidb.tgsql.core.TgsqlConstants;
 import com.tsurugidb.tgsql.core.TgsqlRunner;
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.executor.sql.PendingSession;
+import com.tsurugidb.tgsql.core.parser.MappedScriptReader;
 import com.tsurugidb.tools.common.util.LibraryVersion;
 import com.tsurugidb.tsubakuro.client.ServiceClientCollector;
 import com.tsurugidb.tsubakuro.util.TsubakuroVersion;
@@ -116,6 +120,10 @@ public final class Main {
                 return executeScript(commander, argument);
             case EXPLAIN:
                 return ExplainConvertRunner.execute(argument);
+            case ANALYZE:
+                return ExplainAnalyzeRunner.execute(argument);
+            case DAEMON:
+                return TgsqlDaemon.execute(argument);
             default:
                 commander.usage();
                 return 1;
@@ -194,6 +202,7 @@ public final class Main {
 
         var builder = new ConsoleConfigBuilder(argument);
         var config = builder.build();
+        startConnect(argument, config);
 
         var lineReader = ReplJLineReader.createReader(config);
         config.setHistorySupplier(ReplJLineHistory.createHistorySupplier(lineReader.getHistory()));
@@ -210,6 +219,7 @@ public final class Main {
     private static int executeExec(JCommander commander, CliArgument argument) throws Exception {
         var builder = new ExecConfigBuilder(argument);
         var config = builder.build();
+        startConnect(argument, config);
         var statement = builder.getStatement();
         LOG.debug("exec.statement=[{}]", statement);
 
@@ -225,20 +235,38 @@ public final class Main {
     private static int executeScript(JCommander commander, CliArgument argument) throws Exception {
         var builder = new ScriptConfigBuilder(argument);
         var config = builder.build();
+        startConnect(argument, config);
         var script = builder.getScript();
         LOG.debug("script.script=[{}]", script);
         var encoding = builder.getEncoding();
         LOG.debug("script.encoding=[{}]", encoding);
 
-        try (var reader = Files.newBufferedReader(script, encoding)) {
-            boolean success = TgsqlRunner.execute(() -> reader, config);
-            if (!success) {
-                return 1;
-            }
+        // the script is opened after the connection was started, and it is closed by the runner
+        boolean success = TgsqlRunner.execute(() -> MappedScriptReader.open(script, encoding), config);
+        if (!success) {
+            return 1;
         }
         return 0;
     }
 
+    /**
+     * Starts establishing connection, so that it overlaps with the rest of start up.
+     *
+     * @param argument the command line arguments
+     * @param config   tgsql configuration
+     */
+    private static void startConnect(CliArgument argument, TgsqlConfig config) {
+        if (config.getEndpoint() == null) {
+            return;
+        }
+        if (argument.isInteractiveCredential()) {
+            // the password prompt must not race with the terminal
+            LOG.debug("establish connection in foreground: interactive credential"); //$NON-NLS-1$
+            return;
+        }
+        config.setPendingSession(PendingSession.start(config));
+    }
+
     private Main() {
         throw new AssertionError();
     }
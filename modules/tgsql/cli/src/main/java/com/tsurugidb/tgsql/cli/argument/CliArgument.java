@@ -23,6 +23,7 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -41,6 +42,7 @@ import com.tsurugidb.tgsql.cli.repl.ReplDefaultCredentialSessionConnector;
 import com.tsurugidb.tgsql.core.TgsqlConstants;
 import com.tsurugidb.tgsql.core.config.TgsqlLobTransferType;
 import com.tsurugidb.tgsql.core.config.TgsqlShutdownType;
+import com.tsurugidb.tgsql.core.executor.explain.PlanFinding.Severity;
 import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
 import com.tsurugidb.tsubakuro.channel.common.connection.FileCredential;
 import com.tsurugidb.tsubakuro.channel.common.connection.NullCredential;
@@ -71,6 +73,22 @@ public class CliArgument {
     @Parameter(order = 13, names = { "--explain" }, arity = 0, description = "print explain mode", hidden = true)
     private Boolean explain;
 
+    /**
+     * --analyze.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 14, names = { "--analyze" }, arity = 0, description = "explain every statement in SQL script file and report expensive operators mode")
+    private Boolean analyze;
+
+    /**
+     * --daemon.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 15, names = { "--daemon" }, arity = 0, description = "keep sessions open and execute statements requested from tgsql-client mode")
+    private Boolean daemon;
+
     // connection
 
     @Parameter(order = 20, names = { "--connection", "-c" }, arity = 1, description = "connection uri (e.g. tcp://localhost:12345)")
@@ -250,25 +268,159 @@ public class CliArgument {
     @Parameter(order = 54, names = { "--commit-option" }, arity = 1, description = "commit option")
     private CommitOption commitOption;
 
+    /**
+     * --commit-every.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 55, names = { "--commit-every" }, arity = 1, description = "with --auto-commit, commit every <N> statements")
+    private Integer commitEvery;
+
+    /**
+     * --commit-interval.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 56, names = { "--commit-interval" }, arity = 1, description = "with --auto-commit, commit when the time elapsed since the transaction started [milliseconds]")
+    private Long commitInterval;
+
+    /**
+     * --retry.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 57, names = { "--retry" }, arity = 1, description = "retry transactions aborted by concurrency control up to <count> times")
+    private Integer retry;
+
+    /**
+     * --retry-backoff.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 58, names = { "--retry-backoff" }, arity = 1, description = "initial wait time before retry [milliseconds]")
+    private Long retryBackoff;
+
     // script
 
     @Parameter(order = 60, names = { "--encoding", "-e" }, arity = 1, description = "charset encoding")
     private String encoding = StandardCharsets.UTF_8.name();
 
+    /**
+     * --stats-report.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 61, names = { "--stats-report" }, arity = 1, description = "write statement statistics as JSON into the file at the end of the script")
+    private String statsReport;
+
+    /**
+     * --parse-ahead.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 62, names = { "--parse-ahead" }, arity = 1, description = "number of statements to parse on a separate thread ahead of execution (0 to disable)")
+    private Integer parseAhead;
+
+    /**
+     * --journal.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 63, names = { "--journal" }, arity = 1, description = "record the last committed position of the script into the file")
+    private String journal;
+
+    /**
+     * --resume.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 64, names = { "--resume" }, arity = 1, description = "resume the script from the position recorded in the journal file")
+    private String resume;
+
+    // metrics
+
+    /**
+     * --metrics-output.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 65, names = { "--metrics-output" }, arity = 1, description = "write metrics snapshots as JSON lines into the file")
+    private String metricsOutput;
+
+    /**
+     * --metrics-textfile.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 66, names = { "--metrics-textfile" }, arity = 1, description = "write metrics snapshots in Prometheus text format into the file")
+    private String metricsTextfile;
+
+    /**
+     * --metrics-interval.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 67, names = { "--metrics-interval" }, arity = 1, description = "interval of metrics snapshots [milliseconds]")
+    private Long metricsInterval;
+
     // explain (hidden)
 
-    @Parameter(order = 70, names = { "--input", "-i" }, arity = 1, description = "explain json file", hidden = true)
+    @Parameter(order = 70, names = { "--input", "-i" }, arity = 1, description = "explain json file, or directory which contains explain json files", hidden = true)
     private String inputFile;
 
     @Parameter(order = 71, names = { "--report", "-r" }, arity = 0, description = "report to stdout", hidden = true)
     private Boolean report;
 
-    @Parameter(order = 72, names = { "--output", "-o" }, arity = 1, description = "output file (dot)", hidden = true)
+    @Parameter(order = 72, names = { "--output", "-o" }, arity = 1, description = "output file (dot, svg, html), or directory for --input directory", hidden = true)
     private String outputFile = null;
 
     @Parameter(order = 73, names = { "--verbose", "-v" }, arity = 0, description = "verbose", hidden = true)
     private Boolean verbose;
 
+    // analyze
+
+    /**
+     * --analyze-format.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 75, names = { "--analyze-format" }, arity = 1, description = "analyze report format. (text|json)")
+    private String analyzeFormat = "text";
+
+    /**
+     * --analyze-sessions.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 76, names = { "--analyze-sessions" }, arity = 1, description = "number of sessions to explain statements in parallel")
+    private int analyzeSessions = 4;
+
+    /**
+     * --analyze-fail-on.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 77, names = { "--analyze-fail-on" }, arity = 1, description = "exit with error if there are findings at or above the severity. (none|info|warning|critical)")
+    private String analyzeFailOn = "none";
+
+    // daemon
+
+    /**
+     * --daemon-file.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 78, names = { "--daemon-file" }, arity = 1, description = "daemon connection file. default is ~/.tsurugidb/tgsql/daemon.properties")
+    private String daemonFile;
+
+    /**
+     * --daemon-sessions.
+     *
+     * @since 1.17.0
+     */
+    @Parameter(order = 79, names = { "--daemon-sessions" }, arity = 1, description = "number of sessions kept open by the daemon")
+    private int daemonSessions = 2;
+
     // other
 
     @DynamicParameter(order = 80, names = { "--property", "-P" }, description = "SQL setting. <key>=<value>")
@@ -322,6 +474,12 @@ public class CliArgument {
         if (this.explain != null && this.explain) {
             list.add(CliMode.EXPLAIN);
         }
+        if (this.analyze != null && this.analyze) {
+            list.add(CliMode.ANALYZE);
+        }
+        if (this.daemon != null && this.daemon) {
+            list.add(CliMode.DAEMON);
+        }
 
         switch (list.size()) {
         case 0:
@@ -329,7 +487,7 @@ public class CliArgument {
         case 1:
             return list.get(0);
         default:
-            throw new ParameterException("specify only one of [--console, --script, --exec]");
+            throw new ParameterException("specify only one of [--console, --script, --exec, --analyze, --daemon]");
         }
     }
 
@@ -415,6 +573,16 @@ public class CliArgument {
         return list;
     }
 
+    /**
+     * whether the credential asks the user for input.
+     *
+     * @return {@code true} if the credential asks the user for input
+     * @since 1.17.0
+     */
+    public boolean isInteractiveCredential() {
+        return this.user != null;
+    }
+
     protected String readPassword() {
         return ReplDefaultCredentialSessionConnector.readReplPassword();
     }
@@ -634,6 +802,46 @@ public class CliArgument {
         return this.commitOption;
     }
 
+    /**
+     * get --commit-every.
+     *
+     * @return number of statements in a transaction, or {@code null} if not specified
+     * @since 1.17.0
+     */
+    public @Nullable Integer getCommitEvery() {
+        return this.commitEvery;
+    }
+
+    /**
+     * get --commit-interval.
+     *
+     * @return commit interval [milliseconds], or {@code null} if not specified
+     * @since 1.17.0
+     */
+    public @Nullable Long getCommitInterval() {
+        return this.commitInterval;
+    }
+
+    /**
+     * get --retry.
+     *
+     * @return maximum number of retries, or {@code null} if not specified
+     * @since 1.17.0
+     */
+    public @Nullable Integer getRetry() {
+        return this.retry;
+    }
+
+    /**
+     * get --retry-backoff.
+     *
+     * @return initial wait time before retry [milliseconds], or {@code null} if not specified
+     * @since 1.17.0
+     */
+    public @Nullable Long getRetryBackoff() {
+        return this.retryBackoff;
+    }
+
     // script
 
     /**
@@ -645,6 +853,76 @@ public class CliArgument {
         return this.encoding;
     }
 
+    /**
+     * get --stats-report.
+     *
+     * @return statement statistics report file, or {@code null} if not specified
+     * @since 1.17.0
+     */
+    public @Nullable String getStatsReport() {
+        return this.statsReport;
+    }
+
+    /**
+     * get --parse-ahead.
+     *
+     * @return number of statements, or {@code null} if not specified
+     * @since 1.17.0
+     */
+    public @Nullable Integer getParseAhead() {
+        return this.parseAhead;
+    }
+
+    /**
+     * get --journal.
+     *
+     * @return script journal file, or {@code null} if not specified
+     * @since 1.17.0
+     */
+    public @Nullable String getJournal() {
+        return this.journal;
+    }
+
+    /**
+     * get --resume.
+     *
+     * @return journal file to resume from, or {@code null} if not specified
+     * @since 1.17.0
+     */
+    public @Nullable String getResume() {
+        return this.resume;
+    }
+
+    /**
+     * get --metrics-output.
+     *
+     * @return metrics snapshot output file, or {@code null} if not specified
+     * @since 1.17.0
+     */
+    public @Nullable String getMetricsOutput() {
+        return this.metricsOutput;
+    }
+
+    /**
+     * get --metrics-textfile.
+     *
+     * @return metrics Prometheus text file, or {@code null} if not specified
+     * @since 1.17.0
+     */
+    public @Nullable String getMetricsTextfile() {
+        return this.metricsTextfile;
+    }
+
+    /**
+     * get --metrics-interval.
+     *
+     * @return interval [milliseconds], or {@code null} if not specified
+     * @since 1.17.0
+     */
+    public @Nullable Long getMetricsInterval() {
+        return this.metricsInterval;
+    }
+
     /**
      * get script.
      *
@@ -712,6 +990,80 @@ public class CliArgument {
         return (this.verbose != null) && this.verbose;
     }
 
+    // analyze
+
+    /**
+     * get --analyze-format.
+     *
+     * @return {@code true} if JSON format
+     * @since 1.17.0
+     */
+    public boolean isAnalyzeJson() {
+        switch (analyzeFormat.trim().toLowerCase(Locale.ENGLISH)) {
+        case "text":
+            return false;
+        case "json":
+            return true;
+        default:
+            throw new ParameterException(MessageFormat.format("invalid --analyze-format {0}. specify text or json", analyzeFormat));
+        }
+    }
+
+    /**
+     * get --analyze-sessions.
+     *
+     * @return number of sessions
+     * @since 1.17.0
+     */
+    public int getAnalyzeSessions() {
+        if (this.analyzeSessions <= 0) {
+            throw new ParameterException(MessageFormat.format("specify a positive number for --analyze-sessions ({0})", analyzeSessions));
+        }
+        return this.analyzeSessions;
+    }
+
+    /**
+     * get --analyze-fail-on.
+     *
+     * @return severity, or {@code null} if none
+     * @since 1.17.0
+     */
+    public @Nullable Severity getAnalyzeFailOn() {
+        if (analyzeFailOn.trim().equalsIgnoreCase("none")) {
+            return null;
+        }
+        try {
+            return Severity.of(analyzeFailOn);
+        } catch (IllegalArgumentException e) {
+            throw new ParameterException(MessageFormat.format("invalid --analyze-fail-on {0}. specify none, info, warning or critical", analyzeFailOn), e);
+        }
+    }
+
+    // daemon
+
+    /**
+     * get --daemon-file.
+     *
+     * @return daemon connection file, or {@code null} if not specified
+     * @since 1.17.0
+     */
+    public @Nullable String getDaemonFile() {
+        return this.daemonFile;
+    }
+
+    /**
+     * get --daemon-sessions.
+     *
+     * @return number of sessions
+     * @since 1.17.0
+     */
+    public int getDaemonSessions() {
+        if (this.daemonSessions <= 0) {
+            throw new ParameterException(MessageFormat.format("specify a positive number for --daemon-sessions ({0})", daemonSessions));
+        }
+        return this.daemonSessions;
+    }
+
     // other
 
     /**
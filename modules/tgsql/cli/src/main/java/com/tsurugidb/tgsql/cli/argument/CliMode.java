@@ -28,4 +28,16 @@ public enum CliMode {
     EXEC,
     /** explain. */
     EXPLAIN,
+    /**
+     * analyze.
+     *
+     * @since 1.17.0
+     */
+    ANALYZE,
+    /**
+     * daemon.
+     *
+     * @since 1.17.0
+     */
+    DAEMON,
 }
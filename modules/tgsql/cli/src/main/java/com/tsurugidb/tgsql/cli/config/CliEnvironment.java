@@ -47,6 +47,16 @@ public final class CliEnvironment {
         return CredentialEnvironment.findUserHomePath(PROJECT_DIR + "/client-variable.properties"); //$NON-NLS-1$
     }
 
+    /**
+     * get path of daemon connection file under user.home .
+     *
+     * @return path
+     * @since 1.17.0
+     */
+    public static @Nonnull Optional<Path> findUserHomeDaemonPath() {
+        return CredentialEnvironment.findUserHomePath(PROJECT_DIR + "/daemon.properties"); //$NON-NLS-1$
+    }
+
     private CliEnvironment() {
         throw new AssertionError();
     }
@@ -22,6 +22,7 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
@@ -82,6 +83,7 @@ public abstract class ConfigBuilder {
         fillClientVariable();
         fillCommitOption();
         fillShutdownOption();
+        fillMetrics();
 
         buildSub();
 
@@ -279,6 +281,123 @@ public abstract class ConfigBuilder {
         return false;
     }
 
+    protected void fillCommitGroup() {
+        var commitEvery = argument.getCommitEvery();
+        var commitInterval = argument.getCommitInterval();
+        if (commitEvery == null && commitInterval == null) {
+            return;
+        }
+        if (config.getCommitMode() != TgsqlCommitMode.AUTO_COMMIT) {
+            throw new ParameterException("--commit-every and --commit-interval are available only with --auto-commit");
+        }
+        if (commitEvery != null) {
+            if (commitEvery <= 0) {
+                throw new ParameterException(MessageFormat.format("--commit-every must be positive. value={0}", commitEvery));
+            }
+            log.debug("config.commitEvery={}", commitEvery);
+            config.setCommitEvery(commitEvery);
+        }
+        if (commitInterval != null) {
+            if (commitInterval <= 0) {
+                throw new ParameterException(MessageFormat.format("--commit-interval must be positive. value={0}", commitInterval));
+            }
+            var interval = Duration.ofMillis(commitInterval);
+            log.debug("config.commitInterval={}", interval);
+            config.setCommitInterval(interval);
+        }
+    }
+
+    protected void fillTransactionRetry() {
+        var retry = argument.getRetry();
+        if (retry != null) {
+            if (retry < 0) {
+                throw new ParameterException(MessageFormat.format("--retry must not be negative. value={0}", retry));
+            }
+            log.debug("config.transactionRetry={}", retry);
+            config.setTransactionRetry(retry);
+        }
+        var backoff = argument.getRetryBackoff();
+        if (backoff != null) {
+            if (backoff < 0) {
+                throw new ParameterException(MessageFormat.format("--retry-backoff must not be negative. value={0}", backoff));
+            }
+            var duration = Duration.ofMillis(backoff);
+            log.debug("config.transactionRetryBackoff={}", duration);
+            config.setTransactionRetryBackoff(duration);
+        }
+    }
+
+    protected void fillStatsReport() {
+        var statsReport = argument.getStatsReport();
+        if (statsReport == null) {
+            return;
+        }
+        Path path;
+        try {
+            path = Path.of(statsReport);
+        } catch (Exception e) {
+            throw new ParameterException("invalid --stats-report", e);
+        }
+        log.debug("config.statisticsReport={}", path);
+        config.setStatisticsReport(path);
+    }
+
+    protected void fillParseAhead() {
+        var parseAhead = argument.getParseAhead();
+        if (parseAhead == null) {
+            return;
+        }
+        if (parseAhead < 0) {
+            throw new ParameterException(MessageFormat.format("--parse-ahead must not be negative. value={0}", parseAhead));
+        }
+        log.debug("config.parseAhead={}", parseAhead);
+        config.setParseAhead(parseAhead);
+    }
+
+    protected void fillScriptJournal() {
+        var resume = toPath(argument.getResume(), "--resume");
+        var journal = toPath(argument.getJournal(), "--journal");
+        if (resume != null && journal == null) {
+            // continue recording into the same journal
+            journal = resume;
+        }
+        log.debug("config.resumeJournal={}", resume);
+        config.setResumeJournal(resume);
+        log.debug("config.scriptJournal={}", journal);
+        config.setScriptJournal(journal);
+    }
+
+    private void fillMetrics() {
+        var output = toPath(argument.getMetricsOutput(), "--metrics-output");
+        log.debug("config.metricsOutput={}", output);
+        config.setMetricsOutput(output);
+        var textfile = toPath(argument.getMetricsTextfile(), "--metrics-textfile");
+        log.debug("config.metricsTextfile={}", textfile);
+        config.setMetricsTextfile(textfile);
+
+        var interval = argument.getMetricsInterval();
+        if (interval == null) {
+            return;
+        }
+        if (interval <= 0) {
+            throw new ParameterException(MessageFormat.format("--metrics-interval must be positive. value={0}", interval));
+        }
+        var duration = Duration.ofMillis(interval);
+        log.debug("config.metricsInterval={}", duration);
+        config.setMetricsInterval(duration);
+    }
+
+    private static Path toPath(String value, String option) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Path.of(value);
+        } catch (Exception e) {
+            throw new ParameterException("invalid " + option, e);
+        }
+    }
+
     protected void fillCommitOption() {
         var commitOption = argument.getCommitOption();
         var status = (commitOption != null) ? commitOption.toCommitStatus() : null;
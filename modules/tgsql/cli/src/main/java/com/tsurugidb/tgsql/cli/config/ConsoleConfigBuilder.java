@@ -46,5 +46,7 @@ public class ConsoleConfigBuilder extends ConfigBuilder {
     protected void buildSub() {
         fillCommitMode(EnumSet.of(TgsqlCommitMode.AUTO_COMMIT, TgsqlCommitMode.NO_AUTO_COMMIT), //
                 TgsqlCommitMode.NO_AUTO_COMMIT);
+        // for \stats
+        config.setStatementStatisticsEnabled(true);
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.cli.config;
+
+import java.nio.file.Path;
+
+import javax.annotation.Nonnull;
+
+import com.beust.jcommander.ParameterException;
+import com.tsurugidb.tgsql.cli.argument.CliArgument;
+
+/**
+ * ConfigBuilder for daemon.
+ *
+ * @since 1.17.0
+ */
+public class DaemonConfigBuilder extends ConfigBuilder {
+
+    private Path daemonFile;
+
+    private int sessions;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param argument argument
+     */
+    public DaemonConfigBuilder(CliArgument argument) {
+        super(argument);
+    }
+
+    @Override
+    protected void buildSub() {
+        fillDaemonFile();
+        this.sessions = argument.getDaemonSessions();
+        log.debug("daemon.sessions={}", sessions);
+    }
+
+    private void fillDaemonFile() {
+        this.daemonFile = findDaemonFile(argument.getDaemonFile());
+        log.debug("daemon.file={}", daemonFile);
+    }
+
+    /**
+     * find daemon connection file.
+     *
+     * @param daemonFile the file specified by {@code --daemon-file}, or {@code null} to use the default one
+     * @return daemon connection file path
+     * @throws ParameterException if the file is not specified and user.home is not available
+     */
+    public static @Nonnull Path findDaemonFile(String daemonFile) {
+        if (daemonFile != null) {
+            try {
+                return Path.of(daemonFile);
+            } catch (Exception e) {
+                throw new ParameterException("invalid --daemon-file", e);
+            }
+        }
+        return CliEnvironment.findUserHomeDaemonPath() //
+                .orElseThrow(() -> new ParameterException("specify --daemon-file (user.home is not available)"));
+    }
+
+    /**
+     * get daemon connection file.
+     *
+     * @return daemon connection file path
+     */
+    @Nonnull
+    public Path getDaemonFile() {
+        return this.daemonFile;
+    }
+
+    /**
+     * get number of sessions.
+     *
+     * @return number of sessions
+     */
+    public int getSessions() {
+        return this.sessions;
+    }
+}
@@ -50,12 +50,22 @@ public class ScriptConfigBuilder extends ConfigBuilder {
     protected void buildSub() {
         fillCommitMode(EnumSet.of(TgsqlCommitMode.AUTO_COMMIT, TgsqlCommitMode.NO_AUTO_COMMIT, TgsqlCommitMode.COMMIT, TgsqlCommitMode.NO_COMMIT), //
                 TgsqlCommitMode.COMMIT);
+        fillCommitGroup();
+        fillTransactionRetry();
 
         fillEncoding();
+        fillStatsReport();
+        fillParseAhead();
+        fillScriptJournal();
         fillScript();
     }
 
-    private void fillEncoding() {
+    /**
+     * fill script file encoding.
+     *
+     * @since 1.17.0
+     */
+    protected void fillEncoding() {
         try {
             this.encoding = Charset.forName(argument.getEncoding());
         } catch (Exception e) {
@@ -74,7 +84,12 @@ public class ScriptConfigBuilder extends ConfigBuilder {
         return this.encoding;
     }
 
-    private void fillScript() {
+    /**
+     * fill script file path.
+     *
+     * @since 1.17.0
+     */
+    protected void fillScript() {
         try {
             this.script = Path.of(argument.getScript());
             if (!Files.exists(script)) {
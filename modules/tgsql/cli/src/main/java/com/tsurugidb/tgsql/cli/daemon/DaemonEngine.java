@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.cli.daemon;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.exception.TgsqlNoMessageException;
+import com.tsurugidb.tgsql.core.executor.engine.BasicEngine;
+import com.tsurugidb.tgsql.core.executor.engine.Engine;
+import com.tsurugidb.tgsql.core.executor.engine.EngineException;
+import com.tsurugidb.tgsql.core.executor.report.TgsqlReporter;
+import com.tsurugidb.tgsql.core.executor.sql.BasicSqlProcessor;
+import com.tsurugidb.tgsql.core.executor.sql.TransactionWrapper;
+import com.tsurugidb.tgsql.core.model.Statement;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+
+/**
+ * An {@link Engine} which runs on a session kept open by {@link TgsqlDaemon}.
+ * <p>
+ * {@link #connect()} reuses the session if it is still alive, and errors are also reported to the client.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+class DaemonEngine implements Engine {
+    private static final Logger LOG = LoggerFactory.getLogger(DaemonEngine.class);
+
+    private final BasicEngine delegate;
+    private final BasicSqlProcessor sqlProcessor;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param delegate     the delegate engine
+     * @param sqlProcessor the SQL processor of the delegate engine
+     */
+    DaemonEngine(BasicEngine delegate, BasicSqlProcessor sqlProcessor) {
+        this.delegate = delegate;
+        this.sqlProcessor = sqlProcessor;
+    }
+
+    @Override
+    public TgsqlConfig getConfig() {
+        return delegate.getConfig();
+    }
+
+    @Override
+    public TgsqlReporter getReporter() {
+        return delegate.getReporter();
+    }
+
+    @Override
+    public void connect() throws ServerException, IOException, InterruptedException {
+        if (sqlProcessor.isSessionActive()) {
+            LOG.debug("reuse session: {}", sqlProcessor.getEndpoint()); //$NON-NLS-1$
+            return;
+        }
+        LOG.info("reconnect session: {}", sqlProcessor.getEndpoint());
+        try {
+            sqlProcessor.disconnect();
+        } catch (Exception e) {
+            LOG.debug("disconnect error", e); //$NON-NLS-1$
+        }
+        delegate.connect();
+    }
+
+    @Override
+    public boolean disconnect() throws ServerException, IOException, InterruptedException {
+        // the session is owned by the daemon
+        return false;
+    }
+
+    @Override
+    public Session getSession() {
+        return delegate.getSession();
+    }
+
+    @Override
+    public TransactionWrapper getTransaction() {
+        return delegate.getTransaction();
+    }
+
+    @Override
+    public boolean isTransactionActive() {
+        return delegate.isTransactionActive();
+    }
+
+    @Override
+    public void discardTransaction() throws ServerException, IOException, InterruptedException {
+        delegate.discardTransaction();
+    }
+
+    @Override
+    public boolean cancelExecution() throws ServerException, IOException, InterruptedException {
+        return delegate.cancelExecution();
+    }
+
+    @Override
+    public boolean execute(Statement statement) throws EngineException, ServerException, IOException, InterruptedException {
+        try {
+            return delegate.execute(statement);
+        } catch (TgsqlNoMessageException e) {
+            throw e;
+        } catch (EngineException | ServerException | IOException | RuntimeException e) {
+            var region = statement.getRegion();
+            delegate.getReporter().warn(String.format(//
+                    "exception was occurred while processing statement: text='%s', line=%d, column=%d%n%s", //
+                    statement.getText(), //
+                    region.getStartLine() + 1, //
+                    region.getStartColumn() + 1, //
+                    e.getMessage()));
+            throw e;
+        }
+    }
+
+    @Override
+    public void finish(boolean succeed) throws IOException {
+        delegate.finish(succeed);
+    }
+}
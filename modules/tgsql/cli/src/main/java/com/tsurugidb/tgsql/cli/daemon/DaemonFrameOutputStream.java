@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.cli.daemon;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} which sends its contents to the client as frames.
+ * <p>
+ * Closing this stream only flushes the buffered contents, and the underlying connection is kept open.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+class DaemonFrameOutputStream extends OutputStream {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final DataOutputStream output;
+
+    private final int type;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int size = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param output the connection output
+     * @param type   the frame type
+     */
+    DaemonFrameOutputStream(DataOutputStream output, int type) {
+        this.output = output;
+        this.type = type;
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+        if (size == buffer.length) {
+            flushBuffer();
+        }
+        buffer[size++] = (byte) b;
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        if (len >= buffer.length) {
+            flushBuffer();
+            DaemonProtocol.writeFrame(output, type, b, off, len);
+            return;
+        }
+        if (len > buffer.length - size) {
+            flushBuffer();
+        }
+        System.arraycopy(b, off, buffer, size, len);
+        size += len;
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        flushBuffer();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (size > 0) {
+            DaemonProtocol.writeFrame(output, type, buffer, 0, size);
+            size = 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+}
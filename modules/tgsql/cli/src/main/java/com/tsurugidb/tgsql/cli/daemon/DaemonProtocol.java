@@ -0,0 +1,264 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.cli.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Wire protocol between {@link TgsqlDaemon} and {@link TgsqlClient}.
+ * <p>
+ * A request consists of the magic, the access token, the command, the client working directory, the client charset and
+ * the program arguments. A response is a sequence of frames, which ends with {@link #FRAME_EXIT}.
+ * </p>
+ * <p>
+ * The daemon closes the connection without any response if the access token does not match, before it reads the rest
+ * of the request.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+final class DaemonProtocol {
+
+    static final String MAGIC = "tgsql-daemon/1"; //$NON-NLS-1$
+
+    /** executes {@code --exec} or {@code --script} with the program arguments. */
+    static final String COMMAND_EXECUTE = "execute"; //$NON-NLS-1$
+
+    /** reports the daemon status. */
+    static final String COMMAND_STATUS = "status"; //$NON-NLS-1$
+
+    /** stops the daemon. */
+    static final String COMMAND_STOP = "stop"; //$NON-NLS-1$
+
+    static final int FRAME_STDOUT = 1;
+
+    static final int FRAME_STDERR = 2;
+
+    static final int FRAME_EXIT = 3;
+
+    static final String KEY_PORT = "port"; //$NON-NLS-1$
+
+    static final String KEY_TOKEN = "token"; //$NON-NLS-1$
+
+    static final String KEY_PID = "pid"; //$NON-NLS-1$
+
+    static final String KEY_ENDPOINT = "endpoint"; //$NON-NLS-1$
+
+    /** the max size of the request header strings, which are the magic, the access token, the command and so on. */
+    static final int MAX_HEADER_SIZE = 4 * 1024;
+
+    /** the max number of the program arguments. */
+    static final int MAX_ARGUMENT_COUNT = 1024;
+
+    private static final int MAX_STRING_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Writes a length-prefixed UTF-8 string.
+     *
+     * @param output the output
+     * @param value  the value
+     * @throws IOException if I/O error was occurred
+     */
+    static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string.
+     *
+     * @param input the input
+     * @return the value
+     * @throws IOException if I/O error was occurred, or the string is too large
+     */
+    static String readString(DataInputStream input) throws IOException {
+        return readString(input, MAX_STRING_SIZE);
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string.
+     *
+     * @param input   the input
+     * @param maxSize the max size of the string in bytes
+     * @return the value
+     * @throws IOException if I/O error was occurred, or the string is too large
+     */
+    static String readString(DataInputStream input, int maxSize) throws IOException {
+        int size = input.readInt();
+        if (size < 0 || size > maxSize) {
+            throw new IOException(MessageFormat.format("invalid string size: {0}", size));
+        }
+        byte[] bytes = new byte[size];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the program arguments, which are written as the number of arguments and the length-prefixed UTF-8 strings.
+     *
+     * @param input the input
+     * @return the arguments
+     * @throws IOException if I/O error was occurred, or there are too many arguments
+     */
+    static List<String> readArguments(DataInputStream input) throws IOException {
+        int count = input.readInt();
+        if (count < 0 || count > MAX_ARGUMENT_COUNT) {
+            throw new IOException(MessageFormat.format("invalid argument count: {0}", count));
+        }
+        var results = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(readString(input));
+        }
+        return results;
+    }
+
+    /**
+     * Writes a frame.
+     *
+     * @param output the output
+     * @param type   the frame type
+     * @param bytes  the frame contents
+     * @param offset the offset in the contents
+     * @param length the frame length
+     * @throws IOException if I/O error was occurred
+     */
+    static void writeFrame(DataOutputStream output, int type, byte[] bytes, int offset, int length) throws IOException {
+        synchronized (output) {
+            output.writeByte(type);
+            output.writeInt(length);
+            output.write(bytes, offset, length);
+            output.flush();
+        }
+    }
+
+    /**
+     * Writes the exit frame.
+     *
+     * @param output   the output
+     * @param exitCode the exit code
+     * @throws IOException if I/O error was occurred
+     */
+    static void writeExit(DataOutputStream output, int exitCode) throws IOException {
+        synchronized (output) {
+            output.writeByte(FRAME_EXIT);
+            output.writeInt(exitCode);
+            output.flush();
+        }
+    }
+
+    /**
+     * Copies response frames into the standard output and standard error.
+     *
+     * @param input  the input
+     * @param stdout the standard output
+     * @param stderr the standard error
+     * @return the exit code
+     * @throws IOException if I/O error was occurred, or the daemon was disconnected before sending the exit code
+     */
+    static int readFrames(DataInputStream input, OutputStream stdout, OutputStream stderr) throws IOException {
+        byte[] buffer = new byte[0];
+        while (true) {
+            int type = input.read();
+            if (type < 0) {
+                throw new EOFException("daemon was disconnected");
+            }
+            int value = input.readInt();
+            switch (type) {
+            case FRAME_EXIT:
+                stdout.flush();
+                stderr.flush();
+                return value;
+            case FRAME_STDOUT:
+            case FRAME_STDERR:
+                if (value < 0 || value > MAX_STRING_SIZE) {
+                    throw new IOException(MessageFormat.format("invalid frame size: {0}", value));
+                }
+                if (buffer.length < value) {
+                    buffer = new byte[value];
+                }
+                input.readFully(buffer, 0, value);
+                var target = (type == FRAME_STDOUT) ? stdout : stderr;
+                target.write(buffer, 0, value);
+                break;
+            default:
+                throw new IOException(MessageFormat.format("unknown frame type: {0}", type));
+            }
+        }
+    }
+
+    /**
+     * Writes the daemon connection file, which is readable only from the owner if possible.
+     *
+     * @param file       the daemon connection file
+     * @param properties the contents
+     * @throws IOException if I/O error was occurred
+     */
+    static void writeDaemonFile(Path file, Properties properties) throws IOException {
+        var parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        var temporary = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+        Files.deleteIfExists(temporary);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) { //$NON-NLS-1$
+            Files.createFile(temporary, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))); //$NON-NLS-1$
+        } else {
+            Files.createFile(temporary);
+        }
+        try (var writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            properties.store(writer, "tgsql daemon"); //$NON-NLS-1$
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the daemon connection file.
+     *
+     * @param file the daemon connection file
+     * @return the contents
+     * @throws IOException if I/O error was occurred
+     */
+    static Properties readDaemonFile(Path file) throws IOException {
+        var properties = new Properties();
+        properties.load(new StringReader(Files.readString(file, StandardCharsets.UTF_8)));
+        for (var key : new String[] { KEY_PORT, KEY_TOKEN }) {
+            if (properties.getProperty(key) == null) {
+                throw new IOException(MessageFormat.format("broken daemon file: {0} (missing \"{1}\")", file, key));
+            }
+        }
+        return properties;
+    }
+
+    private DaemonProtocol() {
+        throw new AssertionError();
+    }
+}
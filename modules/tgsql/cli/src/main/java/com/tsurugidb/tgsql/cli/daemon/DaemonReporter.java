@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.cli.daemon;
+
+import java.io.PrintWriter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.executor.report.TgsqlReporter;
+
+/**
+ * A {@link TgsqlReporter} which sends messages to the standard error of the daemon client.
+ *
+ * @since 1.17.0
+ */
+class DaemonReporter extends TgsqlReporter {
+    private static final Logger LOG = LoggerFactory.getLogger(DaemonReporter.class);
+
+    private final PrintWriter output;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param config tgsql configuration
+     * @param output the standard error of the client
+     */
+    DaemonReporter(TgsqlConfig config, PrintWriter output) {
+        super(config);
+        this.output = output;
+    }
+
+    @Override
+    protected void doInfo(String message) {
+        println(message);
+    }
+
+    @Override
+    protected void doImplicit(String message) {
+        LOG.debug(message);
+    }
+
+    @Override
+    protected void doSucceed(String message) {
+        println(message);
+    }
+
+    @Override
+    protected void doWarn(String message) {
+        println(message);
+    }
+
+    void println(String message) {
+        output.println(message);
+        output.flush();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.cli.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.tsurugidb.tgsql.cli.config.CliEnvironment;
+
+/**
+ * A thin client of {@link TgsqlDaemon}.
+ * <p>
+ * This sends the program arguments to the daemon, and copies the results into the standard output and the standard
+ * error. This only depends on the JDK, so that it starts without loading the client libraries.
+ * </p>
+ *
+ * <pre>
+ * tgsql-client [--daemon-file &lt;file&gt;] (--status | --stop | &lt;tgsql arguments for --exec or --script&gt;)
+ * </pre>
+ *
+ * @since 1.17.0
+ */
+public final class TgsqlClient {
+
+    private static final String OPTION_DAEMON_FILE = "--daemon-file"; //$NON-NLS-1$
+
+    private static final String OPTION_STATUS = "--status"; //$NON-NLS-1$
+
+    private static final String OPTION_STOP = "--stop"; //$NON-NLS-1$
+
+    /**
+     * Sends a request to the daemon.
+     *
+     * @param args the program arguments
+     */
+    public static void main(String... args) {
+        int exitCode = execute(Arrays.asList(args), System.out, System.err);
+        System.exit(exitCode);
+    }
+
+    /**
+     * Sends a request to the daemon.
+     *
+     * @param args   the program arguments
+     * @param stdout the standard output
+     * @param stderr the standard error
+     * @return exit code
+     */
+    public static int execute(List<String> args, PrintStream stdout, PrintStream stderr) {
+        Path daemonFile = null;
+        String command = DaemonProtocol.COMMAND_EXECUTE;
+        var rest = new ArrayList<String>(args);
+        while (!rest.isEmpty()) {
+            String head = rest.get(0);
+            if (head.equals(OPTION_DAEMON_FILE) && rest.size() >= 2) {
+                daemonFile = Path.of(rest.get(1));
+                rest.subList(0, 2).clear();
+            } else if (head.equals(OPTION_STATUS) && rest.size() == 1) {
+                command = DaemonProtocol.COMMAND_STATUS;
+                rest.clear();
+            } else if (head.equals(OPTION_STOP) && rest.size() == 1) {
+                command = DaemonProtocol.COMMAND_STOP;
+                rest.clear();
+            } else {
+                break;
+            }
+        }
+        if (command.equals(DaemonProtocol.COMMAND_EXECUTE) && rest.isEmpty()) {
+            stderr.println("usage: tgsql-client [--daemon-file <file>] (--status | --stop | <tgsql arguments for --exec or --script>)");
+            return 1;
+        }
+        if (daemonFile == null) {
+            var found = CliEnvironment.findUserHomeDaemonPath();
+            if (found.isEmpty()) {
+                stderr.println("specify --daemon-file (user.home is not available)");
+                return 1;
+            }
+            daemonFile = found.get();
+        }
+        try {
+            return send(daemonFile, command, rest, stdout, stderr);
+        } catch (NoSuchFileException | ConnectException e) {
+            stderr.println(MessageFormat.format("tgsql daemon is not running: {0}", daemonFile));
+            return 1;
+        } catch (EOFException e) {
+            stderr.println(MessageFormat.format("tgsql daemon closed the connection (the access token in {0} may be stale)", daemonFile));
+            return 1;
+        } catch (IOException e) {
+            stderr.println(MessageFormat.format("tgsql daemon error: {0}", e.getMessage()));
+            return 1;
+        }
+    }
+
+    private static int send(Path daemonFile, String command, List<String> args, OutputStream stdout, OutputStream stderr) throws IOException {
+        var properties = DaemonProtocol.readDaemonFile(daemonFile);
+        int port;
+        try {
+            port = Integer.parseInt(properties.getProperty(DaemonProtocol.KEY_PORT).trim());
+        } catch (NumberFormatException e) {
+            throw new IOException(MessageFormat.format("broken daemon file: {0}", daemonFile), e);
+        }
+        try (var socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            var output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DaemonProtocol.writeString(output, DaemonProtocol.MAGIC);
+            DaemonProtocol.writeString(output, properties.getProperty(DaemonProtocol.KEY_TOKEN).trim());
+            DaemonProtocol.writeString(output, command);
+            DaemonProtocol.writeString(output, System.getProperty("user.dir")); //$NON-NLS-1$
+            DaemonProtocol.writeString(output, Charset.defaultCharset().name());
+            output.writeInt(args.size());
+            for (var arg : args) {
+                DaemonProtocol.writeString(output, arg);
+            }
+            output.flush();
+            socket.shutdownOutput();
+
+            var input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            return DaemonProtocol.readFrames(input, stdout, stderr);
+        }
+    }
+
+    private TgsqlClient() {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,471 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.cli.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
+import com.tsurugidb.tgsql.cli.argument.CliArgument;
+import com.tsurugidb.tgsql.cli.argument.CliMode;
+import com.tsurugidb.tgsql.cli.config.DaemonConfigBuilder;
+import com.tsurugidb.tgsql.cli.config.ExecConfigBuilder;
+import com.tsurugidb.tgsql.cli.config.ScriptConfigBuilder;
+import com.tsurugidb.tgsql.core.TgsqlConstants;
+import com.tsurugidb.tgsql.core.TgsqlRunner;
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.executor.engine.BasicEngine;
+import com.tsurugidb.tgsql.core.executor.result.BasicResultProcessor;
+import com.tsurugidb.tgsql.core.executor.sql.BasicSqlProcessor;
+import com.tsurugidb.tgsql.core.parser.MappedScriptReader;
+
+/**
+ * Tsurugi SQL console daemon.
+ * <p>
+ * The daemon keeps sessions open, and executes {@code --exec} or {@code --script} requested from {@link TgsqlClient}
+ * on them. It listens only on the loopback address, and the port number and the access token are published through
+ * the daemon connection file, which is readable only from the owner.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public final class TgsqlDaemon implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(TgsqlDaemon.class);
+
+    private static final int TOKEN_SIZE = 32;
+
+    // options which take a file path, resolved from the client working directory
+    private static final Set<String> PATH_OPTIONS = Set.of( //
+            "--stats-report", //$NON-NLS-1$
+            "--journal", //$NON-NLS-1$
+            "--resume", //$NON-NLS-1$
+            "--client-variable", //$NON-NLS-1$
+            "--metrics-output", //$NON-NLS-1$
+            "--metrics-textfile"); //$NON-NLS-1$
+
+    /**
+     * Run the daemon until it is stopped.
+     *
+     * @param argument daemon argument
+     * @return exit code
+     * @throws Exception if exception was occurred
+     */
+    public static int execute(CliArgument argument) throws Exception {
+        argument.checkUnknownParameter();
+
+        var builder = new DaemonConfigBuilder(argument);
+        var config = builder.build();
+        var daemonFile = builder.getDaemonFile();
+        if (isRunning(daemonFile)) {
+            LOG.error("tgsql daemon is already running: {}", daemonFile);
+            return 1;
+        }
+        try (var daemon = new TgsqlDaemon(config, daemonFile, builder.getSessions())) {
+            Runtime.getRuntime().addShutdownHook(new Thread(daemon::closeQuietly, "tgsql-daemon-shutdown")); //$NON-NLS-1$
+            daemon.start();
+            daemon.serve();
+        }
+        return 0;
+    }
+
+    private static boolean isRunning(Path daemonFile) {
+        if (!Files.exists(daemonFile)) {
+            return false;
+        }
+        try {
+            var properties = DaemonProtocol.readDaemonFile(daemonFile);
+            int port = Integer.parseInt(properties.getProperty(DaemonProtocol.KEY_PORT));
+            try (var socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                return true;
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("stale daemon file: {}", daemonFile, e); //$NON-NLS-1$
+            return false;
+        }
+    }
+
+    private final TgsqlConfig config;
+    private final Path daemonFile;
+    private final int sessions;
+    private final String token;
+    private final List<BasicSqlProcessor> sqlProcessors = new ArrayList<>();
+    private final BlockingQueue<BasicSqlProcessor> pool;
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong requestCount = new AtomicLong();
+    private ServerSocket serverSocket;
+    private ExecutorService executor;
+
+    private TgsqlDaemon(TgsqlConfig config, Path daemonFile, int sessions) {
+        this.config = config;
+        this.daemonFile = daemonFile;
+        this.sessions = sessions;
+        this.token = createToken();
+        this.pool = new ArrayBlockingQueue<>(sessions);
+    }
+
+    private static String createToken() {
+        var bytes = new byte[TOKEN_SIZE];
+        new SecureRandom().nextBytes(bytes);
+        var sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b & 0xff)); //$NON-NLS-1$
+        }
+        return sb.toString();
+    }
+
+    private void start() throws Exception {
+        LOG.info("establishing connection: {} (sessions={})", config.getEndpoint(), sessions);
+        for (int i = 0; i < sessions; i++) {
+            var sqlProcessor = new BasicSqlProcessor(config);
+            sqlProcessors.add(sqlProcessor);
+            sqlProcessor.connect();
+            pool.add(sqlProcessor);
+        }
+
+        this.serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        this.executor = Executors.newFixedThreadPool(sessions, r -> {
+            var thread = new Thread(r, "tgsql-daemon"); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        var properties = new Properties();
+        properties.setProperty(DaemonProtocol.KEY_PORT, String.valueOf(serverSocket.getLocalPort()));
+        properties.setProperty(DaemonProtocol.KEY_TOKEN, token);
+        properties.setProperty(DaemonProtocol.KEY_PID, String.valueOf(ProcessHandle.current().pid()));
+        properties.setProperty(DaemonProtocol.KEY_ENDPOINT, config.getEndpoint());
+        DaemonProtocol.writeDaemonFile(daemonFile, properties);
+        LOG.info("tgsql daemon started: port={}, file={}", serverSocket.getLocalPort(), daemonFile);
+    }
+
+    private void serve() {
+        while (!stopped.get()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if (stopped.get()) {
+                    break;
+                }
+                LOG.warn("accept error", e);
+                continue;
+            }
+            executor.execute(() -> handle(socket));
+        }
+        LOG.info("tgsql daemon was stopped");
+    }
+
+    private void stop() {
+        if (stopped.compareAndSet(false, true)) {
+            LOG.debug("stopping tgsql daemon"); //$NON-NLS-1$
+            try {
+                if (serverSocket != null) {
+                    serverSocket.close();
+                }
+            } catch (IOException e) {
+                LOG.debug("close server socket error", e); //$NON-NLS-1$
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket; //
+                var input = new DataInputStream(new BufferedInputStream(socket.getInputStream())); //
+                var output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            String magic = DaemonProtocol.readString(input, DaemonProtocol.MAX_HEADER_SIZE);
+            if (!magic.equals(DaemonProtocol.MAGIC)) {
+                LOG.warn("rejected request: unknown protocol {}", magic);
+                return;
+            }
+            // check the access token before reading the rest of the request
+            String requestToken = DaemonProtocol.readString(input, DaemonProtocol.MAX_HEADER_SIZE);
+            if (!MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), requestToken.getBytes(StandardCharsets.UTF_8))) {
+                LOG.warn("rejected request: invalid access token");
+                return;
+            }
+            String command = DaemonProtocol.readString(input, DaemonProtocol.MAX_HEADER_SIZE);
+            var cwd = Path.of(DaemonProtocol.readString(input, DaemonProtocol.MAX_HEADER_SIZE));
+            var charset = Charset.forName(DaemonProtocol.readString(input, DaemonProtocol.MAX_HEADER_SIZE));
+            var args = DaemonProtocol.readArguments(input);
+
+            var stdout = new DaemonFrameOutputStream(output, DaemonProtocol.FRAME_STDOUT);
+            var stderr = new PrintWriter(new OutputStreamWriter(new DaemonFrameOutputStream(output, DaemonProtocol.FRAME_STDERR), charset));
+
+            int exitCode;
+            switch (command) {
+            case DaemonProtocol.COMMAND_EXECUTE:
+                exitCode = executeRequest(args, cwd, charset, stdout, stderr);
+                break;
+            case DaemonProtocol.COMMAND_STATUS:
+                stderr.println(MessageFormat.format("tgsql daemon is running: endpoint={0}, sessions={1}, idle={2}, requests={3}", //
+                        config.getEndpoint(), sessions, pool.size(), String.valueOf(requestCount.get())));
+                exitCode = 0;
+                break;
+            case DaemonProtocol.COMMAND_STOP:
+                stderr.println("tgsql daemon is stopping");
+                exitCode = 0;
+                stop();
+                break;
+            default:
+                stderr.println(MessageFormat.format("unknown command: {0}", command));
+                exitCode = 1;
+                break;
+            }
+            stdout.flush();
+            stderr.flush();
+            DaemonProtocol.writeExit(output, exitCode);
+        } catch (Exception e) {
+            LOG.warn("daemon request error", e);
+        }
+    }
+
+    private int executeRequest(List<String> args, Path cwd, Charset charset, DaemonFrameOutputStream stdout, PrintWriter stderr) {
+        long requestId = requestCount.incrementAndGet();
+        LOG.info("request {}: {}", requestId, args);
+        try {
+            return executeRequest(parseArguments(args, cwd), charset, stdout, stderr);
+        } catch (ParameterException e) {
+            LOG.debug("request {}: invalid parameter", requestId, e); //$NON-NLS-1$
+            stderr.println(e.getMessage());
+            return 1;
+        } catch (Exception e) {
+            LOG.warn("request {}: error", requestId, e);
+            stderr.println(e.getMessage() != null ? e.getMessage() : e.toString());
+            return 1;
+        } finally {
+            LOG.debug("request {}: finished", requestId); //$NON-NLS-1$
+        }
+    }
+
+    private int executeRequest(CliArgument argument, Charset charset, DaemonFrameOutputStream stdout, PrintWriter stderr) throws Exception {
+        TgsqlConfig requestConfig;
+        Reader script;
+        var mode = argument.getCliMode();
+        switch (mode) {
+        case EXEC:
+            var execBuilder = new ExecConfigBuilder(argument);
+            requestConfig = execBuilder.build();
+            script = new StringReader(execBuilder.getStatement());
+            break;
+        case SCRIPT:
+            var scriptBuilder = new ScriptConfigBuilder(argument);
+            requestConfig = scriptBuilder.build();
+            script = MappedScriptReader.open(scriptBuilder.getScript(), scriptBuilder.getEncoding());
+            break;
+        default:
+            throw new ParameterException(MessageFormat.format("tgsql daemon accepts only --exec or --script ({0})", mode));
+        }
+
+        var sqlProcessor = pool.take();
+        try (script; //
+                var resultProcessor = new BasicResultProcessor(() -> new OutputStreamWriter(stdout, charset))) {
+            var reporter = new DaemonReporter(requestConfig, stderr);
+            var engine = new DaemonEngine(new BasicEngine(requestConfig, sqlProcessor, resultProcessor, reporter), sqlProcessor);
+            try {
+                boolean success = TgsqlRunner.executeWithConfig(() -> script, engine);
+                return success ? 0 : 1;
+            } finally {
+                if (sqlProcessor.isTransactionActive()) {
+                    engine.discardTransaction();
+                }
+            }
+        } finally {
+            pool.add(sqlProcessor);
+        }
+    }
+
+    private CliArgument parseArguments(List<String> args, Path cwd) {
+        // the connection is owned by the daemon
+        var list = new ArrayList<String>(args.size() + 2);
+        list.add("--connection"); //$NON-NLS-1$
+        list.add(config.getEndpoint());
+        list.addAll(args);
+        var argument = parseArguments(list);
+        if (!Objects.equals(argument.getConnectionUri(), config.getEndpoint())) {
+            throw new ParameterException(MessageFormat.format("tgsql daemon is connected to {0}, but {1} was requested", //
+                    config.getEndpoint(), argument.getConnectionUri()));
+        }
+
+        // resolve relative paths from the client working directory
+        if (resolvePathArguments(list, cwd, argument.getCliMode() == CliMode.SCRIPT)) {
+            argument = parseArguments(list);
+        }
+        return argument;
+    }
+
+    /**
+     * Resolves the relative path arguments from the client working directory.
+     * <p>
+     * The values are located by their position in the arguments, that is, the token next to each {@link #PATH_OPTIONS path option}, and the
+     * main parameter of {@code --script}.
+     * </p>
+     *
+     * @param args   the arguments, rewritten in place
+     * @param cwd    the client working directory
+     * @param script {@code true} to resolve the main parameter as a script file path
+     * @return {@code true} if any argument was rewritten
+     */
+    private static boolean resolvePathArguments(List<String> args, Path cwd, boolean script) {
+        var arities = getOptionArities();
+        boolean resolved = false;
+        for (int i = 0; i < args.size(); i++) {
+            String arg = args.get(i);
+            Integer arity = arities.get(arg);
+            if (arity == null) {
+                // main parameter, or dynamic parameter with its value (e.g. -Dkey=value)
+                if (script && !arg.startsWith("-")) { //$NON-NLS-1$
+                    resolved |= resolvePathArgument(args, i, cwd);
+                }
+                continue;
+            }
+            if (arity < 0) {
+                // variable arity: takes values until the next option
+                while (i + 1 < args.size() && !arities.containsKey(args.get(i + 1))) {
+                    i++;
+                }
+                continue;
+            }
+            if (PATH_OPTIONS.contains(arg) && i + 1 < args.size()) {
+                resolved |= resolvePathArgument(args, i + 1, cwd);
+            }
+            i += arity;
+        }
+        return resolved;
+    }
+
+    private static boolean resolvePathArgument(List<String> args, int index, Path cwd) {
+        var path = Path.of(args.get(index));
+        if (path.isAbsolute()) {
+            return false;
+        }
+        args.set(index, cwd.resolve(path).toString());
+        return true;
+    }
+
+    private static Map<String, Integer> getOptionArities() {
+        var result = new HashMap<String, Integer>();
+        for (var description : newCommander(new CliArgument()).getParameters()) {
+            var parameter = description.getParameter();
+            int arity;
+            if (parameter.variableArity()) {
+                arity = -1;
+            } else {
+                // unspecified arity of dynamic parameters is 1
+                arity = Math.max(parameter.arity(), description.isDynamicParameter() ? 1 : 0);
+            }
+            for (var name : parameter.names()) {
+                result.put(name, arity);
+            }
+        }
+        return result;
+    }
+
+    private static CliArgument parseArguments(List<String> args) {
+        var argument = new CliArgument();
+        newCommander(argument).parse(args.toArray(String[]::new));
+        return argument;
+    }
+
+    private static JCommander newCommander(CliArgument argument) {
+        return JCommander.newBuilder() //
+                .programName(TgsqlConstants.APPLICATION_NAME) //
+                .addObject(argument) //
+                .allowParameterOverwriting(true) //
+                .build();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (Exception e) {
+            LOG.debug("close error", e); //$NON-NLS-1$
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        stop();
+        if (executor != null) {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                LOG.debug("interrupted while stopping daemon", e); //$NON-NLS-1$
+            }
+        }
+        try {
+            deleteDaemonFile();
+        } finally {
+            for (var sqlProcessor : sqlProcessors) {
+                try {
+                    sqlProcessor.close();
+                } catch (Exception e) {
+                    LOG.warn("close session error", e);
+                }
+            }
+        }
+    }
+
+    private void deleteDaemonFile() {
+        try {
+            if (Files.exists(daemonFile) && token.equals(DaemonProtocol.readDaemonFile(daemonFile).getProperty(DaemonProtocol.KEY_TOKEN))) {
+                Files.delete(daemonFile);
+            }
+        } catch (IOException e) {
+            LOG.warn("failed to delete daemon file: {}", daemonFile, e);
+        }
+    }
+}
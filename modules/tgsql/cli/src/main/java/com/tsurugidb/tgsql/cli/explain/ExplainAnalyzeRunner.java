@@ -0,0 +1,207 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.cli.explain;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.cli.argument.CliArgument;
+import com.tsurugidb.tgsql.cli.config.AnalyzeConfigBuilder;
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.executor.explain.PlanAnalysisReport;
+import com.tsurugidb.tgsql.core.executor.explain.PlanAnalyzer;
+import com.tsurugidb.tgsql.core.executor.sql.BasicSqlProcessor;
+import com.tsurugidb.tgsql.core.executor.sql.SqlProcessor;
+import com.tsurugidb.tgsql.core.model.ExplainStatement;
+import com.tsurugidb.tgsql.core.model.GenericStatement;
+import com.tsurugidb.tgsql.core.model.Statement;
+import com.tsurugidb.tgsql.core.parser.SqlParser;
+import com.tsurugidb.tsubakuro.explain.PlanGraphLoader;
+import com.tsurugidb.tsubakuro.explain.json.JsonPlanGraphLoader;
+
+/**
+ * Explain every statement in SQL script file and report expensive operators.
+ * <p>
+ * Statements are explained in parallel over a small pool of sessions, and the report is written to stdout.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public final class ExplainAnalyzeRunner {
+    private static final Logger LOG = LoggerFactory.getLogger(ExplainAnalyzeRunner.class);
+
+    /**
+     * Analyze script.
+     *
+     * @param argument analyze argument
+     * @return exit code
+     * @throws Exception if exception was occurred
+     */
+    public static int execute(CliArgument argument) throws Exception {
+        argument.checkUnknownParameter();
+
+        var builder = new AnalyzeConfigBuilder(argument);
+        var config = builder.build();
+        return new ExplainAnalyzeRunner(argument, config, builder.getScript(), builder.getEncoding()).execute();
+    }
+
+    private final CliArgument argument;
+    private final TgsqlConfig config;
+    private final Path script;
+    private final Charset encoding;
+    private final PlanGraphLoader loader = JsonPlanGraphLoader.newBuilder().build();
+    private final PlanAnalyzer analyzer = new PlanAnalyzer();
+
+    private ExplainAnalyzeRunner(CliArgument argument, TgsqlConfig config, Path script, Charset encoding) {
+        this.argument = argument;
+        this.config = config;
+        this.script = script;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Analyze script.
+     *
+     * @return exit code
+     * @throws Exception if exception was occurred
+     */
+    public int execute() throws Exception {
+        boolean json = argument.isAnalyzeJson();
+        var failOn = argument.getAnalyzeFailOn();
+
+        var statements = readStatements();
+        LOG.info("analyzing {} statements", statements.size());
+        var report = analyze(statements);
+
+        var writer = new OutputStreamWriter(System.out, Charset.defaultCharset());
+        if (json) {
+            report.writeJson(writer);
+        } else {
+            report.writeText(writer);
+        }
+
+        if (report.hasFindings(failOn)) {
+            LOG.error("findings at or above {} were found", failOn);
+            return 1;
+        }
+        return 0;
+    }
+
+    private List<Statement> readStatements() throws IOException {
+        var list = new ArrayList<Statement>();
+        try (var parser = new SqlParser(Files.newBufferedReader(script, encoding))) {
+            while (true) {
+                var statement = parser.next();
+                if (statement == null) {
+                    break;
+                }
+                if (statement instanceof ExplainStatement) {
+                    statement = ((ExplainStatement) statement).getBody();
+                }
+                if (statement instanceof GenericStatement && ((GenericStatement) statement).getCategory() != GenericStatement.Category.DDL) {
+                    list.add(statement);
+                } else {
+                    LOG.debug("skip statement: {}", statement.getText());
+                }
+            }
+        }
+        return list;
+    }
+
+    private PlanAnalysisReport analyze(List<Statement> statements) throws Exception {
+        var report = new PlanAnalysisReport();
+        if (statements.isEmpty()) {
+            return report;
+        }
+
+        int size = Math.min(argument.getAnalyzeSessions(), statements.size());
+        BlockingQueue<SqlProcessor> pool = new ArrayBlockingQueue<>(size);
+        var executor = Executors.newFixedThreadPool(size, r -> {
+            var thread = new Thread(r, "tgsql-analyze"); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int i = 0; i < size; i++) {
+                var sqlProcessor = new BasicSqlProcessor(config);
+                pool.add(sqlProcessor);
+                sqlProcessor.connect();
+            }
+
+            var futures = new ArrayList<Future<?>>(statements.size());
+            for (var statement : statements) {
+                futures.add(executor.submit(() -> {
+                    var sqlProcessor = pool.take();
+                    try {
+                        report.add(analyze(sqlProcessor, statement));
+                    } finally {
+                        pool.add(sqlProcessor);
+                    }
+                    return null;
+                }));
+            }
+            for (var future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    var cause = e.getCause();
+                    if (cause instanceof Exception) {
+                        throw (Exception) cause;
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            for (var sqlProcessor : pool) {
+                try {
+                    sqlProcessor.close();
+                } catch (Exception e) {
+                    LOG.warn("close session error", e);
+                }
+            }
+        }
+        return report;
+    }
+
+    private PlanAnalysisReport.Entry analyze(SqlProcessor sqlProcessor, Statement statement) throws InterruptedException {
+        String text = statement.getText();
+        var region = statement.getRegion();
+        try {
+            var metadata = sqlProcessor.explain(text, region);
+            var graph = loader.load(metadata.getFormatId(), metadata.getFormatVersion(), metadata.getContents());
+            return new PlanAnalysisReport.Entry(text, region, analyzer.analyze(graph));
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.debug("explain error: {}", text, e);
+            return PlanAnalysisReport.Entry.failed(text, region, e);
+        }
+    }
+}
@@ -19,15 +19,23 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.beust.jcommander.ParameterException;
 import com.tsurugidb.tgsql.cli.argument.CliArgument;
 import com.tsurugidb.tgsql.cli.config.ExplainConfigBuilder;
 import com.tsurugidb.tgsql.core.config.TgsqlConfig;
 import com.tsurugidb.tgsql.core.executor.engine.CommandPath;
 import com.tsurugidb.tgsql.core.executor.engine.EngineException;
 import com.tsurugidb.tgsql.core.executor.explain.DotOutputHandler;
+import com.tsurugidb.tgsql.core.executor.explain.SvgPlanGraphRenderer;
 import com.tsurugidb.tgsql.core.executor.report.BasicReporter;
 import com.tsurugidb.tgsql.core.executor.report.PlanGraphReporter;
 import com.tsurugidb.tgsql.core.model.Regioned;
@@ -38,8 +46,16 @@ import com.tsurugidb.tsubakuro.explain.json.JsonPlanGraphLoader;
 
 /**
  * Convert explain json file.
+ * <p>
+ * If the output file is {@code .svg} or {@code .html}, the plan graph is rendered without Graphviz DOT.
+ * If the input is a directory, all explain json files in it are rendered into HTML files in the output directory.
+ * </p>
  */
 public final class ExplainConvertRunner {
+    private static final Logger LOG = LoggerFactory.getLogger(ExplainConvertRunner.class);
+
+    private static final String EXT_JSON = ".json"; //$NON-NLS-1$
+    private static final String EXT_HTML = ".html"; //$NON-NLS-1$
 
     /**
      * Convert explain.
@@ -71,20 +87,70 @@ public final class ExplainConvertRunner {
      * @throws Exception if exception was occurred
      */
     public int execute() throws Exception {
-        var contents = readContents();
+        var input = Path.of(argument.getInputFile());
+        if (Files.isDirectory(input)) {
+            return executeBatch(input);
+        }
+
+        var contents = readContents(input);
         var plan = getPlanGraph(contents);
 
         if (argument.isReport()) {
             executeReport(plan);
         }
         if (argument.getOutputFile() != null) {
-            executeDot(plan);
+            var output = Path.of(argument.getOutputFile());
+            var format = SvgPlanGraphRenderer.Format.of(output);
+            if (format.isPresent()) {
+                executeSvg(plan, output, format.get());
+            } else {
+                executeDot(plan);
+            }
         }
         return 0;
     }
 
-    private String readContents() throws IOException {
-        var path = Path.of(argument.getInputFile());
+    /**
+     * Converts all explain json files in the input directory into HTML files in the output directory.
+     */
+    private int executeBatch(Path inputDir) throws Exception {
+        var outputFile = argument.getOutputFile();
+        if (outputFile == null) {
+            throw new ParameterException("specify --output directory for --input directory");
+        }
+        var outputDir = Path.of(outputFile);
+        Files.createDirectories(outputDir);
+
+        List<Path> inputs;
+        try (var stream = Files.list(inputDir)) {
+            inputs = stream.filter(path -> path.getFileName().toString().endsWith(EXT_JSON)) //
+                    .filter(Files::isRegularFile) //
+                    .sorted() //
+                    .collect(Collectors.toList());
+        }
+
+        long start = System.nanoTime();
+        int failed = 0;
+        var renderer = new SvgPlanGraphRenderer(argument.isVerbose());
+        for (var input : inputs) {
+            String name = input.getFileName().toString();
+            var output = outputDir.resolve(name.substring(0, name.length() - EXT_JSON.length()) + EXT_HTML);
+            try {
+                var plan = getPlanGraph(readContents(input));
+                try (var writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                    renderer.write(plan, writer, SvgPlanGraphRenderer.Format.HTML);
+                }
+            } catch (IOException | PlanGraphException e) {
+                LOG.error("convert error: {}", input, e);
+                failed++;
+            }
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOG.info("converted {} files into {} ({} failed, {} ms)", inputs.size() - failed, outputDir, failed, elapsed);
+        return (failed == 0) ? 0 : 1;
+    }
+
+    private String readContents(Path path) throws IOException {
         return Files.readString(path, StandardCharsets.UTF_8);
     }
 
@@ -103,6 +169,17 @@ public final class ExplainConvertRunner {
         reporter.report("unknown SQL", plan);
     }
 
+    private void executeSvg(PlanGraph plan, Path output, SvgPlanGraphRenderer.Format format) throws IOException {
+        var parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        var renderer = new SvgPlanGraphRenderer(argument.isVerbose());
+        try (var writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            renderer.write(plan, writer, format);
+        }
+    }
+
     private void executeDot(PlanGraph plan) throws EngineException, InterruptedException {
         var options = getOptions();
         var path = CommandPath.system();
@@ -21,6 +21,8 @@ import com.tsurugidb.tgsql.core.config.TgsqlConfig;
 import com.tsurugidb.tgsql.core.executor.engine.AbstractEngine;
 import com.tsurugidb.tgsql.core.executor.engine.Engine;
 import com.tsurugidb.tgsql.core.executor.engine.EngineException;
+import com.tsurugidb.tgsql.core.executor.engine.command.SpecialCommand;
+import com.tsurugidb.tgsql.core.executor.engine.command.WaitCommand;
 import com.tsurugidb.tgsql.core.executor.report.TgsqlReporter;
 import com.tsurugidb.tgsql.core.executor.sql.TransactionWrapper;
 import com.tsurugidb.tgsql.core.model.CallStatement;
@@ -77,6 +79,21 @@ public class ReplEngine extends AbstractEngine {
         return delegate.getTransaction();
     }
 
+    @Override
+    public boolean isTransactionActive() {
+        return delegate.isTransactionActive();
+    }
+
+    @Override
+    public void discardTransaction() throws ServerException, IOException, InterruptedException {
+        delegate.discardTransaction();
+    }
+
+    @Override
+    public boolean cancelExecution() throws ServerException, IOException, InterruptedException {
+        return delegate.cancelExecution();
+    }
+
     @Override
     public boolean executeErroneousStatement(ErroneousStatement statement) throws EngineException, ServerException, IOException, InterruptedException {
         return delegate.executeErroneousStatement(statement);
@@ -84,12 +101,17 @@ public class ReplEngine extends AbstractEngine {
 
     @Override
     public boolean executeSpecialStatement(SpecialStatement statement) throws EngineException, ServerException, IOException, InterruptedException {
+        var commandList = SpecialCommand.findCommand(statement);
+        if (commandList.size() == 1 && commandList.get(0).command() instanceof WaitCommand) {
+            // \wait can be interrupted by Ctrl+C, the job itself keeps running
+            return threadExecutor.invoke(() -> delegate.executeSpecialStatement(statement));
+        }
         return delegate.executeSpecialStatement(statement);
     }
 
     @Override
     public boolean executeCallStatement(CallStatement statement) throws EngineException, ServerException, IOException, InterruptedException {
-        return threadExecutor.invoke(() -> delegate.executeCallStatement(statement));
+        return threadExecutor.invoke(() -> delegate.executeCallStatement(statement), delegate::cancelExecution);
     }
 
     @Override
@@ -114,7 +136,7 @@ public class ReplEngine extends AbstractEngine {
 
     @Override
     public boolean executeGenericStatement(Statement statement) throws EngineException, ServerException, IOException, InterruptedException {
-        return threadExecutor.invoke(() -> delegate.executeGenericStatement(statement));
+        return threadExecutor.invoke(() -> delegate.executeGenericStatement(statement), delegate::cancelExecution);
     }
 
     @Override
@@ -50,6 +50,8 @@ public class ReplResultProcessor implements ResultProcessor {
     private final TgsqlConfig config;
     private final ReplReporter reporter;
 
+    private long lastRowCount = -1;
+
     /**
      * Creates a new instance.
      *
@@ -69,6 +71,7 @@ public class ReplResultProcessor implements ResultProcessor {
 
     @Override
     public long process(TransactionWrapper transaction, ResultSet target) throws ServerException, IOException, InterruptedException {
+        this.lastRowCount = -1;
         dumpMetadata(target.getMetadata());
         if (Thread.interrupted()) {
             LOG.trace("Thread.interrupted (1)");
@@ -101,6 +104,7 @@ public class ReplResultProcessor implements ResultProcessor {
             }
         }
         long timingEnd = System.nanoTime();
+        this.lastRowCount = rowSize;
 
         if (over) {
             reporter.reportResultSetRow("...");
@@ -110,6 +114,11 @@ public class ReplResultProcessor implements ResultProcessor {
         return timingEnd;
     }
 
+    @Override
+    public long getLastRowCount() {
+        return this.lastRowCount;
+    }
+
     private void dumpMetadata(ResultSetMetadata metadata) throws IOException {
         var columns = metadata.getColumns();
         var list = new ArrayList<Field>(columns.size());
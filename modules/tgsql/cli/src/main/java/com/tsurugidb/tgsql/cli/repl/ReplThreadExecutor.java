@@ -20,9 +20,14 @@ import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
 
 import org.jline.terminal.Terminal;
 import org.jline.terminal.Terminal.Signal;
@@ -39,6 +44,9 @@ import com.tsurugidb.tsubakuro.exception.ServerException;
 public class ReplThreadExecutor implements Closeable {
     private static final Logger LOG = LoggerFactory.getLogger(ReplThreadExecutor.class);
 
+    // how long to wait for the task thread to stop after cancellation [milliseconds]
+    private static final long CANCEL_WAIT_TIME = 10_000;
+
     private final String name;
     private final Terminal terminal;
     private final ExecutorService service = Executors.newCachedThreadPool();
@@ -109,11 +117,73 @@ public class ReplThreadExecutor implements Closeable {
      * @throws InterruptedException if interrupted
      */
     public <R> R invoke(EngineTask<R> task) throws EngineException, ServerException, IOException, InterruptedException {
+        return invoke(task, null);
+    }
+
+    /**
+     * server side cancel action.
+     *
+     * @since 1.17.0
+     */
+    @FunctionalInterface
+    public interface CancelAction {
+        /**
+         * requests the server to stop the running task.
+         *
+         * @return {@code true} if the request was sent, or {@code false} if there is nothing to cancel on the server
+         * @throws ServerException      if server side error was occurred
+         * @throws IOException          if I/O error was occurred
+         * @throws InterruptedException if interrupted
+         */
+        boolean cancel() throws ServerException, IOException, InterruptedException;
+    }
+
+    /**
+     * invoke task.
+     * <p>
+     * On Ctrl+C, the cancel action is called first so that the server stops the work, and then the task thread is interrupted.
+     * Pressing Ctrl+C again interrupts the task thread immediately.
+     * </p>
+     *
+     * @param <R>      return type
+     * @param task     task
+     * @param canceller server side cancel action, or {@code null} to only interrupt the task thread
+     * @return return value from task
+     * @throws EngineException      if error occurred in engine
+     * @throws ServerException      if server side error was occurred
+     * @throws IOException          if I/O error was occurred
+     * @throws InterruptedException if interrupted
+     * @since 1.17.0
+     */
+    public <R> R invoke(EngineTask<R> task, @Nullable CancelAction canceller) throws EngineException, ServerException, IOException, InterruptedException {
         long timingStart = System.nanoTime();
-        var future = service.submit(task);
+        var taskDone = new CountDownLatch(1);
+        var future = service.submit(() -> {
+            try {
+                return task.call();
+            } finally {
+                taskDone.countDown();
+            }
+        });
+        var cancelStart = new AtomicLong(0);
         var prevHandler = terminal.handle(Signal.INT, signal -> { // Ctrl+C
             LOG.trace("{} catch Signal.{}", name, signal);
-            future.cancel(true);
+            boolean first = cancelStart.compareAndSet(0, System.nanoTime());
+            if (!first || canceller == null) {
+                future.cancel(true);
+                return;
+            }
+            // interrupt after the server has been asked to stop, so that the task does not commit the half-done work
+            service.execute(() -> {
+                try {
+                    boolean sent = canceller.cancel();
+                    LOG.debug("{} server side cancel requested. sent={}", name, sent); //$NON-NLS-1$
+                } catch (Exception e) {
+                    LOG.debug("{} server side cancel failed", name, e); //$NON-NLS-1$
+                } finally {
+                    future.cancel(true);
+                }
+            });
         });
         try {
             return future.get();
@@ -121,10 +191,22 @@ public class ReplThreadExecutor implements Closeable {
             long timingEnd = System.nanoTime();
             LOG.trace("{} user cancelled", name, e);
             long time = timingEnd - timingStart;
-            throw new TgsqlMessageException(MessageFormat.format("{0} cancelled", name), e, time);
+            String message;
+            if (taskDone.await(CANCEL_WAIT_TIME, TimeUnit.MILLISECONDS)) {
+                message = getCancelledMessage(cancelStart.get());
+            } else {
+                message = MessageFormat.format("{0} cancelled (still stopping after {1} ms)", name, CANCEL_WAIT_TIME);
+            }
+            throw new TgsqlMessageException(message, e, time);
         } catch (ExecutionException e) {
             LOG.debug("{} invoke catch ExecutionException", name, e);
             var c = e.getCause();
+            long start = cancelStart.get();
+            if (start != 0) {
+                // the task was stopped by the server side cancel
+                long time = System.nanoTime() - timingStart;
+                throw new TgsqlMessageException(getCancelledMessage(start), c, time);
+            }
             if (c instanceof EngineException) {
                 throw (EngineException) c;
             }
@@ -146,6 +228,12 @@ public class ReplThreadExecutor implements Closeable {
         }
     }
 
+    private String getCancelledMessage(long cancelStart) {
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - cancelStart);
+        LOG.debug("{} cancel latency: {} ms", name, latency); //$NON-NLS-1$
+        return MessageFormat.format("{0} cancelled (cancel latency: {1} ms)", name, latency);
+    }
+
     @Override
     public void close() throws IOException {
         service.shutdownNow();
@@ -16,7 +16,10 @@
 package com.tsurugidb.tgsql.cli.repl.jline;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 import org.jline.reader.Candidate;
 import org.jline.reader.Completer;
@@ -25,6 +28,7 @@ import org.jline.reader.ParsedLine;
 
 import com.tsurugidb.tgsql.core.config.TgsqlConfig;
 import com.tsurugidb.tgsql.core.executor.engine.command.SpecialCommand;
+import com.tsurugidb.tgsql.core.executor.sql.SchemaMetadataCache;
 
 /**
  * Tsurugi SQL console JLine Completer.
@@ -75,6 +79,56 @@ public class ReplJLineCompleter implements Completer {
             sqCandidateList = getSqCandidateList();
         }
         collectCandidate(line, sqCandidateList, candidates);
+        collectSchemaCandidate(line, candidates);
+    }
+
+    private static final Set<String> TABLE_NAME_LEADERS = Set.of("from", "join", "into", "update", "table"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+    private static final Set<String> COLUMN_NAME_LEADERS = Set.of("select", "where", "and", "or", "set", "by", "on"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+
+    private void collectSchemaCandidate(String line, List<Candidate> candidates) {
+        // never blocks: the cache returns what is already loaded and reloads in background
+        var metadataCache = config.getMetadataCache();
+        if (metadataCache == null) {
+            return;
+        }
+        var inputWords = SimpleCompleterCandidate.toWordList(line);
+        if (inputWords.length < 2) {
+            return;
+        }
+        String previousWord = inputWords[inputWords.length - 2];
+        String word = inputWords[inputWords.length - 1];
+        if (TABLE_NAME_LEADERS.contains(previousWord)) {
+            collectNameCandidate(metadataCache.getTableNames(), word, candidates);
+        } else if (COLUMN_NAME_LEADERS.contains(previousWord) || previousWord.endsWith(",")) { //$NON-NLS-1$
+            for (String tableName : findTableNames(metadataCache, inputWords)) {
+                collectNameCandidate(metadataCache.getColumnNames(tableName), word, candidates);
+            }
+        }
+    }
+
+    private static Set<String> findTableNames(SchemaMetadataCache metadataCache, String[] inputWords) {
+        var tableList = metadataCache.getTableNames();
+        var result = new LinkedHashSet<String>();
+        for (int i = 0; i < inputWords.length - 2; i++) {
+            if (!TABLE_NAME_LEADERS.contains(inputWords[i])) {
+                continue;
+            }
+            String word = inputWords[i + 1];
+            for (String tableName : tableList) {
+                if (tableName.equalsIgnoreCase(word)) {
+                    result.add(tableName);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void collectNameCandidate(List<String> nameList, String word, List<Candidate> result) {
+        for (String name : nameList) {
+            if (name.toLowerCase(Locale.ENGLISH).startsWith(word)) {
+                result.add(new Candidate(name, name, null, null, null, null, true));
+            }
+        }
     }
 
     private static List<SimpleCompleterCandidate> getSqCandidateList() {
@@ -106,7 +106,7 @@ public class SimpleCompleterCandidate {
         for (int i = 0; i < inputWords.length; i++) {
             String inputWord = inputWords[i];
             String candidate = candidateWords.get(i);
-            if (inputWord.equals(candidate)) {
+            if (inputWord.equalsIgnoreCase(candidate)) {
                 if (i == inputWords.length - 1) {
                     return new CandidateWord(candidate, isEnd(i));
                 }
@@ -114,7 +114,7 @@ public class SimpleCompleterCandidate {
             }
 
             if (i == inputWords.length - 1) {
-                if (candidate.startsWith(inputWord)) {
+                if (candidate.toLowerCase(Locale.ENGLISH).startsWith(inputWord)) {
                     return new CandidateWord(candidate, isEnd(i));
                 }
             }
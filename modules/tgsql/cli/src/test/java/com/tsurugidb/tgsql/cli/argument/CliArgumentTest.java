@@ -40,6 +40,7 @@ import com.beust.jcommander.ParameterException;
 import com.tsurugidb.tgsql.cli.argument.CliArgument.TransactionEnum;
 import com.tsurugidb.tgsql.core.TgsqlConstants;
 import com.tsurugidb.tgsql.core.config.TgsqlLobTransferType;
+import com.tsurugidb.tgsql.core.executor.explain.PlanFinding.Severity;
 import com.tsurugidb.tsubakuro.channel.common.connection.FileCredential;
 import com.tsurugidb.tsubakuro.channel.common.connection.NullCredential;
 import com.tsurugidb.tsubakuro.channel.common.connection.RememberMeCredential;
@@ -111,6 +112,22 @@ class CliArgumentTest {
         assertEquals(CliMode.EXPLAIN, argument.getCliMode());
     }
 
+    @Test
+    void cliModeAnalyze() {
+        var argument = new CliArgument();
+        set(argument, "--analyze", true);
+
+        assertEquals(CliMode.ANALYZE, argument.getCliMode());
+    }
+
+    @Test
+    void cliModeDaemon() {
+        var argument = new CliArgument();
+        set(argument, "--daemon", true);
+
+        assertEquals(CliMode.DAEMON, argument.getCliMode());
+    }
+
     @Test
     void cliModeError() {
         var argument = new CliArgument();
@@ -118,7 +135,7 @@ class CliArgumentTest {
         set(argument, "--script", true);
 
         var e = assertThrows(ParameterException.class, () -> argument.getCliMode());
-        assertEquals("specify only one of [--console, --script, --exec]", e.getMessage());
+        assertEquals("specify only one of [--console, --script, --exec, --analyze, --daemon]", e.getMessage());
     }
 
     // connection
@@ -174,6 +191,193 @@ class CliArgumentTest {
         testBoolean("--no-commit", CliArgument::getNoCommit);
     }
 
+    @Test
+    void commitEvery() {
+        {
+            var argument = new CliArgument();
+            assertNull(argument.getCommitEvery());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--commit-every", 100);
+            assertEquals(100, argument.getCommitEvery());
+        }
+    }
+
+    @Test
+    void commitInterval() {
+        {
+            var argument = new CliArgument();
+            assertNull(argument.getCommitInterval());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--commit-interval", 500L);
+            assertEquals(500L, argument.getCommitInterval());
+        }
+    }
+
+    @Test
+    void retry() {
+        {
+            var argument = new CliArgument();
+            assertNull(argument.getRetry());
+            assertNull(argument.getRetryBackoff());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--retry", 3);
+            set(argument, "--retry-backoff", 50L);
+            assertEquals(3, argument.getRetry());
+            assertEquals(50L, argument.getRetryBackoff());
+        }
+    }
+
+    @Test
+    void statsReport() {
+        {
+            var argument = new CliArgument();
+            assertNull(argument.getStatsReport());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--stats-report", "/path/to/report.json");
+            assertEquals("/path/to/report.json", argument.getStatsReport());
+        }
+    }
+
+    @Test
+    void parseAhead() {
+        {
+            var argument = new CliArgument();
+            assertNull(argument.getParseAhead());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--parse-ahead", 0);
+            assertEquals(0, argument.getParseAhead());
+        }
+    }
+
+    @Test
+    void metrics() {
+        {
+            var argument = new CliArgument();
+            assertNull(argument.getMetricsOutput());
+            assertNull(argument.getMetricsTextfile());
+            assertNull(argument.getMetricsInterval());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--metrics-output", "metrics.jsonl");
+            set(argument, "--metrics-textfile", "tgsql.prom");
+            set(argument, "--metrics-interval", 5000L);
+            assertEquals("metrics.jsonl", argument.getMetricsOutput());
+            assertEquals("tgsql.prom", argument.getMetricsTextfile());
+            assertEquals(5000L, argument.getMetricsInterval());
+        }
+    }
+
+    @Test
+    void journal() {
+        {
+            var argument = new CliArgument();
+            assertNull(argument.getJournal());
+            assertNull(argument.getResume());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--journal", "progress.journal");
+            assertEquals("progress.journal", argument.getJournal());
+            assertNull(argument.getResume());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--resume", "progress.journal");
+            assertNull(argument.getJournal());
+            assertEquals("progress.journal", argument.getResume());
+        }
+    }
+
+    // analyze
+
+    @Test
+    void analyzeFormat() {
+        {
+            var argument = new CliArgument();
+            assertFalse(argument.isAnalyzeJson());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--analyze-format", "JSON");
+            assertTrue(argument.isAnalyzeJson());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--analyze-format", "xml");
+            assertThrows(ParameterException.class, () -> argument.isAnalyzeJson());
+        }
+    }
+
+    @Test
+    void analyzeSessions() {
+        {
+            var argument = new CliArgument();
+            assertEquals(4, argument.getAnalyzeSessions());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--analyze-sessions", 8);
+            assertEquals(8, argument.getAnalyzeSessions());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--analyze-sessions", 0);
+            assertThrows(ParameterException.class, () -> argument.getAnalyzeSessions());
+        }
+    }
+
+    @Test
+    void analyzeFailOn() {
+        {
+            var argument = new CliArgument();
+            assertNull(argument.getAnalyzeFailOn());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--analyze-fail-on", "warning");
+            assertEquals(Severity.WARNING, argument.getAnalyzeFailOn());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--analyze-fail-on", "fatal");
+            assertThrows(ParameterException.class, () -> argument.getAnalyzeFailOn());
+        }
+    }
+
+    // daemon
+
+    @Test
+    void daemonSessions() {
+        {
+            var argument = new CliArgument();
+            assertNull(argument.getDaemonFile());
+            assertEquals(2, argument.getDaemonSessions());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--daemon-file", "daemon.properties");
+            set(argument, "--daemon-sessions", 4);
+            assertEquals("daemon.properties", argument.getDaemonFile());
+            assertEquals(4, argument.getDaemonSessions());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--daemon-sessions", 0);
+            assertThrows(ParameterException.class, () -> argument.getDaemonSessions());
+        }
+    }
+
     // property
 
     @Test
@@ -386,6 +590,29 @@ class CliArgumentTest {
         }
     }
 
+    @Test
+    void interactiveCredential() {
+        {
+            var argument = new CliArgument();
+            assertFalse(argument.isInteractiveCredential());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--user", "user1");
+            assertTrue(argument.isInteractiveCredential());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--auth-token", "token1");
+            assertFalse(argument.isInteractiveCredential());
+        }
+        {
+            var argument = new CliArgument();
+            set(argument, "--no-auth", true);
+            assertFalse(argument.isInteractiveCredential());
+        }
+    }
+
     @Test
     void credentialAuthToken() {
         for (String optionName : List.of("--auth-token")) {
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.cli.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DaemonProtocolTest {
+
+    @TempDir
+    Path temporaryDir;
+
+    @Test
+    void string() throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        var output = new DataOutputStream(bytes);
+        DaemonProtocol.writeString(output, "SELECT '\u3042' FROM T");
+        DaemonProtocol.writeString(output, "");
+        output.flush();
+
+        var input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals("SELECT '\u3042' FROM T", DaemonProtocol.readString(input));
+        assertEquals("", DaemonProtocol.readString(input));
+    }
+
+    @Test
+    void string_too_large() throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        var output = new DataOutputStream(bytes);
+        DaemonProtocol.writeString(output, "x".repeat(DaemonProtocol.MAX_HEADER_SIZE + 1));
+        output.flush();
+
+        var input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        var e = assertThrows(IOException.class, () -> DaemonProtocol.readString(input, DaemonProtocol.MAX_HEADER_SIZE));
+        assertTrue(e.getMessage().contains("size"), e.getMessage());
+    }
+
+    @Test
+    void arguments() throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        var output = new DataOutputStream(bytes);
+        output.writeInt(2);
+        DaemonProtocol.writeString(output, "--exec");
+        DaemonProtocol.writeString(output, "SELECT 1");
+        output.flush();
+
+        var input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(List.of("--exec", "SELECT 1"), DaemonProtocol.readArguments(input));
+    }
+
+    @Test
+    void arguments_too_many() throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        var output = new DataOutputStream(bytes);
+        output.writeInt(Integer.MAX_VALUE);
+        output.flush();
+
+        var input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        var e = assertThrows(IOException.class, () -> DaemonProtocol.readArguments(input));
+        assertTrue(e.getMessage().contains("argument count"), e.getMessage());
+    }
+
+    @Test
+    void frames() throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        var output = new DataOutputStream(bytes);
+        try (var stdout = new DaemonFrameOutputStream(output, DaemonProtocol.FRAME_STDOUT); //
+                var stderr = new DaemonFrameOutputStream(output, DaemonProtocol.FRAME_STDERR)) {
+            stdout.write("hello".getBytes(StandardCharsets.UTF_8));
+            stderr.write("warn".getBytes(StandardCharsets.UTF_8));
+            stderr.flush();
+            stdout.write(", world".getBytes(StandardCharsets.UTF_8));
+            stdout.write(new byte[20_000]);
+        }
+        DaemonProtocol.writeExit(output, 3);
+
+        var stdout = new ByteArrayOutputStream();
+        var stderr = new ByteArrayOutputStream();
+        var input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        int exitCode = DaemonProtocol.readFrames(input, stdout, stderr);
+        assertEquals(3, exitCode);
+        assertEquals(5 + 7 + 20_000, stdout.size());
+        assertEquals("hello, world", new String(stdout.toByteArray(), 0, 12, StandardCharsets.UTF_8));
+        assertEquals("warn", stderr.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void frames_disconnected() throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        var output = new DataOutputStream(bytes);
+        try (var stdout = new DaemonFrameOutputStream(output, DaemonProtocol.FRAME_STDOUT)) {
+            stdout.write("partial".getBytes(StandardCharsets.UTF_8));
+        }
+
+        var input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThrows(EOFException.class, () -> DaemonProtocol.readFrames(input, new ByteArrayOutputStream(), new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void daemonFile() throws Exception {
+        Path file = temporaryDir.resolve("sub").resolve("daemon.properties");
+        var properties = new Properties();
+        properties.setProperty(DaemonProtocol.KEY_PORT, "12345");
+        properties.setProperty(DaemonProtocol.KEY_TOKEN, "abc");
+        DaemonProtocol.writeDaemonFile(file, properties);
+
+        var loaded = DaemonProtocol.readDaemonFile(file);
+        assertEquals("12345", loaded.getProperty(DaemonProtocol.KEY_PORT));
+        assertEquals("abc", loaded.getProperty(DaemonProtocol.KEY_TOKEN));
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(file)));
+        }
+    }
+
+    @Test
+    void daemonFile_broken() throws Exception {
+        Path file = temporaryDir.resolve("daemon.properties");
+        Files.writeString(file, "port=12345\n");
+        var e = assertThrows(IOException.class, () -> DaemonProtocol.readDaemonFile(file));
+        assertTrue(e.getMessage().contains("token"), e.getMessage());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.cli.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TgsqlClientTest {
+
+    @TempDir
+    Path temporaryDir;
+
+    private final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+    private int execute(String... args) {
+        return TgsqlClient.execute(List.of(args), //
+                new PrintStream(stdout, true, StandardCharsets.UTF_8), //
+                new PrintStream(stderr, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void usage() {
+        int exitCode = execute("--daemon-file", temporaryDir.resolve("daemon.properties").toString());
+        assertEquals(1, exitCode);
+        assertTrue(stderr.toString(StandardCharsets.UTF_8).contains("usage"));
+    }
+
+    @Test
+    void not_running() {
+        int exitCode = execute("--daemon-file", temporaryDir.resolve("daemon.properties").toString(), "--exec", "SELECT 1");
+        assertEquals(1, exitCode);
+        assertTrue(stderr.toString(StandardCharsets.UTF_8).contains("tgsql daemon is not running"));
+    }
+
+    @Test
+    void execute() throws Exception {
+        Path file = temporaryDir.resolve("daemon.properties");
+        try (var server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            var properties = new Properties();
+            properties.setProperty(DaemonProtocol.KEY_PORT, String.valueOf(server.getLocalPort()));
+            properties.setProperty(DaemonProtocol.KEY_TOKEN, "testing");
+            DaemonProtocol.writeDaemonFile(file, properties);
+
+            var request = CompletableFuture.supplyAsync(() -> {
+                try (var socket = server.accept()) {
+                    var input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                    var output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                    var received = new ArrayList<String>();
+                    for (int i = 0; i < 5; i++) {
+                        received.add(DaemonProtocol.readString(input));
+                    }
+                    int argc = input.readInt();
+                    for (int i = 0; i < argc; i++) {
+                        received.add(DaemonProtocol.readString(input));
+                    }
+                    byte[] result = "[1]\n".getBytes(StandardCharsets.UTF_8);
+                    DaemonProtocol.writeFrame(output, DaemonProtocol.FRAME_STDOUT, result, 0, result.length);
+                    DaemonProtocol.writeExit(output, 0);
+                    return received;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            int exitCode = execute("--daemon-file", file.toString(), "--exec", "SELECT 1");
+            assertEquals(0, exitCode, stderr.toString(StandardCharsets.UTF_8));
+            assertEquals("[1]\n", stdout.toString(StandardCharsets.UTF_8));
+
+            var received = request.get();
+            assertEquals(DaemonProtocol.MAGIC, received.get(0));
+            assertEquals("testing", received.get(1));
+            assertEquals(DaemonProtocol.COMMAND_EXECUTE, received.get(2));
+            assertEquals(List.of("--exec", "SELECT 1"), received.subList(5, received.size()));
+        }
+    }
+}
@@ -18,6 +18,8 @@ package com.tsurugidb.tgsql.cli.repl.jline;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 class SimpleCompleterCandidateTest {
@@ -136,6 +138,17 @@ class SimpleCompleterCandidateTest {
         }
     }
 
+    @Test
+    void testFindCandidateWordMixedCase() {
+        var candidate = new SimpleCompleterCandidate(List.of("\\show", "table", "Order_Detail"), true);
+
+        var actual = candidate.findCandidateWord(SimpleCompleterCandidate.toWordList("\\show table ord"));
+        assertEquals("Order_Detail", actual.word());
+        assertEquals(true, actual.end());
+
+        assertNull(candidate.findCandidateWord(SimpleCompleterCandidate.toWordList("\\show table item")));
+    }
+
     private static void testFindCandidateWord(String input, String candidateLine, boolean candidateEnd, String expectedWord, boolean expectedEnd) {
         var inputWords = SimpleCompleterCandidate.toWordList(input);
         var candidate = new SimpleCompleterCandidate(candidateLine, candidateEnd);
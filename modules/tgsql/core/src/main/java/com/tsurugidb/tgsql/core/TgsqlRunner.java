@@ -15,6 +15,7 @@
  */
 package com.tsurugidb.tgsql.core;
 
+import java.io.Closeable;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -24,6 +25,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -43,15 +45,26 @@ import com.tsurugidb.tgsql.core.executor.IoSupplier;
 import com.tsurugidb.tgsql.core.executor.engine.AbstractEngine;
 import com.tsurugidb.tgsql.core.executor.engine.BasicEngine;
 import com.tsurugidb.tgsql.core.executor.engine.Engine;
+import com.tsurugidb.tgsql.core.executor.engine.TransactionRetryExecutor;
+import com.tsurugidb.tgsql.core.executor.journal.ScriptCheckpoint;
+import com.tsurugidb.tgsql.core.executor.journal.ScriptJournal;
 import com.tsurugidb.tgsql.core.executor.report.BasicReporter;
 import com.tsurugidb.tgsql.core.executor.report.TgsqlReporter;
 import com.tsurugidb.tgsql.core.executor.result.BasicResultProcessor;
 import com.tsurugidb.tgsql.core.executor.result.ResultProcessor;
 import com.tsurugidb.tgsql.core.executor.sql.BasicSqlProcessor;
+import com.tsurugidb.tgsql.core.executor.sql.SchemaMetadataCache;
 import com.tsurugidb.tgsql.core.executor.sql.TransactionWrapper;
 import com.tsurugidb.tgsql.core.model.Statement;
 import com.tsurugidb.tgsql.core.model.Statement.Kind;
+import com.tsurugidb.tgsql.core.parser.MappedScriptReader;
+import com.tsurugidb.tgsql.core.parser.PipelinedSqlParser;
 import com.tsurugidb.tgsql.core.parser.SqlParser;
+import com.tsurugidb.tools.common.metrics.MetricsReporter;
+import com.tsurugidb.tools.common.metrics.PrometheusTextfileExporter;
+import com.tsurugidb.tools.common.monitoring.JsonMonitor;
+import com.tsurugidb.tools.common.monitoring.Monitor;
+import com.tsurugidb.tools.common.monitoring.NullMonitor;
 import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
 import com.tsurugidb.tsubakuro.channel.common.connection.NullCredential;
 import com.tsurugidb.tsubakuro.common.Session;
@@ -158,7 +171,31 @@ public final class TgsqlRunner {
         try (var sqlProcessor = new BasicSqlProcessor(config); //
                 var resultProcessor = new BasicResultProcessor()) {
             var reporter = new BasicReporter(config);
-            return execute(script, new BasicEngine(config, sqlProcessor, resultProcessor, reporter));
+            var engine = new BasicEngine(config, sqlProcessor, resultProcessor, reporter);
+            return executeWithConfig(script, engine);
+        }
+    }
+
+    /**
+     * Executes the script with the transaction retry and the metrics reporter configured in {@link Engine#getConfig()}.
+     *
+     * @param script the script file
+     * @param engine the statement executor
+     * @return {@code true} if successfully completed, {@code false} otherwise
+     * @throws IOException          if I/O error was occurred while establishing connection
+     * @throws InterruptedException if interrupted while establishing connection
+     * @since 1.17.0
+     */
+    public static boolean executeWithConfig(//
+            @Nonnull IoSupplier<? extends Reader> script, //
+            @Nonnull Engine engine) throws IOException, InterruptedException {
+        Objects.requireNonNull(script);
+        Objects.requireNonNull(engine);
+
+        var config = engine.getConfig();
+        try (var metricsReporter = startMetricsReporter(config)) {
+            var executor = new TransactionRetryExecutor(engine, config.getTransactionRetry(), config.getTransactionRetryBackoff());
+            return execute(script, engine, executor);
         }
     }
 
@@ -176,25 +213,108 @@ public final class TgsqlRunner {
             @Nonnull Engine engine) throws IOException, InterruptedException {
         Objects.requireNonNull(script);
         Objects.requireNonNull(engine);
+        return execute(script, engine, new TransactionRetryExecutor(engine, 0, Duration.ZERO));
+    }
 
+    private static boolean execute(//
+            IoSupplier<? extends Reader> script, //
+            Engine engine, //
+            TransactionRetryExecutor executor) throws IOException, InterruptedException {
+        var config = engine.getConfig();
+        ScriptCheckpoint checkpoint;
         try {
-            prepareConnect(engine);
-        } catch (Exception e) {
-            LOG.error("exception was occurred while connect", e);
+            checkpoint = loadCheckpoint(config);
+        } catch (IOException e) {
+            LOG.error("exception was occurred while reading script journal", e);
+            engine.finish(false);
+            return false;
+        }
+        if (checkpoint.isCompleted()) {
+            LOG.info("script was already completed: journal={}", config.getResumeJournal());
+            engine.finish(true);
+            return true;
+        }
+
+        var journalFile = config.getScriptJournal();
+        ScriptJournal journal;
+        try {
+            journal = (journalFile != null) ? ScriptJournal.open(journalFile) : null;
+        } catch (IOException e) {
+            LOG.error("exception was occurred while opening script journal", e);
             engine.finish(false);
             return false;
         }
+        try (journal) {
+            boolean succeed = execute(script, engine, executor, checkpoint, journal);
+            if (!succeed && journal != null) {
+                LOG.info("the last committed position was recorded into the script journal: {}", journal.getFile());
+            }
+            return succeed;
+        }
+    }
+
+    private static ScriptCheckpoint loadCheckpoint(TgsqlConfig config) throws IOException {
+        var file = config.getResumeJournal();
+        if (file == null) {
+            return ScriptCheckpoint.BEGINNING;
+        }
+        var checkpoint = ScriptCheckpoint.load(file);
+        LOG.debug("resume checkpoint: {}", checkpoint); //$NON-NLS-1$
+        return checkpoint;
+    }
 
+    private static boolean execute(//
+            IoSupplier<? extends Reader> script, //
+            Engine engine, //
+            TransactionRetryExecutor executor, //
+            ScriptCheckpoint checkpoint, //
+            @Nullable ScriptJournal journal) throws IOException, InterruptedException {
         LOG.info("start processing script");
-        try (var parser = new SqlParser(script.get())) {
-            while (true) {
-                Statement statement = parser.next();
-                if (statement == null) {
-                    LOG.trace("EOF");
-                    break;
-                }
+        int parseAhead = engine.getConfig().getParseAhead();
+        LOG.debug("parse ahead: {}", parseAhead); //$NON-NLS-1$
+        long statementIndex = checkpoint.getStatementIndex();
+        var input = script.get();
+        // the script file can be repositioned by byte offsets on resume
+        var mapped = (journal != null && input instanceof MappedScriptReader) ? (MappedScriptReader) input : null;
+        if (mapped != null) {
+            mapped.enablePositionTracking();
+        }
+        var sqlParser = new SqlParser(input);
+        if (checkpoint.getOffset() > 0) {
+            LOG.info("resume script from statement {} (line={}, column={})", //
+                    statementIndex + 1, //
+                    checkpoint.getLine() + 1, //
+                    checkpoint.getColumn() + 1);
+            try {
+                sqlParser.skip(checkpoint.getOffset(), checkpoint.getByteOffset(), checkpoint.getLine(), checkpoint.getColumn());
+            } catch (IOException e) {
+                sqlParser.close();
+                LOG.error("exception was occurred while seeking script to the checkpoint", e);
+                finishScript(engine, executor, false);
+                return false;
+            }
+        }
+        try (var parser = new PipelinedSqlParser(sqlParser, parseAhead)) {
+            // the script is read and parsed while the connection is being established
+            Statement statement = parser.next();
+            try {
+                prepareConnect(engine);
+            } catch (Exception e) {
+                LOG.error("exception was occurred while connect", e);
+                engine.finish(false);
+                return false;
+            }
+
+            for (; statement != null; statement = parser.next()) {
                 try {
-                    boolean cont = engine.execute(statement);
+                    // all preceding statements are durable if there is no active transaction
+                    if (journal != null && !engine.isTransactionActive()) {
+                        var region = statement.getRegion();
+                        long byteOffset = (mapped != null) ? mapped.getByteOffset(region.getPosition()) : -1;
+                        journal.checkpoint(statementIndex, region, byteOffset);
+                    }
+                    statementIndex++;
+                    boolean cont = executor.execute(statement);
                     if (!cont) {
                         LOG.info("shutdown was requested");
                         break;
@@ -215,7 +335,7 @@ public final class TgsqlRunner {
                             reporter.reportTiming(time);
                         }
                     }
-                    engine.finish(false);
+                    finishScript(engine, executor, false);
                     return false;
                 } catch (TgsqlNoMessageException e) {
                     LOG.trace("no message exception", e);
@@ -223,7 +343,7 @@ public final class TgsqlRunner {
                             statement.getText(), //
                             statement.getRegion().getStartLine() + 1, //
                             statement.getRegion().getStartColumn() + 1);
-                    engine.finish(false);
+                    finishScript(engine, executor, false);
                     return false;
                 } catch (Exception e) {
                     LOG.error("exception was occurred while processing statement: text=''{}'', line={}, column={}", //
@@ -231,16 +351,64 @@ public final class TgsqlRunner {
                             statement.getRegion().getStartLine() + 1, //
                             statement.getRegion().getStartColumn() + 1, //
                             e);
-                    engine.finish(false);
+                    finishScript(engine, executor, false);
                     return false;
                 }
             }
         }
-        engine.finish(true);
+        finishScript(engine, executor, true);
+        if (journal != null) {
+            journal.complete(statementIndex);
+        }
         LOG.info("script execution was successfully completed");
         return true;
     }
 
+    private static void finishScript(Engine engine, TransactionRetryExecutor executor, boolean succeed) throws IOException {
+        executor.reportSummary();
+        writeStatisticsReport(engine.getConfig());
+        engine.finish(succeed);
+    }
+
+    private static void writeStatisticsReport(TgsqlConfig config) {
+        var path = config.getStatisticsReport();
+        var statementStatistics = config.getStatementStatistics();
+        if (path == null || statementStatistics == null) {
+            return;
+        }
+        LOG.debug("write statement statistics. path={}", path); //$NON-NLS-1$
+        try (var writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            statementStatistics.writeJson(writer);
+        } catch (IOException e) {
+            LOG.warn("failed to write statement statistics. path={}", path, e); //$NON-NLS-1$
+        }
+    }
+
+    private static Closeable startMetricsReporter(TgsqlConfig config) throws IOException {
+        var output = config.getMetricsOutput();
+        var textfile = config.getMetricsTextfile();
+        if (output == null && textfile == null) {
+            return () -> {
+                // do nothing
+            };
+        }
+        LOG.debug("start metrics reporter. output={}, textfile={}", output, textfile); //$NON-NLS-1$
+        Monitor monitor = (output != null) ? new JsonMonitor(output) : NullMonitor.INSTANCE;
+        var exporter = (textfile != null) ? new PrometheusTextfileExporter(textfile) : null;
+        var reporter = new MetricsReporter(config.getMetrics().getRegistry(), monitor, exporter);
+        try {
+            reporter.start(config.getMetricsInterval());
+        } catch (RuntimeException e) {
+            monitor.close();
+            throw e;
+        }
+        return () -> {
+            try (monitor) {
+                reporter.close();
+            }
+        };
+    }
+
     private static IoSupplier<? extends Reader> toReaderSupplier(String script) throws FileNotFoundException {
         if (script.equals(NAME_STANDARD_INPUT)) {
             LOG.debug("read SQL script from standard input"); //$NON-NLS-1$
@@ -257,7 +425,7 @@ public final class TgsqlRunner {
             throw new FileNotFoundException(path.toString());
         }
         LOG.debug("read SQL script from file: {}", path); //$NON-NLS-1$
-        return () -> Files.newBufferedReader(path, DEFAULT_SCRIPT_ENCODING);
+        return () -> MappedScriptReader.open(path, DEFAULT_SCRIPT_ENCODING);
     }
 
     /**
@@ -282,9 +450,16 @@ public final class TgsqlRunner {
         Objects.requireNonNull(script);
         Objects.requireNonNull(resultProcessor);
 
-        try (var sqlProcessor = new BasicSqlProcessor(config)) {
-            var engine = new BasicEngine(config, sqlProcessor, resultProcessor, reporter);
-            repl(script, engineWrapper.apply(engine));
+        try (var metricsReporter = startMetricsReporter(config); //
+                var sqlProcessor = new BasicSqlProcessor(config); //
+                var metadataCache = new SchemaMetadataCache(sqlProcessor, config)) {
+            config.setMetadataCache(metadataCache);
+            try {
+                var engine = new BasicEngine(config, sqlProcessor, resultProcessor, reporter);
+                repl(script, engineWrapper.apply(engine));
+            } finally {
+                config.setMetadataCache(null);
+            }
         }
     }
 
@@ -15,6 +15,8 @@
  */
 package com.tsurugidb.tgsql.core.config;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
@@ -30,6 +32,11 @@ import com.tsurugidb.sql.proto.SqlRequest;
 import com.tsurugidb.sql.proto.SqlRequest.CommitStatus;
 import com.tsurugidb.tgsql.core.credential.DefaultCredentialSessionConnector;
 import com.tsurugidb.tgsql.core.executor.report.HistoryEntry;
+import com.tsurugidb.tgsql.core.executor.sql.PendingSession;
+import com.tsurugidb.tgsql.core.executor.sql.SchemaMetadataCache;
+import com.tsurugidb.tgsql.core.executor.stats.StatementStatistics;
+import com.tsurugidb.tgsql.core.executor.stats.TgsqlMetrics;
+import com.tsurugidb.tgsql.core.parser.PipelinedSqlParser;
 import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
 
 /**
@@ -37,23 +44,64 @@ import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
  */
 public class TgsqlConfig {
 
+    /**
+     * The default initial wait time before retrying transactions.
+     *
+     * @since 1.17.0
+     */
+    public static final Duration DEFAULT_TRANSACTION_RETRY_BACKOFF = Duration.ofMillis(100);
+
+    /**
+     * The default time to live of the schema metadata cache [seconds].
+     *
+     * @since 1.17.0
+     */
+    public static final int DEFAULT_METADATA_CACHE_TTL = 60;
+
+    /**
+     * The default interval of reporting metrics snapshots.
+     *
+     * @since 1.17.0
+     */
+    public static final Duration DEFAULT_METRICS_INTERVAL = Duration.ofSeconds(10);
+
     private String endpoint;
     private Optional<String> connectionLabel = Optional.empty();
     private TgsqlLobTransferType lobTransferType = TgsqlLobTransferType.DEFAULT;
 
     private Supplier<Credential> credential;
     private DefaultCredentialSessionConnector defaultCredentialSessionConnector;
+    private PendingSession pendingSession;
 
     private SqlRequest.TransactionOption transactionOption;
     private Map<String, String> propertyMap = Map.of();
 
     private TgsqlCommitMode commitMode;
     private CommitStatus commitStatus;
+    private int commitEvery = 1;
+    private Duration commitInterval;
+    private int transactionRetry = 0;
+    private Duration transactionRetryBackoff = DEFAULT_TRANSACTION_RETRY_BACKOFF;
 
     private final TgsqlClientVariableMap clientVariableMap = new TgsqlClientVariableMap();
 
     private IntFunction<Iterator<HistoryEntry>> historySupplier;
 
+    private SchemaMetadataCache metadataCache;
+
+    private StatementStatistics statementStatistics;
+    private Path statisticsReport;
+
+    private final TgsqlMetrics metrics = new TgsqlMetrics();
+    private Path metricsOutput;
+    private Path metricsTextfile;
+    private Duration metricsInterval = DEFAULT_METRICS_INTERVAL;
+
+    private int parseAhead = PipelinedSqlParser.DEFAULT_CAPACITY;
+
+    private Path scriptJournal;
+    private Path resumeJournal;
+
     /**
      * set endpoint.
      *
@@ -145,6 +193,28 @@ public class TgsqlConfig {
         return this.defaultCredentialSessionConnector;
     }
 
+    /**
+     * set session which is being established in background.
+     *
+     * @param pendingSession pending session
+     * @since 1.17.0
+     */
+    public synchronized void setPendingSession(@Nullable PendingSession pendingSession) {
+        this.pendingSession = pendingSession;
+    }
+
+    /**
+     * take session which is being established in background.
+     *
+     * @return pending session, or {@code null} if not available. the caller must close it
+     * @since 1.17.0
+     */
+    public synchronized @Nullable PendingSession takePendingSession() {
+        var result = this.pendingSession;
+        this.pendingSession = null;
+        return result;
+    }
+
     /**
      * set transaction option.
      *
@@ -219,6 +289,93 @@ public class TgsqlConfig {
         return this.commitStatus;
     }
 
+    /**
+     * set the number of statements to be committed together in auto-commit mode.
+     *
+     * @param commitEvery number of statements
+     * @since 1.17.0
+     */
+    public void setCommitEvery(int commitEvery) {
+        if (commitEvery <= 0) {
+            throw new IllegalArgumentException("commitEvery must be positive");
+        }
+        this.commitEvery = commitEvery;
+    }
+
+    /**
+     * get the number of statements to be committed together in auto-commit mode.
+     *
+     * @return number of statements
+     * @since 1.17.0
+     */
+    public int getCommitEvery() {
+        return this.commitEvery;
+    }
+
+    /**
+     * set the interval to commit the implicit transaction in auto-commit mode.
+     *
+     * @param interval commit interval, or {@code null} if it is not limited by time
+     * @since 1.17.0
+     */
+    public void setCommitInterval(@Nullable Duration interval) {
+        this.commitInterval = interval;
+    }
+
+    /**
+     * get the interval to commit the implicit transaction in auto-commit mode.
+     *
+     * @return commit interval, or {@code null} if it is not limited by time
+     * @since 1.17.0
+     */
+    public @Nullable Duration getCommitInterval() {
+        return this.commitInterval;
+    }
+
+    /**
+     * set the maximum number of retries for transactions aborted by concurrency control.
+     *
+     * @param retry the maximum number of retries, or {@code 0} to disable retry
+     * @since 1.17.0
+     */
+    public void setTransactionRetry(int retry) {
+        if (retry < 0) {
+            throw new IllegalArgumentException("transactionRetry must not be negative");
+        }
+        this.transactionRetry = retry;
+    }
+
+    /**
+     * get the maximum number of retries for transactions aborted by concurrency control.
+     *
+     * @return the maximum number of retries, or {@code 0} if retry is disabled
+     * @since 1.17.0
+     */
+    public int getTransactionRetry() {
+        return this.transactionRetry;
+    }
+
+    /**
+     * set the initial wait time before retrying transactions.
+     *
+     * @param backoff the initial wait time
+     * @since 1.17.0
+     */
+    public void setTransactionRetryBackoff(@Nonnull Duration backoff) {
+        Objects.requireNonNull(backoff);
+        this.transactionRetryBackoff = backoff;
+    }
+
+    /**
+     * get the initial wait time before retrying transactions.
+     *
+     * @return the initial wait time
+     * @since 1.17.0
+     */
+    public @Nonnull Duration getTransactionRetryBackoff() {
+        return this.transactionRetryBackoff;
+    }
+
     /**
      * get client variable.
      *
@@ -250,6 +407,217 @@ public class TgsqlConfig {
         return historySupplier.apply(size);
     }
 
+    /**
+     * set schema metadata cache.
+     *
+     * @param cache schema metadata cache
+     * @since 1.17.0
+     */
+    public void setMetadataCache(@Nullable SchemaMetadataCache cache) {
+        this.metadataCache = cache;
+    }
+
+    /**
+     * get schema metadata cache.
+     *
+     * @return schema metadata cache, or {@code null} if not available
+     * @since 1.17.0
+     */
+    public @Nullable SchemaMetadataCache getMetadataCache() {
+        return this.metadataCache;
+    }
+
+    /**
+     * get metadata cache time to live.
+     *
+     * @return time to live [seconds]. negative value means that cached entries never expire
+     * @since 1.17.0
+     */
+    public int getMetadataCacheTtl() {
+        return clientVariableMap.get(TgsqlCvKey.METADATA_CACHE_TTL, DEFAULT_METADATA_CACHE_TTL);
+    }
+
+    /**
+     * set whether to collect statement statistics.
+     *
+     * @param enabled {@code true} to collect statement statistics
+     * @since 1.17.0
+     */
+    public void setStatementStatisticsEnabled(boolean enabled) {
+        if (!enabled) {
+            this.statementStatistics = null;
+        } else if (this.statementStatistics == null) {
+            this.statementStatistics = new StatementStatistics();
+        }
+    }
+
+    /**
+     * get statement statistics.
+     *
+     * @return statement statistics, or {@code null} if statement statistics are not collected
+     * @see #setStatementStatisticsEnabled(boolean)
+     * @since 1.17.0
+     */
+    public @Nullable StatementStatistics getStatementStatistics() {
+        return this.statementStatistics;
+    }
+
+    /**
+     * set statement statistics report file.
+     * <p>
+     * Statement statistics are collected if the report file is set.
+     * </p>
+     *
+     * @param path report file, or {@code null} if the report is not written
+     * @since 1.17.0
+     */
+    public void setStatisticsReport(@Nullable Path path) {
+        this.statisticsReport = path;
+        if (path != null) {
+            setStatementStatisticsEnabled(true);
+        }
+    }
+
+    /**
+     * get statement statistics report file.
+     *
+     * @return report file, or {@code null} if the report is not written
+     * @since 1.17.0
+     */
+    public @Nullable Path getStatisticsReport() {
+        return this.statisticsReport;
+    }
+
+    /**
+     * get metrics.
+     *
+     * @return metrics
+     * @since 1.17.0
+     */
+    public @Nonnull TgsqlMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * set metrics snapshot output file (JSON lines).
+     *
+     * @param path output file, or {@code null} if the snapshots are not written
+     * @since 1.17.0
+     */
+    public void setMetricsOutput(@Nullable Path path) {
+        this.metricsOutput = path;
+    }
+
+    /**
+     * get metrics snapshot output file (JSON lines).
+     *
+     * @return output file, or {@code null} if the snapshots are not written
+     * @since 1.17.0
+     */
+    public @Nullable Path getMetricsOutput() {
+        return this.metricsOutput;
+    }
+
+    /**
+     * set metrics Prometheus text file.
+     *
+     * @param path text file, or {@code null} if the text file is not written
+     * @since 1.17.0
+     */
+    public void setMetricsTextfile(@Nullable Path path) {
+        this.metricsTextfile = path;
+    }
+
+    /**
+     * get metrics Prometheus text file.
+     *
+     * @return text file, or {@code null} if the text file is not written
+     * @since 1.17.0
+     */
+    public @Nullable Path getMetricsTextfile() {
+        return this.metricsTextfile;
+    }
+
+    /**
+     * set metrics reporting interval.
+     *
+     * @param interval reporting interval
+     * @since 1.17.0
+     */
+    public void setMetricsInterval(@Nonnull Duration interval) {
+        this.metricsInterval = Objects.requireNonNull(interval);
+    }
+
+    /**
+     * get metrics reporting interval.
+     *
+     * @return reporting interval
+     * @since 1.17.0
+     */
+    public @Nonnull Duration getMetricsInterval() {
+        return this.metricsInterval;
+    }
+
+    /**
+     * set the number of statements to parse ahead while executing script.
+     *
+     * @param parseAhead the number of statements, or {@code 0} to parse each statement just before executing it
+     * @since 1.17.0
+     */
+    public void setParseAhead(int parseAhead) {
+        this.parseAhead = parseAhead;
+    }
+
+    /**
+     * get the number of statements to parse ahead while executing script.
+     *
+     * @return the number of statements, or {@code 0} to parse each statement just before executing it
+     * @since 1.17.0
+     */
+    public int getParseAhead() {
+        return this.parseAhead;
+    }
+
+    /**
+     * set script journal file.
+     *
+     * @param scriptJournal the file to record the progress of script, or {@code null} to disable it
+     * @since 1.17.0
+     */
+    public void setScriptJournal(@Nullable Path scriptJournal) {
+        this.scriptJournal = scriptJournal;
+    }
+
+    /**
+     * get script journal file.
+     *
+     * @return the file to record the progress of script, or {@code null} if it is disabled
+     * @since 1.17.0
+     */
+    public @Nullable Path getScriptJournal() {
+        return this.scriptJournal;
+    }
+
+    /**
+     * set journal file to resume script from.
+     *
+     * @param resumeJournal the journal file, or {@code null} to execute script from the beginning
+     * @since 1.17.0
+     */
+    public void setResumeJournal(@Nullable Path resumeJournal) {
+        this.resumeJournal = resumeJournal;
+    }
+
+    /**
+     * get journal file to resume script from.
+     *
+     * @return the journal file, or {@code null} to execute script from the beginning
+     * @since 1.17.0
+     */
+    public @Nullable Path getResumeJournal() {
+        return this.resumeJournal;
+    }
+
     /**
      * get shutdown type.
      *
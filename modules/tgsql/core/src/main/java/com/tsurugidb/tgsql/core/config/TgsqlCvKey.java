@@ -17,17 +17,20 @@ package com.tsurugidb.tgsql.core.config;
 
 import java.lang.reflect.Modifier;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.tsurugidb.tgsql.core.exception.TgsqlMessageException;
 import com.tsurugidb.tgsql.core.executor.explain.DotOutputHandler;
+import com.tsurugidb.tgsql.core.executor.explain.SvgOutputHandler;
 
 /**
  * client variable key.
@@ -46,6 +49,18 @@ public abstract class TgsqlCvKey<T> {
     public static final TgsqlCvKeyDateTimeFormat IMPLICIT_TX_LABEL_SUFFIX_TIME = new TgsqlCvKeyDateTimeFormat("implicit-transaction.label.suffix-time"); //$NON-NLS-1$
     /** implicit-transaction.auto-commit . */
     public static final TgsqlCvKeyBoolean IMPLICIT_TX_AUTO_COMMIT = new TgsqlCvKeyBoolean("implicit-transaction.auto-commit"); //$NON-NLS-1$
+    /**
+     * implicit-transaction.read-only-query .
+     *
+     * @since 1.17.0
+     */
+    public static final TgsqlCvKeyBoolean IMPLICIT_TX_READ_ONLY_QUERY = new TgsqlCvKeyBoolean("implicit-transaction.read-only-query"); //$NON-NLS-1$
+    /**
+     * implicit-transaction.infer-area .
+     *
+     * @since 1.17.0
+     */
+    public static final TgsqlCvKeyBoolean IMPLICIT_TX_INFER_AREA = new TgsqlCvKeyBoolean("implicit-transaction.infer-area"); //$NON-NLS-1$
 
     /** transaction.label.suffix-time . */
     public static final TgsqlCvKeyDateTimeFormat TX_LABEL_SUFFIX_TIME = new TgsqlCvKeyDateTimeFormat("transaction.label.suffix-time"); //$NON-NLS-1$
@@ -54,6 +69,24 @@ public abstract class TgsqlCvKey<T> {
     public static final TgsqlCvKeyInt SELECT_MAX_LINES = new TgsqlCvKeyInt("select.maxlines"); //$NON-NLS-1$
     /** sql.timing . */
     public static final TgsqlCvKeyBoolean SQL_TIMING = new TgsqlCvKeyBoolean("sql.timing"); //$NON-NLS-1$
+    /**
+     * sql.slow-threshold .
+     *
+     * @since 1.17.0
+     */
+    public static final TgsqlCvKeyDuration SQL_SLOW_THRESHOLD = new TgsqlCvKeyDuration("sql.slow-threshold"); //$NON-NLS-1$
+    /**
+     * sql.slow-log .
+     *
+     * @since 1.17.0
+     */
+    public static final TgsqlCvKeyString SQL_SLOW_LOG = new TgsqlCvKeyString("sql.slow-log"); //$NON-NLS-1$
+    /**
+     * metadata-cache.ttl .
+     *
+     * @since 1.17.0
+     */
+    public static final TgsqlCvKeyInt METADATA_CACHE_TTL = new TgsqlCvKeyInt("metadata-cache.ttl"); //$NON-NLS-1$
 
     // @see DotOutputHandler#extendOptions(Map, TgsqlClientVariableMap)
     /** dot.verbose . */
@@ -69,6 +102,20 @@ public abstract class TgsqlCvKey<T> {
     /** dot.edge.* . */
     public static final TgsqlCvKeyString DOT_EDGE_PREFIX = new TgsqlCvKeyString(DotOutputHandler.KEY_EDGE_PREFIX);
 
+    // @see SvgOutputHandler#extendOptions(Map, TgsqlClientVariableMap)
+    /**
+     * svg.verbose .
+     *
+     * @since 1.17.0
+     */
+    public static final TgsqlCvKeyBoolean SVG_VERBOSE = new TgsqlCvKeyBoolean(SvgOutputHandler.KEY_VERBOSE);
+    /**
+     * svg.output .
+     *
+     * @since 1.17.0
+     */
+    public static final TgsqlCvKeyString SVG_OUTPUT = new TgsqlCvKeyString(SvgOutputHandler.KEY_OUTPUT);
+
     /**
      * shutdown.type .
      *
@@ -128,6 +175,55 @@ public abstract class TgsqlCvKey<T> {
         }
     }
 
+    /**
+     * client variable key for Duration.
+     * <p>
+     * The value is a number followed by a unit ({@code ms}, {@code s}, {@code min} or {@code h}). If the unit is omitted, it is treated as milliseconds.
+     * </p>
+     *
+     * @since 1.17.0
+     */
+    public static class TgsqlCvKeyDuration extends TgsqlCvKey<Duration> {
+
+        private static final Pattern PATTERN = Pattern.compile("(\\d+)\\s*([a-z]*)"); //$NON-NLS-1$
+
+        /**
+         * Creates a new instance.
+         *
+         * @param name variable name
+         */
+        public TgsqlCvKeyDuration(String name) {
+            super(name);
+        }
+
+        @Override
+        public Duration convertValue(@Nonnull String s) {
+            var matcher = PATTERN.matcher(s.trim().toLowerCase(Locale.ENGLISH));
+            if (!matcher.matches()) {
+                throw new TgsqlMessageException(MessageFormat.format("not duration. key={0}, value={1}", name, s));
+            }
+            long value;
+            try {
+                value = Long.parseLong(matcher.group(1));
+            } catch (NumberFormatException e) {
+                throw new TgsqlMessageException(MessageFormat.format("not duration. key={0}, value={1}", name, s), e);
+            }
+            switch (matcher.group(2)) {
+            case "": //$NON-NLS-1$
+            case "ms": //$NON-NLS-1$
+                return Duration.ofMillis(value);
+            case "s": //$NON-NLS-1$
+                return Duration.ofSeconds(value);
+            case "min": //$NON-NLS-1$
+                return Duration.ofMinutes(value);
+            case "h": //$NON-NLS-1$
+                return Duration.ofHours(value);
+            default:
+                throw new TgsqlMessageException(MessageFormat.format("unknown duration unit. key={0}, value={1}, possible units=[ms, s, min, h]", name, s));
+            }
+        }
+    }
+
     /**
      * client variable key for Boolean.
      */
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Optional;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,10 +53,24 @@ public class DefaultCredentialSessionConnector {
     public static /* record */ class SessionWithCredential {
         private Session session;
         private Credential credential;
+        private String endpoint;
 
         SessionWithCredential(Session session, Credential credential) {
+            this(session, credential, null);
+        }
+
+        /**
+         * Creates a new instance.
+         *
+         * @param session    session
+         * @param credential the credential which was used to establish the session
+         * @param endpoint   the end-point URI string which the session was established to
+         * @since 1.17.0
+         */
+        public SessionWithCredential(Session session, Credential credential, @Nullable String endpoint) {
             this.session = session;
             this.credential = credential;
+            this.endpoint = endpoint;
         }
 
         /**
@@ -75,6 +90,16 @@ public class DefaultCredentialSessionConnector {
         public Credential credential() {
             return this.credential;
         }
+
+        /**
+         * get end-point.
+         *
+         * @return the end-point URI string, or {@code null} if it is not known
+         * @since 1.17.0
+         */
+        public @Nullable String endpoint() {
+            return this.endpoint;
+        }
     }
 
     @FunctionalInterface
@@ -96,17 +121,44 @@ public class DefaultCredentialSessionConnector {
      */
     public SessionWithCredential connect(@Nonnull String applicationName, Optional<String> label, @Nonnull String endpoint, @Nonnull TgsqlLobTransferType lobTransferType)
             throws IOException, ServerException, InterruptedException {
-        List<CredentialGetter> credentialList = List.of(this::getTokenCredential, this::getFileCredential, this::getNullCredential, this::getUserPasswordCredential);
+        var session = connect(applicationName, label, endpoint, lobTransferType, true);
+        assert session != null;
+        return session;
+    }
+
+    /**
+     * connect.
+     *
+     * @param applicationName application name
+     * @param label           connection label
+     * @param endpoint        the end-point URI string
+     * @param lobTransferType large object transfer type
+     * @param interactive     {@code true} to ask the user for credential at last, {@code false} to give up instead
+     * @return the established connection session, or {@code null} if not interactive and all other credentials were rejected
+     * @throws IOException          if I/O error was occurred while executing the statement
+     * @throws ServerException      if server side error was occurred
+     * @throws InterruptedException if interrupted while executing the statement
+     * @since 1.17.0
+     */
+    public @Nullable SessionWithCredential connect(@Nonnull String applicationName, Optional<String> label, @Nonnull String endpoint, @Nonnull TgsqlLobTransferType lobTransferType,
+            boolean interactive) throws IOException, ServerException, InterruptedException {
+        List<CredentialGetter> credentialList = interactive //
+                ? List.of(this::getTokenCredential, this::getFileCredential, this::getNullCredential, this::getUserPasswordCredential) //
+                : List.of(this::getTokenCredential, this::getFileCredential, this::getNullCredential);
 
         var failureList = new ArrayList<CoreServiceException>();
         for (var getter : credentialList) {
             var credential = getter.get();
             var session = connect(applicationName, label, endpoint, credential, lobTransferType.getRawBlobTransferType(), failureList);
             if (session != null) {
-                return new SessionWithCredential(session, credential);
+                return new SessionWithCredential(session, credential, endpoint);
             }
         }
 
+        if (!interactive) {
+            LOG.debug("no more non-interactive credentials"); //$NON-NLS-1$
+            return null;
+        }
         var e = new RuntimeException("connect authentication error");
         for (var s : failureList) {
             e.addSuppressed(s);
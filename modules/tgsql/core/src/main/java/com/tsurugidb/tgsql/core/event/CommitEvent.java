@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.event;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.sql.proto.SqlRequest;
+import com.tsurugidb.tgsql.core.executor.sql.TransactionWrapper;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event of "commit transaction".
+ * @since 1.17.0
+ */
+@Name(TgsqlEvent.PREFIX + "Commit")
+@Label("Commit Transaction")
+@Description("Commits a transaction.")
+public final class CommitEvent extends TgsqlEvent {
+
+    @Label("Transaction ID")
+    String transactionId;
+
+    @Label("Commit Status")
+    String commitStatus;
+
+    /**
+     * Ends this event and commits it if the event is enabled.
+     * @param transaction the committed transaction
+     * @param status the commit status, or {@code null} if it is not specified
+     */
+    public void finish(@Nullable TransactionWrapper transaction, @Nullable SqlRequest.CommitStatus status) {
+        end();
+        if (shouldCommit()) {
+            this.transactionId = getTransactionId(transaction);
+            this.commitStatus = (status != null) ? status.name() : null;
+            commit();
+        }
+    }
+}
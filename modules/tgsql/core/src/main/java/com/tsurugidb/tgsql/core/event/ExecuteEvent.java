@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.event;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.tsurugidb.tgsql.core.executor.sql.TransactionWrapper;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event of "execute statement".
+ * @since 1.17.0
+ */
+@Name(TgsqlEvent.PREFIX + "Execute")
+@Label("Execute Statement")
+@Description("Executes a prepared SQL statement, until the server returns the first response.")
+public final class ExecuteEvent extends TgsqlEvent {
+
+    @Label("Statement")
+    String statement;
+
+    @Label("Transaction ID")
+    String transactionId;
+
+    @Label("Query")
+    @Description("whether or not the statement returns a result set")
+    boolean query;
+
+    /**
+     * Ends this event and commits it if the event is enabled.
+     * @param text the SQL text
+     * @param transaction the current transaction
+     * @param isQuery whether or not the statement returns a result set
+     */
+    public void finish(@Nonnull String text, @Nullable TransactionWrapper transaction, boolean isQuery) {
+        end();
+        if (shouldCommit()) {
+            this.statement = text;
+            this.transactionId = getTransactionId(transaction);
+            this.query = isQuery;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.event;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.tgsql.core.model.Statement;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event of "parse statement".
+ * @since 1.17.0
+ */
+@Name(TgsqlEvent.PREFIX + "Parse")
+@Label("Parse Statement")
+@Description("Parses a statement in the input.")
+public final class ParseEvent extends TgsqlEvent {
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Line")
+    @Description("the 1-origin line number where the statement starts")
+    int line;
+
+    @Label("Length")
+    @Description("the number of characters in the statement")
+    int length;
+
+    /**
+     * Ends this event and commits it if the event is enabled.
+     * <p>
+     * This does not commit the event at the end of input.
+     * </p>
+     * @param statement the parsed statement, or {@code null} if the input was reached EOF
+     */
+    public void finish(@Nullable Statement statement) {
+        end();
+        if (statement != null && shouldCommit()) {
+            var region = statement.getRegion();
+            this.kind = statement.getKind().name();
+            this.line = region.getStartLine() + 1;
+            this.length = region.getSize();
+            commit();
+        }
+    }
+}
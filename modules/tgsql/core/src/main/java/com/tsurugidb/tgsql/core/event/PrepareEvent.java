@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.event;
+
+import javax.annotation.Nonnull;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event of "prepare statement".
+ * @since 1.17.0
+ */
+@Name(TgsqlEvent.PREFIX + "Prepare")
+@Label("Prepare Statement")
+@Description("Prepares a SQL statement on the server.")
+public final class PrepareEvent extends TgsqlEvent {
+
+    @Label("Statement")
+    String statement;
+
+    /**
+     * Ends this event and commits it if the event is enabled.
+     * @param text the SQL text
+     */
+    public void finish(@Nonnull String text) {
+        end();
+        if (shouldCommit()) {
+            this.statement = text;
+            commit();
+        }
+    }
+}
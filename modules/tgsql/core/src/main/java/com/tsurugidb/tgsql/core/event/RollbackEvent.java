@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.event;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.tgsql.core.executor.sql.TransactionWrapper;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event of "rollback transaction".
+ * @since 1.17.0
+ */
+@Name(TgsqlEvent.PREFIX + "Rollback")
+@Label("Rollback Transaction")
+@Description("Rolls back a transaction.")
+public final class RollbackEvent extends TgsqlEvent {
+
+    @Label("Transaction ID")
+    String transactionId;
+
+    /**
+     * Ends this event and commits it if the event is enabled.
+     * @param transaction the rolled back transaction
+     */
+    public void finish(@Nullable TransactionWrapper transaction) {
+        end();
+        if (shouldCommit()) {
+            this.transactionId = getTransactionId(transaction);
+            commit();
+        }
+    }
+}
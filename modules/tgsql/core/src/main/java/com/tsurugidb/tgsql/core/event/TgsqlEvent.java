@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.event;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.tgsql.core.executor.sql.TransactionWrapper;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.StackTrace;
+
+/**
+ * An abstract super class of JDK Flight Recorder events of tgsql.
+ *
+ * <p>
+ * The events are recorded only while a flight recording is running with them enabled, for example,
+ * {@code -XX:StartFlightRecording} or {@code jcmd <pid> JFR.start}.
+ * Otherwise, the event objects are never committed and their attributes are never computed.
+ * Individual events can be turned off in the recording settings, like
+ * {@code com.tsurugidb.tgsql.Fetch#enabled=false}.
+ * </p>
+ * @since 1.17.0
+ */
+@Category({ "Tsurugi", "tgsql" })
+@StackTrace(false)
+public abstract class TgsqlEvent extends Event {
+
+    /**
+     * The prefix of event names.
+     */
+    public static final String PREFIX = "com.tsurugidb.tgsql."; //$NON-NLS-1$
+
+    /**
+     * Returns the transaction ID for the event attribute.
+     * @param transaction the transaction, may be {@code null}
+     * @return the transaction ID, or {@code null} if it is not available
+     */
+    static @Nullable String getTransactionId(@Nullable TransactionWrapper transaction) {
+        if (transaction == null) {
+            return null;
+        }
+        return transaction.getTransaction().getTransactionId();
+    }
+}
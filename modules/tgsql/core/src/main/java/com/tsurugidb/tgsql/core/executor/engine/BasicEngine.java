@@ -16,14 +16,20 @@
 package com.tsurugidb.tgsql.core.executor.engine;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,21 +38,28 @@ import com.tsurugidb.sql.proto.SqlRequest;
 import com.tsurugidb.tgsql.core.config.TgsqlCommitMode;
 import com.tsurugidb.tgsql.core.config.TgsqlConfig;
 import com.tsurugidb.tgsql.core.config.TgsqlCvKey;
+import com.tsurugidb.tgsql.core.event.FetchEvent;
 import com.tsurugidb.tgsql.core.exception.TgsqlNoMessageException;
 import com.tsurugidb.tgsql.core.executor.engine.command.SpecialCommand;
 import com.tsurugidb.tgsql.core.executor.explain.DotOutputHandler;
 import com.tsurugidb.tgsql.core.executor.explain.OptionHandler;
 import com.tsurugidb.tgsql.core.executor.explain.PlanGraphOutputHandler;
 import com.tsurugidb.tgsql.core.executor.explain.StatementMetadataHandler;
+import com.tsurugidb.tgsql.core.executor.explain.SvgOutputHandler;
+import com.tsurugidb.tgsql.core.executor.job.BackgroundJobManager;
 import com.tsurugidb.tgsql.core.executor.report.TgsqlReporter;
 import com.tsurugidb.tgsql.core.executor.result.ResultProcessor;
 import com.tsurugidb.tgsql.core.executor.sql.SqlProcessor;
 import com.tsurugidb.tgsql.core.executor.sql.TransactionWrapper;
+import com.tsurugidb.tgsql.core.executor.stats.SlowStatementLog;
 import com.tsurugidb.tgsql.core.model.CallStatement;
 import com.tsurugidb.tgsql.core.model.CommitStatement;
 import com.tsurugidb.tgsql.core.model.ErroneousStatement;
 import com.tsurugidb.tgsql.core.model.ErroneousStatement.ErrorKind;
 import com.tsurugidb.tgsql.core.model.ExplainStatement;
+import com.tsurugidb.tgsql.core.model.GenericStatement;
+import com.tsurugidb.tgsql.core.model.Region;
+import com.tsurugidb.tgsql.core.model.Regioned;
 import com.tsurugidb.tgsql.core.model.SpecialStatement;
 import com.tsurugidb.tgsql.core.model.StartTransactionStatement;
 import com.tsurugidb.tgsql.core.model.Statement;
@@ -70,6 +83,19 @@ public class BasicEngine extends AbstractEngine {
 
     private final TgsqlReporter reporter;
 
+    // statements executed in the current implicit transaction (--commit-every/--commit-interval)
+    private int commitGroupSize = 0;
+
+    private long commitGroupStartTime;
+
+    private Region commitGroupFirstRegion;
+
+    private Region commitGroupLastRegion;
+
+    private BackgroundJobManager jobManager;
+
+    private SlowStatementLog slowStatementLog;
+
     /**
      * Creates a new instance.
      *
@@ -110,11 +136,21 @@ public class BasicEngine extends AbstractEngine {
 
     @Override
     public void connect() throws ServerException, IOException, InterruptedException {
+        invalidateSlowStatementLog();
         sqlProcessor.connect();
+        var metadataCache = config.getMetadataCache();
+        if (metadataCache != null) {
+            metadataCache.refreshAsync();
+        }
     }
 
     @Override
     public boolean disconnect() throws ServerException, IOException, InterruptedException {
+        var metadataCache = config.getMetadataCache();
+        if (metadataCache != null) {
+            metadataCache.clear();
+        }
+        invalidateSlowStatementLog();
         return sqlProcessor.disconnect();
     }
 
@@ -128,6 +164,23 @@ public class BasicEngine extends AbstractEngine {
         return sqlProcessor.getTransaction();
     }
 
+    @Override
+    public boolean isTransactionActive() {
+        return sqlProcessor.isTransactionActive();
+    }
+
+    @Override
+    public void discardTransaction() throws ServerException, IOException, InterruptedException {
+        if (sqlProcessor.isTransactionActive()) {
+            executeRollbackImplicitly();
+        }
+    }
+
+    @Override
+    public boolean cancelExecution() throws ServerException, IOException, InterruptedException {
+        return sqlProcessor.abortTransaction();
+    }
+
     @Override
     public boolean executeEmptyStatement(@Nonnull Statement statement) throws EngineException, ServerException, IOException, InterruptedException {
         Objects.requireNonNull(statement);
@@ -142,17 +195,34 @@ public class BasicEngine extends AbstractEngine {
         LOG.debug("execute: kind={}, text={}", statement.getKind(), statement.getText()); //$NON-NLS-1$
 
         boolean transactionSatrtedImplicitly = checkTransactionActive(statement, true);
+        addCommitGroup(statement);
+        var slowThreshold = getSlowThreshold();
+        String transactionId = null;
+        SqlRequest.TransactionOption transactionOption = null;
+        if (slowThreshold != null) {
+            transactionId = sqlProcessor.getTransactionId();
+            var currentTransaction = getTransaction();
+            transactionOption = (currentTransaction != null) ? currentTransaction.getOption() : null;
+        }
+        long statisticsStart = System.nanoTime();
+        var rowCount = new AtomicLong(-1);
+        boolean failed = true;
         try {
             executeTiming(timingEnd -> {
                 try (var result = sqlProcessor.execute(statement.getText(), statement.getRegion())) {
                     var rs = result.getResultSet();
                     if (rs != null) {
                         var transaction = getTransaction();
+                        var event = new FetchEvent();
+                        event.begin();
                         timingEnd.accept(resultSetProcessor.process(transaction, rs));
+                        rowCount.set(resultSetProcessor.getLastRowCount());
+                        event.finish(statement.getText(), transaction, rowCount.get());
                     } else {
                         timingEnd.accept(System.nanoTime());
                         var er = result.getExecuteResult();
                         if (er != null) {
+                            rowCount.set(er.getCounters().values().stream().mapToLong(Long::longValue).sum());
                             reporter.reportStatementResult(er);
                         } else {
                             reporter.reportStatementResult();
@@ -160,8 +230,10 @@ public class BasicEngine extends AbstractEngine {
                     }
                 }
             });
+            failed = false;
         } catch (Exception e) {
             if (isAutoCommit(transactionSatrtedImplicitly)) {
+                reportCommitGroupDiscarded();
                 try {
                     executeRollbackImplicitly();
                 } catch (Exception e1) {
@@ -169,14 +241,96 @@ public class BasicEngine extends AbstractEngine {
                 }
             }
             throw e;
+        } finally {
+            long elapsed = System.nanoTime() - statisticsStart;
+            var statementStatistics = config.getStatementStatistics();
+            if (statementStatistics != null) {
+                statementStatistics.record(statement.getText(), elapsed, rowCount.get(), failed);
+            }
+            config.getMetrics().recordStatement(elapsed, rowCount.get(), failed);
+            if (slowThreshold != null && elapsed >= slowThreshold.toNanos()) {
+                boolean explain = !(statement instanceof GenericStatement && ((GenericStatement) statement).getCategory() == GenericStatement.Category.DDL);
+                var entry = new SlowStatementLog.Entry(OffsetDateTime.now().minusNanos(elapsed), statement.getText(), statement.getRegion(), elapsed, slowThreshold.toNanos(), rowCount.get(),
+                        failed, transactionId, transactionOption, explain);
+                getSlowStatementLog().submit(entry);
+            }
         }
+        invalidateMetadataCache(statement);
 
-        if (isAutoCommit(transactionSatrtedImplicitly)) {
-            executeCommitImplicitly();
+        if (isAutoCommit(transactionSatrtedImplicitly) && isCommitGroupFull()) {
+            executeCommitGroup();
         }
         return true;
     }
 
+    private void invalidateMetadataCache(Statement statement) {
+        var metadataCache = config.getMetadataCache();
+        if (metadataCache == null) {
+            return;
+        }
+        if (statement instanceof GenericStatement && ((GenericStatement) statement).getCategory() == GenericStatement.Category.DDL) {
+            metadataCache.invalidate();
+        }
+    }
+
+    private boolean isCommitGrouped() {
+        if (config.getCommitMode() != TgsqlCommitMode.AUTO_COMMIT) {
+            return false;
+        }
+        return config.getCommitEvery() > 1 || config.getCommitInterval() != null;
+    }
+
+    private void addCommitGroup(Statement statement) {
+        if (!isCommitGrouped()) {
+            return;
+        }
+        if (commitGroupSize == 0) {
+            commitGroupStartTime = System.nanoTime();
+            commitGroupFirstRegion = statement.getRegion();
+        }
+        commitGroupSize++;
+        commitGroupLastRegion = statement.getRegion();
+    }
+
+    private boolean isCommitGroupFull() {
+        if (!isCommitGrouped()) {
+            return true;
+        }
+        if (commitGroupSize >= config.getCommitEvery()) {
+            return true;
+        }
+        var interval = config.getCommitInterval();
+        if (interval != null && System.nanoTime() - commitGroupStartTime >= interval.toNanos()) {
+            return true;
+        }
+        return false;
+    }
+
+    private void executeCommitGroup() throws ServerException, IOException, InterruptedException {
+        LOG.debug("commit group: size={}", commitGroupSize); //$NON-NLS-1$
+        try {
+            executeCommitImplicitly();
+        } catch (Throwable e) {
+            reportCommitGroupDiscarded();
+            throw e;
+        } finally {
+            clearCommitGroup();
+        }
+    }
+
+    private void reportCommitGroupDiscarded() {
+        if (commitGroupSize > 1) {
+            reporter.reportCommitGroupDiscarded(commitGroupSize, //
+                    commitGroupFirstRegion.getStartLine() + 1, commitGroupLastRegion.getStartLine() + 1);
+        }
+    }
+
+    private void clearCommitGroup() {
+        commitGroupSize = 0;
+        commitGroupFirstRegion = null;
+        commitGroupLastRegion = null;
+    }
+
     private boolean isAutoCommit(boolean transactionSatrtedImplicitly) {
         if (transactionSatrtedImplicitly) {
             if (config.getClientVariableMap().get(TgsqlCvKey.IMPLICIT_TX_AUTO_COMMIT, true)) {
@@ -194,6 +348,9 @@ public class BasicEngine extends AbstractEngine {
         Objects.requireNonNull(statement);
         LOG.debug("execute: kind={}, text={}", statement.getKind(), statement.getText()); //$NON-NLS-1$
 
+        if (commitGroupSize > 0 && sqlProcessor.isTransactionActive()) {
+            executeCommitGroup();
+        }
         checkTransactionInactive(statement);
         var option = ExecutorUtil.toTransactionOption(statement, config);
         executeTiming(timingEnd -> {
@@ -210,6 +367,7 @@ public class BasicEngine extends AbstractEngine {
         LOG.debug("execute: kind={}, text={}", statement.getKind(), statement.getText()); //$NON-NLS-1$
 
         checkTransactionActive(statement, false);
+        clearCommitGroup();
         var status = ExecutorUtil.toCommitStatus(statement);
         try {
             executeTiming(timingEnd -> {
@@ -251,6 +409,7 @@ public class BasicEngine extends AbstractEngine {
         LOG.debug("execute: kind={}, text={}", statement.getKind(), statement.getText()); //$NON-NLS-1$
 
         checkTransactionActive(statement, false);
+        clearCommitGroup();
         try {
             executeTiming(timingEnd -> {
                 sqlProcessor.rollbackTransaction();
@@ -272,6 +431,7 @@ public class BasicEngine extends AbstractEngine {
      * @throws InterruptedException if interrupted while executing the statement
      */
     protected void executeRollbackImplicitly() throws ServerException, IOException, InterruptedException {
+        clearCommitGroup();
         try {
             executeTiming(timingEnd -> {
                 sqlProcessor.rollbackTransaction();
@@ -306,6 +466,8 @@ public class BasicEngine extends AbstractEngine {
             });
             var options = DotOutputHandler.extendOptions(statement.getOptions(), config.getClientVariableMap());
             outputHandlers.add(DotOutputHandler.fromOptions(options, path));
+            var svgOptions = SvgOutputHandler.extendOptions(statement.getOptions(), config.getClientVariableMap());
+            outputHandlers.add(SvgOutputHandler.fromOptions(svgOptions));
         } catch (EngineConfigurationException e) {
             LOG.debug("error occurred while handling explain options", e); //$NON-NLS-1$
             return execute(new ErroneousStatement(statement.getText(), statement.getRegion(), e.getErrorKind(), e.getOccurrence(), e.getMessage()));
@@ -370,8 +532,23 @@ public class BasicEngine extends AbstractEngine {
                 statement.getOccurrence().getStartLine() + 1, statement.getOccurrence().getStartColumn() + 1));
     }
 
+    /**
+     * get background job manager.
+     *
+     * @return background job manager
+     * @since 1.17.0
+     */
+    public synchronized BackgroundJobManager getJobManager() {
+        if (this.jobManager == null) {
+            this.jobManager = new BackgroundJobManager(config);
+        }
+        return this.jobManager;
+    }
+
     @Override
     public void finish(boolean succeed) throws IOException {
+        closeJobManager();
+        closeSlowStatementLog();
         var commitMode = config.getCommitMode();
         LOG.debug("finish: succeed={}, commitMode={}", succeed, commitMode);
         try {
@@ -390,6 +567,16 @@ public class BasicEngine extends AbstractEngine {
                     executeRollbackImplicitly();
                 }
                 break;
+            case AUTO_COMMIT: // commit the rest of grouped statements
+                if (commitGroupSize > 0 && sqlProcessor.isTransactionActive()) {
+                    if (succeed) {
+                        executeCommitGroup();
+                    } else {
+                        reportCommitGroupDiscarded();
+                        executeRollbackImplicitly();
+                    }
+                }
+                break;
             default:
                 break;
             }
@@ -398,6 +585,46 @@ public class BasicEngine extends AbstractEngine {
         }
     }
 
+    private synchronized void closeJobManager() {
+        if (this.jobManager != null) {
+            jobManager.close();
+            this.jobManager = null;
+        }
+    }
+
+    private @Nullable Duration getSlowThreshold() {
+        var threshold = config.getClientVariableMap().get(TgsqlCvKey.SQL_SLOW_THRESHOLD);
+        if (threshold == null || threshold.isNegative() || threshold.isZero()) {
+            return null;
+        }
+        return threshold;
+    }
+
+    private synchronized SlowStatementLog getSlowStatementLog() {
+        var output = Path.of(config.getClientVariableMap().get(TgsqlCvKey.SQL_SLOW_LOG, SlowStatementLog.DEFAULT_OUTPUT));
+        if (this.slowStatementLog != null && !slowStatementLog.getOutput().equals(output)) {
+            closeSlowStatementLog();
+        }
+        if (this.slowStatementLog == null) {
+            LOG.debug("open slow statement log. output={}", output); //$NON-NLS-1$
+            this.slowStatementLog = new SlowStatementLog(sqlProcessor, output);
+        }
+        return this.slowStatementLog;
+    }
+
+    private synchronized void invalidateSlowStatementLog() {
+        if (this.slowStatementLog != null) {
+            slowStatementLog.invalidate();
+        }
+    }
+
+    private synchronized void closeSlowStatementLog() {
+        if (this.slowStatementLog != null) {
+            slowStatementLog.close();
+            this.slowStatementLog = null;
+        }
+    }
+
     // @return {@code true} if transaction started implicitly
     private boolean checkTransactionActive(Statement statement, boolean startIfInactive) throws EngineException, ServerException, IOException, InterruptedException {
         if (sqlProcessor.isTransactionActive()) {
@@ -415,6 +642,14 @@ public class BasicEngine extends AbstractEngine {
                     builder.setLabel(label);
                     option = builder.build();
                 }
+                if (isReadOnlyQuery(statement) && option.getType() != SqlRequest.TransactionType.READ_ONLY) {
+                    LOG.debug("start read-only transaction for query: {}", statement.getText()); //$NON-NLS-1$
+                    option = toReadOnlyOption(option);
+                }
+                if (option.getType() == SqlRequest.TransactionType.LONG && isAreaInferable(statement)) {
+                    LOG.debug("infer write preserve and read area: {}", statement); //$NON-NLS-1$
+                    option = toInferredAreaOption(option, (GenericStatement) statement);
+                }
                 reporter.reportStartTransactionImplicitly(option);
                 var finalOption = option;
                 executeTiming(timingEnd -> {
@@ -429,6 +664,67 @@ public class BasicEngine extends AbstractEngine {
                 statement.getRegion().getStartLine() + 1, statement.getRegion().getStartColumn() + 1));
     }
 
+    private boolean isReadOnlyQuery(Statement statement) {
+        if (!(statement instanceof GenericStatement)) {
+            return false;
+        }
+        if (!((GenericStatement) statement).getCategory().isReadOnly()) {
+            return false;
+        }
+        if (!config.getClientVariableMap().get(TgsqlCvKey.IMPLICIT_TX_READ_ONLY_QUERY, false)) {
+            return false;
+        }
+        // RTX must not remain after the statement, because following statements may modify the database
+        return isAutoCommit(true) && !isCommitGrouped();
+    }
+
+    private boolean isAreaInferable(Statement statement) {
+        if (!(statement instanceof GenericStatement)) {
+            return false;
+        }
+        var generic = (GenericStatement) statement;
+        if (generic.getReadTables().isEmpty() || generic.getWriteTables().isEmpty()) {
+            return false;
+        }
+        if (!config.getClientVariableMap().get(TgsqlCvKey.IMPLICIT_TX_INFER_AREA, false)) {
+            return false;
+        }
+        // the areas only cover this statement
+        return isAutoCommit(true) && !isCommitGrouped();
+    }
+
+    private static SqlRequest.TransactionOption toInferredAreaOption(SqlRequest.TransactionOption option, GenericStatement statement) {
+        var builder = SqlRequest.TransactionOption.newBuilder(option) //
+                .clearWritePreserves() //
+                .clearInclusiveReadAreas() //
+                .clearExclusiveReadAreas();
+        var writeTables = statement.getWriteTables().get().stream() //
+                .map(Regioned::getValue) //
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (var table : writeTables) {
+            builder.addWritePreserves(SqlRequest.WritePreserve.newBuilder().setTableName(table));
+        }
+        // write targets may be also read (e.g. UPDATE, DELETE, or primary key check of INSERT)
+        var readTables = new LinkedHashSet<>(writeTables);
+        statement.getReadTables().get().stream() //
+                .map(Regioned::getValue) //
+                .forEach(readTables::add);
+        for (var table : readTables) {
+            builder.addInclusiveReadAreas(SqlRequest.ReadArea.newBuilder().setTableName(table));
+        }
+        return builder.build();
+    }
+
+    private static SqlRequest.TransactionOption toReadOnlyOption(SqlRequest.TransactionOption option) {
+        return SqlRequest.TransactionOption.newBuilder(option) //
+                .setType(SqlRequest.TransactionType.READ_ONLY) //
+                .clearWritePreserves() //
+                .clearInclusiveReadAreas() //
+                .clearExclusiveReadAreas() //
+                .setModifiesDefinitions(false) //
+                .build();
+    }
+
     /**
      * Check transaction inactive.
      *
@@ -447,7 +743,7 @@ public class BasicEngine extends AbstractEngine {
         void run(LongConsumer timingEnd) throws Exception;
     }
 
-    private void executeTiming(TimingTask task) {
+    private void executeTiming(TimingTask task) throws InterruptedException {
         long timingStart = System.nanoTime();
         class TimingEnd implements LongConsumer {
             long time = timingStart;
@@ -461,8 +757,8 @@ public class BasicEngine extends AbstractEngine {
         try {
             task.run(timingEnd);
         } catch (InterruptedException e) {
-            // thread interrupted
-            return;
+            // thread interrupted: the statement did not complete
+            throw e;
         } catch (ServerException e) {
             reporter.warn(e);
             reportTiming(timingStart, timingEnd.time);
@@ -470,8 +766,10 @@ public class BasicEngine extends AbstractEngine {
         } catch (Exception e) {
             for (var c = e.getCause(); c != null; c = c.getCause()) {
                 if (c instanceof InterruptedException) {
-                    // thread interrupted
-                    return;
+                    // thread interrupted: the statement did not complete
+                    var interrupted = new InterruptedException(c.getMessage());
+                    interrupted.initCause(e);
+                    throw interrupted;
                 }
             }
             String message = e.getMessage();
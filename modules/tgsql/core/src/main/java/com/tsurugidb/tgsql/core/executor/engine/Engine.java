@@ -92,6 +92,43 @@ public interface Engine {
         throw new UnsupportedOperationException("do override");
     }
 
+    /**
+     * Returns whether or not a transaction is active.
+     *
+     * @return {@code true} if a transaction is active, otherwise {@code false}
+     * @since 1.17.0
+     */
+    default boolean isTransactionActive() {
+        throw new UnsupportedOperationException("do override");
+    }
+
+    /**
+     * Discards the active transaction, typically to retry it from the beginning.
+     * This does nothing if there is no active transactions.
+     *
+     * @throws ServerException      if server side error was occurred
+     * @throws IOException          if I/O error was occurred while discarding the transaction
+     * @throws InterruptedException if interrupted while discarding the transaction
+     * @since 1.17.0
+     */
+    default void discardTransaction() throws ServerException, IOException, InterruptedException {
+        throw new UnsupportedOperationException("do override");
+    }
+
+    /**
+     * Requests the server to stop the statement which is executing in another thread.
+     * The executing thread will see the failure of the statement and finish it as usual.
+     *
+     * @return {@code true} if the request was sent to the server, or {@code false} if there is nothing to cancel
+     * @throws ServerException      if server side error was occurred
+     * @throws IOException          if I/O error was occurred while sending the request
+     * @throws InterruptedException if interrupted while sending the request
+     * @since 1.17.0
+     */
+    default boolean cancelExecution() throws ServerException, IOException, InterruptedException {
+        throw new UnsupportedOperationException("do override");
+    }
+
     /**
      * Executes a statement.
      *
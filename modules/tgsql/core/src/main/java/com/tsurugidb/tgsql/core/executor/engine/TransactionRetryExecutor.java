@@ -0,0 +1,271 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.engine;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.model.Statement;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.SqlServiceCode;
+import com.tsurugidb.tsubakuro.sql.SqlServiceException;
+
+/**
+ * Executes statements on {@link Engine}, and retries transactions aborted by concurrency control.
+ *
+ * <p>
+ * This remembers the statements executed since the current transaction was started (explicitly or implicitly),
+ * and replays them from the beginning if the transaction was aborted by a retryable error.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class TransactionRetryExecutor {
+
+    static final Logger LOG = LoggerFactory.getLogger(TransactionRetryExecutor.class);
+
+    /**
+     * The error codes which can be resolved by retrying the transaction.
+     */
+    public static final Set<SqlServiceCode> RETRYABLE_CODES = EnumSet.of(//
+            SqlServiceCode.CC_EXCEPTION, //
+            SqlServiceCode.OCC_EXCEPTION, //
+            SqlServiceCode.OCC_READ_EXCEPTION, //
+            SqlServiceCode.OCC_WRITE_EXCEPTION, //
+            SqlServiceCode.CONFLICT_ON_WRITE_PRESERVE_EXCEPTION, //
+            SqlServiceCode.LTX_EXCEPTION, //
+            SqlServiceCode.LTX_READ_EXCEPTION, //
+            SqlServiceCode.LTX_WRITE_EXCEPTION, //
+            SqlServiceCode.RTX_EXCEPTION, //
+            SqlServiceCode.BLOCKED_BY_CONCURRENT_OPERATION_EXCEPTION);
+
+    /**
+     * The maximum number of statements to be replayed.
+     * If a transaction contains more statements, it will not be retried.
+     */
+    public static final int MAX_BUFFERED_STATEMENTS = 10_000;
+
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(10);
+
+    private final Engine engine;
+
+    private final int maxRetry;
+
+    private final Duration backoff;
+
+    private final List<Statement> buffer = new ArrayList<>();
+
+    private boolean bufferOverflow = false;
+
+    private int retriedTransactionCount = 0;
+
+    private int totalRetryCount = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param engine   the statement executor
+     * @param maxRetry the maximum number of retries for each transaction, or {@code 0} to disable retry
+     * @param backoff  the initial wait time before retry
+     */
+    public TransactionRetryExecutor(@Nonnull Engine engine, int maxRetry, @Nonnull Duration backoff) {
+        Objects.requireNonNull(engine);
+        Objects.requireNonNull(backoff);
+        if (maxRetry < 0) {
+            throw new IllegalArgumentException("maxRetry must not be negative"); //$NON-NLS-1$
+        }
+        this.engine = engine;
+        this.maxRetry = maxRetry;
+        this.backoff = backoff;
+    }
+
+    /**
+     * Executes a statement, and retries the current transaction if it was aborted.
+     *
+     * @param statement the target statement
+     * @return {@code true} to continue execution, {@code false} if shutdown was requested
+     * @throws EngineException      if error occurred in engine itself
+     * @throws ServerException      if server side error was occurred
+     * @throws IOException          if I/O error was occurred while executing the statement
+     * @throws InterruptedException if interrupted while executing the statement
+     * @see Engine#execute(Statement)
+     */
+    public boolean execute(@Nonnull Statement statement) throws EngineException, ServerException, IOException, InterruptedException {
+        Objects.requireNonNull(statement);
+        if (maxRetry == 0) {
+            return engine.execute(statement);
+        }
+        if (!engine.isTransactionActive()) {
+            buffer.clear();
+            bufferOverflow = false;
+        }
+        if (isReplayable(statement)) {
+            if (buffer.size() < MAX_BUFFERED_STATEMENTS) {
+                buffer.add(statement);
+            } else {
+                bufferOverflow = true;
+            }
+        }
+        try {
+            return engine.execute(statement);
+        } catch (EngineException | ServerException | IOException | RuntimeException e) {
+            return retry(e);
+        }
+    }
+
+    private static boolean isReplayable(Statement statement) {
+        switch (statement.getKind()) {
+        case EMPTY:
+        case SPECIAL:
+        case ERRONEOUS:
+            return false;
+        default:
+            return true;
+        }
+    }
+
+    private boolean retry(Exception cause) throws EngineException, ServerException, IOException, InterruptedException {
+        Exception last = cause;
+        for (int attempt = 1;; attempt++) {
+            var code = findRetryableCode(last);
+            if (code.isEmpty()) {
+                throw rethrow(last);
+            }
+            if (attempt > maxRetry) {
+                LOG.debug("retry limit exceeded: {}", maxRetry); //$NON-NLS-1$
+                throw rethrow(last);
+            }
+            if (bufferOverflow) {
+                LOG.debug("transaction is too large to retry: {} statements", MAX_BUFFERED_STATEMENTS); //$NON-NLS-1$
+                throw rethrow(last);
+            }
+            engine.getReporter().reportTransactionRetry(attempt, maxRetry, code.get().name());
+            try {
+                engine.discardTransaction();
+            } catch (ServerException | IOException e) {
+                LOG.debug("error occurred while discarding transaction", e); //$NON-NLS-1$
+            }
+            Thread.sleep(computeBackoff(attempt).toMillis());
+            if (attempt == 1) {
+                retriedTransactionCount++;
+            }
+            totalRetryCount++;
+
+            var statements = List.copyOf(buffer);
+            try {
+                boolean cont = true;
+                for (var statement : statements) {
+                    LOG.debug("replay statement: {}", statement); //$NON-NLS-1$
+                    cont = engine.execute(statement);
+                    if (!cont) {
+                        break;
+                    }
+                }
+                return cont;
+            } catch (EngineException | ServerException | IOException | RuntimeException e) {
+                last = e;
+            }
+        }
+    }
+
+    private Duration computeBackoff(int attempt) {
+        // exponential backoff with full jitter
+        var limit = backoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        if (limit.compareTo(MAX_BACKOFF) > 0) {
+            limit = MAX_BACKOFF;
+        }
+        long millis = limit.toMillis();
+        if (millis <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(millis + 1));
+    }
+
+    /**
+     * Returns the error code if the exception is caused by a retryable error.
+     *
+     * @param exception the exception
+     * @return the retryable error code, or empty if it is not retryable
+     */
+    public static Optional<SqlServiceCode> findRetryableCode(@Nonnull Throwable exception) {
+        Objects.requireNonNull(exception);
+        for (Throwable t = exception; t != null; t = t.getCause()) {
+            if (t instanceof SqlServiceException) {
+                var code = ((SqlServiceException) t).getDiagnosticCode();
+                if (code instanceof SqlServiceCode && RETRYABLE_CODES.contains(code)) {
+                    return Optional.of((SqlServiceCode) code);
+                }
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Exception rethrow(Exception e) throws EngineException, ServerException, IOException {
+        if (e instanceof EngineException) {
+            throw (EngineException) e;
+        }
+        if (e instanceof ServerException) {
+            throw (ServerException) e;
+        }
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        }
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        throw new IllegalStateException(e);
+    }
+
+    /**
+     * Returns the number of transactions which were retried.
+     *
+     * @return the number of retried transactions
+     */
+    public int getRetriedTransactionCount() {
+        return retriedTransactionCount;
+    }
+
+    /**
+     * Returns the total number of retries.
+     *
+     * @return the total number of retries
+     */
+    public int getTotalRetryCount() {
+        return totalRetryCount;
+    }
+
+    /**
+     * Reports the summary of retries if some transactions were retried.
+     */
+    public void reportSummary() {
+        if (retriedTransactionCount > 0) {
+            engine.getReporter().reportTransactionRetrySummary(retriedTransactionCount, totalRetryCount);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.engine.command;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.text.MessageFormat;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.exception.TgsqlMessageException;
+import com.tsurugidb.tgsql.core.executor.engine.BasicEngine;
+import com.tsurugidb.tgsql.core.executor.engine.EngineException;
+import com.tsurugidb.tgsql.core.model.SpecialStatement;
+import com.tsurugidb.tgsql.core.model.Statement;
+import com.tsurugidb.tgsql.core.model.Statement.Kind;
+import com.tsurugidb.tgsql.core.parser.SqlParser;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+
+/**
+ * Background job command for Tsurugi SQL console.
+ *
+ * @since 1.17.0
+ */
+public class BgCommand extends SpecialCommand {
+    private static final Logger LOG = LoggerFactory.getLogger(BgCommand.class);
+
+    private static final String COMMAND_NAME = "bg"; //$NON-NLS-1$
+
+    /**
+     * Creates a new instance.
+     */
+    public BgCommand() {
+        super(false, COMMAND_NAME);
+    }
+
+    @Override
+    public boolean execute(BasicEngine engine, SpecialStatement statement) throws EngineException, ServerException, IOException, InterruptedException {
+        String text = getStatementText(statement);
+        LOG.debug("bg {}", text); //$NON-NLS-1$
+        if (text.isEmpty()) {
+            printHelp(engine);
+            return true;
+        }
+
+        Statement target;
+        try (var parser = new SqlParser(new StringReader(text))) {
+            target = parser.next();
+        }
+        if (target == null || target.getKind() == Kind.EMPTY) {
+            printHelp(engine);
+            return true;
+        }
+        if (target.getKind() == Kind.ERRONEOUS) {
+            return engine.execute(target);
+        }
+        if (target.getKind() != Kind.GENERIC) {
+            throw new TgsqlMessageException(MessageFormat.format("{0} is not supported in background job", target.getKind()));
+        }
+        if (!engine.getSqlProcessor().isSessionActive()) {
+            throw new TgsqlMessageException("not connected");
+        }
+
+        var job = engine.getJobManager().submit(target);
+        engine.getReporter().reportJobStarted(job);
+        return true;
+    }
+
+    static String getStatementText(SpecialStatement statement) {
+        var commandRegion = statement.getCommandName().getRegion();
+        long offset = commandRegion.getPosition() + commandRegion.getSize() - statement.getRegion().getPosition();
+        String text = statement.getText();
+        if (offset >= text.length()) {
+            return ""; //$NON-NLS-1$
+        }
+        text = text.substring((int) offset).trim();
+        if (text.endsWith(";")) { //$NON-NLS-1$
+            text = text.substring(0, text.length() - 1).trim();
+        }
+        return text;
+    }
+}
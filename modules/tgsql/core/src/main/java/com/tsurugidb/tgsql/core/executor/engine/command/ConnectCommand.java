@@ -51,7 +51,8 @@ public class ConnectCommand extends SpecialCommand {
      * Creates a new instance.
      */
     public ConnectCommand() {
-        super(false, COMMAND_NAME);
+        // "c" keeps the abbreviation working after \cancel was added
+        super(false, COMMAND_NAME, "c"); //$NON-NLS-1$
     }
 
     private static class CandidateOption {
@@ -47,6 +47,7 @@ public class ShowCommand extends SpecialCommand {
 
     private static final String COMMAND_NAME = "show"; //$NON-NLS-1$
     private static final String COMMAND = COMMAND_PREFIX + COMMAND_NAME;
+    private static final String TABLE = "table"; //$NON-NLS-1$
     private static final String CLIENT = "client"; //$NON-NLS-1$
 
     @FunctionalInterface
@@ -88,7 +89,7 @@ public class ShowCommand extends SpecialCommand {
 
         add("session", false, ShowCommand::executeShowSession); //$NON-NLS-1$
         add("transaction", false, ShowCommand::executeShowTransaction); //$NON-NLS-1$
-        add("table", true, ShowCommand::executeShowTable); //$NON-NLS-1$
+        add(TABLE, true, ShowCommand::executeShowTable);
         add("blob", false, ShowCommand::executeShowBlob); //$NON-NLS-1$
         add("clob", false, ShowCommand::executeShowClob); //$NON-NLS-1$
         add(CLIENT, true, ShowCommand::executeShowClient); // $NON-NLS-1$
@@ -114,6 +115,9 @@ public class ShowCommand extends SpecialCommand {
         if (inputWords.length != 3) {
             return List.of();
         }
+        if (inputWords[1].equals(TABLE)) {
+            return getTableCompleterCandidateList(config);
+        }
         if (!inputWords[1].equals(CLIENT)) {
             return List.of();
         }
@@ -121,6 +125,22 @@ public class ShowCommand extends SpecialCommand {
         return SetCommand.getDynamicCompleterCandidateList(config, List.of(COMMAND, CLIENT));
     }
 
+    private static List<CompleterCandidateWords> getTableCompleterCandidateList(TgsqlConfig config) {
+        var metadataCache = config.getMetadataCache();
+        if (metadataCache == null) {
+            return List.of();
+        }
+        var tableList = metadataCache.getTableNames();
+        var result = new ArrayList<CompleterCandidateWords>(tableList.size());
+        for (String tableName : tableList) {
+            var candidate = new CompleterCandidateWords(true);
+            candidate.add(List.of(COMMAND, TABLE));
+            candidate.add(tableName);
+            result.add(candidate);
+        }
+        return result;
+    }
+
     @Override
     public boolean execute(BasicEngine engine, SpecialStatement statement) throws EngineException, ServerException, IOException, InterruptedException {
         var list = findSubCommand(statement);
@@ -153,6 +173,10 @@ public class ShowCommand extends SpecialCommand {
 
     private static boolean executeShowSession(BasicEngine engine, SpecialStatement statement) throws EngineException, ServerException, IOException, InterruptedException {
         LOG.debug("show session status"); //$NON-NLS-1$
+        return executeShowSession(engine);
+    }
+
+    static boolean executeShowSession(BasicEngine engine) throws EngineException, ServerException, IOException, InterruptedException {
         var sqlProcessor = engine.getSqlProcessor();
         String endpoint = sqlProcessor.getEndpoint();
         boolean active = sqlProcessor.isSessionActive();
@@ -201,16 +225,16 @@ public class ShowCommand extends SpecialCommand {
         if (tableName == null) {
             return executeShowTables(engine);
         }
-        var sqlProcessor = engine.getSqlProcessor();
-        var metadata = sqlProcessor.getTableMetadata(tableName);
+        var metadataCache = engine.getConfig().getMetadataCache();
+        var metadata = (metadataCache != null) ? metadataCache.loadTableMetadata(tableName) : engine.getSqlProcessor().getTableMetadata(tableName);
         var reporter = engine.getReporter();
         reporter.reportTableMetadata(tableName, metadata);
         return true;
     }
 
     private static boolean executeShowTables(BasicEngine engine) throws EngineException, ServerException, IOException, InterruptedException {
-        var sqlProcessor = engine.getSqlProcessor();
-        var tableList = sqlProcessor.getTableNames();
+        var metadataCache = engine.getConfig().getMetadataCache();
+        var tableList = (metadataCache != null) ? metadataCache.loadTableNames() : engine.getSqlProcessor().getTableNames();
         var reporter = engine.getReporter();
         reporter.reportTableList(tableList);
         return true;
@@ -47,17 +47,22 @@ public abstract class SpecialCommand {
     public static final String COMMAND_PREFIX = "\\"; //$NON-NLS-1$
 
     private static final SpecialCommand[] COMMAND_LIST = { //
+            new BgCommand(), //
+            new CancelCommand(), //
             new ConnectCommand(), //
             new DisconnectCommand(), //
             new ExitCommand(), //
             new HaltCommand(), //
             new HelpCommand(), //
             new HistoryCommand(), //
+            new JobsCommand(), //
             new SetCommand(), //
             new ShowCommand(), //
+            new StatsCommand(), //
             new StatusCommand(), //
             new StoreCommand(), //
             new TimingCommand(), //
+            new WaitCommand(), //
     };
     static { // assertion
         var set = new HashSet<String>();
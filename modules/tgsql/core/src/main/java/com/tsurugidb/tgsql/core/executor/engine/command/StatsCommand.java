@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.engine.command;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.exception.TgsqlMessageException;
+import com.tsurugidb.tgsql.core.executor.engine.BasicEngine;
+import com.tsurugidb.tgsql.core.executor.engine.EngineException;
+import com.tsurugidb.tgsql.core.model.SpecialStatement;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+
+/**
+ * Stats command for Tsurugi SQL console.
+ *
+ * @since 1.17.0
+ */
+public class StatsCommand extends SpecialCommand {
+    private static final Logger LOG = LoggerFactory.getLogger(StatsCommand.class);
+
+    private static final String COMMAND_NAME = "stats"; //$NON-NLS-1$
+    private static final String COMMAND = COMMAND_PREFIX + COMMAND_NAME;
+
+    private static final String RESET = "reset"; //$NON-NLS-1$
+
+    /** the default number of statements to show. */
+    static final int DEFAULT_SIZE = 20;
+
+    /**
+     * Creates a new instance.
+     */
+    public StatsCommand() {
+        super(COMMAND_NAME);
+    }
+
+    @Override
+    protected void collectCompleterCandidate(List<CompleterCandidateWords> result) {
+        result.add(new CompleterCandidateWords(COMMAND, true));
+        result.add(new CompleterCandidateWords(COMMAND, RESET, true));
+    }
+
+    @Override
+    public boolean execute(BasicEngine engine, SpecialStatement statement) throws EngineException, ServerException, IOException, InterruptedException {
+        var statementStatistics = engine.getConfig().getStatementStatistics();
+        var reporter = engine.getReporter();
+        if (statementStatistics == null) {
+            reporter.warn("Statement statistics are not collected. (specify --stats-report)"); //$NON-NLS-1$
+            return true;
+        }
+
+        String option = getOption(statement, 0);
+        if (option != null && toLowerCase(option).equals(RESET)) {
+            LOG.debug("reset statement statistics"); //$NON-NLS-1$
+            statementStatistics.clear();
+            reporter.info("Statement statistics were reset.");
+            return true;
+        }
+
+        int size = getSize(option);
+        LOG.debug("show statement statistics. size={}", size); //$NON-NLS-1$
+        var list = statementStatistics.getStatistics();
+        int omitted = 0;
+        if (size >= 0 && list.size() > size) {
+            omitted = list.size() - size;
+            list = list.subList(0, size);
+        }
+        reporter.reportStatementStatistics(list, omitted);
+        return true;
+    }
+
+    private static int getSize(String option) {
+        if (option == null) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            return Integer.parseInt(option);
+        } catch (NumberFormatException e) {
+            throw new TgsqlMessageException(MessageFormat.format("not integer. option={0}", option), e);
+        }
+    }
+}
@@ -45,6 +45,7 @@ public class StatusCommand extends SpecialCommand {
             return executeUnknownOption(engine, statement);
         }
         LOG.debug("show status"); //$NON-NLS-1$
+        ShowCommand.executeShowSession(engine);
         return ShowCommand.executeShowTransaction(engine);
     }
 }
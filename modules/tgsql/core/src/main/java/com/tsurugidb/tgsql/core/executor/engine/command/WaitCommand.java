@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.engine.command;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.config.TgsqlCvKey;
+import com.tsurugidb.tgsql.core.exception.TgsqlMessageException;
+import com.tsurugidb.tgsql.core.executor.engine.BasicEngine;
+import com.tsurugidb.tgsql.core.executor.engine.EngineException;
+import com.tsurugidb.tgsql.core.executor.job.BackgroundJob;
+import com.tsurugidb.tgsql.core.model.SpecialStatement;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+
+/**
+ * Wait command for Tsurugi SQL console.
+ *
+ * @since 1.17.0
+ */
+public class WaitCommand extends SpecialCommand {
+    private static final Logger LOG = LoggerFactory.getLogger(WaitCommand.class);
+
+    private static final String COMMAND_NAME = "wait"; //$NON-NLS-1$
+
+    /**
+     * Creates a new instance.
+     */
+    public WaitCommand() {
+        super(false, COMMAND_NAME);
+    }
+
+    @Override
+    public boolean execute(BasicEngine engine, SpecialStatement statement) throws EngineException, ServerException, IOException, InterruptedException {
+        var job = findJob(engine, statement);
+        if (job == null) {
+            printHelp(engine);
+            return true;
+        }
+        LOG.debug("wait job. id={}", job.getId()); //$NON-NLS-1$
+        engine.getJobManager().await(job);
+
+        var reporter = engine.getReporter();
+        int maxLines = engine.getConfig().getClientVariableMap().get(TgsqlCvKey.SELECT_MAX_LINES, -1);
+        var lines = new ArrayList<String>();
+        long omitted = 0;
+        try (var reader = Files.newBufferedReader(job.getSpoolFile(), StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (maxLines < 0 || lines.size() < maxLines) {
+                    lines.add(line);
+                } else {
+                    omitted++;
+                }
+            }
+        }
+        reporter.reportJobOutput(job, lines, omitted);
+        reporter.reportJobStatus(job);
+        return true;
+    }
+
+    static BackgroundJob findJob(BasicEngine engine, SpecialStatement statement) {
+        String option = getOption(statement, 0);
+        if (option == null) {
+            return null;
+        }
+        int id;
+        try {
+            id = Integer.parseInt(option);
+        } catch (NumberFormatException e) {
+            throw new TgsqlMessageException(MessageFormat.format("not integer. option={0}", option), e);
+        }
+        return engine.getJobManager().findJob(id).orElseThrow(() -> new TgsqlMessageException(MessageFormat.format("job not found. id={0}", id)));
+    }
+}
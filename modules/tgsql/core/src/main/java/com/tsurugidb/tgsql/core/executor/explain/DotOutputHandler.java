@@ -182,7 +182,7 @@ public class DotOutputHandler implements PlanGraphOutputHandler {
         return result;
     }
 
-    private static Value toValue(Object obj) {
+    static Value toValue(Object obj) {
         if (obj == null) {
             return Value.of();
         }
@@ -201,7 +201,7 @@ public class DotOutputHandler implements PlanGraphOutputHandler {
         throw new UnsupportedOperationException(MessageFormat.format("unsupported value={0}, class={1}", obj, obj.getClass())); //$NON-NLS-1$
     }
 
-    private static void addOption(Map<Regioned<String>, Optional<Regioned<Value>>> options, String key, Value value) {
+    static void addOption(Map<Regioned<String>, Optional<Regioned<Value>>> options, String key, Value value) {
         var emptyRegion = new Region(0, 0, 0, 0);
         var regionKey = emptyRegion.wrap(key);
         options.computeIfAbsent(regionKey, k -> Optional.of(emptyRegion.wrap(value)));
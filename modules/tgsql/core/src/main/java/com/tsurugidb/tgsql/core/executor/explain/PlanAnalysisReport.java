@@ -0,0 +1,238 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.explain;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.tsurugidb.tgsql.core.executor.explain.PlanFinding.Severity;
+import com.tsurugidb.tgsql.core.model.Region;
+
+/**
+ * A report of {@link PlanAnalyzer} over statements in a SQL script.
+ * <p>
+ * Statements are ranked by the total score of their findings, and then by their position in the script.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class PlanAnalysisReport {
+
+    /**
+     * An analysis result of a statement.
+     */
+    public static class Entry {
+
+        private final String text;
+        private final Region region;
+        private final List<PlanFinding> findings;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param text     the statement text
+         * @param region   the statement region in the script
+         * @param findings the findings
+         */
+        public Entry(@Nonnull String text, @Nonnull Region region, @Nonnull List<PlanFinding> findings) {
+            this.text = Objects.requireNonNull(text);
+            this.region = Objects.requireNonNull(region);
+            this.findings = List.copyOf(findings);
+        }
+
+        /**
+         * Creates a new instance for the statement which could not be explained.
+         *
+         * @param text   the statement text
+         * @param region the statement region in the script
+         * @param cause  the cause of the failure
+         * @return the created entry
+         */
+        public static @Nonnull Entry failed(@Nonnull String text, @Nonnull Region region, @Nonnull Throwable cause) {
+            var finding = new PlanFinding(Severity.CRITICAL, "explain-failed", String.valueOf(cause.getMessage()), null, null); //$NON-NLS-1$
+            return new Entry(text, region, List.of(finding));
+        }
+
+        /**
+         * Returns the statement text.
+         *
+         * @return the statement text
+         */
+        public @Nonnull String getText() {
+            return text;
+        }
+
+        /**
+         * Returns the statement region in the script.
+         *
+         * @return the region
+         */
+        public @Nonnull Region getRegion() {
+            return region;
+        }
+
+        /**
+         * Returns the findings.
+         *
+         * @return the findings
+         */
+        public @Nonnull List<PlanFinding> getFindings() {
+            return findings;
+        }
+
+        /**
+         * Returns the total score of the findings.
+         *
+         * @return the score
+         */
+        public int getScore() {
+            return findings.stream().mapToInt(f -> f.getSeverity().getScore()).sum();
+        }
+    }
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingInt(Entry::getScore).reversed() //
+            .thenComparingLong(e -> e.getRegion().getPosition());
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Adds an analysis result.
+     *
+     * @param entry the result
+     */
+    public synchronized void add(@Nonnull Entry entry) {
+        Objects.requireNonNull(entry);
+        entries.add(entry);
+    }
+
+    /**
+     * Returns the analysis results, in ranking order.
+     *
+     * @return the results
+     */
+    public synchronized @Nonnull List<Entry> getEntries() {
+        var result = new ArrayList<>(entries);
+        result.sort(RANKING);
+        return result;
+    }
+
+    /**
+     * Returns whether or not there are findings at or above the given severity.
+     *
+     * @param severity the severity, or {@code null} to always return {@code false}
+     * @return {@code true} if there are such findings
+     */
+    public synchronized boolean hasFindings(@Nullable Severity severity) {
+        if (severity == null) {
+            return false;
+        }
+        return entries.stream() //
+                .flatMap(e -> e.getFindings().stream()) //
+                .anyMatch(f -> f.getSeverity().compareTo(severity) >= 0);
+    }
+
+    /**
+     * Writes the report as text.
+     * <p>
+     * Statements without findings are omitted.
+     * </p>
+     *
+     * @param writer the destination
+     */
+    public void writeText(@Nonnull Writer writer) {
+        Objects.requireNonNull(writer);
+        var out = new PrintWriter(writer);
+        var list = getEntries();
+        int count = 0;
+        for (var entry : list) {
+            if (entry.getFindings().isEmpty()) {
+                continue;
+            }
+            count++;
+            var region = entry.getRegion();
+            out.println(MessageFormat.format("#{0} score={1} (line {2}, column {3})", //$NON-NLS-1$
+                    count, entry.getScore(), region.getStartLine() + 1, region.getStartColumn() + 1));
+            out.println("  " + entry.getText()); //$NON-NLS-1$
+            for (var finding : entry.getFindings()) {
+                out.println(MessageFormat.format("  {0} {1}: {2}", finding.getSeverity(), finding.getCode(), finding.getMessage())); //$NON-NLS-1$
+            }
+        }
+        out.println(MessageFormat.format("{0} statements analyzed, {1} statements with findings", list.size(), count)); //$NON-NLS-1$
+        out.flush();
+    }
+
+    /**
+     * Writes the report as JSON.
+     * <p>
+     * The destination is not closed.
+     * </p>
+     *
+     * @param writer the destination
+     * @throws IOException if I/O error was occurred
+     */
+    public void writeJson(@Nonnull Writer writer) throws IOException {
+        Objects.requireNonNull(writer);
+        var list = getEntries();
+        var factory = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (var generator = factory.createGenerator(writer)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("statements"); //$NON-NLS-1$
+            for (var entry : list) {
+                writeJson(generator, entry);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        writer.flush();
+    }
+
+    private static void writeJson(JsonGenerator generator, Entry entry) throws IOException {
+        var region = entry.getRegion();
+        generator.writeStartObject();
+        generator.writeStringField("text", entry.getText()); //$NON-NLS-1$
+        generator.writeNumberField("line", region.getStartLine() + 1); //$NON-NLS-1$
+        generator.writeNumberField("column", region.getStartColumn() + 1); //$NON-NLS-1$
+        generator.writeNumberField("score", entry.getScore()); //$NON-NLS-1$
+        generator.writeArrayFieldStart("findings"); //$NON-NLS-1$
+        for (var finding : entry.getFindings()) {
+            generator.writeStartObject();
+            generator.writeStringField("severity", finding.getSeverity().name()); //$NON-NLS-1$
+            generator.writeStringField("code", finding.getCode()); //$NON-NLS-1$
+            generator.writeStringField("message", finding.getMessage()); //$NON-NLS-1$
+            if (finding.getNodeKind() != null) {
+                generator.writeStringField("kind", finding.getNodeKind()); //$NON-NLS-1$
+            }
+            if (finding.getTable() != null) {
+                generator.writeStringField("table", finding.getTable()); //$NON-NLS-1$
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
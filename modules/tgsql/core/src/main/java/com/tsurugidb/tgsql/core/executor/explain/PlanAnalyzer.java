@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.explain;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.tgsql.core.executor.explain.PlanFinding.Severity;
+import com.tsurugidb.tsubakuro.explain.PlanGraph;
+import com.tsurugidb.tsubakuro.explain.PlanGraphUtil;
+import com.tsurugidb.tsubakuro.explain.PlanNode;
+
+/**
+ * Finds expensive operators in {@link PlanGraph}.
+ * <p>
+ * The following findings are reported:
+ * </p>
+ * <ul>
+ * <li>{@code full-scan} - a table is fully scanned</li>
+ * <li>{@code missing-index} - a table is fully scanned and then filtered, so that an index on the filtered columns may help</li>
+ * <li>{@code nested-full-scan} - a table is fully scanned for each input row of a join</li>
+ * <li>{@code cross-join} - a join without join conditions</li>
+ * <li>{@code shuffle-join} - a join which exchanges both inputs</li>
+ * <li>{@code large-join} - the plan contains many joins</li>
+ * </ul>
+ *
+ * @since 1.17.0
+ */
+public class PlanAnalyzer {
+
+    /**
+     * The default number of joins to report {@code large-join}.
+     */
+    public static final int DEFAULT_LARGE_JOIN_THRESHOLD = 4;
+
+    static final String KIND_SCAN = "scan"; //$NON-NLS-1$
+    static final String KIND_FILTER = "filter"; //$NON-NLS-1$
+    static final String KIND_JOIN = "join"; //$NON-NLS-1$
+    static final String KIND_JOIN_PREFIX = "join_"; //$NON-NLS-1$
+    static final String KIND_JOIN_SCAN = "join_scan"; //$NON-NLS-1$
+
+    static final String ATTRIBUTE_ACCESS = "access"; //$NON-NLS-1$
+    static final String ATTRIBUTE_TABLE = "table"; //$NON-NLS-1$
+    static final String ATTRIBUTE_JOIN_TYPE = "join-type"; //$NON-NLS-1$
+
+    static final String ACCESS_FULL_SCAN = "full-scan"; //$NON-NLS-1$
+    static final String JOIN_TYPE_CROSS = "cross"; //$NON-NLS-1$
+
+    /** the maximum distance from a scan to the filter which consumes its output. */
+    private static final int FILTER_SEARCH_DEPTH = 3;
+
+    private final int largeJoinThreshold;
+
+    /**
+     * Creates a new instance with default settings.
+     */
+    public PlanAnalyzer() {
+        this(DEFAULT_LARGE_JOIN_THRESHOLD);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param largeJoinThreshold the number of joins to report {@code large-join}
+     */
+    public PlanAnalyzer(int largeJoinThreshold) {
+        this.largeJoinThreshold = largeJoinThreshold;
+    }
+
+    /**
+     * Analyzes the plan graph.
+     *
+     * @param graph the plan graph
+     * @return the findings, in descending order of severity
+     */
+    public @Nonnull List<PlanFinding> analyze(@Nonnull PlanGraph graph) {
+        Objects.requireNonNull(graph);
+        var result = new ArrayList<PlanFinding>();
+        int joinCount = 0;
+        for (var node : PlanGraphUtil.sort(graph.getNodes())) {
+            String kind = node.getKind();
+            if (kind.equals(KIND_SCAN)) {
+                analyzeScan(node, result);
+            } else if (kind.equals(KIND_JOIN) || kind.startsWith(KIND_JOIN_PREFIX)) {
+                joinCount++;
+                analyzeJoin(node, result);
+            }
+        }
+        if (joinCount >= largeJoinThreshold) {
+            result.add(new PlanFinding(Severity.WARNING, "large-join", //$NON-NLS-1$
+                    MessageFormat.format("the plan contains {0} joins", joinCount), null, null));
+        }
+        result.sort((f1, f2) -> Integer.compare(f2.getSeverity().getScore(), f1.getSeverity().getScore()));
+        return result;
+    }
+
+    private static void analyzeScan(PlanNode node, List<PlanFinding> result) {
+        if (!isFullScan(node)) {
+            return;
+        }
+        String table = node.getAttributes().get(ATTRIBUTE_TABLE);
+        if (isFiltered(node)) {
+            result.add(new PlanFinding(Severity.CRITICAL, "missing-index", //$NON-NLS-1$
+                    MessageFormat.format("full scan of table {0} is filtered, an index on the filtered columns may help", table), node.getKind(), table));
+        } else {
+            result.add(new PlanFinding(Severity.WARNING, "full-scan", //$NON-NLS-1$
+                    MessageFormat.format("full scan of table {0}", table), node.getKind(), table));
+        }
+    }
+
+    private static void analyzeJoin(PlanNode node, List<PlanFinding> result) {
+        var attributes = node.getAttributes();
+        String table = attributes.get(ATTRIBUTE_TABLE);
+        if (node.getKind().equals(KIND_JOIN_SCAN) && isFullScan(node)) {
+            result.add(new PlanFinding(Severity.CRITICAL, "nested-full-scan", //$NON-NLS-1$
+                    MessageFormat.format("table {0} is fully scanned for each input row", table), node.getKind(), table));
+        }
+        if (JOIN_TYPE_CROSS.equals(attributes.get(ATTRIBUTE_JOIN_TYPE))) {
+            result.add(new PlanFinding(Severity.WARNING, "cross-join", //$NON-NLS-1$
+                    "cross join without join conditions", node.getKind(), table));
+        }
+        if (node.getKind().equals(KIND_JOIN)) {
+            result.add(new PlanFinding(Severity.INFO, "shuffle-join", //$NON-NLS-1$
+                    "join exchanges both inputs", node.getKind(), table));
+        }
+    }
+
+    private static boolean isFullScan(PlanNode node) {
+        return ACCESS_FULL_SCAN.equals(node.getAttributes().get(ATTRIBUTE_ACCESS));
+    }
+
+    private static boolean isFiltered(PlanNode scan) {
+        Set<PlanNode> saw = new HashSet<>();
+        List<PlanNode> current = new ArrayList<>(scan.getDownstreams());
+        for (int depth = 0; depth < FILTER_SEARCH_DEPTH && !current.isEmpty(); depth++) {
+            var next = new ArrayList<PlanNode>();
+            for (var node : current) {
+                if (!saw.add(node)) {
+                    continue;
+                }
+                if (node.getKind().equals(KIND_FILTER)) {
+                    return true;
+                }
+                next.addAll(node.getDownstreams());
+            }
+            current = next;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.explain;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A finding about an execution plan, reported by {@link PlanAnalyzer}.
+ *
+ * @since 1.17.0
+ */
+public class PlanFinding {
+
+    /**
+     * Severity of findings.
+     */
+    public enum Severity {
+        /** informational. */
+        INFO(1),
+        /** may be expensive. */
+        WARNING(10),
+        /** probably expensive. */
+        CRITICAL(100),
+        ;
+
+        private final int score;
+
+        Severity(int score) {
+            this.score = score;
+        }
+
+        /**
+         * Returns the score of this severity, which is used to rank statements.
+         *
+         * @return the score
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Returns the severity from its name.
+         *
+         * @param name the name (case insensitive)
+         * @return the severity
+         * @throws IllegalArgumentException if the name is unknown
+         */
+        public static @Nonnull Severity of(@Nonnull String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+        }
+    }
+
+    private final Severity severity;
+    private final String code;
+    private final String message;
+    private final String nodeKind;
+    private final String table;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param severity the severity
+     * @param code     the finding code
+     * @param message  the message
+     * @param nodeKind the kind of the plan node, or {@code null} if the finding is not about a specific node
+     * @param table    the target table name, or {@code null} if it is not known
+     */
+    public PlanFinding(@Nonnull Severity severity, @Nonnull String code, @Nonnull String message, @Nullable String nodeKind, @Nullable String table) {
+        this.severity = Objects.requireNonNull(severity);
+        this.code = Objects.requireNonNull(code);
+        this.message = Objects.requireNonNull(message);
+        this.nodeKind = nodeKind;
+        this.table = table;
+    }
+
+    /**
+     * Returns the severity.
+     *
+     * @return the severity
+     */
+    public @Nonnull Severity getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Returns the finding code (e.g. {@code full-scan}).
+     *
+     * @return the code
+     */
+    public @Nonnull String getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the message.
+     *
+     * @return the message
+     */
+    public @Nonnull String getMessage() {
+        return message;
+    }
+
+    /**
+     * Returns the kind of the plan node.
+     *
+     * @return the node kind, or {@code null} if the finding is not about a specific node
+     */
+    public @Nullable String getNodeKind() {
+        return nodeKind;
+    }
+
+    /**
+     * Returns the target table name.
+     *
+     * @return the table name, or {@code null} if it is not known
+     */
+    public @Nullable String getTable() {
+        return table;
+    }
+
+    @Override
+    public String toString() {
+        return "PlanFinding(severity=" + severity + ", code=" + code + ", message=" + message + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.explain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.tsurugidb.tsubakuro.explain.PlanGraph;
+import com.tsurugidb.tsubakuro.explain.PlanGraphUtil;
+import com.tsurugidb.tsubakuro.explain.PlanNode;
+
+/**
+ * A layered layout of {@link PlanGraph}.
+ * <p>
+ * Nodes are assigned to columns by the longest path from the source nodes, so that every edge goes from left to right.
+ * Edges over multiple columns are split by dummy vertices, and nodes in each column are ordered by the barycenter
+ * heuristic to reduce edge crossings.
+ * </p>
+ */
+final class PlanGraphLayout {
+
+    static final double HORIZONTAL_GAP = 60;
+
+    static final double VERTICAL_GAP = 24;
+
+    static final double MARGIN = 16;
+
+    static final double DUMMY_HEIGHT = 8;
+
+    private static final int SWEEPS = 4;
+
+    /**
+     * A vertex of the layout.
+     */
+    static final class Vertex {
+
+        final @Nullable PlanNode node;
+
+        final int layer;
+
+        final List<Vertex> upstreams = new ArrayList<>();
+
+        final List<Vertex> downstreams = new ArrayList<>();
+
+        double width;
+
+        double height;
+
+        double x;
+
+        double y;
+
+        double order;
+
+        Vertex(@Nullable PlanNode node, int layer) {
+            this.node = node;
+            this.layer = layer;
+        }
+
+        boolean isDummy() {
+            return node == null;
+        }
+
+        double getCenterY() {
+            return y + height / 2;
+        }
+    }
+
+    /**
+     * An edge of the layout, which is a polyline from the upstream node to the downstream node.
+     */
+    static final class Edge {
+
+        final List<double[]> points;
+
+        Edge(List<double[]> points) {
+            this.points = points;
+        }
+    }
+
+    private final List<List<Vertex>> layers;
+
+    private final List<Vertex> vertices;
+
+    private final List<Edge> edges;
+
+    private final double width;
+
+    private final double height;
+
+    private PlanGraphLayout(List<List<Vertex>> layers, List<Vertex> vertices, List<Edge> edges, double width, double height) {
+        this.layers = layers;
+        this.vertices = vertices;
+        this.edges = edges;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Computes the layout of the plan graph.
+     *
+     * @param graph  the plan graph
+     * @param sizing computes {@code width} and {@code height} of each node
+     * @return the computed layout
+     */
+    static @Nonnull PlanGraphLayout compute(@Nonnull PlanGraph graph, @Nonnull Function<PlanNode, double[]> sizing) {
+        Objects.requireNonNull(graph);
+        Objects.requireNonNull(sizing);
+        List<PlanNode> nodes = PlanGraphUtil.sort(graph.getNodes());
+
+        // assign layers by the longest path from sources
+        var vertexMap = new IdentityHashMap<PlanNode, Vertex>();
+        var vertices = new ArrayList<Vertex>(nodes.size());
+        int layerCount = 0;
+        for (var node : nodes) {
+            int layer = 0;
+            for (var upstream : node.getUpstreams()) {
+                var up = vertexMap.get(upstream);
+                if (up != null) {
+                    layer = Math.max(layer, up.layer + 1);
+                }
+            }
+            var vertex = new Vertex(node, layer);
+            double[] size = sizing.apply(node);
+            vertex.width = size[0];
+            vertex.height = size[1];
+            vertexMap.put(node, vertex);
+            vertices.add(vertex);
+            layerCount = Math.max(layerCount, layer + 1);
+        }
+
+        var layers = new ArrayList<List<Vertex>>(layerCount);
+        for (int i = 0; i < layerCount; i++) {
+            layers.add(new ArrayList<>());
+        }
+        for (var vertex : vertices) {
+            layers.get(vertex.layer).add(vertex);
+        }
+
+        // connect vertices, splitting long edges by dummy vertices
+        var routes = new ArrayList<List<Vertex>>();
+        for (var node : nodes) {
+            var from = vertexMap.get(node);
+            for (var downstream : node.getDownstreams()) {
+                var to = vertexMap.get(downstream);
+                if (to == null) {
+                    continue;
+                }
+                var route = new ArrayList<Vertex>();
+                route.add(from);
+                var last = from;
+                for (int layer = from.layer + 1; layer < to.layer; layer++) {
+                    var dummy = new Vertex(null, layer);
+                    dummy.height = DUMMY_HEIGHT;
+                    layers.get(layer).add(dummy);
+                    connect(last, dummy);
+                    route.add(dummy);
+                    last = dummy;
+                }
+                connect(last, to);
+                route.add(to);
+                routes.add(route);
+            }
+        }
+
+        order(layers);
+        double[] extent = place(layers);
+
+        var edges = new ArrayList<Edge>(routes.size());
+        for (var route : routes) {
+            edges.add(toEdge(route));
+        }
+        return new PlanGraphLayout(layers, vertices, edges, extent[0], extent[1]);
+    }
+
+    private static void connect(Vertex from, Vertex to) {
+        from.downstreams.add(to);
+        to.upstreams.add(from);
+    }
+
+    private static void order(List<List<Vertex>> layers) {
+        for (var layer : layers) {
+            updateOrder(layer);
+        }
+        for (int sweep = 0; sweep < SWEEPS; sweep++) {
+            for (int i = 1; i < layers.size(); i++) {
+                sortByBarycenter(layers.get(i), true);
+            }
+            for (int i = layers.size() - 2; i >= 0; i--) {
+                sortByBarycenter(layers.get(i), false);
+            }
+        }
+    }
+
+    private static void sortByBarycenter(List<Vertex> layer, boolean upward) {
+        var barycenters = new IdentityHashMap<Vertex, Double>();
+        for (var vertex : layer) {
+            var neighbors = upward ? vertex.upstreams : vertex.downstreams;
+            if (neighbors.isEmpty()) {
+                barycenters.put(vertex, vertex.order);
+            } else {
+                double sum = 0;
+                for (var neighbor : neighbors) {
+                    sum += neighbor.order;
+                }
+                barycenters.put(vertex, sum / neighbors.size());
+            }
+        }
+        // List.sort is stable, so that ties keep the current order
+        layer.sort(Comparator.comparingDouble(barycenters::get));
+        updateOrder(layer);
+    }
+
+    private static void updateOrder(List<Vertex> layer) {
+        for (int i = 0; i < layer.size(); i++) {
+            layer.get(i).order = i;
+        }
+    }
+
+    private static double[] place(List<List<Vertex>> layers) {
+        double maxHeight = 0;
+        var layerHeights = new double[layers.size()];
+        for (int i = 0; i < layers.size(); i++) {
+            double h = 0;
+            for (var vertex : layers.get(i)) {
+                h += vertex.height;
+            }
+            h += VERTICAL_GAP * Math.max(0, layers.get(i).size() - 1);
+            layerHeights[i] = h;
+            maxHeight = Math.max(maxHeight, h);
+        }
+
+        double x = MARGIN;
+        for (int i = 0; i < layers.size(); i++) {
+            var layer = layers.get(i);
+            double layerWidth = 0;
+            for (var vertex : layer) {
+                layerWidth = Math.max(layerWidth, vertex.width);
+            }
+            double y = MARGIN + (maxHeight - layerHeights[i]) / 2;
+            for (var vertex : layer) {
+                vertex.x = x + (layerWidth - vertex.width) / 2;
+                vertex.y = y;
+                y += vertex.height + VERTICAL_GAP;
+            }
+            x += layerWidth + HORIZONTAL_GAP;
+        }
+        double width = layers.isEmpty() ? MARGIN * 2 : x - HORIZONTAL_GAP + MARGIN;
+        return new double[] { width, maxHeight + MARGIN * 2 };
+    }
+
+    private static Edge toEdge(List<Vertex> route) {
+        var points = new ArrayList<double[]>(route.size());
+        var first = route.get(0);
+        points.add(new double[] { first.x + first.width, first.getCenterY() });
+        for (int i = 1; i < route.size() - 1; i++) {
+            var dummy = route.get(i);
+            points.add(new double[] { dummy.x, dummy.getCenterY() });
+        }
+        var last = route.get(route.size() - 1);
+        points.add(new double[] { last.x, last.getCenterY() });
+        return new Edge(points);
+    }
+
+    /**
+     * Returns the vertices for the plan nodes, in topological order.
+     *
+     * @return the vertices
+     */
+    List<Vertex> getVertices() {
+        return vertices;
+    }
+
+    /**
+     * Returns the layers, each of which contains vertices including dummy vertices, in vertical order.
+     *
+     * @return the layers
+     */
+    List<List<Vertex>> getLayers() {
+        return layers;
+    }
+
+    /**
+     * Returns the edges.
+     *
+     * @return the edges
+     */
+    List<Edge> getEdges() {
+        return edges;
+    }
+
+    /**
+     * Returns the width of the whole graph.
+     *
+     * @return the width
+     */
+    double getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the whole graph.
+     *
+     * @return the height
+     */
+    double getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the vertex of the plan node.
+     *
+     * @param node the plan node
+     * @return the vertex, or {@code null} if it is not in this layout
+     */
+    @Nullable
+    Vertex findVertex(@Nonnull PlanNode node) {
+        for (var vertex : vertices) {
+            if (vertex.node == node) {
+                return vertex;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.explain;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.config.TgsqlClientVariableMap;
+import com.tsurugidb.tgsql.core.executor.engine.EngineConfigurationException;
+import com.tsurugidb.tgsql.core.executor.engine.EngineException;
+import com.tsurugidb.tgsql.core.executor.report.TgsqlReporter;
+import com.tsurugidb.tgsql.core.model.ErroneousStatement;
+import com.tsurugidb.tgsql.core.model.Regioned;
+import com.tsurugidb.tgsql.core.model.Value;
+import com.tsurugidb.tsubakuro.explain.PlanGraph;
+
+/**
+ * Outputs execution plan as SVG or HTML, using {@link SvgPlanGraphRenderer}.
+ * <p>
+ * Unlike {@link DotOutputHandler}, this never launches external commands.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class SvgOutputHandler implements PlanGraphOutputHandler {
+
+    /**
+     * The explain option name prefix of this handler.
+     */
+    public static final String KEY_PREFIX = "svg."; //$NON-NLS-1$
+
+    /**
+     * The explain option name of showing node kinds.
+     */
+    public static final String KEY_VERBOSE = KEY_PREFIX + "verbose"; //$NON-NLS-1$
+
+    /**
+     * The explain option name of output target path.
+     */
+    public static final String KEY_OUTPUT = KEY_PREFIX + "output"; //$NON-NLS-1$
+
+    static final Logger LOG = LoggerFactory.getLogger(SvgOutputHandler.class);
+
+    private static final PlanGraphOutputHandler NULL_OUTPUT_HANDLER = new PlanGraphOutputHandler() {
+
+        @Override
+        public void handle(TgsqlReporter reporter, PlanGraph graph) {
+            return;
+        }
+
+        @Override
+        public boolean isHandled(String key) {
+            return isHandled0(key);
+        }
+    };
+
+    private final @Nonnull SvgPlanGraphRenderer renderer;
+
+    private final @Nonnull Path output;
+
+    private final @Nonnull SvgPlanGraphRenderer.Format format;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param renderer the renderer
+     * @param output   the plan graph output
+     * @param format   the output format
+     */
+    public SvgOutputHandler(@Nonnull SvgPlanGraphRenderer renderer, @Nonnull Path output, @Nonnull SvgPlanGraphRenderer.Format format) {
+        this.renderer = Objects.requireNonNull(renderer);
+        this.output = Objects.requireNonNull(output);
+        this.format = Objects.requireNonNull(format);
+    }
+
+    /**
+     * Extends options.
+     *
+     * @param options           the explain statement options
+     * @param clientVariableMap client variables
+     * @return extended options
+     */
+    public static Map<Regioned<String>, Optional<Regioned<Value>>> extendOptions(//
+            @Nonnull Map<Regioned<String>, Optional<Regioned<Value>>> options, //
+            @Nonnull TgsqlClientVariableMap clientVariableMap) {
+        Objects.requireNonNull(options);
+        Objects.requireNonNull(clientVariableMap);
+
+        var result = new LinkedHashMap<>(options);
+        for (var entry : clientVariableMap.entrySet()) {
+            String key = entry.getKey();
+            if (key.startsWith(KEY_PREFIX)) {
+                var value = DotOutputHandler.toValue(entry.getValue());
+                DotOutputHandler.addOption(result, key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new instance from {@code EXPLAIN} statement options.
+     *
+     * @param options the explain statement options
+     * @return the created instance
+     * @throws EngineConfigurationException if options are invalid
+     */
+    public static PlanGraphOutputHandler fromOptions(@Nonnull Map<Regioned<String>, Optional<Regioned<Value>>> options) throws EngineConfigurationException {
+        Objects.requireNonNull(options);
+        var output = Util.findPath(options, KEY_OUTPUT).orElse(null);
+        if (output == null) {
+            LOG.trace("SvgOutputHandler is disabled"); //$NON-NLS-1$
+            return NULL_OUTPUT_HANDLER;
+        }
+        if (Files.isDirectory(output)) {
+            throw new EngineConfigurationException(//
+                    ErroneousStatement.ErrorKind.INVALID_EXPLAIN_OPTION, //
+                    Util.findValue(options, KEY_OUTPUT).map(Regioned::getRegion).get(), //
+                    MessageFormat.format(//
+                            "output is already exists as a directory: {0}", //
+                            output));
+        }
+        var format = SvgPlanGraphRenderer.Format.of(output).orElseThrow(() -> new EngineConfigurationException(//
+                ErroneousStatement.ErrorKind.INVALID_EXPLAIN_OPTION, //
+                Util.findValue(options, KEY_OUTPUT).map(Regioned::getRegion).get(), //
+                MessageFormat.format(//
+                        "output must be a \".svg\" or \".html\" file: {0}", //
+                        output)));
+        LOG.trace("SvgOutputHandler is enabled: output={}, format={}", output, format); //$NON-NLS-1$
+        boolean verbose = Util.findBoolean(options, KEY_VERBOSE).orElse(false);
+        return new SvgOutputHandler(new SvgPlanGraphRenderer(verbose), output, format);
+    }
+
+    @Override
+    public boolean isHandled(@Nonnull String key) {
+        return isHandled0(key);
+    }
+
+    private static boolean isHandled0(@Nonnull String key) {
+        Objects.requireNonNull(key);
+        return key.equalsIgnoreCase(KEY_VERBOSE) //
+                || key.equalsIgnoreCase(KEY_OUTPUT);
+    }
+
+    @Override
+    public void handle(@Nonnull TgsqlReporter reporter, @Nonnull PlanGraph graph) throws EngineException, InterruptedException {
+        Objects.requireNonNull(reporter);
+        Objects.requireNonNull(graph);
+        LOG.debug("rendering execution plan: output={}, format={}", output, format); //$NON-NLS-1$
+        try {
+            Util.prepareParentDirectory(output);
+            try (var writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                renderer.write(graph, writer, format);
+            }
+        } catch (IOException e) {
+            throw new EngineException(MessageFormat.format("failed to output explain result: {0}", output), e);
+        }
+        reporter.info(MessageFormat.format("saved execution plan graph: {0}", output));
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.explain;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.tsubakuro.explain.PlanGraph;
+import com.tsurugidb.tsubakuro.explain.PlanNode;
+
+/**
+ * Renders {@link PlanGraph} as SVG or HTML, without any external commands.
+ * <p>
+ * Each operator is drawn as a box which contains its title and attributes, and the nodes are arranged by
+ * {@link PlanGraphLayout}. The HTML format embeds the SVG image and a table of the operator details.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class SvgPlanGraphRenderer {
+
+    /**
+     * Output format.
+     */
+    public enum Format {
+        /** SVG image. */
+        SVG,
+        /** HTML document with SVG image and operator details. */
+        HTML,
+        ;
+
+        /**
+         * Returns the format from the file extension.
+         *
+         * @param path the output file path
+         * @return the format, or empty if the extension is not supported
+         */
+        public static Optional<Format> of(@Nonnull Path path) {
+            Objects.requireNonNull(path);
+            var name = Optional.ofNullable(path.getFileName()).map(Path::toString).orElse(""); //$NON-NLS-1$
+            int extensionAt = name.lastIndexOf('.');
+            if (extensionAt < 0) {
+                return Optional.empty();
+            }
+            switch (name.substring(extensionAt + 1).toLowerCase(Locale.ENGLISH)) {
+            case "svg": //$NON-NLS-1$
+                return Optional.of(SVG);
+            case "html": //$NON-NLS-1$
+            case "htm": //$NON-NLS-1$
+                return Optional.of(HTML);
+            default:
+                return Optional.empty();
+            }
+        }
+    }
+
+    static final double CHAR_WIDTH = 7.2;
+
+    static final double LINE_HEIGHT = 16;
+
+    static final double PADDING = 8;
+
+    static final int MAX_LABEL_LENGTH = 48;
+
+    private static final String STYLE = "" //$NON-NLS-1$
+            + ".node rect{fill:#f8f8f8;stroke:#444;stroke-width:1}" //$NON-NLS-1$
+            + ".node.full-scan rect{fill:#fde8e8;stroke:#c33}" //$NON-NLS-1$
+            + ".node text{font-family:monospace;font-size:12px;fill:#222}" //$NON-NLS-1$
+            + ".node text.title{font-weight:bold}" //$NON-NLS-1$
+            + ".edge{fill:none;stroke:#666;stroke-width:1.2;marker-end:url(#arrow)}"; //$NON-NLS-1$
+
+    private final boolean showNodeKind;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param showNodeKind whether to show the node kind next to the title
+     */
+    public SvgPlanGraphRenderer(boolean showNodeKind) {
+        this.showNodeKind = showNodeKind;
+    }
+
+    /**
+     * Writes the plan graph.
+     *
+     * @param graph  the plan graph
+     * @param output the destination
+     * @param format the output format
+     * @throws IOException if I/O error was occurred
+     */
+    public void write(@Nonnull PlanGraph graph, @Nonnull Appendable output, @Nonnull Format format) throws IOException {
+        Objects.requireNonNull(graph);
+        Objects.requireNonNull(output);
+        Objects.requireNonNull(format);
+        var labels = new IdentityHashMap<PlanNode, List<String>>();
+        var layout = PlanGraphLayout.compute(graph, node -> {
+            var lines = getLabel(node);
+            labels.put(node, lines);
+            int length = 0;
+            for (var line : lines) {
+                length = Math.max(length, line.length());
+            }
+            return new double[] { length * CHAR_WIDTH + PADDING * 2, lines.size() * LINE_HEIGHT + PADDING * 2 };
+        });
+
+        switch (format) {
+        case SVG:
+            output.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"); //$NON-NLS-1$
+            writeSvg(layout, labels, output);
+            break;
+        case HTML:
+            writeHtml(layout, labels, output);
+            break;
+        default:
+            throw new AssertionError(format);
+        }
+    }
+
+    List<String> getLabel(PlanNode node) {
+        var lines = new ArrayList<String>();
+        if (showNodeKind) {
+            lines.add(truncate(node.getTitle() + " (" + node.getKind() + ")")); //$NON-NLS-1$ //$NON-NLS-2$
+        } else {
+            lines.add(truncate(node.getTitle()));
+        }
+        for (var entry : node.getAttributes().entrySet()) {
+            lines.add(truncate(entry.getKey() + ": " + entry.getValue())); //$NON-NLS-1$
+        }
+        return lines;
+    }
+
+    private static String truncate(String s) {
+        if (s.length() <= MAX_LABEL_LENGTH) {
+            return s;
+        }
+        return s.substring(0, MAX_LABEL_LENGTH - 3) + "..."; //$NON-NLS-1$
+    }
+
+    private static void writeSvg(PlanGraphLayout layout, Map<PlanNode, List<String>> labels, Appendable output) throws IOException {
+        output.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(format(layout.getWidth())) //$NON-NLS-1$
+                .append("\" height=\"").append(format(layout.getHeight())) //$NON-NLS-1$
+                .append("\" viewBox=\"0 0 ").append(format(layout.getWidth())).append(' ').append(format(layout.getHeight())).append("\">\n"); //$NON-NLS-1$ //$NON-NLS-2$
+        output.append("<defs><marker id=\"arrow\" viewBox=\"0 0 10 10\" refX=\"10\" refY=\"5\" markerWidth=\"8\" markerHeight=\"8\" orient=\"auto\">") //$NON-NLS-1$
+                .append("<path d=\"M0,0L10,5L0,10z\" fill=\"#666\"/></marker></defs>\n"); //$NON-NLS-1$
+        output.append("<style>").append(STYLE).append("</style>\n"); //$NON-NLS-1$ //$NON-NLS-2$
+
+        for (var edge : layout.getEdges()) {
+            output.append("<path class=\"edge\" d=\""); //$NON-NLS-1$
+            var points = edge.points;
+            for (int i = 0; i < points.size(); i++) {
+                var point = points.get(i);
+                if (i == 0) {
+                    output.append('M');
+                } else {
+                    // horizontal bezier curve, which is smooth at every dummy vertex
+                    var prev = points.get(i - 1);
+                    double middle = (prev[0] + point[0]) / 2;
+                    output.append('C').append(format(middle)).append(',').append(format(prev[1])) //
+                            .append(' ').append(format(middle)).append(',').append(format(point[1])).append(' ');
+                }
+                output.append(format(point[0])).append(',').append(format(point[1]));
+            }
+            output.append("\"/>\n"); //$NON-NLS-1$
+        }
+
+        int index = 0;
+        for (var vertex : layout.getVertices()) {
+            index++;
+            var node = vertex.node;
+            output.append("<g class=\"node"); //$NON-NLS-1$
+            if (PlanAnalyzer.ACCESS_FULL_SCAN.equals(node.getAttributes().get(PlanAnalyzer.ATTRIBUTE_ACCESS))) {
+                output.append(" full-scan"); //$NON-NLS-1$
+            }
+            output.append("\" id=\"node-").append(Integer.toString(index)).append("\">"); //$NON-NLS-1$ //$NON-NLS-2$
+            output.append("<title>"); //$NON-NLS-1$
+            escape(output, node.getTitle() + " (" + node.getKind() + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+            for (var entry : node.getAttributes().entrySet()) {
+                output.append('\n');
+                escape(output, entry.getKey() + ": " + entry.getValue()); //$NON-NLS-1$
+            }
+            output.append("</title>"); //$NON-NLS-1$
+            output.append("<rect x=\"").append(format(vertex.x)).append("\" y=\"").append(format(vertex.y)) //$NON-NLS-1$ //$NON-NLS-2$
+                    .append("\" width=\"").append(format(vertex.width)).append("\" height=\"").append(format(vertex.height)) //$NON-NLS-1$ //$NON-NLS-2$
+                    .append("\" rx=\"4\"/>"); //$NON-NLS-1$
+            var lines = labels.get(node);
+            for (int i = 0; i < lines.size(); i++) {
+                double y = vertex.y + PADDING + LINE_HEIGHT * (i + 1) - 4;
+                output.append("<text"); //$NON-NLS-1$
+                if (i == 0) {
+                    output.append(" class=\"title\""); //$NON-NLS-1$
+                }
+                output.append(" x=\"").append(format(vertex.x + PADDING)).append("\" y=\"").append(format(y)).append("\">"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                escape(output, lines.get(i));
+                output.append("</text>"); //$NON-NLS-1$
+            }
+            output.append("</g>\n"); //$NON-NLS-1$
+        }
+        output.append("</svg>\n"); //$NON-NLS-1$
+    }
+
+    private static void writeHtml(PlanGraphLayout layout, Map<PlanNode, List<String>> labels, Appendable output) throws IOException {
+        output.append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n<title>execution plan</title>\n") //$NON-NLS-1$
+                .append("<style>body{font-family:sans-serif}table{border-collapse:collapse}") //$NON-NLS-1$
+                .append("th,td{border:1px solid #ccc;padding:2px 6px;text-align:left;vertical-align:top}") //$NON-NLS-1$
+                .append("td.attributes{font-family:monospace;white-space:pre-wrap}</style>\n") //$NON-NLS-1$
+                .append("</head>\n<body>\n"); //$NON-NLS-1$
+        writeSvg(layout, labels, output);
+        output.append("<table>\n<tr><th>#</th><th>title</th><th>kind</th><th>attributes</th></tr>\n"); //$NON-NLS-1$
+        int index = 0;
+        for (var vertex : layout.getVertices()) {
+            index++;
+            var node = vertex.node;
+            output.append("<tr><td><a href=\"#node-").append(Integer.toString(index)).append("\">") //$NON-NLS-1$ //$NON-NLS-2$
+                    .append(Integer.toString(index)).append("</a></td><td>"); //$NON-NLS-1$
+            escape(output, node.getTitle());
+            output.append("</td><td>"); //$NON-NLS-1$
+            escape(output, node.getKind());
+            output.append("</td><td class=\"attributes\">"); //$NON-NLS-1$
+            boolean first = true;
+            for (var entry : node.getAttributes().entrySet()) {
+                if (!first) {
+                    output.append('\n');
+                }
+                first = false;
+                escape(output, entry.getKey() + ": " + entry.getValue()); //$NON-NLS-1$
+            }
+            output.append("</td></tr>\n"); //$NON-NLS-1$
+        }
+        output.append("</table>\n</body>\n</html>\n"); //$NON-NLS-1$
+    }
+
+    static String format(double value) {
+        long rounded = Math.round(value * 10);
+        if (rounded % 10 == 0) {
+            return Long.toString(rounded / 10);
+        }
+        return Double.toString(rounded / 10.0);
+    }
+
+    static void escape(Appendable output, String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '&':
+                output.append("&amp;"); //$NON-NLS-1$
+                break;
+            case '<':
+                output.append("&lt;"); //$NON-NLS-1$
+                break;
+            case '>':
+                output.append("&gt;"); //$NON-NLS-1$
+                break;
+            case '"':
+                output.append("&quot;"); //$NON-NLS-1$
+                break;
+            default:
+                output.append(c);
+                break;
+            }
+        }
+    }
+}
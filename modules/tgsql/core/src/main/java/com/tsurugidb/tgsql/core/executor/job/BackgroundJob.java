@@ -0,0 +1,171 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.job;
+
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A statement running in background on its own session.
+ *
+ * @since 1.17.0
+ */
+public class BackgroundJob {
+
+    /**
+     * job state.
+     */
+    public enum State {
+        /** the job is running. */
+        RUNNING,
+        /** the job was completed successfully. */
+        SUCCEEDED,
+        /** the job was failed. */
+        FAILED,
+        /** the job was cancelled. */
+        CANCELLED,
+    }
+
+    private final int id;
+    private final String text;
+    private final Path spoolFile;
+    private final long startTime = System.nanoTime();
+    private volatile long endTime;
+    private volatile State state = State.RUNNING;
+    private volatile String errorMessage;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean cancelRequested = false;
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private Future<?> future;
+
+    BackgroundJob(int id, @Nonnull String text, @Nonnull Path spoolFile) {
+        this.id = id;
+        this.text = text;
+        this.spoolFile = spoolFile;
+    }
+
+    void setFuture(@Nonnull Future<?> future) {
+        this.future = future;
+    }
+
+    // @return {@code false} if the job was already started or cancelled before start
+    boolean markStarted() {
+        return started.compareAndSet(false, true);
+    }
+
+    void requestCancel() {
+        this.cancelRequested = true;
+        if (markStarted()) {
+            finish(State.CANCELLED, null);
+            return;
+        }
+        future.cancel(true);
+    }
+
+    boolean isCancelRequested() {
+        return this.cancelRequested;
+    }
+
+    void finish(@Nonnull State finishState, @Nullable String message) {
+        this.endTime = System.nanoTime();
+        this.errorMessage = message;
+        this.state = finishState;
+        finished.countDown();
+    }
+
+    boolean await(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    void await() throws InterruptedException {
+        finished.await();
+    }
+
+    /**
+     * get job id.
+     *
+     * @return job id
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * get statement text.
+     *
+     * @return statement text
+     */
+    public @Nonnull String getText() {
+        return this.text;
+    }
+
+    /**
+     * get the file which holds the output of the job.
+     *
+     * @return spool file
+     */
+    public @Nonnull Path getSpoolFile() {
+        return this.spoolFile;
+    }
+
+    /**
+     * get job state.
+     *
+     * @return job state
+     */
+    public @Nonnull State getState() {
+        return this.state;
+    }
+
+    /**
+     * get whether the job is finished.
+     *
+     * @return {@code true} if the job is finished
+     */
+    public boolean isDone() {
+        return this.state != State.RUNNING;
+    }
+
+    /**
+     * get error message.
+     *
+     * @return error message, or {@code null} if the job was not failed
+     */
+    public @Nullable String getErrorMessage() {
+        return this.errorMessage;
+    }
+
+    /**
+     * get elapsed time.
+     *
+     * @return elapsed time [milliseconds]
+     */
+    public long getElapsedMillis() {
+        long end = isDone() ? this.endTime : System.nanoTime();
+        return TimeUnit.NANOSECONDS.toMillis(end - startTime);
+    }
+
+    @Override
+    public String toString() {
+        return "BackgroundJob(id=" + id + ", state=" + state + ", text=" + text + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.job;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.exception.TgsqlNoMessageException;
+import com.tsurugidb.tgsql.core.executor.engine.BasicEngine;
+import com.tsurugidb.tgsql.core.executor.job.BackgroundJob.State;
+import com.tsurugidb.tgsql.core.executor.result.BasicResultProcessor;
+import com.tsurugidb.tgsql.core.executor.sql.BasicSqlProcessor;
+import com.tsurugidb.tgsql.core.executor.sql.SqlProcessor;
+import com.tsurugidb.tgsql.core.model.Statement;
+
+/**
+ * Manages statements running in background.
+ * <p>
+ * Each job opens its own session, executes the statement in an implicit transaction, and writes the result set (as JSON lines)
+ * and the messages into a temporary spool file. The spool files are removed when this manager is closed.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class BackgroundJobManager implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(BackgroundJobManager.class);
+
+    private static final String THREAD_NAME = "tgsql-job"; //$NON-NLS-1$
+
+    private final TgsqlConfig config;
+    private final Function<TgsqlConfig, SqlProcessor> sqlProcessorFactory;
+    private final ExecutorService executor;
+    private final AtomicInteger jobIdGenerator = new AtomicInteger();
+    private final Map<Integer, BackgroundJob> jobMap = new ConcurrentSkipListMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param config tgsql configuration
+     */
+    public BackgroundJobManager(@Nonnull TgsqlConfig config) {
+        this(config, BasicSqlProcessor::new);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param config              tgsql configuration
+     * @param sqlProcessorFactory factory of SQL processor for each job
+     */
+    public BackgroundJobManager(@Nonnull TgsqlConfig config, @Nonnull Function<TgsqlConfig, SqlProcessor> sqlProcessorFactory) {
+        this.config = Objects.requireNonNull(config);
+        this.sqlProcessorFactory = Objects.requireNonNull(sqlProcessorFactory);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            var thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the statement as a background job.
+     *
+     * @param statement the statement
+     * @return the started job
+     * @throws IOException if failed to create the spool file
+     */
+    public @Nonnull BackgroundJob submit(@Nonnull Statement statement) throws IOException {
+        Objects.requireNonNull(statement);
+        int id = jobIdGenerator.incrementAndGet();
+        var spoolFile = Files.createTempFile("tgsql-job-" + id + "-", ".log"); //$NON-NLS-1$ //$NON-NLS-2$
+        var job = new BackgroundJob(id, statement.getText(), spoolFile);
+        LOG.debug("submit job. id={}, spool={}, text={}", id, spoolFile, statement.getText()); //$NON-NLS-1$
+        jobMap.put(id, job);
+        job.setFuture(executor.submit(() -> run(job, statement)));
+        return job;
+    }
+
+    private void run(BackgroundJob job, Statement statement) {
+        if (!job.markStarted()) {
+            LOG.debug("job was cancelled before start. id={}", job.getId()); //$NON-NLS-1$
+            return;
+        }
+        try (var writer = Files.newBufferedWriter(job.getSpoolFile(), StandardCharsets.UTF_8); //
+                var sqlProcessor = sqlProcessorFactory.apply(config)) {
+            var output = new FilterWriter(writer) {
+                @Override
+                public void close() throws IOException {
+                    flush();
+                    // the spool writer is shared among statements and messages
+                }
+            };
+            var reporter = new BackgroundJobReporter(config, writer);
+            var resultProcessor = new BasicResultProcessor(() -> output, new JsonFactory().configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false));
+            var engine = new BasicEngine(config, sqlProcessor, resultProcessor, reporter);
+            boolean succeed = false;
+            try {
+                sqlProcessor.connect();
+                engine.execute(statement);
+                // the engine throws InterruptedException if the statement was interrupted
+                succeed = !job.isCancelRequested();
+            } finally {
+                engine.finish(succeed);
+                engine.discardTransaction();
+            }
+            job.finish(succeed ? State.SUCCEEDED : State.CANCELLED, null);
+        } catch (Exception e) {
+            if (job.isCancelRequested() || e instanceof InterruptedException) {
+                LOG.debug("job was cancelled. id={}", job.getId(), e); //$NON-NLS-1$
+                job.finish(State.CANCELLED, null);
+            } else {
+                LOG.debug("job was failed. id={}", job.getId(), e); //$NON-NLS-1$
+                job.finish(State.FAILED, getMessage(e));
+            }
+        } catch (Error e) {
+            job.finish(State.FAILED, getMessage(e));
+            throw e;
+        }
+    }
+
+    private static String getMessage(Throwable e) {
+        var cause = e;
+        if (cause instanceof TgsqlNoMessageException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        String message = cause.getMessage();
+        if (message == null) {
+            return cause.getClass().getName();
+        }
+        return message;
+    }
+
+    /**
+     * get all jobs, including finished ones.
+     *
+     * @return jobs ordered by job id
+     */
+    public @Nonnull List<BackgroundJob> getJobs() {
+        return new ArrayList<>(jobMap.values());
+    }
+
+    /**
+     * find the job.
+     *
+     * @param id job id
+     * @return the job, or empty if not found
+     */
+    public @Nonnull Optional<BackgroundJob> findJob(int id) {
+        return Optional.ofNullable(jobMap.get(id));
+    }
+
+    /**
+     * Waits until the job is finished.
+     *
+     * @param job the job
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void await(@Nonnull BackgroundJob job) throws InterruptedException {
+        job.await();
+    }
+
+    /**
+     * Requests to cancel the job.
+     *
+     * @param job the job
+     * @return {@code false} if the job was already finished
+     */
+    public boolean cancel(@Nonnull BackgroundJob job) {
+        if (job.isDone()) {
+            return false;
+        }
+        LOG.debug("cancel job. id={}", job.getId()); //$NON-NLS-1$
+        job.requestCancel();
+        return true;
+    }
+
+    @Override
+    public void close() {
+        for (var job : jobMap.values()) {
+            cancel(job);
+        }
+        executor.shutdownNow();
+        for (var job : jobMap.values()) {
+            try {
+                Files.deleteIfExists(job.getSpoolFile());
+            } catch (IOException e) {
+                LOG.debug("spool file delete error. file={}", job.getSpoolFile(), e); //$NON-NLS-1$
+            }
+        }
+        jobMap.clear();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.job;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.executor.report.TgsqlReporter;
+
+/**
+ * A {@link TgsqlReporter} which writes messages into the spool file of a background job.
+ */
+class BackgroundJobReporter extends TgsqlReporter {
+    private static final Logger LOG = LoggerFactory.getLogger(BackgroundJobReporter.class);
+
+    private final Writer writer;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param config tgsql configuration
+     * @param writer spool writer
+     */
+    BackgroundJobReporter(@Nonnull TgsqlConfig config, @Nonnull Writer writer) {
+        super(config);
+        this.writer = writer;
+    }
+
+    @Override
+    protected void doInfo(String message) {
+        write(message);
+    }
+
+    @Override
+    protected void doImplicit(String message) {
+        write(message);
+    }
+
+    @Override
+    protected void doSucceed(String message) {
+        write(message);
+    }
+
+    @Override
+    protected void doWarn(String message) {
+        write(message);
+    }
+
+    private void write(String message) {
+        try {
+            writer.write(message);
+            writer.write(System.lineSeparator());
+            writer.flush();
+        } catch (IOException e) {
+            LOG.debug("spool write error. message={}", message, e); //$NON-NLS-1$
+        }
+    }
+}
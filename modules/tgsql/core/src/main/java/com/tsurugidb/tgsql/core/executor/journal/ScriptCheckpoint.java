@@ -0,0 +1,262 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.journal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.zip.CRC32;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A position in the script where all preceding statements were already committed.
+ * <p>
+ * The position is the character offset from the beginning of the script, together with the byte offset of the same
+ * position if it is known, so that the script file can be repositioned without decoding the preceding bytes.
+ * </p>
+ * <p>
+ * The journal text ends with the checksum line, and journals without the valid checksum line are rejected on loading.
+ * The text after the checksum line is ignored.
+ * </p>
+ *
+ * @see ScriptJournal
+ * @since 1.17.0
+ */
+public class ScriptCheckpoint {
+
+    static final String KEY_STATEMENT = "statement"; //$NON-NLS-1$
+
+    static final String KEY_OFFSET = "offset"; //$NON-NLS-1$
+
+    static final String KEY_BYTE_OFFSET = "byteOffset"; //$NON-NLS-1$
+
+    static final String KEY_LINE = "line"; //$NON-NLS-1$
+
+    static final String KEY_COLUMN = "column"; //$NON-NLS-1$
+
+    static final String KEY_COMPLETED = "completed"; //$NON-NLS-1$
+
+    static final String KEY_CHECKSUM = "checksum"; //$NON-NLS-1$
+
+    /**
+     * The checkpoint of the beginning of scripts.
+     */
+    public static final ScriptCheckpoint BEGINNING = new ScriptCheckpoint(0, 0, 0, 0, false);
+
+    private final long statementIndex;
+
+    private final long offset;
+
+    private final long byteOffset;
+
+    private final int line;
+
+    private final int column;
+
+    private final boolean completed;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param statementIndex the 0-origin index of the next statement to execute
+     * @param offset         the character offset of the next statement
+     * @param line           the 0-origin line number of the next statement
+     * @param column         the 0-origin column number of the next statement
+     * @param completed      whether or not the whole script was already completed
+     */
+    public ScriptCheckpoint(long statementIndex, long offset, int line, int column, boolean completed) {
+        this(statementIndex, offset, -1, line, column, completed);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param statementIndex the 0-origin index of the next statement to execute
+     * @param offset         the character offset of the next statement
+     * @param byteOffset     the byte offset of the next statement, or {@code -1} if it is unknown
+     * @param line           the 0-origin line number of the next statement
+     * @param column         the 0-origin column number of the next statement
+     * @param completed      whether or not the whole script was already completed
+     */
+    public ScriptCheckpoint(long statementIndex, long offset, long byteOffset, int line, int column, boolean completed) {
+        if (statementIndex < 0 || offset < 0 || line < 0 || column < 0) {
+            throw new IllegalArgumentException(MessageFormat.format(//
+                    "checkpoint must not be negative: statement={0}, offset={1}, line={2}, column={3}", //
+                    statementIndex, offset, line, column));
+        }
+        this.statementIndex = statementIndex;
+        this.offset = offset;
+        this.byteOffset = Math.max(byteOffset, -1);
+        this.line = line;
+        this.column = column;
+        this.completed = completed;
+    }
+
+    /**
+     * Loads a checkpoint from the journal file.
+     *
+     * @param file the journal file
+     * @return the loaded checkpoint
+     * @throws IOException if I/O error was occurred, or the journal file is broken
+     * @see ScriptJournal
+     */
+    public static ScriptCheckpoint load(@Nonnull Path file) throws IOException {
+        Objects.requireNonNull(file);
+        var properties = new Properties();
+        try {
+            properties.load(new StringReader(verify(Files.readString(file, StandardCharsets.UTF_8))));
+            return new ScriptCheckpoint(//
+                    getLong(properties, KEY_STATEMENT), //
+                    getLong(properties, KEY_OFFSET), //
+                    getLong(properties, KEY_BYTE_OFFSET, -1), //
+                    (int) getLong(properties, KEY_LINE), //
+                    (int) getLong(properties, KEY_COLUMN), //
+                    Boolean.parseBoolean(properties.getProperty(KEY_COMPLETED)));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(MessageFormat.format(//
+                    "broken script journal: {0} ({1})", //
+                    file, //
+                    e.getMessage()), e);
+        }
+    }
+
+    // returns the journal text before the checksum line
+    private static String verify(String text) {
+        var prefix = '\n' + KEY_CHECKSUM + '=';
+        int start = text.indexOf(prefix);
+        int end = (start >= 0) ? text.indexOf('\n', start + prefix.length()) : -1;
+        if (end < 0) {
+            throw new IllegalArgumentException(MessageFormat.format("missing \"{0}\"", KEY_CHECKSUM));
+        }
+        var body = text.substring(0, start + 1);
+        var checksum = text.substring(start + prefix.length(), end).trim();
+        if (!checksum.equals(checksum(body))) {
+            throw new IllegalArgumentException(MessageFormat.format("checksum mismatch: {0}", checksum));
+        }
+        return body;
+    }
+
+    private static String checksum(String body) {
+        var crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x", crc.getValue()); //$NON-NLS-1$
+    }
+
+    private static long getLong(Properties properties, String key) {
+        var value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException(MessageFormat.format("missing \"{0}\"", key));
+        }
+        return Long.parseLong(value.trim());
+    }
+
+    private static long getLong(Properties properties, String key, long defaultValue) {
+        var value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Long.parseLong(value.trim());
+    }
+
+    /**
+     * Returns the 0-origin index of the next statement to execute.
+     *
+     * @return the statement index
+     */
+    public long getStatementIndex() {
+        return statementIndex;
+    }
+
+    /**
+     * Returns the character offset of the next statement from the beginning of the script.
+     *
+     * @return the character offset
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the byte offset of the next statement from the beginning of the script.
+     *
+     * @return the byte offset, or {@code -1} if it is unknown
+     */
+    public long getByteOffset() {
+        return byteOffset;
+    }
+
+    /**
+     * Returns the 0-origin line number of the next statement.
+     *
+     * @return the line number
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * Returns the 0-origin column number of the next statement.
+     *
+     * @return the column number
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * Returns whether or not the whole script was already completed.
+     *
+     * @return {@code true} if it was completed, otherwise {@code false}
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Returns the journal file contents of this checkpoint.
+     *
+     * @return the journal file contents
+     */
+    String toJournalText() {
+        // written in the properties format, without escapes or timestamps to keep it cheap
+        var sb = new StringBuilder();
+        sb.append("# tgsql script journal\n"); //$NON-NLS-1$
+        sb.append(KEY_STATEMENT).append('=').append(statementIndex).append('\n');
+        sb.append(KEY_OFFSET).append('=').append(offset).append('\n');
+        if (byteOffset >= 0) {
+            sb.append(KEY_BYTE_OFFSET).append('=').append(byteOffset).append('\n');
+        }
+        sb.append(KEY_LINE).append('=').append(line).append('\n');
+        sb.append(KEY_COLUMN).append('=').append(column).append('\n');
+        sb.append(KEY_COMPLETED).append('=').append(completed).append('\n');
+        var checksum = checksum(sb.toString());
+        sb.append(KEY_CHECKSUM).append('=').append(checksum).append('\n');
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(//
+                "ScriptCheckpoint(statement=%d, offset=%d, byteOffset=%d, line=%d, column=%d, completed=%s)", //$NON-NLS-1$
+                statementIndex, offset, byteOffset, line, column, completed);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.model.Region;
+
+/**
+ * Records the progress of a script into a journal file.
+ * <p>
+ * The journal keeps only the latest {@link ScriptCheckpoint}, and it is overwritten in place for each checkpoint
+ * without re-opening the file. The journal text ends with a checksum line, so that a partially written journal is
+ * rejected on loading, and the rest of the previous journal is ignored if the file was not truncated yet.
+ * </p>
+ *
+ * @see ScriptCheckpoint#load(Path)
+ * @since 1.17.0
+ */
+public class ScriptJournal implements Closeable {
+
+    static final Logger LOG = LoggerFactory.getLogger(ScriptJournal.class);
+
+    private final Path file;
+
+    private final FileChannel channel;
+
+    private int lastSize = -1;
+
+    /**
+     * Opens the journal file.
+     *
+     * @param file the journal file
+     * @return the opened journal
+     * @throws IOException if I/O error was occurred while opening the file
+     */
+    public static ScriptJournal open(@Nonnull Path file) throws IOException {
+        Objects.requireNonNull(file);
+        var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        return new ScriptJournal(file, channel);
+    }
+
+    private ScriptJournal(Path file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+    }
+
+    /**
+     * Returns the journal file.
+     *
+     * @return the journal file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Records that all statements before the given statement were committed.
+     *
+     * @param statementIndex the 0-origin index of the next statement
+     * @param region         the region of the next statement
+     * @throws IOException if I/O error was occurred while writing the journal
+     */
+    public void checkpoint(long statementIndex, @Nonnull Region region) throws IOException {
+        checkpoint(statementIndex, region, -1);
+    }
+
+    /**
+     * Records that all statements before the given statement were committed.
+     *
+     * @param statementIndex the 0-origin index of the next statement
+     * @param region         the region of the next statement
+     * @param byteOffset     the byte offset of the next statement, or {@code -1} if it is unknown
+     * @throws IOException if I/O error was occurred while writing the journal
+     */
+    public void checkpoint(long statementIndex, @Nonnull Region region, long byteOffset) throws IOException {
+        Objects.requireNonNull(region);
+        write(new ScriptCheckpoint(statementIndex, region.getPosition(), byteOffset, region.getStartLine(), region.getStartColumn(), false));
+    }
+
+    /**
+     * Records that the whole script was completed.
+     *
+     * @param statementCount the number of executed statements
+     * @throws IOException if I/O error was occurred while writing the journal
+     */
+    public void complete(long statementCount) throws IOException {
+        write(new ScriptCheckpoint(statementCount, 0, 0, 0, true));
+    }
+
+    /**
+     * Writes the checkpoint into the journal file.
+     *
+     * @param checkpoint the checkpoint
+     * @throws IOException if I/O error was occurred while writing the journal
+     */
+    public void write(@Nonnull ScriptCheckpoint checkpoint) throws IOException {
+        Objects.requireNonNull(checkpoint);
+        LOG.trace("write script journal: {}", checkpoint); //$NON-NLS-1$
+        var buffer = ByteBuffer.wrap(checkpoint.toJournalText().getBytes(StandardCharsets.UTF_8));
+        int size = buffer.remaining();
+        long position = 0;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        if (lastSize < 0 || size < lastSize) {
+            channel.truncate(size);
+        }
+        channel.force(false);
+        lastSize = size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
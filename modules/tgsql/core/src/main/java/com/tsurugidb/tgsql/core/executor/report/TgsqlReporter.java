@@ -17,6 +17,8 @@ package com.tsurugidb.tgsql.core.executor.report;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.Iterator;
@@ -35,7 +37,11 @@ import com.tsurugidb.tgsql.core.config.TgsqlConfig;
 import com.tsurugidb.tgsql.core.config.TgsqlCvKey;
 import com.tsurugidb.tgsql.core.config.TgsqlCvKey.TgsqlCvKeyBoolean;
 import com.tsurugidb.tgsql.core.config.TgsqlLobTransferType;
+import com.tsurugidb.tgsql.core.executor.job.BackgroundJob;
 import com.tsurugidb.tgsql.core.executor.sql.ColumnWrapper;
+import com.tsurugidb.tgsql.core.executor.stats.FingerprintStatistics;
+import com.tsurugidb.tgsql.core.executor.stats.StatementStatistics;
+import com.tsurugidb.tools.common.util.EndpointList;
 import com.tsurugidb.tsubakuro.exception.ServerException;
 import com.tsurugidb.tsubakuro.explain.PlanGraph;
 import com.tsurugidb.tsubakuro.sql.CounterType;
@@ -338,6 +344,147 @@ public abstract class TgsqlReporter {
         implicit(message);
     }
 
+    /**
+     * output message for statements which were not committed in grouped auto-commit transaction.
+     *
+     * @param statementCount number of statements in the transaction
+     * @param firstLine      the line number of the first statement (1-origin)
+     * @param lastLine       the line number of the last statement (1-origin)
+     * @since 1.17.0
+     */
+    public void reportCommitGroupDiscarded(int statementCount, int firstLine, int lastLine) {
+        String message = MessageFormat.format("{0} statement(s) in line {1}-{2} were not committed.", //
+                statementCount, firstLine, lastLine);
+        warn(message);
+    }
+
+    /**
+     * output message for transaction retry.
+     *
+     * @param attempt  the retry attempt number (1-origin)
+     * @param maxRetry the maximum number of retries
+     * @param reason   the reason of retry
+     * @since 1.17.0
+     */
+    public void reportTransactionRetry(int attempt, int maxRetry, String reason) {
+        String message = MessageFormat.format("transaction was aborted ({0}). retrying ({1}/{2}).", //
+                reason, attempt, maxRetry);
+        warn(message);
+    }
+
+    /**
+     * output message for the summary of transaction retries.
+     *
+     * @param transactionCount number of retried transactions
+     * @param retryCount       total number of retries
+     * @since 1.17.0
+     */
+    public void reportTransactionRetrySummary(int transactionCount, int retryCount) {
+        String message = MessageFormat.format("{0} transaction(s) were retried {1} time(s) in total.", //
+                transactionCount, retryCount);
+        info(message);
+    }
+
+    /**
+     * output message for background job started.
+     *
+     * @param job the job
+     * @since 1.17.0
+     */
+    public void reportJobStarted(BackgroundJob job) {
+        String message = MessageFormat.format("[{0}] started in background. output={1}", //
+                job.getId(), job.getSpoolFile());
+        info(message);
+    }
+
+    /**
+     * output message for background job list.
+     *
+     * @param jobList jobs
+     * @since 1.17.0
+     */
+    public void reportJobList(List<BackgroundJob> jobList) {
+        if (jobList.isEmpty()) {
+            info("no background jobs.");
+            return;
+        }
+        for (var job : jobList) {
+            String message = MessageFormat.format("[{0}] {1} ({2} ms) {3}", //
+                    job.getId(), job.getState(), job.getElapsedMillis(), job.getText());
+            info(message);
+        }
+    }
+
+    /**
+     * output message for background job status.
+     *
+     * @param job the job
+     * @since 1.17.0
+     */
+    public void reportJobStatus(BackgroundJob job) {
+        switch (job.getState()) {
+        case SUCCEEDED:
+            succeed(MessageFormat.format("[{0}] succeeded ({1} ms)", job.getId(), job.getElapsedMillis()));
+            break;
+        case FAILED:
+            warn(MessageFormat.format("[{0}] failed ({1} ms): {2}", job.getId(), job.getElapsedMillis(), job.getErrorMessage()));
+            break;
+        case CANCELLED:
+            warn(MessageFormat.format("[{0}] cancelled ({1} ms)", job.getId(), job.getElapsedMillis()));
+            break;
+        default:
+            info(MessageFormat.format("[{0}] running ({1} ms)", job.getId(), job.getElapsedMillis()));
+            break;
+        }
+    }
+
+    /**
+     * output background job output.
+     *
+     * @param job          the job
+     * @param lines        output lines
+     * @param omittedLines number of lines which are not displayed
+     * @since 1.17.0
+     */
+    public void reportJobOutput(BackgroundJob job, List<String> lines, long omittedLines) {
+        for (String line : lines) {
+            info(line);
+        }
+        if (omittedLines > 0) {
+            info(MessageFormat.format("({0} more line(s) in {1})", omittedLines, job.getSpoolFile()));
+        }
+    }
+
+    /**
+     * output message for statement statistics.
+     *
+     * @param statisticsList statistics, in descending order of the total elapsed time
+     * @param omitted        the number of omitted statistics
+     * @since 1.17.0
+     */
+    public void reportStatementStatistics(List<FingerprintStatistics> statisticsList, int omitted) {
+        if (statisticsList.isEmpty()) {
+            info("no statement statistics.");
+            return;
+        }
+        for (var statistics : statisticsList) {
+            String message = MessageFormat.format("calls={0}, errors={1}, rows={2}, total={3} ms, min={4} ms, p50={5} ms, p99={6} ms, max={7} ms: {8}", //
+                    statistics.getCount(), //
+                    statistics.getErrors(), //
+                    statistics.getRows(), //
+                    StatementStatistics.toMillis(statistics.getTotalNanos()), //
+                    StatementStatistics.toMillis(statistics.getMinNanos()), //
+                    StatementStatistics.toMillis(statistics.getPercentileNanos(0.50)), //
+                    StatementStatistics.toMillis(statistics.getPercentileNanos(0.99)), //
+                    StatementStatistics.toMillis(statistics.getMaxNanos()), //
+                    statistics.getFingerprint());
+            info(message);
+        }
+        if (omitted > 0) {
+            info(MessageFormat.format("({0} more statement(s))", omitted));
+        }
+    }
+
     /**
      * output message for transaction close implicitly.
      */
@@ -365,6 +512,10 @@ public abstract class TgsqlReporter {
 
         reportSessionStatus(message, endpoint, active);
 
+        findTransport(endpoint).ifPresent(transport -> {
+            String transportMessage = MessageFormat.format("session.transport={0}", transport);
+            reportSessionTransport(transportMessage);
+        });
         userName.ifPresent(user -> {
             String userMessage = MessageFormat.format("session.user={0}", user);
             reportSessionUserName(userMessage);
@@ -386,6 +537,28 @@ public abstract class TgsqlReporter {
         info(message);
     }
 
+    private static Optional<String> findTransport(@Nullable String endpoint) {
+        if (endpoint == null) {
+            return Optional.empty();
+        }
+        try {
+            String transport = EndpointList.getTransport(new URI(endpoint));
+            return transport.isEmpty() ? Optional.empty() : Optional.of(transport);
+        } catch (URISyntaxException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * output message for session transport.
+     *
+     * @param message message
+     * @since 1.17.0
+     */
+    protected void reportSessionTransport(String message) {
+        info(message);
+    }
+
     /**
      * output message for session user name.
      *
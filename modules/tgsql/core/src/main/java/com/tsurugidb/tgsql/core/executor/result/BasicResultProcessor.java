@@ -45,11 +45,23 @@ public class BasicResultProcessor implements ResultProcessor {
 
     private final JsonFactory factory;
 
+    private long lastRowCount = -1;
+
     /**
      * Creates a new instance.
      */
     public BasicResultProcessor() {
-        this(new StandardWriterSupplier(), //
+        this(new StandardWriterSupplier());
+    }
+
+    /**
+     * Creates a new instance with the default JSON output settings.
+     *
+     * @param outputs the output factory
+     * @since 1.17.0
+     */
+    public BasicResultProcessor(@Nonnull IoSupplier<? extends Writer> outputs) {
+        this(outputs, //
                 new JsonFactory().configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false) //
         );
     }
@@ -70,6 +82,8 @@ public class BasicResultProcessor implements ResultProcessor {
     @Override
     public long process(TransactionWrapper transaction, @Nonnull ResultSet target) throws ServerException, IOException, InterruptedException {
         List<Object> buffer = new ArrayList<>();
+        long rowCount = 0;
+        this.lastRowCount = -1;
         try (//
                 var output = outputs.get(); //
                 var generator = factory.createGenerator(output); //
@@ -79,12 +93,19 @@ public class BasicResultProcessor implements ResultProcessor {
             while (ResultSetUtil.fetchNextRow(transaction, target, target.getMetadata(), buffer::add)) {
                 dumpRow(generator, buffer, target.getMetadata().getColumns());
                 buffer.clear();
+                rowCount++;
             }
             generator.writeRaw(System.lineSeparator());
         }
+        this.lastRowCount = rowCount;
         return System.nanoTime();
     }
 
+    @Override
+    public long getLastRowCount() {
+        return this.lastRowCount;
+    }
+
     private void dumpMetadata(JsonGenerator generator, ResultSetMetadata metadata) throws IOException {
         generator.writeRaw("// ");
         generator.writeStartObject();
@@ -42,6 +42,16 @@ public interface ResultProcessor extends Closeable {
      */
     long process(TransactionWrapper transaction, @Nonnull ResultSet target) throws ServerException, IOException, InterruptedException;
 
+    /**
+     * Returns the number of rows processed in the last {@link #process(TransactionWrapper, ResultSet)}.
+     *
+     * @return the number of rows, or {@code -1} if it is not available
+     * @since 1.17.0
+     */
+    default long getLastRowCount() {
+        return -1;
+    }
+
     @Override
     default void close() throws IOException {
         return;
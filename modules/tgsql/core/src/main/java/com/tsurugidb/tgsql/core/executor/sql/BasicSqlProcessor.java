@@ -29,12 +29,14 @@ import org.slf4j.LoggerFactory;
 
 import com.tsurugidb.sql.proto.SqlRequest;
 import com.tsurugidb.system.proto.SystemResponse.SystemInfo;
-import com.tsurugidb.tgsql.core.TgsqlConstants;
 import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.credential.DefaultCredentialSessionConnector.SessionWithCredential;
+import com.tsurugidb.tgsql.core.event.CommitEvent;
+import com.tsurugidb.tgsql.core.event.ExecuteEvent;
+import com.tsurugidb.tgsql.core.event.PrepareEvent;
+import com.tsurugidb.tgsql.core.event.RollbackEvent;
 import com.tsurugidb.tgsql.core.model.Region;
-import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
 import com.tsurugidb.tsubakuro.common.Session;
-import com.tsurugidb.tsubakuro.common.SessionBuilder;
 import com.tsurugidb.tsubakuro.exception.ServerException;
 import com.tsurugidb.tsubakuro.sql.SqlClient;
 import com.tsurugidb.tsubakuro.sql.SqlServiceException;
@@ -51,11 +53,14 @@ import com.tsurugidb.tsubakuro.util.Owner;
 public class BasicSqlProcessor implements SqlProcessor {
     static final Logger LOG = LoggerFactory.getLogger(BasicSqlProcessor.class);
 
+    private static final String SYSTEM_INFO_THREAD_NAME = "tgsql-system-info"; //$NON-NLS-1$
+
     private final TgsqlConfig config;
     private String sessionEndpoint;
-    private Session session;
-    private SqlClient sqlClient;
-    private TransactionWrapper transaction;
+    // session and sqlClient are also read from background threads, like the metadata cache or the slow statement log
+    private volatile Session session;
+    private volatile SqlClient sqlClient;
+    private volatile TransactionWrapper transaction;
 
     /**
      * Creates a new instance.
@@ -88,34 +93,24 @@ public class BasicSqlProcessor implements SqlProcessor {
 
     protected Session getOrCreateSession() throws ServerException, IOException, InterruptedException {
         if (this.session == null) {
-            String applicationName = TgsqlConstants.APPLICATION_NAME;
             String endpoint = config.getEndpoint();
             if (endpoint == null) {
                 throw new IllegalStateException("specify connection-url");
             }
-            var label = config.getConnectionLabel();
-            var lobTransferType = config.getLobTransferType();
 
-            Credential credential;
+            SessionWithCredential connection;
             try {
-                var supplier = config.getCredential();
-                if (supplier != null) {
-                    credential = supplier.get();
-                    var builder = SessionBuilder.connect(endpoint).withApplicationName(applicationName).withCredential(credential);
-                    label.ifPresent(builder::withLabel);
-                    builder.withBlobTransfer(lobTransferType.getRawBlobTransferType());
-                    this.session = builder.create();
-                } else {
-                    var sessionConnector = config.getDefaultCredentialSessionConnector();
-                    var connection = sessionConnector.connect(applicationName, label, endpoint, lobTransferType);
-                    credential = connection.credential();
-                    this.session = connection.session();
+                connection = awaitPendingSession(endpoint);
+                if (connection == null) {
+                    connection = SessionConnector.connect(config, endpoint, true);
                 }
             } catch (Exception e) {
                 LOG.warn("establishing connection: {}", endpoint);
                 throw e;
             }
-            this.sessionEndpoint = endpoint;
+            this.session = connection.session();
+            this.sessionEndpoint = (connection.endpoint() != null) ? connection.endpoint() : endpoint;
+            var credential = connection.credential();
             config.setCredential(() -> credential);
 
             try {
@@ -125,20 +120,39 @@ public class BasicSqlProcessor implements SqlProcessor {
                 LOG.debug("getLargeObjectClient error", e);
             }
 
-            try {
-                var systemInfo = getSystemInfo();
-                String name = systemInfo.getName();
-                String version = systemInfo.getVersion();
-                LOG.info("connected: {} {}", name, version);
-            } catch (Exception e) {
-                LOG.debug("getSystemInfo error", e);
-            }
+            // the system information is only for logging, so that it does not delay the first statement
+            var s = this.session;
+            var thread = new Thread(() -> logSystemInfo(s), SYSTEM_INFO_THREAD_NAME);
+            thread.setDaemon(true);
+            thread.start();
         }
         return this.session;
     }
 
-    private SystemInfo getSystemInfo() throws ServerException, IOException, InterruptedException {
-        try (var systemClient = SystemClient.attach(this.session)) {
+    private @Nullable SessionWithCredential awaitPendingSession(String endpoint) throws ServerException, IOException, InterruptedException {
+        try (var pending = config.takePendingSession()) {
+            if (pending == null) {
+                return null;
+            }
+            var connection = pending.await(endpoint);
+            LOG.debug("background connection: {}", (connection != null) ? "taken" : "not available"); //$NON-NLS-1$
+            return connection;
+        }
+    }
+
+    private static void logSystemInfo(Session session) {
+        try {
+            var systemInfo = getSystemInfo(session);
+            String name = systemInfo.getName();
+            String version = systemInfo.getVersion();
+            LOG.info("connected: {} {}", name, version);
+        } catch (Exception e) {
+            LOG.debug("getSystemInfo error", e);
+        }
+    }
+
+    private static SystemInfo getSystemInfo(Session session) throws ServerException, IOException, InterruptedException {
+        try (var systemClient = SystemClient.attach(session)) {
             return systemClient.getSystemInfo().await();
         }
     }
@@ -150,10 +164,11 @@ public class BasicSqlProcessor implements SqlProcessor {
 
     @Override
     public SqlClient getSqlClient() throws ServerException, IOException, InterruptedException {
-        if (this.sqlClient == null) {
+        var client = this.sqlClient;
+        if (client == null) {
             throw new IllegalStateException("connection not exists");
         }
-        return this.sqlClient;
+        return client;
     }
 
     @Override
@@ -193,6 +208,8 @@ public class BasicSqlProcessor implements SqlProcessor {
     public void commitTransaction(@Nullable SqlRequest.CommitStatus status) throws ServerException, IOException, InterruptedException {
         LOG.debug("start commit: {}", status); //$NON-NLS-1$
         desireActive();
+        var event = new CommitEvent();
+        event.begin();
         try (var tx = transaction) {
             transaction = null;
             var t = tx.getTransaction();
@@ -201,6 +218,10 @@ public class BasicSqlProcessor implements SqlProcessor {
             } else {
                 t.commit(status).await();
             }
+            event.finish(tx, status);
+        }
+        if (config != null) {
+            config.getMetrics().recordCommit();
         }
     }
 
@@ -208,32 +229,56 @@ public class BasicSqlProcessor implements SqlProcessor {
     public void rollbackTransaction() throws ServerException, IOException, InterruptedException {
         LOG.debug("start rollback"); //$NON-NLS-1$
         if (isTransactionActive()) {
+            var event = new RollbackEvent();
+            event.begin();
             try (var tx = transaction) {
                 transaction = null;
                 var t = tx.getTransaction();
                 t.rollback().await();
+                event.finish(tx);
+            }
+            if (config != null) {
+                config.getMetrics().recordRollback();
             }
         } else {
             LOG.warn("rollback request is ignored because transaction is not active");
         }
     }
 
+    @Override
+    public boolean abortTransaction() throws ServerException, IOException, InterruptedException {
+        var tx = this.transaction;
+        if (tx == null) {
+            return false;
+        }
+        LOG.debug("start abort"); //$NON-NLS-1$
+        tx.getTransaction().rollback().await();
+        return true;
+    }
+
     @Override
     public @Nullable PreparedStatementResult execute(@Nonnull String statement, @Nullable Region region) throws ServerException, IOException, InterruptedException {
         Objects.requireNonNull(statement);
         LOG.debug("start prepare: '{}'", statement);
         desireActive();
         var client = getSqlClient();
+        var prepareEvent = new PrepareEvent();
+        prepareEvent.begin();
         try (var preparedOwner = Owner.of(client.prepare(statement).await())) {
+            prepareEvent.finish(statement);
             var prepared = preparedOwner.get();
             var t = transaction.getTransaction();
+            var executeEvent = new ExecuteEvent();
+            executeEvent.begin();
             if (prepared.hasResultRecords()) {
                 LOG.debug("start query: '{}'", statement);
                 var result = t.executeQuery(prepared).await();
+                executeEvent.finish(statement, transaction, true);
                 return new PreparedStatementResult(result, preparedOwner.release());
             }
             LOG.debug("start execute: '{}'", statement);
             var result = t.executeStatement(prepared).await();
+            executeEvent.finish(statement, transaction, false);
             return new PreparedStatementResult(result);
         }
     }
@@ -249,10 +294,11 @@ public class BasicSqlProcessor implements SqlProcessor {
 
     @Override
     public boolean isSessionActive() {
-        if (this.session == null) {
+        var s = this.session;
+        if (s == null) {
             return false;
         }
-        return session.isAlive();
+        return s.isAlive();
     }
 
     @Override
@@ -311,25 +357,34 @@ public class BasicSqlProcessor implements SqlProcessor {
 
     @Override
     public void close() throws ServerException, IOException, InterruptedException {
+        if (this.config != null) {
+            var pending = config.takePendingSession();
+            if (pending != null) {
+                pending.close(); // discard the session which was not used
+            }
+        }
         closeSession();
     }
 
     private boolean closeSession() throws ServerException, IOException, InterruptedException {
-        try (var s = session; var c = sqlClient; var t = transaction) {
-            if (this.session != null) {
-                shutdownSession();
+        var s = this.session;
+        var c = this.sqlClient;
+        var t = this.transaction;
+        // unpublish before closing, so that other threads never see the closed session
+        this.sessionEndpoint = null;
+        this.session = null;
+        this.sqlClient = null;
+        this.transaction = null;
+        try (s; c; t) {
+            if (s != null) {
+                shutdownSession(s);
             }
 
-            return this.session != null;
-        } finally {
-            this.sessionEndpoint = null;
-            this.session = null;
-            this.sqlClient = null;
-            this.transaction = null;
+            return s != null;
         }
     }
 
-    private void shutdownSession() {
+    private void shutdownSession(Session target) {
         if (this.config == null) {
             return;
         }
@@ -344,7 +399,7 @@ public class BasicSqlProcessor implements SqlProcessor {
         LOG.debug("shutdownSession(): shutdownTimeout={}", shutdownTimeout);
 
         try {
-            session.shutdown(rawShutdownType).await(shutdownTimeout, TimeUnit.SECONDS);
+            target.shutdown(rawShutdownType).await(shutdownTimeout, TimeUnit.SECONDS);
             LOG.trace("shutdownSession() end");
         } catch (TimeoutException ignore) {
             LOG.warn("shutdown timeout");
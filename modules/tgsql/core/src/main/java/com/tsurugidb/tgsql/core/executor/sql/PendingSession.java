@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.sql;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.credential.DefaultCredentialSessionConnector.SessionWithCredential;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+
+/**
+ * A session which is being established in background.
+ *
+ * <p>
+ * This never asks the user for credentials: if only the interactive credential is left, {@link #await(String)} returns
+ * {@code null} and the caller should establish the session by itself.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public final class PendingSession implements AutoCloseable {
+    static final Logger LOG = LoggerFactory.getLogger(PendingSession.class);
+
+    private static final String THREAD_NAME = "tgsql-connect"; //$NON-NLS-1$
+
+    private final String endpoint;
+    private final CompletableFuture<SessionWithCredential> future;
+    private final AtomicBoolean taken = new AtomicBoolean(false);
+
+    private PendingSession(String endpoint, CompletableFuture<SessionWithCredential> future) {
+        this.endpoint = endpoint;
+        this.future = future;
+    }
+
+    /**
+     * Starts establishing a session in background.
+     *
+     * <p>
+     * The credential supplier in the configuration must not ask the user for input.
+     * </p>
+     *
+     * @param config tgsql configuration
+     * @return the pending session
+     */
+    public static @Nonnull PendingSession start(@Nonnull TgsqlConfig config) {
+        Objects.requireNonNull(config);
+        String endpoint = config.getEndpoint();
+        if (endpoint == null) {
+            throw new IllegalStateException("specify connection-url");
+        }
+        var future = new CompletableFuture<SessionWithCredential>();
+        var thread = new Thread(() -> {
+            try {
+                future.complete(SessionConnector.connect(config, endpoint, false));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }, THREAD_NAME);
+        thread.setDaemon(true);
+        LOG.debug("start establishing connection in background: {}", endpoint); //$NON-NLS-1$
+        thread.start();
+        return new PendingSession(endpoint, future);
+    }
+
+    /**
+     * Returns the target end-point.
+     *
+     * @return the end-point URI string, or comma separated URIs
+     */
+    public @Nonnull String getEndpoint() {
+        return this.endpoint;
+    }
+
+    /**
+     * Waits for the session to be established, and takes it over.
+     *
+     * @param expectedEndpoint the end-point which the caller wants to connect to
+     * @return the established session, or {@code null} if the caller should establish the session by itself
+     * @throws IOException          if I/O error was occurred while establishing the session
+     * @throws ServerException      if server side error was occurred while establishing the session
+     * @throws InterruptedException if interrupted while waiting for the session
+     */
+    public @Nullable SessionWithCredential await(@Nonnull String expectedEndpoint) throws IOException, ServerException, InterruptedException {
+        Objects.requireNonNull(expectedEndpoint);
+        if (!taken.compareAndSet(false, true)) {
+            return null;
+        }
+        if (!endpoint.equals(expectedEndpoint)) {
+            LOG.debug("discard background connection: {}", endpoint); //$NON-NLS-1$
+            discard();
+            return null;
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            discard();
+            throw e;
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof ServerException) {
+                throw (ServerException) cause;
+            }
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Discards the session if nobody has taken it over.
+     */
+    @Override
+    public void close() {
+        if (taken.compareAndSet(false, true)) {
+            LOG.debug("discard background connection: {}", endpoint); //$NON-NLS-1$
+            discard();
+        }
+    }
+
+    private void discard() {
+        future.whenComplete((connection, e) -> {
+            if (connection == null) {
+                return;
+            }
+            try {
+                connection.session().close();
+            } catch (Exception ce) {
+                LOG.debug("close background connection error", ce); //$NON-NLS-1$
+            }
+        });
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.sql;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.TableMetadata;
+
+/**
+ * Session scoped cache of table names and table metadata.
+ * <p>
+ * The non-blocking methods ({@link #getTableNames()}, {@link #getColumnNames(String)}) never wait for the server: they return
+ * what is cached now, and schedule a background reload if the entry is missing or older than {@code metadata-cache.ttl}.
+ * They are intended for input completion. The blocking methods ({@link #loadTableNames()},
+ * {@link #loadTableMetadata(String)}) return a cached entry if it is still fresh, or load it synchronously.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class SchemaMetadataCache implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaMetadataCache.class);
+
+    private static final String THREAD_NAME = "tgsql-metadata-cache"; //$NON-NLS-1$
+
+    private static final String TABLE_LIST_KEY = ""; //$NON-NLS-1$
+
+    private static final class Entry<T> {
+        private final long generation;
+        private final @Nullable T value;
+        private final long loadTime;
+
+        Entry(long generation, @Nullable T value) {
+            this.generation = generation;
+            this.value = value;
+            this.loadTime = System.nanoTime();
+        }
+    }
+
+    private final SqlProcessor sqlProcessor;
+    private final TgsqlConfig config;
+    private final ExecutorService executor;
+    private final Set<String> loadingKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Entry<List<String>> tableNames;
+    private final Map<String, Entry<TableMetadata>> tableMetadataMap = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sqlProcessor SQL processor
+     * @param config       tgsql configuration
+     */
+    public SchemaMetadataCache(@Nonnull SqlProcessor sqlProcessor, @Nonnull TgsqlConfig config) {
+        this.sqlProcessor = sqlProcessor;
+        this.config = config;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Marks all cached entries as stale and starts loading the table list in background.
+     */
+    public void refreshAsync() {
+        invalidate();
+        scheduleTableNames();
+    }
+
+    /**
+     * Marks all cached entries as stale.
+     * <p>
+     * Stale entries are still returned by the non-blocking methods until they are reloaded.
+     * </p>
+     */
+    public void invalidate() {
+        LOG.debug("invalidate metadata cache"); //$NON-NLS-1$
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Discards all cached entries.
+     */
+    public void clear() {
+        LOG.debug("clear metadata cache"); //$NON-NLS-1$
+        generation.incrementAndGet();
+        this.tableNames = null;
+        tableMetadataMap.clear();
+    }
+
+    /**
+     * Returns the cached table names without blocking.
+     *
+     * @return the cached table names, or empty list if they are not loaded yet
+     */
+    public @Nonnull List<String> getTableNames() {
+        var entry = this.tableNames;
+        if (!isFresh(entry)) {
+            scheduleTableNames();
+        }
+        if (entry == null || entry.value == null) {
+            return List.of();
+        }
+        return entry.value;
+    }
+
+    /**
+     * Returns the cached column names of the table without blocking.
+     *
+     * @param tableName table name
+     * @return the cached column names, or empty list if they are not loaded yet
+     */
+    public @Nonnull List<String> getColumnNames(@Nonnull String tableName) {
+        var entry = tableMetadataMap.get(tableName);
+        if (!isFresh(entry)) {
+            scheduleTableMetadata(tableName);
+        }
+        if (entry == null || entry.value == null) {
+            return List.of();
+        }
+        return entry.value.getColumns().stream().map(column -> column.getName()).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the table names, loading them if the cached entry is missing or expired.
+     *
+     * @return the table names
+     * @throws ServerException      if server side error was occurred
+     * @throws IOException          if I/O error was occurred while retrieving the table names
+     * @throws InterruptedException if interrupted while retrieving the table names
+     */
+    public @Nonnull List<String> loadTableNames() throws ServerException, IOException, InterruptedException {
+        var entry = this.tableNames;
+        if (isFresh(entry) && entry.value != null) {
+            LOG.trace("table list cache hit"); //$NON-NLS-1$
+            return entry.value;
+        }
+        long gen = generation.get();
+        var list = List.copyOf(sqlProcessor.getTableNames());
+        storeTableNames(gen, list);
+        return list;
+    }
+
+    /**
+     * Returns the table metadata, loading it if the cached entry is missing or expired.
+     *
+     * @param tableName table name
+     * @return the table metadata, or {@code null} if the table is not found
+     * @throws ServerException      if server side error was occurred
+     * @throws IOException          if I/O error was occurred while retrieving the metadata
+     * @throws InterruptedException if interrupted while retrieving the metadata
+     */
+    public @Nullable TableMetadata loadTableMetadata(@Nonnull String tableName) throws ServerException, IOException, InterruptedException {
+        var entry = tableMetadataMap.get(tableName);
+        if (isFresh(entry) && entry.value != null) {
+            LOG.trace("table metadata cache hit. tableName={}", tableName); //$NON-NLS-1$
+            return entry.value;
+        }
+        long gen = generation.get();
+        var metadata = sqlProcessor.getTableMetadata(tableName);
+        storeTableMetadata(gen, tableName, metadata);
+        return metadata;
+    }
+
+    private boolean isFresh(@Nullable Entry<?> entry) {
+        if (entry == null) {
+            return false;
+        }
+        if (entry.generation != generation.get()) {
+            return false;
+        }
+        long ttl = config.getMetadataCacheTtl();
+        if (ttl < 0) {
+            return true;
+        }
+        return System.nanoTime() - entry.loadTime < TimeUnit.SECONDS.toNanos(ttl);
+    }
+
+    private void scheduleTableNames() {
+        schedule(TABLE_LIST_KEY, gen -> storeTableNames(gen, List.copyOf(sqlProcessor.getTableNames())));
+    }
+
+    private void scheduleTableMetadata(String tableName) {
+        schedule(tableName, gen -> storeTableMetadata(gen, tableName, sqlProcessor.getTableMetadata(tableName)));
+    }
+
+    @FunctionalInterface
+    private interface Loader {
+        void load(long generation) throws ServerException, IOException, InterruptedException;
+    }
+
+    private void schedule(String key, Loader loader) {
+        if (!sqlProcessor.isSessionActive()) {
+            return;
+        }
+        if (!loadingKeys.add(key)) {
+            return;
+        }
+        long gen = generation.get();
+        try {
+            executor.execute(() -> {
+                try {
+                    if (gen != generation.get()) {
+                        // the session may have been replaced after the request was scheduled
+                        LOG.trace("skip outdated metadata loading. key={}", key); //$NON-NLS-1$
+                        return;
+                    }
+                    loader.load(gen);
+                } catch (InterruptedException e) {
+                    LOG.debug("metadata loading was interrupted. key={}", key, e); //$NON-NLS-1$
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    LOG.debug("metadata loading failed. key={}", key, e); //$NON-NLS-1$
+                } finally {
+                    loadingKeys.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOG.trace("metadata cache is already closed", e); //$NON-NLS-1$
+            loadingKeys.remove(key);
+        }
+    }
+
+    private void storeTableNames(long gen, List<String> list) {
+        var entry = new Entry<>(gen, list);
+        if (gen != generation.get()) {
+            LOG.trace("discard outdated table list"); //$NON-NLS-1$
+            return;
+        }
+        this.tableNames = entry;
+    }
+
+    private void storeTableMetadata(long gen, String tableName, @Nullable TableMetadata metadata) {
+        var entry = new Entry<>(gen, metadata);
+        if (gen != generation.get()) {
+            LOG.trace("discard outdated table metadata. tableName={}", tableName); //$NON-NLS-1$
+            return;
+        }
+        tableMetadataMap.put(tableName, entry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        clear();
+    }
+}
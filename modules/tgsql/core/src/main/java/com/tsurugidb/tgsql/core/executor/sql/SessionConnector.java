@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.sql;
+
+import java.io.IOException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.TgsqlConstants;
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.credential.DefaultCredentialSessionConnector.SessionWithCredential;
+import com.tsurugidb.tools.common.util.EndpointList;
+import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
+import com.tsurugidb.tsubakuro.common.SessionBuilder;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+
+/**
+ * Establishes a session to one of the end-points.
+ *
+ * <p>
+ * The end-point may be comma separated URIs in order of preference, like {@code ipc:tsurugi,tcp://localhost:12345}.
+ * The next end-point is tried only if the former could not be reached.
+ * </p>
+ */
+final class SessionConnector {
+    static final Logger LOG = LoggerFactory.getLogger(SessionConnector.class);
+
+    /**
+     * Establishes a session.
+     *
+     * @param config      tgsql configuration
+     * @param endpoints   the end-point URI string, or comma separated URIs
+     * @param interactive {@code true} if the default credential may ask the user for input
+     * @return the established session, or {@code null} if not interactive and all non-interactive credentials were rejected
+     * @throws IOException          if I/O error was occurred while establishing the session
+     * @throws ServerException      if server side error was occurred
+     * @throws InterruptedException if interrupted while establishing the session
+     */
+    static @Nullable SessionWithCredential connect(@Nonnull TgsqlConfig config, @Nonnull String endpoints, boolean interactive)
+            throws IOException, ServerException, InterruptedException {
+        var candidates = EndpointList.parse(endpoints).getCandidates();
+
+        var supplier = config.getCredential();
+        Credential credential = (supplier != null) ? supplier.get() : null;
+
+        IOException failure = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            String endpoint = candidates.get(i).toString();
+            try {
+                var connection = connect(config, endpoint, credential, interactive);
+                if (connection != null && candidates.size() >= 2) {
+                    LOG.info("connected to {}", endpoint);
+                }
+                return connection;
+            } catch (IOException e) {
+                if (failure != null) {
+                    e.addSuppressed(failure);
+                }
+                if (i + 1 >= candidates.size()) {
+                    throw e;
+                }
+                LOG.info("cannot reach {}, trying the next endpoint: {}", endpoint, e.getMessage());
+                LOG.debug("connect error", e); //$NON-NLS-1$
+                failure = e;
+            }
+        }
+        throw new AssertionError(endpoints);
+    }
+
+    private static SessionWithCredential connect(TgsqlConfig config, String endpoint, @Nullable Credential credential, boolean interactive)
+            throws IOException, ServerException, InterruptedException {
+        String applicationName = TgsqlConstants.APPLICATION_NAME;
+        var label = config.getConnectionLabel();
+        var lobTransferType = config.getLobTransferType();
+
+        if (credential != null) {
+            var builder = SessionBuilder.connect(endpoint).withApplicationName(applicationName).withCredential(credential);
+            label.ifPresent(builder::withLabel);
+            builder.withBlobTransfer(lobTransferType.getRawBlobTransferType());
+            return new SessionWithCredential(builder.create(), credential, endpoint);
+        }
+        var sessionConnector = config.getDefaultCredentialSessionConnector();
+        if (sessionConnector == null) {
+            throw new IllegalStateException("default credential session connector is not set");
+        }
+        return sessionConnector.connect(applicationName, label, endpoint, lobTransferType, interactive);
+    }
+
+    private SessionConnector() {
+        throw new AssertionError();
+    }
+}
@@ -122,6 +122,23 @@ public interface SqlProcessor extends ServerResource {
      */
     boolean isTransactionActive();
 
+    /**
+     * Requests the server to abort the holding transaction.
+     * <p>
+     * This may be called from another thread while a statement is executing, so that the server stops the work of the in-flight
+     * requests. The transaction stays in this processor; the executing thread will see the failure and roll it back as usual.
+     * </p>
+     *
+     * @return {@code true} if the abort request was sent, or {@code false} if there is no active transactions
+     * @throws ServerException      if server side error was occurred
+     * @throws IOException          if I/O error was occurred while sending the request
+     * @throws InterruptedException if interrupted while sending the request
+     * @since 1.17.0
+     */
+    default boolean abortTransaction() throws ServerException, IOException, InterruptedException {
+        return false;
+    }
+
     /**
      * Returns the running transaction.
      *
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.stats;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.tools.common.metrics.Histogram;
+
+/**
+ * Statistics of statements which have the same fingerprint.
+ *
+ * @since 1.17.0
+ */
+public class FingerprintStatistics {
+
+    private final String fingerprint;
+
+    private final Histogram latency;
+
+    private long count = 0;
+
+    private long total = 0;
+
+    private long min = Long.MAX_VALUE;
+
+    private long max = 0;
+
+    private long rows = 0;
+
+    private long errors = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param fingerprint the statement fingerprint
+     */
+    public FingerprintStatistics(@Nonnull String fingerprint) {
+        this.fingerprint = Objects.requireNonNull(fingerprint);
+        this.latency = new Histogram(TgsqlMetrics.METRIC_STATEMENT_DURATION, fingerprint);
+    }
+
+    /**
+     * Records an execution.
+     *
+     * @param elapsedNanos the elapsed time [nanoseconds]
+     * @param rowCount     the number of rows returned or affected, or a negative value if it is unknown
+     * @param error        whether the execution was failed
+     */
+    public synchronized void record(long elapsedNanos, long rowCount, boolean error) {
+        long elapsed = Math.max(elapsedNanos, 0);
+        latency.record(elapsed);
+        count++;
+        total += elapsed;
+        min = Math.min(min, elapsed);
+        max = Math.max(max, elapsed);
+        if (rowCount > 0) {
+            rows += rowCount;
+        }
+        if (error) {
+            errors++;
+        }
+    }
+
+    /**
+     * Returns the statement fingerprint.
+     *
+     * @return the fingerprint
+     */
+    public @Nonnull String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the number of executions.
+     *
+     * @return the call count
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of failed executions.
+     *
+     * @return the error count
+     */
+    public synchronized long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the total number of rows returned or affected.
+     *
+     * @return the row count
+     */
+    public synchronized long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the total elapsed time.
+     *
+     * @return the elapsed time [nanoseconds]
+     */
+    public synchronized long getTotalNanos() {
+        return total;
+    }
+
+    /**
+     * Returns the minimum elapsed time.
+     *
+     * @return the elapsed time [nanoseconds]
+     */
+    public synchronized long getMinNanos() {
+        return (count == 0) ? 0 : min;
+    }
+
+    /**
+     * Returns the maximum elapsed time.
+     *
+     * @return the elapsed time [nanoseconds]
+     */
+    public synchronized long getMaxNanos() {
+        return max;
+    }
+
+    /**
+     * Returns the approximate elapsed time at the given percentile.
+     *
+     * @param percentile the percentile (0.0 - 1.0)
+     * @return the elapsed time [nanoseconds]
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        return Math.max(latency.snapshot().getPercentile(percentile), min);
+    }
+
+    @Override
+    public String toString() {
+        return "FingerprintStatistics(fingerprint=" + fingerprint + ", count=" + getCount() + ", errors=" + getErrors() + ", rows=" + getRows() + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+    }
+}
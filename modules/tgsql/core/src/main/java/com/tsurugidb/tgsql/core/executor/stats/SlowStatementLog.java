@@ -0,0 +1,352 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.stats;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.tsurugidb.sql.proto.SqlRequest.ReadArea;
+import com.tsurugidb.sql.proto.SqlRequest.TransactionOption;
+import com.tsurugidb.sql.proto.SqlRequest.WritePreserve;
+import com.tsurugidb.tgsql.core.executor.sql.SqlProcessor;
+import com.tsurugidb.tgsql.core.model.Region;
+import com.tsurugidb.tsubakuro.explain.PlanGraph;
+import com.tsurugidb.tsubakuro.explain.PlanGraphLoader;
+import com.tsurugidb.tsubakuro.explain.PlanGraphUtil;
+import com.tsurugidb.tsubakuro.explain.PlanNode;
+import com.tsurugidb.tsubakuro.explain.json.JsonPlanGraphLoader;
+import com.tsurugidb.tsubakuro.sql.StatementMetadata;
+
+/**
+ * Writes slow statements into a log file as JSON lines.
+ * <p>
+ * The execution plan of each slow statement is captured by {@link SqlProcessor#explain(String, Region)} on a background thread,
+ * so that the statement executor is not blocked. If too many entries are pending, new entries are discarded.
+ * </p>
+ * <p>
+ * {@link #invalidate()} must be called when the session of the SQL processor is changed, so that the pending entries do not
+ * capture the execution plan on another session.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class SlowStatementLog implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(SlowStatementLog.class);
+
+    /**
+     * The default output file name.
+     */
+    public static final String DEFAULT_OUTPUT = "tgsql-slow.jsonl"; //$NON-NLS-1$
+
+    private static final String THREAD_NAME = "tgsql-slow-log"; //$NON-NLS-1$
+
+    /** the maximum number of pending entries. */
+    static final int QUEUE_CAPACITY = 1_000;
+
+    private static final long CLOSE_WAIT_SECONDS = 10;
+
+    /**
+     * An entry of the slow statement log.
+     */
+    public static class Entry {
+        private final OffsetDateTime startTime;
+        private final String text;
+        private final Region region;
+        private final long elapsedNanos;
+        private final long thresholdNanos;
+        private final long rowCount;
+        private final boolean error;
+        private final String transactionId;
+        private final TransactionOption transactionOption;
+        private final boolean explain;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param startTime         the time when the statement was started
+         * @param text              the statement text
+         * @param region            the statement region
+         * @param elapsedNanos      the elapsed time [nanoseconds]
+         * @param thresholdNanos    the threshold [nanoseconds]
+         * @param rowCount          the number of rows returned or affected, or a negative value if it is unknown
+         * @param error             whether the execution was failed
+         * @param transactionId     the transaction id
+         * @param transactionOption the transaction option
+         * @param explain           whether to capture the execution plan
+         */
+        public Entry(@Nonnull OffsetDateTime startTime, @Nonnull String text, @Nonnull Region region, long elapsedNanos, long thresholdNanos, long rowCount, boolean error,
+                @Nullable String transactionId, @Nullable TransactionOption transactionOption, boolean explain) {
+            this.startTime = Objects.requireNonNull(startTime);
+            this.text = Objects.requireNonNull(text);
+            this.region = Objects.requireNonNull(region);
+            this.elapsedNanos = elapsedNanos;
+            this.thresholdNanos = thresholdNanos;
+            this.rowCount = rowCount;
+            this.error = error;
+            this.transactionId = transactionId;
+            this.transactionOption = transactionOption;
+            this.explain = explain;
+        }
+
+        /**
+         * Returns the statement text.
+         *
+         * @return the statement text
+         */
+        public @Nonnull String getText() {
+            return text;
+        }
+    }
+
+    private final SqlProcessor sqlProcessor;
+    private final Path output;
+    private final PlanGraphLoader loader = JsonPlanGraphLoader.newBuilder().build();
+    private final JsonFactory factory = new JsonFactory().configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong discardCount = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sqlProcessor the SQL processor to capture execution plans
+     * @param output       the output file (appended)
+     */
+    public SlowStatementLog(@Nonnull SqlProcessor sqlProcessor, @Nonnull Path output) {
+        this.sqlProcessor = Objects.requireNonNull(sqlProcessor);
+        this.output = Objects.requireNonNull(output);
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+            var thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        }, (runnable, e) -> {
+            long count = discardCount.incrementAndGet();
+            LOG.warn("slow statement log entry was discarded. output={}, discarded={}", output, count); //$NON-NLS-1$
+        });
+    }
+
+    /**
+     * Returns the output file.
+     *
+     * @return the output file
+     */
+    public @Nonnull Path getOutput() {
+        return output;
+    }
+
+    /**
+     * Returns the number of discarded entries.
+     *
+     * @return the number of discarded entries
+     */
+    public long getDiscardCount() {
+        return discardCount.get();
+    }
+
+    /**
+     * Submits an entry. The entry is written on a background thread.
+     *
+     * @param entry the entry
+     */
+    public void submit(@Nonnull Entry entry) {
+        Objects.requireNonNull(entry);
+        LOG.debug("slow statement. elapsed={}ns, text={}", entry.elapsedNanos, entry.text); //$NON-NLS-1$
+        long gen = generation.get();
+        executor.execute(() -> process(entry, gen));
+    }
+
+    /**
+     * Notifies that the session of the SQL processor was changed.
+     * <p>
+     * The pending entries are still written, but their execution plans are not captured.
+     * </p>
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private void process(Entry entry, long gen) {
+        StatementMetadata metadata = null;
+        PlanGraph graph = null;
+        String planError = null;
+        if (entry.explain && gen != generation.get()) {
+            planError = "session was changed before capturing the execution plan";
+        } else if (entry.explain) {
+            try {
+                metadata = sqlProcessor.explain(entry.text, entry.region);
+                graph = loader.load(metadata.getFormatId(), metadata.getFormatVersion(), metadata.getContents());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                planError = e.toString();
+            } catch (Exception e) {
+                LOG.debug("failed to capture execution plan. text={}", entry.text, e); //$NON-NLS-1$
+                planError = (e.getMessage() != null) ? e.getMessage() : e.getClass().getName();
+            }
+        }
+
+        try (var writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            write(writer, entry, metadata, graph, planError);
+        } catch (Exception e) {
+            LOG.warn("failed to write slow statement log. output={}", output, e); //$NON-NLS-1$
+        }
+    }
+
+    void write(Writer writer, Entry entry, @Nullable StatementMetadata metadata, @Nullable PlanGraph graph, @Nullable String planError) throws IOException {
+        try (var generator = factory.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeStringField("startTime", entry.startTime.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME)); //$NON-NLS-1$
+            generator.writeStringField("text", entry.text); //$NON-NLS-1$
+            writeRegion(generator, entry.region);
+            generator.writeNumberField("elapsedMillis", StatementStatistics.toMillis(entry.elapsedNanos)); //$NON-NLS-1$
+            generator.writeNumberField("thresholdMillis", StatementStatistics.toMillis(entry.thresholdNanos)); //$NON-NLS-1$
+            if (entry.rowCount >= 0) {
+                generator.writeNumberField("rows", entry.rowCount); //$NON-NLS-1$
+            }
+            generator.writeBooleanField("error", entry.error); //$NON-NLS-1$
+            writeTransaction(generator, entry);
+            if (metadata != null) {
+                generator.writeObjectFieldStart("plan"); //$NON-NLS-1$
+                generator.writeStringField("formatId", metadata.getFormatId()); //$NON-NLS-1$
+                generator.writeNumberField("formatVersion", metadata.getFormatVersion()); //$NON-NLS-1$
+                generator.writeStringField("contents", metadata.getContents()); //$NON-NLS-1$
+                if (graph != null) {
+                    writePlanNodes(generator, graph);
+                }
+                generator.writeEndObject();
+            }
+            if (planError != null) {
+                generator.writeStringField("planError", planError); //$NON-NLS-1$
+            }
+            generator.writeEndObject();
+        }
+        writer.write(System.lineSeparator());
+    }
+
+    private static void writeRegion(JsonGenerator generator, Region region) throws IOException {
+        generator.writeObjectFieldStart("region"); //$NON-NLS-1$
+        generator.writeNumberField("position", region.getPosition()); //$NON-NLS-1$
+        generator.writeNumberField("size", region.getSize()); //$NON-NLS-1$
+        generator.writeNumberField("line", region.getStartLine() + 1); //$NON-NLS-1$
+        generator.writeNumberField("column", region.getStartColumn() + 1); //$NON-NLS-1$
+        generator.writeEndObject();
+    }
+
+    private static void writeTransaction(JsonGenerator generator, Entry entry) throws IOException {
+        if (entry.transactionId == null && entry.transactionOption == null) {
+            return;
+        }
+        generator.writeObjectFieldStart("transaction"); //$NON-NLS-1$
+        if (entry.transactionId != null) {
+            generator.writeStringField("id", entry.transactionId); //$NON-NLS-1$
+        }
+        var option = entry.transactionOption;
+        if (option != null) {
+            generator.writeObjectFieldStart("option"); //$NON-NLS-1$
+            generator.writeStringField("type", option.getType().name()); //$NON-NLS-1$
+            if (!option.getLabel().isEmpty()) {
+                generator.writeStringField("label", option.getLabel()); //$NON-NLS-1$
+            }
+            if (option.getModifiesDefinitions()) {
+                generator.writeBooleanField("includeDdl", true); //$NON-NLS-1$
+            }
+            writeTableNames(generator, "writePreserve", option.getWritePreservesList().stream().map(WritePreserve::getTableName).toArray(String[]::new)); //$NON-NLS-1$
+            writeTableNames(generator, "inclusiveReadArea", option.getInclusiveReadAreasList().stream().map(ReadArea::getTableName).toArray(String[]::new)); //$NON-NLS-1$
+            writeTableNames(generator, "exclusiveReadArea", option.getExclusiveReadAreasList().stream().map(ReadArea::getTableName).toArray(String[]::new)); //$NON-NLS-1$
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeTableNames(JsonGenerator generator, String fieldName, String[] tableNames) throws IOException {
+        if (tableNames.length == 0) {
+            return;
+        }
+        generator.writeFieldName(fieldName);
+        generator.writeArray(tableNames, 0, tableNames.length);
+    }
+
+    private static void writePlanNodes(JsonGenerator generator, PlanGraph graph) throws IOException {
+        List<PlanNode> nodeList = PlanGraphUtil.sort(graph.getNodes());
+        var idMap = new IdentityHashMap<PlanNode, Integer>(nodeList.size());
+        for (var node : nodeList) {
+            idMap.put(node, idMap.size() + 1);
+        }
+
+        generator.writeArrayFieldStart("nodes"); //$NON-NLS-1$
+        for (var node : nodeList) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", idMap.get(node)); //$NON-NLS-1$
+            generator.writeStringField("kind", node.getKind()); //$NON-NLS-1$
+            generator.writeStringField("title", node.getTitle()); //$NON-NLS-1$
+            var attributes = node.getAttributes();
+            if (!attributes.isEmpty()) {
+                generator.writeObjectFieldStart("attributes"); //$NON-NLS-1$
+                for (var attribute : attributes.entrySet()) {
+                    generator.writeStringField(attribute.getKey(), attribute.getValue());
+                }
+                generator.writeEndObject();
+            }
+            generator.writeArrayFieldStart("downstreams"); //$NON-NLS-1$
+            for (var downstream : node.getDownstreams()) {
+                Integer id = idMap.get(downstream);
+                if (id != null) {
+                    generator.writeNumber(id);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Waits for the pending entries to be written, and stops the background thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("slow statement log was not completed. output={}", output); //$NON-NLS-1$
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.stats;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.tsurugidb.tgsql.core.parser.StatementFingerprint;
+
+/**
+ * Collects execution statistics of statements per fingerprint.
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @see StatementFingerprint
+ * @since 1.17.0
+ */
+public class StatementStatistics {
+
+    static final Logger LOG = LoggerFactory.getLogger(StatementStatistics.class);
+
+    /**
+     * The maximum number of fingerprints to keep.
+     */
+    public static final int MAX_FINGERPRINTS = 5_000;
+
+    /**
+     * The fingerprint which statements are recorded into after {@link #MAX_FINGERPRINTS} was exceeded.
+     */
+    public static final String OTHERS = "(others)"; //$NON-NLS-1$
+
+    private final ConcurrentHashMap<String, FingerprintStatistics> statisticsMap = new ConcurrentHashMap<>();
+
+    /**
+     * Records an execution of the statement.
+     *
+     * @param text         the statement text
+     * @param elapsedNanos the elapsed time [nanoseconds]
+     * @param rowCount     the number of rows returned or affected, or a negative value if it is unknown
+     * @param error        whether the execution was failed
+     */
+    public void record(@Nonnull String text, long elapsedNanos, long rowCount, boolean error) {
+        Objects.requireNonNull(text);
+        String fingerprint;
+        try {
+            fingerprint = StatementFingerprint.of(text);
+        } catch (RuntimeException e) {
+            LOG.debug("failed to build fingerprint. text={}", text, e); //$NON-NLS-1$
+            fingerprint = text.strip();
+        }
+        var statistics = statisticsMap.get(fingerprint);
+        if (statistics == null) {
+            if (statisticsMap.size() >= MAX_FINGERPRINTS) {
+                fingerprint = OTHERS;
+            }
+            statistics = statisticsMap.computeIfAbsent(fingerprint, FingerprintStatistics::new);
+        }
+        statistics.record(elapsedNanos, rowCount, error);
+    }
+
+    /**
+     * Returns whether no statements are recorded.
+     *
+     * @return {@code true} if no statements are recorded
+     */
+    public boolean isEmpty() {
+        return statisticsMap.isEmpty();
+    }
+
+    /**
+     * Returns the statistics, in descending order of the total elapsed time.
+     *
+     * @return the statistics list
+     */
+    public @Nonnull List<FingerprintStatistics> getStatistics() {
+        var list = new ArrayList<>(statisticsMap.values());
+        list.sort(Comparator.comparingLong(FingerprintStatistics::getTotalNanos).reversed() //
+                .thenComparing(FingerprintStatistics::getFingerprint));
+        return list;
+    }
+
+    /**
+     * Discards all statistics.
+     */
+    public void clear() {
+        statisticsMap.clear();
+    }
+
+    /**
+     * Writes the statistics as JSON.
+     *
+     * @param writer the destination
+     * @throws IOException if I/O error was occurred
+     */
+    public void writeJson(@Nonnull Writer writer) throws IOException {
+        Objects.requireNonNull(writer);
+        try (var generator = new JsonFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeFieldName("statements"); //$NON-NLS-1$
+            generator.writeStartArray();
+            for (var statistics : getStatistics()) {
+                writeJson(generator, statistics);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeJson(JsonGenerator generator, FingerprintStatistics statistics) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("fingerprint", statistics.getFingerprint()); //$NON-NLS-1$
+        generator.writeNumberField("count", statistics.getCount()); //$NON-NLS-1$
+        generator.writeNumberField("errors", statistics.getErrors()); //$NON-NLS-1$
+        generator.writeNumberField("rows", statistics.getRows()); //$NON-NLS-1$
+        generator.writeNumberField("totalMillis", toMillis(statistics.getTotalNanos())); //$NON-NLS-1$
+        generator.writeNumberField("minMillis", toMillis(statistics.getMinNanos())); //$NON-NLS-1$
+        generator.writeNumberField("maxMillis", toMillis(statistics.getMaxNanos())); //$NON-NLS-1$
+        generator.writeNumberField("p50Millis", toMillis(statistics.getPercentileNanos(0.50))); //$NON-NLS-1$
+        generator.writeNumberField("p99Millis", toMillis(statistics.getPercentileNanos(0.99))); //$NON-NLS-1$
+        generator.writeEndObject();
+    }
+
+    /**
+     * Converts nanoseconds into milliseconds.
+     *
+     * @param nanos the time [nanoseconds]
+     * @return the time [milliseconds], rounded to microseconds
+     */
+    public static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
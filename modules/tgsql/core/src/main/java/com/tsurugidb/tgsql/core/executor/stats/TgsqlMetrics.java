@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.stats;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.tools.common.metrics.Counter;
+import com.tsurugidb.tools.common.metrics.Histogram;
+import com.tsurugidb.tools.common.metrics.MetricsRegistry;
+
+/**
+ * Records tgsql operations into {@link MetricsRegistry}.
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class TgsqlMetrics {
+
+    /**
+     * The metric name of the number of executed statements.
+     */
+    public static final String METRIC_STATEMENTS = "tgsql_statements_total"; //$NON-NLS-1$
+
+    /**
+     * The metric name of the number of failed statements.
+     */
+    public static final String METRIC_STATEMENT_FAILURES = "tgsql_statement_failures_total"; //$NON-NLS-1$
+
+    /**
+     * The metric name of the number of rows returned or affected by statements.
+     */
+    public static final String METRIC_ROWS = "tgsql_rows_total"; //$NON-NLS-1$
+
+    /**
+     * The metric name of the elapsed time of statements.
+     */
+    public static final String METRIC_STATEMENT_DURATION = "tgsql_statement_duration_seconds"; //$NON-NLS-1$
+
+    /**
+     * The metric name of the number of commits.
+     */
+    public static final String METRIC_COMMITS = "tgsql_commits_total"; //$NON-NLS-1$
+
+    /**
+     * The metric name of the number of rollbacks.
+     */
+    public static final String METRIC_ROLLBACKS = "tgsql_rollbacks_total"; //$NON-NLS-1$
+
+    private final MetricsRegistry registry;
+
+    private final Counter statements;
+
+    private final Counter statementFailures;
+
+    private final Counter rows;
+
+    private final Histogram statementDuration;
+
+    private final Counter commits;
+
+    private final Counter rollbacks;
+
+    /**
+     * Creates a new instance with an empty registry.
+     */
+    public TgsqlMetrics() {
+        this(new MetricsRegistry());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param registry the destination registry
+     */
+    public TgsqlMetrics(@Nonnull MetricsRegistry registry) {
+        Objects.requireNonNull(registry);
+        this.registry = registry;
+        this.statements = registry.counter(METRIC_STATEMENTS, "The number of executed statements"); //$NON-NLS-1$
+        this.statementFailures = registry.counter(METRIC_STATEMENT_FAILURES, "The number of failed statements"); //$NON-NLS-1$
+        this.rows = registry.counter(METRIC_ROWS, "The number of rows returned or affected by statements"); //$NON-NLS-1$
+        this.statementDuration = registry.histogram(METRIC_STATEMENT_DURATION, "The elapsed time of statements"); //$NON-NLS-1$
+        this.commits = registry.counter(METRIC_COMMITS, "The number of commits"); //$NON-NLS-1$
+        this.rollbacks = registry.counter(METRIC_ROLLBACKS, "The number of rollbacks"); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns the registry.
+     *
+     * @return the registry
+     */
+    public MetricsRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Records an execution of a statement.
+     *
+     * @param elapsedNanos the elapsed time [nanoseconds]
+     * @param rowCount     the number of rows returned or affected, or a negative value if it is unknown
+     * @param error        whether the execution was failed
+     */
+    public void recordStatement(long elapsedNanos, long rowCount, boolean error) {
+        statements.increment();
+        if (error) {
+            statementFailures.increment();
+        }
+        if (rowCount > 0) {
+            rows.add(rowCount);
+        }
+        statementDuration.record(elapsedNanos);
+    }
+
+    /**
+     * Records a commit.
+     */
+    public void recordCommit() {
+        commits.increment();
+    }
+
+    /**
+     * Records a rollback.
+     */
+    public void recordRollback() {
+        rollbacks.increment();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TgsqlMetrics(%s)", registry); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.model;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link Statement} that represents generic SQL statement.
+ *
+ * @since 1.17.0
+ */
+public class GenericStatement implements Statement {
+
+    /**
+     * A category of generic SQL statement, inferred from its leading tokens.
+     */
+    public enum Category {
+
+        /**
+         * query statement which never modifies the database (e.g. {@code SELECT}).
+         */
+        QUERY,
+
+        /**
+         * data manipulation statement (e.g. {@code INSERT}, {@code UPDATE}, or {@code DELETE}).
+         */
+        DML,
+
+        /**
+         * data definition statement (e.g. {@code CREATE TABLE}).
+         */
+        DDL,
+
+        /**
+         * unknown statement.
+         */
+        UNKNOWN,
+        ;
+
+        /**
+         * Returns whether or not the statement of this category never modifies the database.
+         * @return {@code true} if it is read only, otherwise {@code false}
+         */
+        public boolean isReadOnly() {
+            return this == QUERY;
+        }
+    }
+
+    private final String text;
+
+    private final Region region;
+
+    private final Category category;
+
+    private final List<Regioned<String>> readTables;
+
+    private final List<Regioned<String>> writeTables;
+
+    /**
+     * Creates a new instance without table references.
+     * @param text the text of this statement
+     * @param region the region of this statement in the document
+     * @param category the statement category
+     */
+    public GenericStatement(@Nonnull String text, @Nonnull Region region, @Nonnull Category category) {
+        this(text, region, category, null, null);
+    }
+
+    /**
+     * Creates a new instance.
+     * @param text the text of this statement
+     * @param region the region of this statement in the document
+     * @param category the statement category
+     * @param readTables the tables read by this statement, or {@code null} if they are not resolved
+     * @param writeTables the tables written by this statement, or {@code null} if they are not resolved
+     */
+    public GenericStatement(
+            @Nonnull String text, @Nonnull Region region, @Nonnull Category category,
+            @Nullable List<Regioned<String>> readTables, @Nullable List<Regioned<String>> writeTables) {
+        Objects.requireNonNull(text);
+        Objects.requireNonNull(region);
+        Objects.requireNonNull(category);
+        this.text = text;
+        this.region = region;
+        this.category = category;
+        if (readTables == null || writeTables == null) {
+            this.readTables = null;
+            this.writeTables = null;
+        } else {
+            this.readTables = List.copyOf(readTables);
+            this.writeTables = List.copyOf(writeTables);
+        }
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.GENERIC;
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public Region getRegion() {
+        return region;
+    }
+
+    /**
+     * Returns the category of this statement.
+     * @return the statement category
+     */
+    public Category getCategory() {
+        return category;
+    }
+
+    /**
+     * Returns the tables read by this statement.
+     * The tables only referred as write target are not included.
+     * @return the read tables, or empty if table references are not resolved
+     */
+    public Optional<List<Regioned<String>>> getReadTables() {
+        return Optional.ofNullable(readTables);
+    }
+
+    /**
+     * Returns the tables written by this statement.
+     * @return the write tables, or empty if table references are not resolved
+     */
+    public Optional<List<Regioned<String>>> getWriteTables() {
+        return Optional.ofNullable(writeTables);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "Statement(kind=%s, text='%s', region=%s, category=%s, readTables=%s, writeTables=%s)", //$NON-NLS-1$
+                Kind.GENERIC,
+                text,
+                region,
+                category,
+                readTables,
+                writeTables);
+    }
+}
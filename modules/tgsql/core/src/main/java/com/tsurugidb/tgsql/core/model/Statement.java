@@ -33,6 +33,7 @@ public interface Statement {
 
         /**
          * generic SQL statement.
+         * @see GenericStatement
          * @see SimpleStatement
          */
         GENERIC,
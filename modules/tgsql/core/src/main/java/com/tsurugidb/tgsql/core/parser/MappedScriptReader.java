@@ -0,0 +1,379 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.parser;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link Reader} over a memory-mapped script file.
+ * <p>
+ * The file is mapped by windows of fixed size, and the bytes are decoded directly into the caller's buffer, so that
+ * very large scripts are read without intermediate byte buffers nor stream copies. Multi-byte characters over the
+ * window boundary are handled by mapping the next window from the first undecoded byte.
+ * </p>
+ * <p>
+ * Malformed or unmappable input is replaced with the charset's replacement, as same as
+ * {@link Files#newBufferedReader(Path, Charset)} on reading scripts.
+ * </p>
+ * <p>
+ * If {@link #enablePositionTracking() position tracking} is enabled, the byte offset of characters which were already
+ * read can be computed by {@link #getByteOffset(long)}, and reading can be restarted from the byte offset by
+ * {@link #seek(long, long)} without decoding the preceding bytes.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class MappedScriptReader extends Reader {
+
+    /**
+     * The default window size in bytes.
+     */
+    public static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * The minimum window size in bytes, which must hold any single character.
+     */
+    static final long MIN_WINDOW_SIZE = 16;
+
+    /**
+     * The maximum number of tracked positions.
+     * <p>
+     * If the tracked positions exceed this, every other position is discarded and the interval between the positions is
+     * doubled, so that a long run of reads without {@link #getByteOffset(long)} does not grow the positions.
+     * </p>
+     */
+    static final int MAX_TRACKED_POSITIONS = 1024;
+
+    private static final int SKIP_BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
+
+    private final long size;
+
+    private final long windowSize;
+
+    private final Charset charset;
+
+    private final CharsetDecoder decoder;
+
+    private MappedByteBuffer window;
+
+    private long windowStart;
+
+    private boolean flushed;
+
+    private int pending = -1;
+
+    private long charPosition;
+
+    // (character offset, byte offset) pairs at the end of reads, or null if position tracking is disabled
+    private ArrayDeque<long[]> positions;
+
+    // the minimum number of characters between the tracked positions
+    private long trackingInterval = 1;
+
+    /**
+     * Opens the script file.
+     * <p>
+     * If the file is not a regular file (e.g. a named pipe), this returns a buffered reader instead, because such files
+     * cannot be mapped.
+     * </p>
+     *
+     * @param path    the script file
+     * @param charset the script encoding
+     * @return the created reader
+     * @throws IOException if I/O error was occurred while opening the file
+     */
+    public static Reader open(@Nonnull Path path, @Nonnull Charset charset) throws IOException {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(charset);
+        if (!Files.isRegularFile(path)) {
+            return Files.newBufferedReader(path, charset);
+        }
+        return open(path, charset, DEFAULT_WINDOW_SIZE);
+    }
+
+    static MappedScriptReader open(@Nonnull Path path, @Nonnull Charset charset, long windowSize) throws IOException {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(charset);
+        var channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedScriptReader(channel, charset, windowSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private MappedScriptReader(FileChannel channel, Charset charset, long windowSize) throws IOException {
+        if (windowSize < MIN_WINDOW_SIZE) {
+            throw new IllegalArgumentException("windowSize must be >= " + MIN_WINDOW_SIZE); //$NON-NLS-1$
+        }
+        this.channel = channel;
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        this.charset = charset;
+        this.decoder = newDecoder(charset);
+    }
+
+    private static CharsetDecoder newDecoder(Charset charset) {
+        return charset.newDecoder() //
+                .onMalformedInput(CodingErrorAction.REPLACE) //
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Enables position tracking, so that {@link #getByteOffset(long)} is available.
+     * <p>
+     * This must be called before reading characters.
+     * </p>
+     *
+     * @since 1.17.0
+     */
+    public synchronized void enablePositionTracking() {
+        if (positions == null) {
+            positions = new ArrayDeque<>();
+            positions.add(new long[] { charPosition, getBytePosition() });
+        }
+    }
+
+    /**
+     * Returns the byte offset of the given character offset.
+     * <p>
+     * The character offset must be one of the characters already read, and must not be less than the offsets passed to
+     * this method before, because the positions before that are discarded.
+     * </p>
+     *
+     * @param charOffset the character offset from the beginning of the file
+     * @return the byte offset from the beginning of the file, or {@code -1} if it is unknown
+     * @throws IOException if I/O error was occurred while reading the file
+     * @since 1.17.0
+     */
+    public long getByteOffset(long charOffset) throws IOException {
+        long[] floor;
+        synchronized (this) {
+            if (positions == null || positions.isEmpty() || positions.getFirst()[0] > charOffset) {
+                return -1;
+            }
+            // discard positions before the floor of the requested offset
+            while (positions.size() >= 2) {
+                var first = positions.removeFirst();
+                if (positions.getFirst()[0] > charOffset) {
+                    positions.addFirst(first);
+                    break;
+                }
+            }
+            floor = positions.getFirst();
+            if (floor[0] == charOffset) {
+                return floor[1];
+            }
+            if (charPosition < charOffset) {
+                return -1;
+            }
+        }
+        return skipBytes(floor[1], charOffset - floor[0]);
+    }
+
+    synchronized int getTrackedPositionCount() {
+        return (positions == null) ? 0 : positions.size();
+    }
+
+    private long skipBytes(long byteOffset, long charCount) throws IOException {
+        // decodes only the characters between the nearest known position and the target
+        var input = channel.map(MapMode.READ_ONLY, byteOffset, Math.min(size - byteOffset, Integer.MAX_VALUE));
+        var skipDecoder = newDecoder(charset);
+        var output = CharBuffer.allocate(SKIP_BUFFER_SIZE);
+        long rest = charCount;
+        while (rest > 0) {
+            output.clear();
+            output.limit((int) Math.min(rest, SKIP_BUFFER_SIZE));
+            skipDecoder.decode(input, output, true);
+            if (output.position() == 0) {
+                return -1;
+            }
+            rest -= output.position();
+        }
+        return byteOffset + input.position();
+    }
+
+    /**
+     * Restarts reading from the given byte offset.
+     * <p>
+     * The byte offset must be the beginning of a character, typically obtained from {@link #getByteOffset(long)}.
+     * </p>
+     *
+     * @param byteOffset the byte offset from the beginning of the file
+     * @param charOffset the character offset of the same position
+     * @throws IOException if I/O error was occurred, or the offset is out of the file
+     * @since 1.17.0
+     */
+    public void seek(long byteOffset, long charOffset) throws IOException {
+        if (!channel.isOpen()) {
+            throw new IOException("reader is already closed");
+        }
+        if (byteOffset < 0 || byteOffset > size || charOffset < 0) {
+            throw new EOFException(MessageFormat.format(//
+                    "seek position is out of the file: byteOffset={0}, charOffset={1}, size={2}", //
+                    byteOffset, //
+                    charOffset, //
+                    size));
+        }
+        decoder.reset();
+        flushed = false;
+        pending = -1;
+        map(byteOffset);
+        synchronized (this) {
+            charPosition = charOffset;
+            if (positions != null) {
+                positions.clear();
+                positions.add(new long[] { charPosition, byteOffset });
+                trackingInterval = 1;
+            }
+        }
+    }
+
+    private long getBytePosition() {
+        return (window == null) ? 0 : windowStart + window.position();
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        if (!channel.isOpen()) {
+            throw new IOException("reader is already closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (pending >= 0) {
+            cbuf[off] = (char) pending;
+            pending = -1;
+            advance(1);
+            return 1;
+        }
+        if (len == 1) {
+            // a surrogate pair cannot be decoded into a single char buffer
+            var pair = new char[2];
+            int n = read(pair, 0, 2);
+            if (n <= 0) {
+                return n;
+            }
+            cbuf[off] = pair[0];
+            if (n == 2) {
+                // the pair was already counted by the nested read
+                pending = pair[1];
+                rewind(1);
+            }
+            return 1;
+        }
+
+        var out = CharBuffer.wrap(cbuf, off, len);
+        while (out.position() == off) {
+            if (flushed) {
+                return -1;
+            }
+            if (window == null) {
+                map(0);
+            }
+            boolean endOfInput = windowStart + window.limit() >= size;
+            var result = decoder.decode(window, out, endOfInput);
+            if (result.isOverflow()) {
+                break;
+            }
+            if (endOfInput) {
+                if (decoder.flush(out).isOverflow()) {
+                    break;
+                }
+                flushed = true;
+            } else {
+                map(windowStart + window.position());
+            }
+        }
+        int count = out.position() - off;
+        advance(count);
+        return count;
+    }
+
+    private synchronized void advance(int count) {
+        charPosition += count;
+        if (positions != null && pending < 0) {
+            long bytePosition = getBytePosition();
+            var last = positions.peekLast();
+            if (last == null || charPosition - last[0] >= trackingInterval) {
+                positions.add(new long[] { charPosition, bytePosition });
+                if (positions.size() > MAX_TRACKED_POSITIONS) {
+                    thinPositions();
+                }
+            }
+        }
+    }
+
+    private void thinPositions() {
+        var last = positions.getLast();
+        var thinned = new ArrayDeque<long[]>(MAX_TRACKED_POSITIONS);
+        int index = 0;
+        for (var position : positions) {
+            if (index++ % 2 == 0) {
+                thinned.add(position);
+            }
+        }
+        if (thinned.getLast() != last) {
+            thinned.add(last);
+        }
+        positions = thinned;
+        trackingInterval *= 2;
+    }
+
+    private synchronized void rewind(int count) {
+        charPosition -= count;
+        if (positions != null) {
+            // the last position was recorded before the pending character was held back
+            var last = positions.peekLast();
+            if (last != null && last[0] > charPosition) {
+                positions.removeLast();
+            }
+        }
+    }
+
+    private void map(long position) throws IOException {
+        long length = Math.min(windowSize, size - position);
+        window = channel.map(MapMode.READ_ONLY, position, length);
+        windowStart = position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.tgsql.core.model.Statement;
+
+/**
+ * Parses SQL statements on a separate thread, so that parsing the following statements overlaps with executing the
+ * current statement.
+ * <p>
+ * The parser thread fills a bounded queue of {@link Statement}, including {@link com.tsurugidb.tgsql.core.model.ErroneousStatement
+ * erroneous statements}, and blocks while the queue is full. If the capacity is {@code 0}, statements are parsed on the
+ * caller thread.
+ * </p>
+ * <p>
+ * The source parser is closed only after the parser thread has exited. If the parser thread does not stop in time on
+ * {@link #close()} (e.g. it is blocked on reading the standard input), the parser thread closes the source parser
+ * by itself when it exits.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class PipelinedSqlParser implements Closeable {
+
+    static final Logger LOG = LoggerFactory.getLogger(PipelinedSqlParser.class);
+
+    /**
+     * The default number of statements to parse ahead.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final long JOIN_TIMEOUT_MILLIS = 1000;
+
+    private static final Object END_OF_SCRIPT = new Object();
+
+    private final SqlParser parser;
+
+    private final BlockingQueue<Object> queue;
+
+    private final Thread thread;
+
+    private volatile boolean closed;
+
+    // the source parser is closed when both the parser thread and close() have released it
+    private final AtomicInteger parserOwners;
+
+    private boolean finished;
+
+    /**
+     * Creates a new instance, and starts parsing if {@code capacity} is positive.
+     *
+     * @param parser   the source parser, which will be closed by this object
+     * @param capacity the number of statements to parse ahead, or {@code 0} to parse on the caller thread
+     */
+    public PipelinedSqlParser(@Nonnull SqlParser parser, int capacity) {
+        Objects.requireNonNull(parser);
+        this.parser = parser;
+        if (capacity > 0) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.parserOwners = new AtomicInteger(2);
+            this.thread = new Thread(this::run, "tgsql-parser"); //$NON-NLS-1$
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            this.queue = null;
+            this.parserOwners = new AtomicInteger(1);
+            this.thread = null;
+        }
+    }
+
+    private void run() {
+        LOG.trace("parser thread start"); //$NON-NLS-1$
+        try {
+            while (!closed) {
+                var statement = parser.next();
+                if (statement == null) {
+                    break;
+                }
+                queue.put(statement);
+            }
+            queue.put(END_OF_SCRIPT);
+        } catch (InterruptedException e) {
+            LOG.trace("parser thread interrupted", e); //$NON-NLS-1$
+        } catch (Throwable e) {
+            // forward any errors to the consumer, otherwise it waits for the next statement forever
+            try {
+                if (!closed) {
+                    queue.put(e);
+                }
+            } catch (InterruptedException ie) {
+                LOG.trace("parser thread interrupted", ie); //$NON-NLS-1$
+            }
+        } finally {
+            LOG.trace("parser thread end"); //$NON-NLS-1$
+            try {
+                releaseParser();
+            } catch (IOException e) {
+                LOG.debug("error occurred while closing parser", e); //$NON-NLS-1$
+            }
+        }
+    }
+
+    /**
+     * Returns the next statement.
+     *
+     * @return the next statement, or {@code null} if there are no more statements
+     * @throws IOException          if I/O error was occurred while reading the script
+     * @throws InterruptedException if interrupted while waiting for the parser thread
+     * @see SqlParser#next()
+     */
+    public @Nullable Statement next() throws IOException, InterruptedException {
+        if (thread == null) {
+            return parser.next();
+        }
+        if (finished) {
+            return null;
+        }
+        var next = queue.take();
+        if (next == END_OF_SCRIPT) {
+            finished = true;
+            return null;
+        }
+        if (next instanceof Throwable) {
+            finished = true;
+            var error = (Throwable) next;
+            if (error instanceof IOException) {
+                throw (IOException) error;
+            }
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            }
+            if (error instanceof Error) {
+                throw (Error) error;
+            }
+            throw new IOException(error);
+        }
+        return (Statement) next;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (thread != null) {
+            thread.interrupt();
+            // the parser thread may be blocked on the full queue
+            queue.clear();
+            try {
+                thread.join(JOIN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                LOG.debug("interrupted while waiting for parser thread", e); //$NON-NLS-1$
+                Thread.currentThread().interrupt();
+            }
+            if (thread.isAlive()) {
+                LOG.debug("parser thread is still running, the parser will be closed on its exit"); //$NON-NLS-1$
+            }
+            queue.clear();
+        }
+        releaseParser();
+    }
+
+    private void releaseParser() throws IOException {
+        if (parserOwners.decrementAndGet() == 0) {
+            LOG.trace("closing parser"); //$NON-NLS-1$
+            parser.close();
+        }
+    }
+}
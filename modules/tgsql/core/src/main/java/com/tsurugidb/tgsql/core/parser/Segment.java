@@ -120,6 +120,18 @@ class Segment {
             text.append(snippet);
         }
 
+        /**
+         * Appends segment contents.
+         * @param buffer the buffer which contains the snippet of the contents
+         * @param offset the snippet offset in the buffer
+         * @param length the snippet length
+         */
+        void append(@Nonnull char[] buffer, int offset, int length) {
+            Objects.requireNonNull(buffer);
+            checkInitialized();
+            text.append(buffer, offset, length);
+        }
+
         /**
          * Adds a splitted token.
          * @param token the token in this segment, may be a comment
@@ -17,13 +17,16 @@ package com.tsurugidb.tgsql.core.parser;
 
 import java.math.BigDecimal;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
@@ -34,6 +37,7 @@ import org.slf4j.LoggerFactory;
 import com.tsurugidb.tgsql.core.model.CallStatement;
 import com.tsurugidb.tgsql.core.model.CommitStatement;
 import com.tsurugidb.tgsql.core.model.ExplainStatement;
+import com.tsurugidb.tgsql.core.model.GenericStatement;
 import com.tsurugidb.tgsql.core.model.Region;
 import com.tsurugidb.tgsql.core.model.Regioned;
 import com.tsurugidb.tgsql.core.model.SimpleStatement;
@@ -107,6 +111,31 @@ final class SegmentAnalyzer {
 
     private static final String K_EXPLAIN = "EXPLAIN";
 
+    private static final String K_FROM = "FROM";
+
+    private static final String K_JOIN = "JOIN";
+
+    private static final String K_USING = "USING";
+
+    private static final String K_INTO = "INTO";
+
+    private static final String K_UPDATE = "UPDATE";
+
+    private static final String K_DELETE = "DELETE";
+
+    private static final String K_RECURSIVE = "RECURSIVE";
+
+    private static final List<String> K_TABLE_ALIAS_TERMINATORS = List.of(
+            "WHERE", "GROUP", "HAVING", "ORDER", "LIMIT", "OFFSET", "FETCH", "WINDOW",
+            K_JOIN, "INNER", "LEFT", "RIGHT", "FULL", "CROSS", "NATURAL", "ON", K_USING,
+            "UNION", "EXCEPT", "INTERSECT", K_FOR, "SET", "VALUES", "DEFAULT", "SELECT", "WHEN");
+
+    private static final List<String> K_QUERY_LEADERS = List.of("SELECT", "VALUES", "TABLE", K_WITH);
+
+    private static final List<String> K_DML_LEADERS = List.of("INSERT", "UPDATE", "DELETE", "UPSERT", "MERGE");
+
+    private static final List<String> K_DDL_LEADERS = List.of("CREATE", "DROP", "ALTER", "TRUNCATE", "GRANT", "REVOKE");
+
     static Statement analyze(@Nonnull Segment segment) throws ParseException {
         LOG.debug("analyze segment: {}", segment.getText()); //$NON-NLS-1$
         try {
@@ -176,7 +205,179 @@ final class SegmentAnalyzer {
             return analyzeSpecial();
         }
         LOG.trace("not found statement signature -> generic SQL statement"); //$NON-NLS-1$
-        return new SimpleStatement(Statement.Kind.GENERIC, segment.getText(), getSegmentRegion());
+        return analyzeGeneric();
+    }
+
+    private GenericStatement analyzeGeneric() {
+        var category = classifyGeneric();
+        if (category == GenericStatement.Category.QUERY || category == GenericStatement.Category.DML) {
+            var readTables = new ArrayList<Regioned<String>>();
+            var writeTables = new ArrayList<Regioned<String>>();
+            if (collectTableReferences(readTables, writeTables)) {
+                return new GenericStatement(segment.getText(), getSegmentRegion(), category, readTables, writeTables);
+            }
+            LOG.trace("table references are not resolved"); //$NON-NLS-1$
+        }
+        return new GenericStatement(segment.getText(), getSegmentRegion(), category);
+    }
+
+    private GenericStatement.Category classifyGeneric() {
+        int offset = 0;
+        while (testAt(TokenKind.LEFT_PAREN, offset)) {
+            offset++;
+        }
+        if (testAnyAt(K_DML_LEADERS, offset)) {
+            return GenericStatement.Category.DML;
+        }
+        if (testAnyAt(K_DDL_LEADERS, offset)) {
+            return GenericStatement.Category.DDL;
+        }
+        if (testAnyAt(K_QUERY_LEADERS, offset)) {
+            // "WITH ... INSERT ...", "SELECT ... FOR UPDATE", etc.
+            for (int i = offset + 1; cursor.lookahead(i).isPresent(); i++) {
+                if (testAnyAt(K_DML_LEADERS, i)) {
+                    LOG.trace("query contains data manipulation keyword: {}", cursor.text(i)); //$NON-NLS-1$
+                    return GenericStatement.Category.DML;
+                }
+            }
+            return GenericStatement.Category.QUERY;
+        }
+        return GenericStatement.Category.UNKNOWN;
+    }
+
+    // @return {@code true} if all table references in this statement are resolved
+    private boolean collectTableReferences(List<Regioned<String>> readTables, List<Regioned<String>> writeTables) {
+        Set<String> queryNames = collectQueryNames();
+        // true if the parenthesis is arguments of function call
+        var parentheses = new ArrayDeque<Boolean>();
+        for (int i = 0; cursor.lookahead(i).isPresent(); i++) {
+            if (testAt(TokenKind.LEFT_PAREN, i)) {
+                parentheses.push(i > 0 && testIdentifierAt(i - 1) && !testAnyAt(K_QUERY_LEADERS, i + 1));
+                continue;
+            }
+            if (testAt(TokenKind.RIGHT_PAREN, i)) {
+                parentheses.poll();
+                continue;
+            }
+            if (parentheses.contains(Boolean.TRUE)) {
+                // e.g. EXTRACT(YEAR FROM ...)
+                continue;
+            }
+            boolean write;
+            if (testAt(K_FROM, i)) {
+                write = i > 0 && testAt(K_DELETE, i - 1);
+            } else if (testAt(K_JOIN, i) || testAt(K_USING, i)) {
+                write = false;
+            } else if (testAt(K_INTO, i)) {
+                write = true;
+            } else if (testAt(K_UPDATE, i) && !(i > 0 && testAt(K_FOR, i - 1))) {
+                write = true;
+            } else {
+                continue;
+            }
+            boolean list = !write && testAt(K_FROM, i);
+            int offset = i + 1;
+            while (true) {
+                if (testAt(TokenKind.LEFT_PAREN, offset)) {
+                    if (write || testAt(K_USING, i)) {
+                        break;
+                    }
+                    if (!testAnyAt(K_QUERY_LEADERS, offset + 1)) {
+                        LOG.trace("unsupported table reference at {}", cursor.region(offset)); //$NON-NLS-1$
+                        return false;
+                    }
+                    // derived table
+                    break;
+                }
+                int end = findNameEnd(offset);
+                if (end < 0) {
+                    LOG.trace("table name is not found after \"{}\"", cursor.text(i)); //$NON-NLS-1$
+                    return false;
+                }
+                if (!write && testAt(TokenKind.LEFT_PAREN, end)) {
+                    LOG.trace("table function is not supported: {}", cursor.text(offset)); //$NON-NLS-1$
+                    return false;
+                }
+                var name = nameAt(offset, end);
+                if (write) {
+                    addTableReference(writeTables, name);
+                } else if (!queryNames.contains(name.getValue().toUpperCase(Locale.ENGLISH))) {
+                    addTableReference(readTables, name);
+                }
+                if (!list) {
+                    break;
+                }
+                offset = skipTableAlias(end);
+                if (!testAt(TokenKind.COMMA, offset)) {
+                    break;
+                }
+                offset++;
+            }
+        }
+        return true;
+    }
+
+    // collects names of WITH queries, which are not tables
+    private Set<String> collectQueryNames() {
+        var results = new HashSet<String>();
+        for (int i = 1; cursor.lookahead(i).isPresent(); i++) {
+            if (!testIdentifierAt(i)) {
+                continue;
+            }
+            if (!testAt(K_WITH, i - 1) && !testAt(K_RECURSIVE, i - 1) && !testAt(TokenKind.COMMA, i - 1)) {
+                continue;
+            }
+            int next = i + 1;
+            if (testAt(TokenKind.LEFT_PAREN, next)) {
+                // column list
+                while (cursor.lookahead(next).isPresent() && !testAt(TokenKind.RIGHT_PAREN, next)) {
+                    next++;
+                }
+                next++;
+            }
+            if (testAt(K_AS, next) && testAt(TokenKind.LEFT_PAREN, next + 1)) {
+                results.add(cursor.text(i).toUpperCase(Locale.ENGLISH));
+            }
+        }
+        return results;
+    }
+
+    private int skipTableAlias(int offset) {
+        if (testAt(K_AS, offset) && testIdentifierAt(offset + 1)) {
+            return offset + 2;
+        }
+        if (testIdentifierAt(offset) && !testAnyAt(K_TABLE_ALIAS_TERMINATORS, offset)) {
+            return offset + 1;
+        }
+        return offset;
+    }
+
+    private int findNameEnd(int offset) {
+        if (!testIdentifierAt(offset)) {
+            return -1;
+        }
+        int end = offset + 1;
+        while (testAt(TokenKind.DOT, end) && testIdentifierAt(end + 1)) {
+            end += 2;
+        }
+        return end;
+    }
+
+    private Regioned<String> nameAt(int first, int end) {
+        var buf = new StringBuilder();
+        for (int i = first; i < end; i++) {
+            buf.append(cursor.text(i));
+        }
+        return cursor.region(first, end - 1).wrap(buf.toString());
+    }
+
+    private static void addTableReference(List<Regioned<String>> tables, Regioned<String> name) {
+        for (var table : tables) {
+            if (table.getValue().equals(name.getValue())) {
+                return;
+            }
+        }
+        tables.add(name);
     }
 
     private Statement analyzeStartTransaction(StartTransactionCandidate candidate) throws ParseException {
@@ -454,7 +655,7 @@ final class SegmentAnalyzer {
             return new CallStatement(segment.getText(), getSegmentRegion(), name, arguments);
         } catch (ParseException e) {
             LOG.debug("call statement is not a constant form; recongnize as generic statement", e); //$NON-NLS-1$
-            return new SimpleStatement(Statement.Kind.GENERIC, segment.getText(), getSegmentRegion());
+            return new GenericStatement(segment.getText(), getSegmentRegion(), GenericStatement.Category.UNKNOWN);
         }
     }
 
@@ -823,6 +1024,19 @@ final class SegmentAnalyzer {
                 .isPresent();
     }
 
+    private boolean testIdentifierAt(int offset) {
+        return testAt(TokenKind.REGULAR_IDENTIFIER, offset) || testAt(TokenKind.DELIMITED_IDENTIFIER, offset);
+    }
+
+    private boolean testAnyAt(List<String> keywords, int offset) {
+        for (var keyword : keywords) {
+            if (testAt(keyword, offset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Region getSegmentRegion() {
         return new Region(
                 segment.getOffset(),
@@ -18,10 +18,12 @@ package com.tsurugidb.tgsql.core.parser;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Reader;
+import java.text.MessageFormat;
 import java.util.Objects;
 
 import javax.annotation.Nonnull;
 
+import com.tsurugidb.tgsql.core.event.ParseEvent;
 import com.tsurugidb.tgsql.core.model.ErroneousStatement;
 import com.tsurugidb.tgsql.core.model.Region;
 import com.tsurugidb.tgsql.core.model.Statement;
@@ -177,6 +179,14 @@ public class SqlParser implements Closeable {
      * @throws IOException if I/O error was occurred
      */
     public Statement next() throws IOException {
+        var event = new ParseEvent();
+        event.begin();
+        var statement = analyze();
+        event.finish(statement);
+        return statement;
+    }
+
+    private Statement analyze() throws IOException {
         var segment = scanner.next();
         if (segment == null) {
             return null;
@@ -203,6 +213,49 @@ public class SqlParser implements Closeable {
         }
     }
 
+    /**
+     * Skips the leading characters of the input, and continues parsing from the given position.
+     * <p>
+     * This must be called before the first {@link #next()}.
+     * The regions of the following statements are relative to the beginning of the original input.
+     * </p>
+     * @param offset the number of characters to skip
+     * @param line the 0-origin line number of the position
+     * @param column the 0-origin column number of the position
+     * @throws IOException if I/O error was occurred, or the input is shorter than the offset
+     * @throws IllegalStateException if this parser has already started
+     * @since 1.17.0
+     */
+    public void skip(long offset, int line, int column) throws IOException {
+        skip(offset, -1, line, column);
+    }
+
+    /**
+     * Skips the leading characters of the input, and continues parsing from the given position.
+     * <p>
+     * This must be called before the first {@link #next()}.
+     * If the byte offset is known and the input is a {@link MappedScriptReader}, the input is repositioned directly
+     * without decoding the skipped bytes.
+     * The regions of the following statements are relative to the beginning of the original input.
+     * </p>
+     * @param offset the number of characters to skip
+     * @param byteOffset the byte offset of the position, or a negative value if it is unknown
+     * @param line the 0-origin line number of the position
+     * @param column the 0-origin column number of the position
+     * @throws IOException if I/O error was occurred, or the input is shorter than the offset
+     * @throws IllegalStateException if this parser has already started
+     * @see MappedScriptReader#getByteOffset(long)
+     * @since 1.17.0
+     */
+    public void skip(long offset, long byteOffset, int line, int column) throws IOException {
+        if (offset < 0 || line < 0 || column < 0) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "skip position must not be negative: offset={0}, line={1}, column={2}", //$NON-NLS-1$
+                    offset, line, column));
+        }
+        scanner.skip(offset, byteOffset, line, column);
+    }
+
     /**
      * Returns whether or not this scanner reached EOF.
      * @return {@code true} is reached EOF, otherwise {@code false}
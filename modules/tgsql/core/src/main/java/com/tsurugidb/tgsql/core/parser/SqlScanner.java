@@ -16,8 +16,10 @@
 package com.tsurugidb.tgsql.core.parser;
 
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.Reader;
+import java.text.MessageFormat;
 import java.util.Objects;
 
 import javax.annotation.Nonnull;
@@ -69,8 +71,12 @@ class SqlScanner implements Closeable {
         }
     }
 
+    private final Reader input;
+
     private final SqlScannerFlex flex;
 
+    private boolean started = false;
+
     /**
      * Creates a new instance with default options.
      *
@@ -89,6 +95,7 @@ class SqlScanner implements Closeable {
     SqlScanner(@Nonnull Reader input, @Nonnull Options options) {
         Objects.requireNonNull(input);
         Objects.requireNonNull(options);
+        this.input = input;
         flex = new SqlScannerFlex(
                 input,
                 options.skipRegularComments,
@@ -102,6 +109,7 @@ class SqlScanner implements Closeable {
      * @throws IOException if I/O error was occurred
      */
     Segment next() throws IOException {
+        started = true;
         if (sawEof()) {
             return null;
         }
@@ -113,6 +121,65 @@ class SqlScanner implements Closeable {
         }
     }
 
+    /**
+     * Skips the leading characters of the input, and continues scanning from the given position.
+     * <p>
+     * This must be called before the first {@link #next()}.
+     * </p>
+     *
+     * @param offset the number of characters to skip
+     * @param line   the 0-origin line number of the position
+     * @param column the 0-origin column number of the position
+     * @throws IOException           if I/O error was occurred
+     * @throws EOFException          if the input is shorter than the offset
+     * @throws IllegalStateException if this scanner has already started
+     */
+    void skip(long offset, int line, int column) throws IOException {
+        skip(offset, -1, line, column);
+    }
+
+    /**
+     * Skips the leading characters of the input, and continues scanning from the given position.
+     * <p>
+     * This must be called before the first {@link #next()}.
+     * If the byte offset is known and the input is a {@link MappedScriptReader}, the input is repositioned directly
+     * without reading the skipped characters.
+     * </p>
+     *
+     * @param offset     the number of characters to skip
+     * @param byteOffset the byte offset of the position, or a negative value if it is unknown
+     * @param line       the 0-origin line number of the position
+     * @param column     the 0-origin column number of the position
+     * @throws IOException           if I/O error was occurred
+     * @throws EOFException          if the input is shorter than the offset
+     * @throws IllegalStateException if this scanner has already started
+     */
+    void skip(long offset, long byteOffset, int line, int column) throws IOException {
+        if (started) {
+            throw new IllegalStateException("scanner has already started"); //$NON-NLS-1$
+        }
+        if (byteOffset >= 0 && input instanceof MappedScriptReader) {
+            ((MappedScriptReader) input).seek(byteOffset, offset);
+            flex.startAt(offset, line, column);
+            return;
+        }
+        long rest = offset;
+        while (rest > 0) {
+            long skipped = input.skip(rest);
+            if (skipped <= 0) {
+                if (input.read() < 0) {
+                    throw new EOFException(MessageFormat.format(//
+                            "input is shorter than the skip offset: offset={0}, skipped={1}", //
+                            offset, //
+                            offset - rest));
+                }
+                skipped = 1;
+            }
+            rest -= skipped;
+        }
+        flex.startAt(offset, line, column);
+    }
+
     /**
      * Returns whether or not this scanner reached EOF.
      *
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.parser;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Normalizes SQL statements into fingerprints.
+ * <p>
+ * A fingerprint is built from the tokens of the statement:
+ * </p>
+ * <ul>
+ * <li>literals except {@code NULL} are replaced with {@code ?}, and a comma separated list of them is folded into a single {@code ?}</li>
+ * <li>regular identifiers and keywords are converted into lower case</li>
+ * <li>comments are removed, and tokens are separated by a single space</li>
+ * </ul>
+ * <p>
+ * For example, {@code SELECT * FROM T WHERE k IN (1, 2, 3)} is normalized into {@code select * from t where k in (?)}.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public final class StatementFingerprint {
+
+    /**
+     * The placeholder of literals.
+     */
+    public static final String PLACEHOLDER = "?"; //$NON-NLS-1$
+
+    /**
+     * Returns the fingerprint of the statement.
+     *
+     * @param text the statement text
+     * @return the fingerprint
+     */
+    public static @Nonnull String of(@Nonnull String text) {
+        Objects.requireNonNull(text);
+        var options = new SqlScanner.Options();
+        options.skipRegularComments = true;
+        options.skipDocumentationComments = true;
+        var builder = new StatementFingerprint();
+        try (var scanner = new SqlScanner(new StringReader(text), options)) {
+            while (true) {
+                var segment = scanner.next();
+                if (segment == null) {
+                    break;
+                }
+                for (var token : segment.getTokens()) {
+                    builder.append(segment, token);
+                }
+            }
+        } catch (IOException e) {
+            // never occur on StringReader
+            throw new UncheckedIOException(e);
+        }
+        return builder.sb.toString();
+    }
+
+    private final StringBuilder sb = new StringBuilder();
+
+    private TokenKind lastKind = null;
+
+    private boolean placeholderList = false;
+
+    private StatementFingerprint() {
+        super();
+    }
+
+    private void append(Segment segment, TokenInfo token) {
+        var kind = token.getKind();
+        switch (kind.getCategory()) {
+        case DELIMITER:
+        case PSEUDO:
+        case COMMENT:
+            return;
+        default:
+            break;
+        }
+
+        if (isLiteral(kind)) {
+            if (placeholderList) {
+                // "?, ?" -> "?"
+                sb.setLength(sb.length() - 1);
+                lastKind = TokenKind.NUMERIC_LITERAL;
+                placeholderList = false;
+                return;
+            }
+            appendToken(kind, PLACEHOLDER);
+            return;
+        }
+        if (kind == TokenKind.COMMA && lastKind != null && isLiteral(lastKind)) {
+            appendToken(kind, ","); //$NON-NLS-1$
+            placeholderList = true;
+            return;
+        }
+        placeholderList = false;
+
+        String text = segment.getText(token).orElse(""); //$NON-NLS-1$
+        if (kind == TokenKind.REGULAR_IDENTIFIER || kind == TokenKind.NULL_LITERAL || kind == TokenKind.SPECIAL_COMMAND) {
+            text = text.toLowerCase(Locale.ENGLISH);
+        }
+        appendToken(kind, text);
+    }
+
+    private void appendToken(TokenKind kind, String text) {
+        if (lastKind != null && needsSpace(lastKind, kind)) {
+            sb.append(' ');
+        }
+        sb.append(text);
+        lastKind = kind;
+    }
+
+    private static boolean needsSpace(TokenKind previous, TokenKind next) {
+        switch (previous) {
+        case LEFT_PAREN:
+        case DOT:
+            return false;
+        default:
+            break;
+        }
+        switch (next) {
+        case COMMA:
+        case RIGHT_PAREN:
+        case DOT:
+            return false;
+        default:
+            return true;
+        }
+    }
+
+    private static boolean isLiteral(TokenKind kind) {
+        switch (kind) {
+        case NUMERIC_LITERAL:
+        case TRUE_LITERAL:
+        case FALSE_LITERAL:
+        case CHARACTER_STRING_LITERAL:
+        case BINARY_STRING_LITERAL:
+            return true;
+        default:
+            return false;
+        }
+    }
+}
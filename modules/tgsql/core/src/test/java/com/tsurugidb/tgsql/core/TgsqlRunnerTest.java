@@ -21,15 +21,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.tsurugidb.tgsql.core.config.TgsqlConfig;
 import com.tsurugidb.tgsql.core.executor.IoSupplier;
 import com.tsurugidb.tgsql.core.executor.engine.Engine;
 import com.tsurugidb.tgsql.core.executor.engine.EngineException;
+import com.tsurugidb.tgsql.core.executor.journal.ScriptCheckpoint;
 import com.tsurugidb.tgsql.core.model.ErroneousStatement;
 import com.tsurugidb.tgsql.core.model.SpecialStatement;
 import com.tsurugidb.tgsql.core.model.Statement;
@@ -55,6 +59,11 @@ class TgsqlRunnerTest {
             return true;
         }
 
+        @Override
+        public boolean isTransactionActive() {
+            return false;
+        }
+
         String text(Statement.Kind expected, int index) {
             Statement occurred = statements.get(index);
             assertEquals(expected, occurred.getKind());
@@ -62,6 +71,9 @@ class TgsqlRunnerTest {
         }
     }
 
+    @TempDir
+    Path temporaryDir;
+
     private static IoSupplier<? extends Reader> script(String... lines) {
         return () -> new StringReader(String.join("\n", lines));
     }
@@ -75,6 +87,17 @@ class TgsqlRunnerTest {
         assertEquals("SELECT * FROM T", recorder.text(Statement.Kind.GENERIC, 0));
     }
 
+    @Test
+    void with_config_metrics() throws Exception {
+        Path metrics = temporaryDir.resolve("metrics.jsonl");
+        Recorder recorder = new Recorder();
+        recorder.getConfig().setMetricsOutput(metrics);
+        var r = TgsqlRunner.executeWithConfig(script("SELECT * FROM T"), recorder);
+        assertTrue(r);
+        assertEquals(1, recorder.statements.size());
+        assertFalse(Files.readAllLines(metrics).isEmpty());
+    }
+
     @Test
     void raise() throws Exception {
         var r = TgsqlRunner.execute(script("SELECT * FROM T"), new Engine() {
@@ -110,4 +133,88 @@ class TgsqlRunnerTest {
         assertEquals(1, recorder.statements.size());
         assertEquals("COMMIT UNKNOWN", recorder.text(Statement.Kind.ERRONEOUS, 0));
     }
+
+    @Test
+    void journal() throws Exception {
+        Path journal = temporaryDir.resolve("script.journal");
+        Recorder recorder = new Recorder();
+        recorder.getConfig().setScriptJournal(journal);
+        var r = TgsqlRunner.execute(script("SELECT 1;", "SELECT 2;", "SELECT 3;"), recorder);
+        assertTrue(r);
+        assertEquals(3, recorder.statements.size());
+
+        var checkpoint = ScriptCheckpoint.load(journal);
+        assertTrue(checkpoint.isCompleted());
+        assertEquals(3, checkpoint.getStatementIndex());
+    }
+
+    @Test
+    void resume() throws Exception {
+        Path journal = temporaryDir.resolve("script.journal");
+        var script = script("SELECT 1;", "SELECT 'fail';", "  SELECT", "3;");
+        Recorder failing = new Recorder() {
+            @Override
+            public boolean execute(Statement statement) throws EngineException {
+                if (statement.getText().contains("'fail'")) {
+                    throw new EngineException("TESTING");
+                }
+                return super.execute(statement);
+            }
+        };
+        failing.getConfig().setScriptJournal(journal);
+        assertFalse(TgsqlRunner.execute(script, failing));
+        assertEquals(1, failing.statements.size());
+
+        var checkpoint = ScriptCheckpoint.load(journal);
+        assertFalse(checkpoint.isCompleted());
+        assertEquals(1, checkpoint.getStatementIndex());
+        assertEquals(1, checkpoint.getLine());
+        assertEquals(0, checkpoint.getColumn());
+
+        Recorder recorder = new Recorder();
+        recorder.getConfig().setResumeJournal(journal);
+        recorder.getConfig().setScriptJournal(journal);
+        assertTrue(TgsqlRunner.execute(script, recorder));
+        assertEquals(2, recorder.statements.size());
+        assertEquals("SELECT 'fail'", recorder.text(Statement.Kind.GENERIC, 0));
+        assertEquals("SELECT\n3", recorder.text(Statement.Kind.GENERIC, 1));
+        assertEquals(2, recorder.statements.get(1).getRegion().getStartLine());
+        assertEquals(2, recorder.statements.get(1).getRegion().getStartColumn());
+
+        checkpoint = ScriptCheckpoint.load(journal);
+        assertTrue(checkpoint.isCompleted());
+        assertEquals(3, checkpoint.getStatementIndex());
+
+        Recorder completed = new Recorder();
+        completed.getConfig().setResumeJournal(journal);
+        assertTrue(TgsqlRunner.execute(script, completed));
+        assertEquals(0, completed.statements.size());
+    }
+
+    @Test
+    void journal_transaction_active() throws Exception {
+        Path journal = temporaryDir.resolve("script.journal");
+        Recorder recorder = new Recorder() {
+            @Override
+            public boolean isTransactionActive() {
+                return !statements.isEmpty();
+            }
+
+            @Override
+            public boolean execute(Statement statement) throws EngineException {
+                super.execute(statement);
+                if (statements.size() == 3) {
+                    throw new EngineException("TESTING");
+                }
+                return true;
+            }
+        };
+        recorder.getConfig().setScriptJournal(journal);
+        assertFalse(TgsqlRunner.execute(script("SELECT 1;", "SELECT 2;", "SELECT 3;"), recorder));
+
+        var checkpoint = ScriptCheckpoint.load(journal);
+        assertFalse(checkpoint.isCompleted());
+        assertEquals(0, checkpoint.getStatementIndex());
+        assertEquals(0, checkpoint.getOffset());
+    }
 }
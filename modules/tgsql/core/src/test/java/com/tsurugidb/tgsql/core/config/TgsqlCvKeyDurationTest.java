@@ -0,0 +1,50 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.tgsql.core.config.TgsqlCvKey.TgsqlCvKeyDuration;
+import com.tsurugidb.tgsql.core.exception.TgsqlMessageException;
+
+class TgsqlCvKeyDurationTest {
+
+    @Test
+    void convertValue() {
+        var key = new TgsqlCvKeyDuration("test");
+        assertEquals(Duration.ofMillis(500), key.convertValue("500"));
+        assertEquals(Duration.ofMillis(500), key.convertValue("500ms"));
+        assertEquals(Duration.ofMillis(500), key.convertValue(" 500 MS "));
+        assertEquals(Duration.ofSeconds(2), key.convertValue("2s"));
+        assertEquals(Duration.ofMinutes(3), key.convertValue("3min"));
+        assertEquals(Duration.ofHours(1), key.convertValue("1h"));
+        assertEquals(Duration.ZERO, key.convertValue("0"));
+    }
+
+    @Test
+    void convertValue_error() {
+        var key = new TgsqlCvKeyDuration("test");
+        assertThrows(TgsqlMessageException.class, () -> key.convertValue(""));
+        assertThrows(TgsqlMessageException.class, () -> key.convertValue("abc"));
+        assertThrows(TgsqlMessageException.class, () -> key.convertValue("-1ms"));
+        assertThrows(TgsqlMessageException.class, () -> key.convertValue("1d"));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.tgsql.core.model.Statement;
+import com.tsurugidb.tgsql.core.parser.SqlParser;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+
+class ParseEventTest {
+
+    @Test
+    void record(@TempDir Path temporary) throws Exception {
+        var output = temporary.resolve("events.jfr");
+        var statements = new ArrayList<Statement>();
+        try (var recording = new Recording(); var parser = new SqlParser(new StringReader("SELECT 1;\nCOMMIT;\n"))) {
+            recording.enable(TgsqlEvent.PREFIX + "Parse");
+            recording.start();
+            for (var statement = parser.next(); statement != null; statement = parser.next()) {
+                statements.add(statement);
+            }
+            recording.stop();
+            recording.dump(output);
+        }
+        var events = RecordingFile.readAllEvents(output).stream()
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+        assertEquals(List.of("GENERIC", "COMMIT"), events.stream().map(it -> it.getString("kind")).collect(Collectors.toList()));
+        assertEquals(List.of(1, 2), events.stream().map(it -> it.getInt("line")).collect(Collectors.toList()));
+        assertEquals(statements.get(0).getRegion().getSize(), events.get(0).getInt("length"));
+    }
+}
@@ -18,25 +18,32 @@ package com.tsurugidb.tgsql.core.executor.engine;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import com.tsurugidb.sql.proto.SqlRequest;
 import com.tsurugidb.sql.proto.SqlResponse;
+import com.tsurugidb.tgsql.core.config.TgsqlCommitMode;
 import com.tsurugidb.tgsql.core.config.TgsqlConfig;
 import com.tsurugidb.tgsql.core.config.TgsqlCvKey;
 import com.tsurugidb.tgsql.core.exception.TgsqlNoMessageException;
@@ -202,6 +209,7 @@ class BasicEngineTest {
         var cont = engine.execute(parse("INSERT INTO A DEFAULT VALUES"));
         assertTrue(cont);
         assertTrue(reached.get());
+        assertNull(engine.getConfig().getStatementStatistics());
     }
 
     @Test
@@ -992,6 +1000,287 @@ class BasicEngineTest {
         assertThrows(EngineException.class, () -> engine.execute(parse("START TRANSACTION INVALID")));
     }
 
+    @Test
+    void implicit_transaction_read_only_query() throws Exception {
+        var started = implicitTransactionType("SELECT * FROM T", true);
+        assertEquals(SqlRequest.TransactionType.READ_ONLY, started.getType());
+        assertEquals(0, started.getWritePreservesCount());
+        assertEquals("implicit", started.getLabel());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "INSERT INTO T VALUES (1)", "WITH A AS (SELECT * FROM S) INSERT INTO T SELECT * FROM A", "CREATE TABLE T (C INT)", "CALL f(1 + 2)" })
+    void implicit_transaction_read_only_query_write(String text) throws Exception {
+        var started = implicitTransactionType(text, true);
+        assertEquals(SqlRequest.TransactionType.LONG, started.getType());
+        assertEquals(1, started.getWritePreservesCount());
+    }
+
+    @Test
+    void implicit_transaction_read_only_query_disabled() throws Exception {
+        var started = implicitTransactionType("SELECT * FROM T", false);
+        assertEquals(SqlRequest.TransactionType.LONG, started.getType());
+    }
+
+    @Test
+    void implicit_transaction_infer_area() throws Exception {
+        var started = implicitTransactionType("INSERT INTO a SELECT * FROM b", false, TgsqlCvKey.IMPLICIT_TX_INFER_AREA);
+        assertEquals(SqlRequest.TransactionType.LONG, started.getType());
+        assertEquals(1, started.getWritePreservesCount());
+        assertEquals("a", started.getWritePreserves(0).getTableName());
+        assertEquals(2, started.getInclusiveReadAreasCount());
+        assertEquals("a", started.getInclusiveReadAreas(0).getTableName());
+        assertEquals("b", started.getInclusiveReadAreas(1).getTableName());
+    }
+
+    @Test
+    void implicit_transaction_infer_area_unresolved() throws Exception {
+        var started = implicitTransactionType("CALL f(1 + 2)", false, TgsqlCvKey.IMPLICIT_TX_INFER_AREA);
+        assertEquals(SqlRequest.TransactionType.LONG, started.getType());
+        assertEquals(1, started.getWritePreservesCount());
+        assertEquals("T", started.getWritePreserves(0).getTableName());
+        assertEquals(0, started.getInclusiveReadAreasCount());
+    }
+
+    @Test
+    void commit_every() throws Exception {
+        var active = new AtomicBoolean();
+        var started = new AtomicInteger();
+        var executed = new AtomicInteger();
+        var committed = new AtomicInteger();
+        MockSqlProcessor sql = new MockSqlProcessor(false) {
+            @Override
+            public boolean isTransactionActive() {
+                return active.get();
+            }
+
+            @Override
+            public void startTransaction(SqlRequest.TransactionOption option) throws ServerException, IOException, InterruptedException {
+                assertFalse(active.getAndSet(true));
+                started.incrementAndGet();
+            }
+
+            @Override
+            public PreparedStatementResult execute(String statement, Region region) {
+                assertTrue(active.get());
+                executed.incrementAndGet();
+                var er = new ExecuteResult() {
+                    @Override
+                    public Map<CounterType, Long> getCounters() {
+                        return Map.of(CounterType.INSERTED_ROWS, 1L);
+                    }
+                };
+                return new PreparedStatementResult(er);
+            }
+
+            @Override
+            public void commitTransaction(SqlRequest.CommitStatus status) throws ServerException, IOException, InterruptedException {
+                assertTrue(active.getAndSet(false));
+                committed.incrementAndGet();
+            }
+        };
+        var config = new TgsqlConfig();
+        config.setCommitMode(TgsqlCommitMode.AUTO_COMMIT);
+        config.setCommitEvery(3);
+        config.setTransactionOption(SqlRequest.TransactionOption.newBuilder().setType(SqlRequest.TransactionType.SHORT).build());
+        var engine = new BasicEngine(config, sql, new MockResultProcessor(), new TestReporter(config));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(engine.execute(parse("INSERT INTO T VALUES (" + i + ")")));
+        }
+        assertEquals(4, executed.get());
+        assertEquals(2, started.get());
+        assertEquals(1, committed.get());
+        assertTrue(active.get());
+
+        engine.finish(true);
+        assertEquals(2, committed.get());
+        assertFalse(active.get());
+    }
+
+    @Test
+    void generic_statement_interrupted() throws Exception {
+        var active = new AtomicBoolean();
+        var rolledBack = new AtomicBoolean();
+        MockSqlProcessor sql = new MockSqlProcessor(false) {
+            @Override
+            public boolean isTransactionActive() {
+                return active.get();
+            }
+
+            @Override
+            public void startTransaction(SqlRequest.TransactionOption option) throws ServerException, IOException, InterruptedException {
+                active.set(true);
+            }
+
+            @Override
+            public PreparedStatementResult execute(String statement, Region region) throws InterruptedException {
+                throw new InterruptedException();
+            }
+
+            @Override
+            public void commitTransaction(SqlRequest.CommitStatus status) throws ServerException, IOException, InterruptedException {
+                fail();
+            }
+
+            @Override
+            public void rollbackTransaction() throws ServerException, IOException, InterruptedException {
+                assertTrue(active.getAndSet(false));
+                rolledBack.set(true);
+            }
+        };
+        var config = new TgsqlConfig();
+        config.setCommitMode(TgsqlCommitMode.AUTO_COMMIT);
+        config.setTransactionOption(SqlRequest.TransactionOption.newBuilder().setType(SqlRequest.TransactionType.SHORT).build());
+        config.setStatementStatisticsEnabled(true);
+        var engine = new BasicEngine(config, sql, new MockResultProcessor(), new TestReporter(config));
+        assertThrows(InterruptedException.class, () -> engine.execute(parse("INSERT INTO T VALUES (1)")));
+        assertTrue(rolledBack.get());
+
+        var statistics = config.getStatementStatistics().getStatistics();
+        assertEquals(1, statistics.size());
+        assertEquals(1, statistics.get(0).getErrors());
+    }
+
+    private static SqlRequest.TransactionOption implicitTransactionType(String text, boolean readOnlyQuery, TgsqlCvKey.TgsqlCvKeyBoolean... enabled) throws Exception {
+        var started = new SqlRequest.TransactionOption[1];
+        var committed = new AtomicBoolean();
+        MockSqlProcessor sql = new MockSqlProcessor(false) {
+            @Override
+            public void startTransaction(SqlRequest.TransactionOption option) throws ServerException, IOException, InterruptedException {
+                assertEquals(null, started[0]);
+                started[0] = option;
+            }
+
+            @Override
+            public PreparedStatementResult execute(String statement, Region region) {
+                var er = new ExecuteResult() {
+                    @Override
+                    public Map<CounterType, Long> getCounters() {
+                        return Map.of();
+                    }
+                };
+                return new PreparedStatementResult(er);
+            }
+
+            @Override
+            public void commitTransaction(SqlRequest.CommitStatus status) throws ServerException, IOException, InterruptedException {
+                committed.set(true);
+            }
+        };
+        var config = new TgsqlConfig();
+        config.setTransactionOption(SqlRequest.TransactionOption.newBuilder() //
+                .setType(SqlRequest.TransactionType.LONG) //
+                .setLabel("implicit") //
+                .addWritePreserves(SqlRequest.WritePreserve.newBuilder().setTableName("T")) //
+                .build());
+        config.getClientVariableMap().put(TgsqlCvKey.IMPLICIT_TX_READ_ONLY_QUERY, readOnlyQuery);
+        for (var key : enabled) {
+            config.getClientVariableMap().put(key, true);
+        }
+        var engine = new BasicEngine(config, sql, new MockResultProcessor(), new TestReporter(config));
+        var cont = engine.execute(parse(text));
+        assertTrue(cont);
+        assertTrue(committed.get());
+        return started[0];
+    }
+
+    @Test
+    void slow_statement_log(@TempDir Path dir) throws Exception {
+        var output = dir.resolve("slow.jsonl");
+        MockSqlProcessor sql = new MockSqlProcessor(true) {
+            @Override
+            public PreparedStatementResult execute(String statement, Region region) throws InterruptedException {
+                if (statement.startsWith("UPDATE")) {
+                    Thread.sleep(50);
+                }
+                var er = new ExecuteResult() {
+                    @Override
+                    public Map<CounterType, Long> getCounters() {
+                        return Map.of(CounterType.UPDATED_ROWS, 3L);
+                    }
+                };
+                return new PreparedStatementResult(er);
+            }
+
+            @Override
+            public StatementMetadata explain(String statement, Region region) throws IOException {
+                assertEquals("UPDATE T SET V = 1", statement);
+                return new BasicStatementMetadata(JsonPlanGraphLoader.SUPPORTED_FORMAT_ID, 1, // captured version of the explain result
+                        TestUtil.read("explain-find-project-write.json"), List.of());
+            }
+        };
+        var config = new TgsqlConfig();
+        config.setCommitMode(TgsqlCommitMode.NO_AUTO_COMMIT);
+        config.getClientVariableMap().put(TgsqlCvKey.SQL_SLOW_THRESHOLD, "20ms");
+        config.getClientVariableMap().put(TgsqlCvKey.SQL_SLOW_LOG, output.toString());
+        config.setStatementStatisticsEnabled(true);
+        var engine = new BasicEngine(config, sql, new MockResultProcessor(), new TestReporter(config));
+        engine.execute(parse("UPDATE T SET V = 1"));
+        engine.execute(parse("DELETE FROM T"));
+        engine.finish(true);
+
+        var lines = Files.readAllLines(output);
+        assertEquals(1, lines.size());
+        var line = lines.get(0);
+        assertTrue(line.contains("\"text\":\"UPDATE T SET V = 1\""), line);
+        assertTrue(line.contains("\"rows\":3"), line);
+        assertTrue(line.contains("\"id\":\"MockTx\""), line);
+        assertTrue(line.contains("\"nodes\":["), line);
+        assertFalse(line.contains("\"planError\""), line);
+
+        var statistics = config.getStatementStatistics().getStatistics();
+        assertEquals(2, statistics.size());
+        assertEquals("update t set v = ?", statistics.get(0).getFingerprint());
+        assertEquals(3, statistics.get(0).getRows());
+    }
+
+    @Test
+    void slow_statement_log_disconnect(@TempDir Path dir) throws Exception {
+        var output = dir.resolve("slow.jsonl");
+        var explainStarted = new CountDownLatch(1);
+        var explainBlocker = new CountDownLatch(1);
+        var explainCount = new AtomicInteger();
+        MockSqlProcessor sql = new MockSqlProcessor(true) {
+            @Override
+            public PreparedStatementResult execute(String statement, Region region) throws InterruptedException {
+                Thread.sleep(50);
+                var er = new ExecuteResult() {
+                    @Override
+                    public Map<CounterType, Long> getCounters() {
+                        return Map.of(CounterType.UPDATED_ROWS, 1L);
+                    }
+                };
+                return new PreparedStatementResult(er);
+            }
+
+            @Override
+            public StatementMetadata explain(String statement, Region region) throws IOException, InterruptedException {
+                explainCount.incrementAndGet();
+                explainStarted.countDown();
+                explainBlocker.await();
+                return new BasicStatementMetadata(JsonPlanGraphLoader.SUPPORTED_FORMAT_ID, 1, // captured version of the explain result
+                        TestUtil.read("explain-find-project-write.json"), List.of());
+            }
+        };
+        var config = new TgsqlConfig();
+        config.setCommitMode(TgsqlCommitMode.NO_AUTO_COMMIT);
+        config.getClientVariableMap().put(TgsqlCvKey.SQL_SLOW_THRESHOLD, "20ms");
+        config.getClientVariableMap().put(TgsqlCvKey.SQL_SLOW_LOG, output.toString());
+        var engine = new BasicEngine(config, sql, new MockResultProcessor(), new TestReporter(config));
+        engine.execute(parse("UPDATE T SET V = 1"));
+        explainStarted.await();
+        engine.execute(parse("UPDATE T SET V = 2"));
+        engine.disconnect();
+        explainBlocker.countDown();
+        engine.finish(true);
+
+        assertEquals(1, explainCount.get());
+        var lines = Files.readAllLines(output);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"nodes\":["), lines.get(0));
+        assertTrue(lines.get(1).contains("\"planError\""), lines.get(1));
+    }
+
     private static BasicEngine newBasicEngine(MockSqlProcessor sql, MockResultProcessor rs) {
         var config = new TgsqlConfig();
         var reporter = new TestReporter(config);
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.tgsql.core.exception.TgsqlNoMessageException;
+import com.tsurugidb.tgsql.core.executor.report.TestReporter;
+import com.tsurugidb.tgsql.core.executor.report.TgsqlReporter;
+import com.tsurugidb.tgsql.core.model.Statement;
+import com.tsurugidb.tgsql.core.parser.SqlParser;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.SqlServiceCode;
+import com.tsurugidb.tsubakuro.sql.exception.OccException;
+import com.tsurugidb.tsubakuro.sql.exception.SyntaxException;
+
+class TransactionRetryExecutorTest {
+
+    static class MockEngine implements Engine {
+
+        final List<String> executed = new ArrayList<>();
+
+        boolean active = false;
+
+        int discarded = 0;
+
+        int failures;
+
+        MockEngine(int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        public TgsqlReporter getReporter() {
+            return new TestReporter();
+        }
+
+        @Override
+        public boolean isTransactionActive() {
+            return active;
+        }
+
+        @Override
+        public void discardTransaction() {
+            discarded++;
+            active = false;
+        }
+
+        @Override
+        public boolean execute(Statement statement) throws EngineException, ServerException, IOException, InterruptedException {
+            executed.add(statement.getText());
+            switch (statement.getKind()) {
+            case START_TRANSACTION:
+                active = true;
+                break;
+            case COMMIT:
+                active = false;
+                if (failures > 0) {
+                    failures--;
+                    throw new TgsqlNoMessageException(new OccException(SqlServiceCode.OCC_EXCEPTION));
+                }
+                break;
+            default:
+                break;
+            }
+            return true;
+        }
+    }
+
+    @Test
+    void retry_transaction_block() throws Exception {
+        var engine = new MockEngine(2);
+        var executor = new TransactionRetryExecutor(engine, 3, Duration.ZERO);
+        for (var statement : parse("BEGIN; INSERT INTO T VALUES (1); COMMIT")) {
+            assertTrue(executor.execute(statement));
+        }
+        assertEquals(List.of( //
+                "BEGIN", "INSERT INTO T VALUES (1)", "COMMIT", //
+                "BEGIN", "INSERT INTO T VALUES (1)", "COMMIT", //
+                "BEGIN", "INSERT INTO T VALUES (1)", "COMMIT"), engine.executed);
+        assertEquals(1, executor.getRetriedTransactionCount());
+        assertEquals(2, executor.getTotalRetryCount());
+    }
+
+    @Test
+    void retry_only_current_transaction() throws Exception {
+        var engine = new MockEngine(1);
+        var executor = new TransactionRetryExecutor(engine, 3, Duration.ZERO);
+        for (var statement : parse("INSERT INTO T VALUES (0); BEGIN; INSERT INTO T VALUES (1); COMMIT")) {
+            assertTrue(executor.execute(statement));
+        }
+        assertEquals(List.of( //
+                "INSERT INTO T VALUES (0)", //
+                "BEGIN", "INSERT INTO T VALUES (1)", "COMMIT", //
+                "BEGIN", "INSERT INTO T VALUES (1)", "COMMIT"), engine.executed);
+    }
+
+    @Test
+    void retry_limit() throws Exception {
+        var engine = new MockEngine(3);
+        var executor = new TransactionRetryExecutor(engine, 2, Duration.ZERO);
+        var statements = parse("BEGIN; COMMIT");
+        assertTrue(executor.execute(statements.get(0)));
+        var e = assertThrows(TgsqlNoMessageException.class, () -> executor.execute(statements.get(1)));
+        assertTrue(TransactionRetryExecutor.findRetryableCode(e).isPresent());
+        assertEquals(2, executor.getTotalRetryCount());
+    }
+
+    @Test
+    void retry_disabled() throws Exception {
+        var engine = new MockEngine(1);
+        var executor = new TransactionRetryExecutor(engine, 0, Duration.ZERO);
+        var statements = parse("BEGIN; COMMIT");
+        assertTrue(executor.execute(statements.get(0)));
+        assertThrows(TgsqlNoMessageException.class, () -> executor.execute(statements.get(1)));
+        assertEquals(0, engine.discarded);
+        assertEquals(0, executor.getTotalRetryCount());
+    }
+
+    @Test
+    void findRetryableCode() {
+        var occ = new TgsqlNoMessageException(new OccException(SqlServiceCode.OCC_EXCEPTION));
+        assertSame(SqlServiceCode.OCC_EXCEPTION, TransactionRetryExecutor.findRetryableCode(occ).get());
+
+        var syntax = new TgsqlNoMessageException(new SyntaxException(SqlServiceCode.SYNTAX_EXCEPTION));
+        assertFalse(TransactionRetryExecutor.findRetryableCode(syntax).isPresent());
+
+        assertFalse(TransactionRetryExecutor.findRetryableCode(new IOException()).isPresent());
+    }
+
+    private static List<Statement> parse(String text) throws IOException {
+        var results = new ArrayList<Statement>();
+        try (var parser = new SqlParser(new StringReader(text))) {
+            while (true) {
+                var statement = parser.next();
+                if (statement == null) {
+                    break;
+                }
+                results.add(statement);
+            }
+        }
+        return results;
+    }
+}
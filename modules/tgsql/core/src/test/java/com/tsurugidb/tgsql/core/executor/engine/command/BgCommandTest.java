@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.engine.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.tgsql.core.model.SpecialStatement;
+import com.tsurugidb.tgsql.core.parser.SqlParser;
+
+class BgCommandTest {
+
+    @Test
+    void getStatementText() throws Exception {
+        var statement = parse("\\bg SELECT * FROM t WHERE c = 'a b'");
+        assertEquals("SELECT * FROM t WHERE c = 'a b'", BgCommand.getStatementText(statement));
+    }
+
+    @Test
+    void getStatementText_semicolon() throws Exception {
+        var statement = parse("\\bg  SELECT * FROM t;");
+        assertEquals("SELECT * FROM t", BgCommand.getStatementText(statement));
+    }
+
+    @Test
+    void getStatementText_leading_statement() throws Exception {
+        try (var parser = new SqlParser(new StringReader("SELECT 1;\n\\bg SELECT 2"))) {
+            parser.next();
+            var statement = (SpecialStatement) parser.next();
+            assertEquals("SELECT 2", BgCommand.getStatementText(statement));
+        }
+    }
+
+    @Test
+    void getStatementText_empty() throws Exception {
+        var statement = parse("\\bg");
+        assertEquals("", BgCommand.getStatementText(statement));
+    }
+
+    private static SpecialStatement parse(String text) throws IOException {
+        try (var parser = new SqlParser(new StringReader(text))) {
+            return (SpecialStatement) parser.next();
+        }
+    }
+}
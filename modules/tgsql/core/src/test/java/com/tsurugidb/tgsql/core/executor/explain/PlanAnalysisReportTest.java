@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.explain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.tsurugidb.tgsql.core.executor.explain.PlanFinding.Severity;
+import com.tsurugidb.tgsql.core.model.Region;
+
+class PlanAnalysisReportTest {
+
+    private static PlanAnalysisReport newReport() {
+        var report = new PlanAnalysisReport();
+        report.add(new PlanAnalysisReport.Entry("select * from a", new Region(0, 15, 0, 0), List.of()));
+        report.add(new PlanAnalysisReport.Entry("select * from b", new Region(16, 15, 1, 0), List.of( //
+                new PlanFinding(Severity.WARNING, "full-scan", "full scan of table b", "scan", "b"))));
+        report.add(PlanAnalysisReport.Entry.failed("select * from c", new Region(32, 15, 2, 0), new Exception("not found")));
+        return report;
+    }
+
+    @Test
+    void getEntries() {
+        var report = newReport();
+
+        var texts = report.getEntries().stream().map(PlanAnalysisReport.Entry::getText).collect(Collectors.toList());
+        assertEquals(List.of("select * from c", "select * from b", "select * from a"), texts);
+    }
+
+    @Test
+    void hasFindings() {
+        var report = newReport();
+
+        assertFalse(report.hasFindings(null));
+        assertTrue(report.hasFindings(Severity.INFO));
+        assertTrue(report.hasFindings(Severity.CRITICAL));
+
+        var empty = new PlanAnalysisReport();
+        assertFalse(empty.hasFindings(Severity.INFO));
+    }
+
+    @Test
+    void writeText() {
+        var report = newReport();
+
+        var writer = new StringWriter();
+        report.writeText(writer);
+        var lines = writer.toString().lines().collect(Collectors.toList());
+        assertEquals(List.of( //
+                "#1 score=100 (line 3, column 1)", //
+                "  select * from c", //
+                "  CRITICAL explain-failed: not found", //
+                "#2 score=10 (line 2, column 1)", //
+                "  select * from b", //
+                "  WARNING full-scan: full scan of table b", //
+                "3 statements analyzed, 2 statements with findings"), lines);
+    }
+
+    @Test
+    void writeJson() throws Exception {
+        var report = newReport();
+
+        var writer = new StringWriter();
+        report.writeJson(writer);
+
+        var codes = new StringBuilder();
+        int statements = 0;
+        try (var parser = new JsonFactory().createParser(writer.toString())) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && parser.getCurrentName().equals("text")) {
+                    statements++;
+                }
+                if (token == JsonToken.FIELD_NAME && parser.getCurrentName().equals("code")) {
+                    parser.nextToken();
+                    codes.append(parser.getText()).append(' ');
+                }
+            }
+        }
+        assertEquals(3, statements);
+        assertEquals("explain-failed full-scan ", codes.toString());
+    }
+}
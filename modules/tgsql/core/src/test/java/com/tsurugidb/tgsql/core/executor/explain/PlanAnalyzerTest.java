@@ -0,0 +1,197 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.explain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.tgsql.core.executor.explain.PlanFinding.Severity;
+import com.tsurugidb.tsubakuro.explain.PlanGraph;
+import com.tsurugidb.tsubakuro.explain.PlanNode;
+
+class PlanAnalyzerTest {
+
+    @Test
+    void range_scan() {
+        var plan = new PlanGraphTestMock();
+        var scan = plan.newNode("scan", "scan", true);
+        scan.addAttribute("access", "range-scan");
+        scan.addAttribute("table", "t");
+        scan.addDownstream(plan.newNode("emit", "emit", false));
+
+        var findings = new PlanAnalyzer().analyze(plan);
+        assertEquals(List.of(), findings);
+    }
+
+    @Test
+    void full_scan() {
+        var plan = new PlanGraphTestMock();
+        var scan = plan.newNode("scan", "scan", true);
+        scan.addAttribute("access", "full-scan");
+        scan.addAttribute("table", "t");
+        scan.addDownstream(plan.newNode("emit", "emit", false));
+
+        var findings = new PlanAnalyzer().analyze(plan);
+        assertEquals(1, findings.size());
+        var finding = findings.get(0);
+        assertEquals(Severity.WARNING, finding.getSeverity());
+        assertEquals("full-scan", finding.getCode());
+        assertEquals("scan", finding.getNodeKind());
+        assertEquals("t", finding.getTable());
+    }
+
+    @Test
+    void missing_index() {
+        var plan = new PlanGraphTestMock();
+        var scan = plan.newNode("scan", "scan", true);
+        scan.addAttribute("access", "full-scan");
+        scan.addAttribute("table", "t");
+        var project = plan.newNode("project", "project", false);
+        var filter = plan.newNode("filter", "filter", false);
+        scan.addDownstream(project);
+        project.addDownstream(filter);
+        filter.addDownstream(plan.newNode("emit", "emit", false));
+
+        var findings = new PlanAnalyzer().analyze(plan);
+        assertEquals(List.of("missing-index"), codes(findings));
+        assertEquals(Severity.CRITICAL, findings.get(0).getSeverity());
+    }
+
+    @Test
+    void joins() {
+        var plan = new PlanGraphTestMock();
+        var scan = plan.newNode("scan", "scan", true);
+        scan.addAttribute("access", "range-scan");
+        var join1 = plan.newNode("join_scan", "join_scan", false);
+        join1.addAttribute("access", "full-scan");
+        join1.addAttribute("table", "t1");
+        var join2 = plan.newNode("join", "join", false);
+        join2.addAttribute("join-type", "cross");
+        scan.addDownstream(join1);
+        join1.addDownstream(join2);
+
+        var findings = new PlanAnalyzer(2).analyze(plan);
+        assertEquals(List.of("nested-full-scan", "cross-join", "large-join", "shuffle-join"), codes(findings));
+        assertTrue(new PlanAnalyzer(3).analyze(plan).stream().noneMatch(f -> f.getCode().equals("large-join")));
+    }
+
+    private static List<String> codes(List<PlanFinding> findings) {
+        return findings.stream().map(PlanFinding::getCode).collect(Collectors.toList());
+    }
+
+    private static class PlanGraphTestMock implements PlanGraph {
+
+        private final Set<PlanNodeTestMock> sourceSet = new LinkedHashSet<>();
+
+        @Override
+        public Set<? extends PlanNode> getNodes() {
+            var saw = new LinkedHashSet<PlanNode>(sourceSet);
+            var work = new ArrayDeque<PlanNode>(sourceSet);
+            while (!work.isEmpty()) {
+                var next = work.removeFirst();
+                Stream.concat(next.getUpstreams().stream(), next.getDownstreams().stream()) //
+                        .filter(it -> !saw.contains(it)) //
+                        .forEach(it -> {
+                            saw.add(it);
+                            work.addFirst(it);
+                        });
+            }
+            return saw;
+        }
+
+        @Override
+        public Set<? extends PlanNode> getSources() {
+            return this.sourceSet;
+        }
+
+        @Override
+        public Set<? extends PlanNode> getDestinations() {
+            throw new UnsupportedOperationException();
+        }
+
+        PlanNodeTestMock newNode(String kind, String title, boolean source) {
+            var node = new PlanNodeTestMock(kind, title);
+            if (source) {
+                sourceSet.add(node);
+            }
+            return node;
+        }
+    }
+
+    private static class PlanNodeTestMock implements PlanNode {
+
+        private final String kind;
+        private final String title;
+        private final Map<String, String> attributes = new LinkedHashMap<>();
+        private final Set<PlanNodeTestMock> upstreamSet = new LinkedHashSet<>();
+        private final Set<PlanNodeTestMock> downstreamSet = new LinkedHashSet<>();
+
+        PlanNodeTestMock(String kind, String title) {
+            this.kind = kind;
+            this.title = title;
+        }
+
+        @Override
+        public String getKind() {
+            return this.kind;
+        }
+
+        @Override
+        public String getTitle() {
+            return this.title;
+        }
+
+        @Override
+        public Map<String, String> getAttributes() {
+            return this.attributes;
+        }
+
+        @Override
+        public Set<? extends PlanNode> getUpstreams() {
+            return this.upstreamSet;
+        }
+
+        @Override
+        public Set<? extends PlanNode> getDownstreams() {
+            return this.downstreamSet;
+        }
+
+        void addAttribute(String key, String value) {
+            attributes.put(key, value);
+        }
+
+        void addDownstream(PlanNodeTestMock node) {
+            downstreamSet.add(node);
+            node.upstreamSet.add(this);
+        }
+
+        @Override
+        public String toString() {
+            return this.title;
+        }
+    }
+}
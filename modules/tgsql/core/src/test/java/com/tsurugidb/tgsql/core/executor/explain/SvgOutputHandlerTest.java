@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.explain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.tgsql.core.config.TgsqlClientVariableMap;
+import com.tsurugidb.tgsql.core.executor.engine.EngineConfigurationException;
+import com.tsurugidb.tgsql.core.executor.engine.TestUtil;
+import com.tsurugidb.tgsql.core.executor.report.TestReporter;
+import com.tsurugidb.tgsql.core.model.ErroneousStatement;
+import com.tsurugidb.tgsql.core.model.Region;
+import com.tsurugidb.tgsql.core.model.Regioned;
+import com.tsurugidb.tgsql.core.model.Value;
+import com.tsurugidb.tsubakuro.explain.BasicPlanGraph;
+import com.tsurugidb.tsubakuro.explain.BasicPlanNode;
+
+class SvgOutputHandlerTest {
+
+    private Path temporary;
+
+    @BeforeEach
+    void prepareTempDir() throws IOException {
+        temporary = TestUtil.createTempDir();
+    }
+
+    @AfterEach
+    void cleanupTempDir() throws IOException {
+        TestUtil.removeDir(temporary);
+    }
+
+    private BasicPlanGraph getSimpleGraph() {
+        var a = new BasicPlanNode("a", Map.of());
+        var b = new BasicPlanNode("b", Map.of());
+        a.addDownstream(b);
+        var graph = new BasicPlanGraph(List.of(a, b));
+        return graph;
+    }
+
+    @Test
+    void fromOptions_no_options() throws Exception {
+        var handler = SvgOutputHandler.fromOptions(Map.of());
+        var graph = getSimpleGraph();
+        var reporter = new TestReporter();
+
+        handler.handle(reporter, graph);
+
+        // ok
+    }
+
+    @Test
+    void fromOptions_output_svg() throws Exception {
+        var output = temporary.resolve("output").resolve("out.svg");
+        var handler = SvgOutputHandler.fromOptions( //
+                toOptions(Map.of( //
+                        SvgOutputHandler.KEY_OUTPUT, Optional.of(Value.of(output.toAbsolutePath().toString())))));
+
+        var graph = getSimpleGraph();
+        var reporter = new TestReporter();
+        handler.handle(reporter, graph);
+
+        assertTrue(Files.exists(output));
+        assertTrue(Files.readString(output, StandardCharsets.UTF_8).contains("<svg "));
+    }
+
+    @Test
+    void fromOptions_output_html() throws Exception {
+        var output = temporary.resolve("out.html");
+        var handler = SvgOutputHandler.fromOptions( //
+                toOptions(Map.of( //
+                        SvgOutputHandler.KEY_OUTPUT, Optional.of(Value.of(output.toAbsolutePath().toString())), //
+                        SvgOutputHandler.KEY_VERBOSE, Optional.empty())));
+
+        var graph = getSimpleGraph();
+        var reporter = new TestReporter();
+        handler.handle(reporter, graph);
+
+        assertTrue(Files.readString(output, StandardCharsets.UTF_8).startsWith("<!DOCTYPE html>"));
+    }
+
+    @Test
+    void fromOptions_output_unsupported() throws Exception {
+        var output = temporary.resolve("out.png");
+        var e = assertThrows(EngineConfigurationException.class, () -> SvgOutputHandler.fromOptions( //
+                toOptions(Map.of( //
+                        SvgOutputHandler.KEY_OUTPUT, Optional.of(Value.of(output.toAbsolutePath().toString()))))));
+        assertEquals(ErroneousStatement.ErrorKind.INVALID_EXPLAIN_OPTION, e.getErrorKind());
+    }
+
+    @Test
+    void fromOptions_output_directory() throws Exception {
+        var output = temporary.resolve("output.svg");
+        Files.createDirectories(output);
+        var e = assertThrows(EngineConfigurationException.class, () -> SvgOutputHandler.fromOptions( //
+                toOptions(Map.of( //
+                        SvgOutputHandler.KEY_OUTPUT, Optional.of(Value.of(output.toAbsolutePath().toString()))))));
+        assertEquals(ErroneousStatement.ErrorKind.INVALID_EXPLAIN_OPTION, e.getErrorKind());
+    }
+
+    @Test
+    void extendOptions() {
+        var clientVariableMap = new TgsqlClientVariableMap();
+        clientVariableMap.put("svg.output", "/path/to/out.svg");
+        clientVariableMap.put("dot.output", "/path/to/out.dot");
+
+        var options = SvgOutputHandler.extendOptions(Map.of(), clientVariableMap);
+        var keys = options.keySet().stream().map(Regioned::getValue).collect(Collectors.toList());
+        assertEquals(List.of("svg.output"), keys);
+    }
+
+    @Test
+    void isHandled() throws Exception {
+        var handler = SvgOutputHandler.fromOptions(Map.of());
+
+        assertTrue(handler.isHandled(SvgOutputHandler.KEY_OUTPUT));
+        assertTrue(handler.isHandled(SvgOutputHandler.KEY_VERBOSE));
+        assertFalse(handler.isHandled(DotOutputHandler.KEY_OUTPUT));
+    }
+
+    private static Map<Regioned<String>, Optional<Regioned<Value>>> toOptions(Map<String, Optional<Value>> map) {
+        return map.entrySet().stream() //
+                .collect(Collectors.toMap( //
+                        entry -> new Region(0, 0, 0, 0).wrap(entry.getKey()), //
+                        entry -> entry.getValue().map(it -> new Region(0, 0, 0, 0).wrap(it))));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.explain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.tgsql.core.executor.explain.SvgPlanGraphRenderer.Format;
+import com.tsurugidb.tsubakuro.explain.BasicPlanGraph;
+import com.tsurugidb.tsubakuro.explain.BasicPlanNode;
+
+class SvgPlanGraphRendererTest {
+
+    private static BasicPlanGraph getDiamondGraph() {
+        // a -> b -> d, a -> c -> d, a -> d
+        var a = new BasicPlanNode("a", Map.of("access", "full-scan", "table", "<t>"));
+        var b = new BasicPlanNode("b", Map.of());
+        var c = new BasicPlanNode("c", Map.of());
+        var d = new BasicPlanNode("d", Map.of());
+        a.addDownstream(b);
+        a.addDownstream(c);
+        a.addDownstream(d);
+        b.addDownstream(d);
+        c.addDownstream(d);
+        return new BasicPlanGraph(List.of(a, b, c, d));
+    }
+
+    @Test
+    void layout() {
+        var graph = getDiamondGraph();
+        var layout = PlanGraphLayout.compute(graph, node -> new double[] { 50, 20 });
+
+        var vertices = layout.getVertices();
+        assertEquals(4, vertices.size());
+        assertEquals(3, layout.getLayers().size());
+        // a -> d spans two layers, so that a dummy vertex is placed in the middle layer
+        assertEquals(3, layout.getLayers().get(1).size());
+        assertEquals(5, layout.getEdges().size());
+
+        for (var vertex : vertices) {
+            for (var downstream : vertex.downstreams) {
+                assertTrue(vertex.x + vertex.width < downstream.x, "edge must go from left to right");
+            }
+        }
+        for (var layer : layout.getLayers()) {
+            for (int i = 1; i < layer.size(); i++) {
+                var prev = layer.get(i - 1);
+                assertTrue(prev.y + prev.height <= layer.get(i).y, "vertices must not overlap");
+            }
+        }
+        for (var vertex : vertices) {
+            assertTrue(vertex.x + vertex.width <= layout.getWidth());
+            assertTrue(vertex.y + vertex.height <= layout.getHeight());
+        }
+    }
+
+    @Test
+    void layout_empty() {
+        var layout = PlanGraphLayout.compute(new BasicPlanGraph(List.of()), node -> new double[] { 50, 20 });
+
+        assertEquals(0, layout.getVertices().size());
+        assertEquals(0, layout.getEdges().size());
+    }
+
+    @Test
+    void write_svg() throws Exception {
+        var graph = getDiamondGraph();
+        var renderer = new SvgPlanGraphRenderer(false);
+
+        var buf = new StringBuilder();
+        renderer.write(graph, buf, Format.SVG);
+
+        var svg = buf.toString();
+        assertTrue(svg.startsWith("<?xml"));
+        assertTrue(svg.contains("<svg "));
+        assertTrue(svg.contains("class=\"node full-scan\""));
+        assertTrue(svg.contains("table: &lt;t&gt;"));
+        assertEquals(5, count(svg, "class=\"edge\""));
+        assertEquals(4, count(svg, "<rect "));
+        assertFalse(svg.contains("<table>"));
+    }
+
+    @Test
+    void write_html() throws Exception {
+        var graph = getDiamondGraph();
+        var renderer = new SvgPlanGraphRenderer(true);
+
+        var buf = new StringBuilder();
+        renderer.write(graph, buf, Format.HTML);
+
+        var html = buf.toString();
+        assertTrue(html.startsWith("<!DOCTYPE html>"));
+        assertTrue(html.contains("<svg "));
+        assertTrue(html.contains("<table>"));
+        assertEquals(4 + 1, count(html, "<tr>"));
+    }
+
+    @Test
+    void getLabel() {
+        var node = new BasicPlanNode("scan", Map.of("table", "t".repeat(100)));
+
+        var lines = new SvgPlanGraphRenderer(false).getLabel(node);
+        assertEquals(2, lines.size());
+        assertEquals(SvgPlanGraphRenderer.MAX_LABEL_LENGTH, lines.get(1).length());
+        assertTrue(lines.get(1).endsWith("..."));
+
+        var verbose = new SvgPlanGraphRenderer(true).getLabel(node);
+        assertTrue(verbose.get(0).endsWith("(scan)"));
+    }
+
+    @Test
+    void format_of() {
+        assertEquals(Optional.of(Format.SVG), Format.of(Path.of("out.svg")));
+        assertEquals(Optional.of(Format.HTML), Format.of(Path.of("out.HTML")));
+        assertEquals(Optional.of(Format.HTML), Format.of(Path.of("out.htm")));
+        assertEquals(Optional.empty(), Format.of(Path.of("out.png")));
+        assertEquals(Optional.empty(), Format.of(Path.of("out")));
+    }
+
+    @Test
+    void format() {
+        assertEquals("12", SvgPlanGraphRenderer.format(12.0));
+        assertEquals("12.5", SvgPlanGraphRenderer.format(12.5));
+        assertEquals("0.3", SvgPlanGraphRenderer.format(0.333));
+    }
+
+    private static int count(String s, String pattern) {
+        int count = 0;
+        for (int i = s.indexOf(pattern); i >= 0; i = s.indexOf(pattern, i + pattern.length())) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.sql.proto.SqlRequest;
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.executor.job.BackgroundJob.State;
+import com.tsurugidb.tgsql.core.executor.sql.PreparedStatementResult;
+import com.tsurugidb.tgsql.core.executor.sql.SqlProcessor;
+import com.tsurugidb.tgsql.core.executor.sql.TransactionWrapper;
+import com.tsurugidb.tgsql.core.model.Region;
+import com.tsurugidb.tgsql.core.model.Statement;
+import com.tsurugidb.tgsql.core.parser.SqlParser;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.CounterType;
+import com.tsurugidb.tsubakuro.sql.ExecuteResult;
+import com.tsurugidb.tsubakuro.sql.SqlServiceException;
+import com.tsurugidb.tsubakuro.sql.StatementMetadata;
+import com.tsurugidb.tsubakuro.sql.TableMetadata;
+import com.tsurugidb.tsubakuro.sql.TransactionStatus.TransactionStatusWithMessage;
+
+class BackgroundJobManagerTest {
+
+    static class MockSqlProcessor implements SqlProcessor {
+
+        private boolean active = false;
+        private TransactionWrapper transaction = null;
+        boolean connected = false;
+        boolean committed = false;
+
+        @Override
+        public void connect() throws ServerException, IOException, InterruptedException {
+            this.connected = true;
+        }
+
+        @Override
+        public boolean disconnect() throws ServerException, IOException, InterruptedException {
+            return true;
+        }
+
+        @Override
+        public List<String> getTableNames() throws ServerException, IOException, InterruptedException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TableMetadata getTableMetadata(String tableName) throws ServerException, IOException, InterruptedException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isSessionActive() {
+            return connected;
+        }
+
+        @Override
+        public TransactionWrapper getTransaction() {
+            if (this.transaction == null) {
+                this.transaction = new TransactionWrapper(null, null);
+            }
+            return this.transaction;
+        }
+
+        @Override
+        public boolean isTransactionActive() {
+            return active;
+        }
+
+        @Override
+        public String getTransactionId() {
+            return active ? "MockTx" : null;
+        }
+
+        @Override
+        public SqlServiceException getTransactionException() throws ServerException, IOException, InterruptedException {
+            return null;
+        }
+
+        @Override
+        public TransactionStatusWithMessage getTransactionStatus() throws ServerException, IOException, InterruptedException {
+            return null;
+        }
+
+        @Override
+        public PreparedStatementResult execute(String statement, Region region) throws ServerException, IOException, InterruptedException {
+            var er = new ExecuteResult() {
+                @Override
+                public Map<CounterType, Long> getCounters() {
+                    return Map.of(CounterType.INSERTED_ROWS, 1L);
+                }
+            };
+            return new PreparedStatementResult(er);
+        }
+
+        @Override
+        public void startTransaction(SqlRequest.TransactionOption option) throws ServerException, IOException, InterruptedException {
+            this.active = true;
+        }
+
+        @Override
+        public void commitTransaction(SqlRequest.CommitStatus status) throws ServerException, IOException, InterruptedException {
+            this.active = false;
+            this.committed = true;
+        }
+
+        @Override
+        public void rollbackTransaction() throws ServerException, IOException, InterruptedException {
+            this.active = false;
+        }
+
+        @Override
+        public StatementMetadata explain(String statement, Region region) throws ServerException, IOException, InterruptedException {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static Statement parse(String text) throws IOException {
+        try (var parser = new SqlParser(new StringReader(text))) {
+            return parser.next();
+        }
+    }
+
+    @Test
+    void submit() throws Exception {
+        var sql = new MockSqlProcessor();
+        try (var manager = new BackgroundJobManager(new TgsqlConfig(), config -> sql)) {
+            var job = manager.submit(parse("INSERT INTO A DEFAULT VALUES"));
+            assertEquals(1, job.getId());
+            assertEquals("INSERT INTO A DEFAULT VALUES", job.getText());
+
+            manager.await(job);
+            assertEquals(State.SUCCEEDED, job.getState());
+            assertTrue(sql.connected);
+            assertTrue(sql.committed);
+            assertFalse(sql.isTransactionActive());
+
+            var output = Files.readAllLines(job.getSpoolFile(), StandardCharsets.UTF_8);
+            assertFalse(output.isEmpty());
+
+            assertEquals(List.of(job), manager.getJobs());
+            assertEquals(job, manager.findJob(1).get());
+            assertTrue(manager.findJob(2).isEmpty());
+        }
+    }
+
+    @Test
+    void submit_failed() throws Exception {
+        var sql = new MockSqlProcessor() {
+            @Override
+            public PreparedStatementResult execute(String statement, Region region) {
+                throw new IllegalStateException("mock error");
+            }
+        };
+        try (var manager = new BackgroundJobManager(new TgsqlConfig(), config -> sql)) {
+            var job = manager.submit(parse("INSERT INTO A DEFAULT VALUES"));
+            manager.await(job);
+            assertEquals(State.FAILED, job.getState());
+            assertEquals("mock error", job.getErrorMessage());
+            assertFalse(sql.isTransactionActive());
+        }
+    }
+
+    @Test
+    void cancel() throws Exception {
+        var started = new CountDownLatch(1);
+        var sql = new MockSqlProcessor() {
+            @Override
+            public PreparedStatementResult execute(String statement, Region region) throws InterruptedException {
+                started.countDown();
+                Thread.sleep(60_000);
+                throw new AssertionError();
+            }
+        };
+        try (var manager = new BackgroundJobManager(new TgsqlConfig(), config -> sql)) {
+            var job = manager.submit(parse("SELECT * FROM A"));
+            started.await();
+            assertTrue(manager.cancel(job));
+            manager.await(job);
+            assertEquals(State.CANCELLED, job.getState());
+            assertFalse(manager.cancel(job));
+        }
+    }
+
+    @Test
+    void close() throws Exception {
+        var sql = new MockSqlProcessor();
+        BackgroundJob job;
+        try (var manager = new BackgroundJobManager(new TgsqlConfig(), config -> sql)) {
+            job = manager.submit(parse("INSERT INTO A DEFAULT VALUES"));
+            manager.await(job);
+            assertTrue(Files.exists(job.getSpoolFile()));
+        }
+        assertFalse(Files.exists(job.getSpoolFile()));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.tgsql.core.model.Region;
+
+class ScriptJournalTest {
+
+    @TempDir
+    Path temporaryDir;
+
+    @Test
+    void checkpoint() throws Exception {
+        Path file = temporaryDir.resolve("script.journal");
+        try (var journal = ScriptJournal.open(file)) {
+            journal.checkpoint(3_482_117, new Region(1_234_567_890_123L, 10, 40_000_000, 12));
+        }
+        var checkpoint = ScriptCheckpoint.load(file);
+        assertEquals(3_482_117, checkpoint.getStatementIndex());
+        assertEquals(1_234_567_890_123L, checkpoint.getOffset());
+        assertEquals(40_000_000, checkpoint.getLine());
+        assertEquals(12, checkpoint.getColumn());
+        assertFalse(checkpoint.isCompleted());
+    }
+
+    @Test
+    void checkpoint_byte_offset() throws Exception {
+        Path file = temporaryDir.resolve("script.journal");
+        try (var journal = ScriptJournal.open(file)) {
+            journal.checkpoint(2, new Region(100, 10, 3, 0), 250);
+        }
+        var checkpoint = ScriptCheckpoint.load(file);
+        assertEquals(100, checkpoint.getOffset());
+        assertEquals(250, checkpoint.getByteOffset());
+
+        // journals without byte offsets
+        Files.writeString(file, new ScriptCheckpoint(2, 100, 3, 0, false).toJournalText(), StandardCharsets.UTF_8);
+        assertEquals(-1, ScriptCheckpoint.load(file).getByteOffset());
+    }
+
+    @Test
+    void overwrite() throws Exception {
+        Path file = temporaryDir.resolve("script.journal");
+        try (var journal = ScriptJournal.open(file)) {
+            journal.checkpoint(100_000, new Region(1_000_000, 10, 100_000, 100));
+            journal.checkpoint(1, new Region(10, 10, 1, 0));
+            var checkpoint = ScriptCheckpoint.load(file);
+            assertEquals(1, checkpoint.getStatementIndex());
+            assertEquals(10, checkpoint.getOffset());
+            assertEquals(1, checkpoint.getLine());
+            assertEquals(0, checkpoint.getColumn());
+
+            journal.complete(2);
+        }
+        var checkpoint = ScriptCheckpoint.load(file);
+        assertTrue(checkpoint.isCompleted());
+        assertEquals(2, checkpoint.getStatementIndex());
+    }
+
+    @Test
+    void truncate_existing() throws Exception {
+        Path file = temporaryDir.resolve("script.journal");
+        Files.writeString(file, "garbage=".repeat(100), StandardCharsets.UTF_8);
+        try (var journal = ScriptJournal.open(file)) {
+            journal.checkpoint(0, new Region(0, 1, 0, 0));
+        }
+        var checkpoint = ScriptCheckpoint.load(file);
+        assertEquals(0, checkpoint.getStatementIndex());
+        assertFalse(Files.readString(file, StandardCharsets.UTF_8).contains("garbage"));
+    }
+
+    @Test
+    void load_broken() throws Exception {
+        Path file = temporaryDir.resolve("script.journal");
+        Files.writeString(file, "statement=1\noffset=x\n", StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> ScriptCheckpoint.load(file));
+
+        Files.writeString(file, "statement=1\n", StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> ScriptCheckpoint.load(file));
+    }
+
+    @Test
+    void load_checksum() throws Exception {
+        Path file = temporaryDir.resolve("script.journal");
+        String text = new ScriptCheckpoint(10, 100, 5, 0, false).toJournalText();
+
+        // missing checksum line, like a journal written partially
+        Files.writeString(file, text.substring(0, text.indexOf(ScriptCheckpoint.KEY_CHECKSUM)), StandardCharsets.UTF_8);
+        var e = assertThrows(IOException.class, () -> ScriptCheckpoint.load(file));
+        assertTrue(e.getMessage().contains(ScriptCheckpoint.KEY_CHECKSUM), e.getMessage());
+
+        // mixed with the previous journal
+        Files.writeString(file, text.replace("statement=10", "statement=90"), StandardCharsets.UTF_8);
+        e = assertThrows(IOException.class, () -> ScriptCheckpoint.load(file));
+        assertTrue(e.getMessage().contains(ScriptCheckpoint.KEY_CHECKSUM), e.getMessage());
+
+        // the rest of the previous journal which was not truncated yet
+        Files.writeString(file, text + "line=12345\ncolumn=1\n", StandardCharsets.UTF_8);
+        var checkpoint = ScriptCheckpoint.load(file);
+        assertEquals(10, checkpoint.getStatementIndex());
+        assertEquals(5, checkpoint.getLine());
+        assertEquals(0, checkpoint.getColumn());
+    }
+}
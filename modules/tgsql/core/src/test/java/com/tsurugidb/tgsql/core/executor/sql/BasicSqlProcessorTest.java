@@ -160,6 +160,34 @@ class BasicSqlProcessorTest {
         }
     }
 
+    @Test
+    void abortTransaction() throws Exception {
+        var reached = new AtomicBoolean();
+        Transaction tx = new Transaction() {
+            @Override
+            public FutureResponse<Void> rollback() throws IOException {
+                if (!reached.compareAndSet(false, true)) {
+                    throw new AssertionError();
+                }
+                return FutureResponse.returns(null);
+            }
+        };
+        SqlClient client = new SqlClient() {
+            @Override
+            public FutureResponse<Transaction> createTransaction(SqlRequest.TransactionOption option) throws IOException {
+                return FutureResponse.returns(tx);
+            }
+        };
+        try (var sql = new BasicSqlProcessor(client)) {
+            assertFalse(sql.abortTransaction());
+            sql.startTransaction(SqlRequest.TransactionOption.getDefaultInstance());
+            assertTrue(sql.abortTransaction());
+            assertTrue(sql.isTransactionActive());
+            assertSame(tx, sql.getTransaction().getTransaction());
+        }
+        assertTrue(reached.get());
+    }
+
     @Test
     void execute_wo_result() throws Exception {
         var reached = new AtomicBoolean();
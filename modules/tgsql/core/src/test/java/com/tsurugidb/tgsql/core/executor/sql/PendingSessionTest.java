@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.credential.DefaultCredentialSessionConnector;
+import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
+import com.tsurugidb.tsubakuro.channel.common.connection.NullCredential;
+import com.tsurugidb.tsubakuro.common.BlobTransferType;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.exception.CoreServiceException;
+
+class PendingSessionTest {
+
+    @Test
+    void start_no_endpoint() {
+        var config = new TgsqlConfig();
+        assertThrows(IllegalStateException.class, () -> PendingSession.start(config));
+    }
+
+    @Test
+    void await_failure() throws Exception {
+        var config = new TgsqlConfig();
+        config.setEndpoint("tcp://localhost:12345");
+        config.setCredential(() -> {
+            throw new UncheckedIOException(new IOException("broken credential"));
+        });
+
+        try (var target = PendingSession.start(config)) {
+            assertEquals("tcp://localhost:12345", target.getEndpoint());
+            var e = assertThrows(UncheckedIOException.class, () -> target.await("tcp://localhost:12345"));
+            assertEquals("broken credential", e.getCause().getMessage());
+
+            // already taken
+            assertNull(target.await("tcp://localhost:12345"));
+        }
+    }
+
+    @Test
+    void await_other_endpoint() throws Exception {
+        var config = new TgsqlConfig();
+        config.setEndpoint("tcp://localhost:12345");
+        config.setCredential(() -> {
+            throw new UncheckedIOException(new IOException("broken credential"));
+        });
+
+        try (var target = PendingSession.start(config)) {
+            assertNull(target.await("ipc:tsurugi"));
+        }
+    }
+
+    @Test
+    void await_non_interactive() throws Exception {
+        var triedList = new CopyOnWriteArrayList<Credential>();
+        var config = new TgsqlConfig();
+        config.setEndpoint("tcp://localhost:12345");
+        config.setDefaultCredentialSessionConnector(new DefaultCredentialSessionConnector() {
+            @Override
+            protected Session connect(String applicationName, Optional<String> label, String endpoint, Credential credential, BlobTransferType blobTransferType,
+                    List<CoreServiceException> failureList) {
+                if (credential != null) {
+                    triedList.add(credential);
+                }
+                return null; // authentication error
+            }
+
+            @Override
+            public String readUser() {
+                throw new AssertionError("must not ask user");
+            }
+        });
+
+        try (var target = PendingSession.start(config)) {
+            assertNull(target.await("tcp://localhost:12345"));
+        }
+        // the user/password prompt is skipped
+        assertSame(NullCredential.INSTANCE, triedList.get(triedList.size() - 1));
+    }
+
+    @Test
+    void take() {
+        var config = new TgsqlConfig();
+        config.setEndpoint("tcp://localhost:12345");
+        config.setCredential(() -> {
+            throw new UncheckedIOException(new IOException("broken credential"));
+        });
+
+        var pending = PendingSession.start(config);
+        config.setPendingSession(pending);
+        assertSame(pending, config.takePendingSession());
+        assertNull(config.takePendingSession());
+        pending.close();
+        pending.close();
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.sql.proto.SqlCommon;
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.config.TgsqlCvKey;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.sql.TableMetadata;
+
+class SchemaMetadataCacheTest {
+
+    static class MockSqlProcessor extends BasicSqlProcessor {
+
+        final AtomicInteger tableNamesCount = new AtomicInteger();
+        final Map<String, AtomicInteger> tableMetadataCount = new ConcurrentHashMap<>();
+        volatile List<String> tableNames = List.of("a", "b");
+
+        MockSqlProcessor() {
+            super(new SqlClient() {
+                // nothing special
+            });
+        }
+
+        @Override
+        public List<String> getTableNames() {
+            tableNamesCount.incrementAndGet();
+            return tableNames;
+        }
+
+        @Override
+        public TableMetadata getTableMetadata(String tableName) {
+            tableMetadataCount.computeIfAbsent(tableName, k -> new AtomicInteger()).incrementAndGet();
+            if (!tableNames.contains(tableName)) {
+                return null;
+            }
+            return new MockTableMetadata(tableName);
+        }
+
+        @Override
+        public boolean isSessionActive() {
+            return true;
+        }
+    }
+
+    static class MockTableMetadata implements TableMetadata {
+
+        private final String tableName;
+
+        MockTableMetadata(String tableName) {
+            this.tableName = tableName;
+        }
+
+        @Override
+        public Optional<String> getDatabaseName() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> getSchemaName() {
+            return Optional.empty();
+        }
+
+        @Override
+        public String getTableName() {
+            return tableName;
+        }
+
+        @Override
+        public Optional<String> getDescription() {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<? extends SqlCommon.Column> getColumns() {
+            return List.of( //
+                    SqlCommon.Column.newBuilder().setName("k").setAtomType(SqlCommon.AtomType.INT4).build(), //
+                    SqlCommon.Column.newBuilder().setName("v").setAtomType(SqlCommon.AtomType.CHARACTER).build());
+        }
+
+        @Override
+        public List<String> getPrimaryKeys() {
+            return List.of("k");
+        }
+    }
+
+    private static <T> T await(Supplier<T> supplier, T expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            T actual = supplier.get();
+            if (actual.equals(expected)) {
+                return actual;
+            }
+            Thread.sleep(10);
+        }
+        return fail("timeout: expected=" + expected + ", actual=" + supplier.get());
+    }
+
+    @Test
+    void getTableNames_async() throws Exception {
+        var sql = new MockSqlProcessor();
+        try (var cache = new SchemaMetadataCache(sql, new TgsqlConfig())) {
+            assertEquals(List.of(), cache.getTableNames());
+
+            await(cache::getTableNames, List.of("a", "b"));
+            cache.getTableNames();
+            assertEquals(1, sql.tableNamesCount.get());
+        }
+    }
+
+    @Test
+    void getColumnNames_async() throws Exception {
+        var sql = new MockSqlProcessor();
+        try (var cache = new SchemaMetadataCache(sql, new TgsqlConfig())) {
+            assertEquals(List.of(), cache.getColumnNames("a"));
+
+            await(() -> cache.getColumnNames("a"), List.of("k", "v"));
+            assertEquals(1, sql.tableMetadataCount.get("a").get());
+        }
+    }
+
+    @Test
+    void loadTableNames() throws Exception {
+        var sql = new MockSqlProcessor();
+        try (var cache = new SchemaMetadataCache(sql, new TgsqlConfig())) {
+            assertEquals(List.of("a", "b"), cache.loadTableNames());
+            assertEquals(List.of("a", "b"), cache.loadTableNames());
+            assertEquals(1, sql.tableNamesCount.get());
+
+            sql.tableNames = List.of("a", "b", "c");
+            cache.invalidate();
+            assertEquals(List.of("a", "b"), cache.getTableNames());
+            assertEquals(List.of("a", "b", "c"), cache.loadTableNames());
+        }
+    }
+
+    @Test
+    void loadTableMetadata() throws Exception {
+        var sql = new MockSqlProcessor();
+        try (var cache = new SchemaMetadataCache(sql, new TgsqlConfig())) {
+            var metadata = cache.loadTableMetadata("a");
+            assertEquals("a", metadata.getTableName());
+            assertSame(metadata, cache.loadTableMetadata("a"));
+            assertEquals(1, sql.tableMetadataCount.get("a").get());
+
+            assertNull(cache.loadTableMetadata("x"));
+            assertNull(cache.loadTableMetadata("x"));
+            assertEquals(2, sql.tableMetadataCount.get("x").get());
+        }
+    }
+
+    @Test
+    void ttl_zero() throws Exception {
+        var sql = new MockSqlProcessor();
+        var config = new TgsqlConfig();
+        config.getClientVariableMap().put(TgsqlCvKey.METADATA_CACHE_TTL, 0);
+        try (var cache = new SchemaMetadataCache(sql, config)) {
+            cache.loadTableNames();
+            cache.loadTableNames();
+            assertEquals(2, sql.tableNamesCount.get());
+        }
+    }
+
+    @Test
+    void clear() throws Exception {
+        var sql = new MockSqlProcessor();
+        try (var cache = new SchemaMetadataCache(sql, new TgsqlConfig())) {
+            cache.loadTableNames();
+            cache.clear();
+            assertEquals(List.of(), cache.getTableNames());
+        }
+    }
+}
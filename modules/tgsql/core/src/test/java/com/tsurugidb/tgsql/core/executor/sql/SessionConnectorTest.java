@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.tgsql.core.config.TgsqlConfig;
+import com.tsurugidb.tgsql.core.credential.DefaultCredentialSessionConnector;
+import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
+import com.tsurugidb.tsubakuro.channel.common.connection.NullCredential;
+import com.tsurugidb.tsubakuro.common.BlobTransferType;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.common.impl.SessionImpl;
+import com.tsurugidb.tsubakuro.exception.CoreServiceCode;
+import com.tsurugidb.tsubakuro.exception.CoreServiceException;
+
+class SessionConnectorTest {
+
+    static final Session MOCK = new SessionImpl();
+
+    static class MockConnector extends DefaultCredentialSessionConnector {
+        final List<String> attempts = new CopyOnWriteArrayList<>();
+        final List<String> unreachable;
+
+        MockConnector(String... unreachable) {
+            this.unreachable = List.of(unreachable);
+        }
+
+        @Override
+        protected Credential getTokenCredential() {
+            return null;
+        }
+
+        @Override
+        protected Credential getFileCredential() {
+            return null;
+        }
+
+        @Override
+        protected Session connect(String applicationName, Optional<String> label, String endpoint, Credential credential, BlobTransferType blobTransferType,
+                List<CoreServiceException> failureList) throws IOException {
+            if (credential == null) {
+                return null;
+            }
+            attempts.add(endpoint);
+            if (unreachable.contains(endpoint)) {
+                throw new IOException("unreachable: " + endpoint);
+            }
+            return MOCK;
+        }
+    }
+
+    private static TgsqlConfig config(MockConnector connector) {
+        var config = new TgsqlConfig();
+        config.setDefaultCredentialSessionConnector(connector);
+        return config;
+    }
+
+    @Test
+    void connect() throws Exception {
+        var connector = new MockConnector();
+        var connection = SessionConnector.connect(config(connector), "tcp://a:12345", true);
+        assertSame(MOCK, connection.session());
+        assertSame(NullCredential.INSTANCE, connection.credential());
+        assertEquals("tcp://a:12345", connection.endpoint());
+    }
+
+    @Test
+    void connect_fallback() throws Exception {
+        var connector = new MockConnector("tcp://a:12345");
+        var connection = SessionConnector.connect(config(connector), "tcp://a:12345,tcp://b:12345", true);
+        assertSame(MOCK, connection.session());
+        assertEquals("tcp://b:12345", connection.endpoint());
+        assertEquals(List.of("tcp://a:12345", "tcp://b:12345"), connector.attempts);
+    }
+
+    @Test
+    void connect_fallback_failed() {
+        var connector = new MockConnector("tcp://a:12345", "tcp://b:12345");
+        var e = assertThrows(IOException.class, () -> SessionConnector.connect(config(connector), "tcp://a:12345,tcp://b:12345", true));
+        assertEquals("unreachable: tcp://b:12345", e.getMessage());
+        assertEquals(1, e.getSuppressed().length);
+    }
+
+    @Test
+    void connect_authentication_error() throws Exception {
+        var connector = new MockConnector() {
+            @Override
+            protected Session connect(String applicationName, Optional<String> label, String endpoint, Credential credential, BlobTransferType blobTransferType,
+                    List<CoreServiceException> failureList) {
+                if (credential != null) {
+                    attempts.add(endpoint);
+                    failureList.add(new CoreServiceException(CoreServiceCode.AUTHENTICATION_ERROR));
+                }
+                return null;
+            }
+        };
+        var connection = SessionConnector.connect(config(connector), "tcp://a:12345,tcp://b:12345", false);
+        assertNull(connection);
+        assertEquals(List.of("tcp://a:12345"), connector.attempts);
+    }
+}
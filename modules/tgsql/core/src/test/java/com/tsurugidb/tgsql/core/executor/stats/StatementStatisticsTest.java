@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+
+class StatementStatisticsTest {
+
+    @Test
+    void fingerprint_percentile() {
+        var statistics = new FingerprintStatistics("select 1");
+        assertEquals(0, statistics.getPercentileNanos(0.5));
+        for (long i = 1; i <= 1000; i++) {
+            statistics.record(i * 1_000, 0, false);
+        }
+        assertEquals(1000, statistics.getCount());
+        assertEquals(1_000, statistics.getMinNanos());
+        assertEquals(1_000_000, statistics.getMaxNanos());
+        assertEquals(500_500_000, statistics.getTotalNanos());
+        assertNear(500_000, statistics.getPercentileNanos(0.50));
+        assertNear(990_000, statistics.getPercentileNanos(0.99));
+        assertEquals(1_000_000, statistics.getPercentileNanos(1.0));
+    }
+
+    private static void assertNear(long expected, long actual) {
+        // the relative error of the histogram is at most 1/8
+        assertTrue(Math.abs(expected - actual) <= expected / 8, () -> "expected=" + expected + ", actual=" + actual);
+    }
+
+    @Test
+    void record() {
+        var target = new StatementStatistics();
+        assertTrue(target.isEmpty());
+        target.record("select * from t where k = 1", 3_000_000, 1, false);
+        target.record("SELECT * FROM t WHERE k = 2", 1_000_000, 0, false);
+        target.record("insert into t values (1, 'a')", 2_000_000, 1, false);
+        target.record("insert into t values (1, 'a')", 1_000_000, -1, true);
+
+        var list = target.getStatistics();
+        assertEquals(2, list.size());
+        {
+            var s = list.get(0);
+            assertEquals("select * from t where k = ?", s.getFingerprint());
+            assertEquals(2, s.getCount());
+            assertEquals(0, s.getErrors());
+            assertEquals(1, s.getRows());
+            assertEquals(4_000_000, s.getTotalNanos());
+            assertEquals(1_000_000, s.getMinNanos());
+            assertEquals(3_000_000, s.getMaxNanos());
+        }
+        {
+            var s = list.get(1);
+            assertEquals("insert into t values (?)", s.getFingerprint());
+            assertEquals(2, s.getCount());
+            assertEquals(1, s.getErrors());
+            assertEquals(1, s.getRows());
+        }
+
+        target.clear();
+        assertTrue(target.isEmpty());
+    }
+
+    @Test
+    void writeJson() throws Exception {
+        var target = new StatementStatistics();
+        target.record("select * from t where k = 1", 1_500_000, 3, false);
+
+        var writer = new StringWriter();
+        target.writeJson(writer);
+
+        var fields = new HashMap<String, String>();
+        int objects = readFields(writer.toString(), fields);
+        assertEquals(2, objects);
+        assertEquals("select * from t where k = ?", fields.get("fingerprint"));
+        assertEquals("1", fields.get("count"));
+        assertEquals("0", fields.get("errors"));
+        assertEquals("3", fields.get("rows"));
+        assertEquals("1.5", fields.get("totalMillis"));
+        assertEquals("1.5", fields.get("p50Millis"));
+    }
+
+    private static int readFields(String json, Map<String, String> fields) throws Exception {
+        int objects = 0;
+        try (var parser = new JsonFactory().createParser(json)) {
+            for (var token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                if (token == JsonToken.START_OBJECT) {
+                    objects++;
+                } else if (token.isScalarValue()) {
+                    fields.put(parser.getCurrentName(), parser.getText());
+                }
+            }
+        }
+        return objects;
+    }
+}
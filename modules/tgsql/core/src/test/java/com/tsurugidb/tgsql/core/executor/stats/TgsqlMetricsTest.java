@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.executor.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.tools.common.metrics.MetricsRegistry;
+
+class TgsqlMetricsTest {
+
+    @Test
+    void recordStatement() {
+        var registry = new MetricsRegistry();
+        var metrics = new TgsqlMetrics(registry);
+        metrics.recordStatement(1_000_000, 10, false);
+        metrics.recordStatement(2_000_000, -1, true);
+
+        assertEquals(2, registry.counter(TgsqlMetrics.METRIC_STATEMENTS, "").get());
+        assertEquals(1, registry.counter(TgsqlMetrics.METRIC_STATEMENT_FAILURES, "").get());
+        assertEquals(10, registry.counter(TgsqlMetrics.METRIC_ROWS, "").get());
+
+        var duration = registry.histogram(TgsqlMetrics.METRIC_STATEMENT_DURATION, "").snapshot();
+        assertEquals(2, duration.getCount());
+        assertEquals(3_000_000, duration.getTotal());
+    }
+
+    @Test
+    void recordTransaction() {
+        var metrics = new TgsqlMetrics();
+        metrics.recordCommit();
+        metrics.recordCommit();
+        metrics.recordRollback();
+
+        var registry = metrics.getRegistry();
+        assertEquals(2, registry.counter(TgsqlMetrics.METRIC_COMMITS, "").get());
+        assertEquals(1, registry.counter(TgsqlMetrics.METRIC_ROLLBACKS, "").get());
+    }
+}
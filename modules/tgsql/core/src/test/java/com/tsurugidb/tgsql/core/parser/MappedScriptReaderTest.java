@@ -0,0 +1,216 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.tgsql.core.model.Statement;
+
+class MappedScriptReaderTest {
+
+    private static final String TEXT = "SELECT '\u3042\u3044\u3046', '\uD83D\uDE00' FROM T0;\nINSERT INTO T1 VALUES ('\u6F22\u5B57');\n";
+
+    @TempDir
+    Path temporary;
+
+    @Test
+    void read_all() throws Exception {
+        var file = write(TEXT, StandardCharsets.UTF_8);
+        for (long windowSize : new long[] { MappedScriptReader.MIN_WINDOW_SIZE, 17, 1024, MappedScriptReader.DEFAULT_WINDOW_SIZE }) {
+            for (int bufferSize : new int[] { 1, 2, 3, 8192 }) {
+                try (var reader = MappedScriptReader.open(file, StandardCharsets.UTF_8, windowSize)) {
+                    assertEquals(TEXT, readAll(reader, bufferSize), "window=" + windowSize + ", buffer=" + bufferSize);
+                }
+            }
+        }
+    }
+
+    @Test
+    void read_other_charset() throws Exception {
+        var charset = Charset.forName("Shift_JIS");
+        var text = "SELECT '\u3042\u3044\u3046' FROM T0;";
+        var file = write(text, charset);
+        try (var reader = MappedScriptReader.open(file, charset, MappedScriptReader.MIN_WINDOW_SIZE)) {
+            assertEquals(text, readAll(reader, 5));
+        }
+    }
+
+    @Test
+    void read_empty() throws Exception {
+        var file = write("", StandardCharsets.UTF_8);
+        try (var reader = MappedScriptReader.open(file, StandardCharsets.UTF_8)) {
+            assertEquals(-1, reader.read(new char[10], 0, 10));
+            assertEquals(-1, reader.read(new char[10], 0, 10));
+        }
+    }
+
+    @Test
+    void read_malformed() throws Exception {
+        var file = temporary.resolve("malformed.sql");
+        Files.write(file, new byte[] { 'a', (byte) 0xff, 'b', (byte) 0xe3 });
+        try (var reader = MappedScriptReader.open(file, StandardCharsets.UTF_8)) {
+            assertEquals("a\uFFFDb\uFFFD", readAll(reader, 100));
+        }
+    }
+
+    @Test
+    void read_closed() throws Exception {
+        var file = write(TEXT, StandardCharsets.UTF_8);
+        var reader = MappedScriptReader.open(file, StandardCharsets.UTF_8);
+        reader.close();
+        assertThrows(IOException.class, () -> reader.read(new char[10], 0, 10));
+    }
+
+    @Test
+    void byte_offset() throws Exception {
+        var file = write(TEXT, StandardCharsets.UTF_8);
+        int[] offsets = { 0, TEXT.indexOf("FROM"), TEXT.indexOf("INSERT"), TEXT.indexOf("VALUES"), TEXT.length() };
+        for (long windowSize : new long[] { MappedScriptReader.MIN_WINDOW_SIZE, 17, MappedScriptReader.DEFAULT_WINDOW_SIZE }) {
+            for (int bufferSize : new int[] { 1, 2, 3, 8192 }) {
+                try (var reader = MappedScriptReader.open(file, StandardCharsets.UTF_8, windowSize)) {
+                    reader.enablePositionTracking();
+                    assertEquals(TEXT, readAll(reader, bufferSize));
+                    for (int offset : offsets) {
+                        long expected = TEXT.substring(0, offset).getBytes(StandardCharsets.UTF_8).length;
+                        assertEquals(expected, reader.getByteOffset(offset), "window=" + windowSize + ", buffer=" + bufferSize + ", offset=" + offset);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void byte_offset_many_reads() throws Exception {
+        var text = TEXT.repeat(100);
+        var file = write(text, StandardCharsets.UTF_8);
+        try (var reader = MappedScriptReader.open(file, StandardCharsets.UTF_8, 1024)) {
+            reader.enablePositionTracking();
+            assertEquals(text, readAll(reader, 2));
+            assertTrue(reader.getTrackedPositionCount() <= MappedScriptReader.MAX_TRACKED_POSITIONS, String.valueOf(reader.getTrackedPositionCount()));
+            for (int offset = 0; offset <= text.length(); offset += TEXT.length()) {
+                long expected = text.substring(0, offset).getBytes(StandardCharsets.UTF_8).length;
+                assertEquals(expected, reader.getByteOffset(offset), "offset=" + offset);
+            }
+        }
+    }
+
+    @Test
+    void byte_offset_disabled() throws Exception {
+        var file = write(TEXT, StandardCharsets.UTF_8);
+        try (var reader = MappedScriptReader.open(file, StandardCharsets.UTF_8, MappedScriptReader.DEFAULT_WINDOW_SIZE)) {
+            readAll(reader, 8192);
+            assertEquals(-1, reader.getByteOffset(1));
+        }
+    }
+
+    @Test
+    void seek() throws Exception {
+        var file = write(TEXT, StandardCharsets.UTF_8);
+        int offset = TEXT.indexOf("INSERT");
+        long byteOffset = TEXT.substring(0, offset).getBytes(StandardCharsets.UTF_8).length;
+        for (long windowSize : new long[] { MappedScriptReader.MIN_WINDOW_SIZE, MappedScriptReader.DEFAULT_WINDOW_SIZE }) {
+            try (var reader = MappedScriptReader.open(file, StandardCharsets.UTF_8, windowSize)) {
+                reader.enablePositionTracking();
+                reader.seek(byteOffset, offset);
+                assertEquals(TEXT.substring(offset), readAll(reader, 3));
+                assertEquals(byteOffset + 6, reader.getByteOffset(offset + 6));
+            }
+        }
+    }
+
+    @Test
+    void seek_out_of_file() throws Exception {
+        var file = write(TEXT, StandardCharsets.UTF_8);
+        try (var reader = MappedScriptReader.open(file, StandardCharsets.UTF_8)) {
+            assertThrows(IOException.class, () -> ((MappedScriptReader) reader).seek(Files.size(file) + 1, 0));
+        }
+    }
+
+    @Test
+    void parse_skip_byte_offset() throws Exception {
+        var file = write(TEXT, StandardCharsets.UTF_8);
+        int offset = TEXT.indexOf("INSERT");
+        long byteOffset = TEXT.substring(0, offset).getBytes(StandardCharsets.UTF_8).length;
+        try (var parser = new SqlParser(MappedScriptReader.open(file, StandardCharsets.UTF_8, MappedScriptReader.MIN_WINDOW_SIZE))) {
+            parser.skip(offset, byteOffset, 1, 0);
+            var statement = parser.next();
+            assertEquals("INSERT INTO T1 VALUES ('\u6F22\u5B57')", statement.getText());
+            assertEquals(offset, statement.getRegion().getPosition());
+            assertEquals(1, statement.getRegion().getStartLine());
+            assertNull(parser.next());
+        }
+    }
+
+    @Test
+    void open() throws Exception {
+        var file = write(TEXT, StandardCharsets.UTF_8);
+        try (var reader = MappedScriptReader.open(file, StandardCharsets.UTF_8)) {
+            assertInstanceOf(MappedScriptReader.class, reader);
+        }
+    }
+
+    @Test
+    void parse() throws Exception {
+        var file = write(TEXT, StandardCharsets.UTF_8);
+        var statements = new ArrayList<Statement>();
+        try (var parser = new SqlParser(MappedScriptReader.open(file, StandardCharsets.UTF_8, MappedScriptReader.MIN_WINDOW_SIZE))) {
+            while (true) {
+                var statement = parser.next();
+                if (statement == null) {
+                    break;
+                }
+                statements.add(statement);
+            }
+        }
+        assertEquals(2, statements.size());
+        assertEquals("SELECT '\u3042\u3044\u3046', '\uD83D\uDE00' FROM T0", statements.get(0).getText());
+        assertEquals("INSERT INTO T1 VALUES ('\u6F22\u5B57')", statements.get(1).getText());
+    }
+
+    private Path write(String text, Charset charset) throws IOException {
+        var file = temporary.resolve("script.sql");
+        Files.writeString(file, text, charset);
+        return file;
+    }
+
+    private static String readAll(Reader reader, int bufferSize) throws IOException {
+        var result = new StringBuilder();
+        var buffer = new char[bufferSize];
+        while (true) {
+            int n = reader.read(buffer, 0, bufferSize);
+            if (n < 0) {
+                break;
+            }
+            result.append(buffer, 0, n);
+        }
+        return result.toString();
+    }
+}
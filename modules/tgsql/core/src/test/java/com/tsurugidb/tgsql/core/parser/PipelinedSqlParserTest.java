@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.tsurugidb.tgsql.core.model.Statement;
+
+class PipelinedSqlParserTest {
+
+    @Test
+    void simple() throws Exception {
+        for (int capacity : new int[] { 0, 1, 2, PipelinedSqlParser.DEFAULT_CAPACITY }) {
+            var ss = parse("SELECT * FROM T0; ROLLBACK FROM T; SELECT * FROM T2", capacity);
+            assertEquals(3, ss.size());
+            assertEquals("SELECT * FROM T0", ss.get(0).getText());
+            assertEquals(Statement.Kind.ERRONEOUS, ss.get(1).getKind());
+            assertEquals("SELECT * FROM T2", ss.get(2).getText());
+        }
+    }
+
+    @Test
+    void empty_input() throws Exception {
+        var ss = parse("", 4);
+        assertEquals(0, ss.size());
+    }
+
+    @Test
+    void after_end() throws Exception {
+        try (var parser = new PipelinedSqlParser(new SqlParser(new StringReader("SELECT 1")), 4)) {
+            assertEquals("SELECT 1", parser.next().getText());
+            assertNull(parser.next());
+            assertNull(parser.next());
+        }
+    }
+
+    @Test
+    void io_error() throws Exception {
+        var error = new IOException("broken");
+        var reader = new Reader() {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                throw error;
+            }
+
+            @Override
+            public void close() {
+                // do nothing
+            }
+        };
+        try (var parser = new PipelinedSqlParser(new SqlParser(reader), 4)) {
+            var e = assertThrows(IOException.class, () -> parser.next());
+            assertSame(error, e);
+            assertNull(parser.next());
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void error() throws Exception {
+        var error = new StackOverflowError("testing");
+        var reader = new Reader() {
+            @Override
+            public int read(char[] cbuf, int off, int len) {
+                throw error;
+            }
+
+            @Override
+            public void close() {
+                // do nothing
+            }
+        };
+        try (var parser = new PipelinedSqlParser(new SqlParser(reader), 4)) {
+            var e = assertThrows(StackOverflowError.class, () -> parser.next());
+            assertSame(error, e);
+            assertNull(parser.next());
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void close_while_reading() throws Exception {
+        var reading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var closedWhileReading = new AtomicBoolean();
+        var closed = new CountDownLatch(1);
+        var reader = new Reader() {
+            private volatile boolean inRead;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) {
+                inRead = true;
+                reading.countDown();
+                try {
+                    // ignores interrupts like blocking I/O
+                    while (true) {
+                        try {
+                            release.await();
+                            break;
+                        } catch (InterruptedException e) {
+                            continue;
+                        }
+                    }
+                    return -1;
+                } finally {
+                    inRead = false;
+                }
+            }
+
+            @Override
+            public void close() {
+                closedWhileReading.set(inRead);
+                closed.countDown();
+            }
+        };
+        var parser = new PipelinedSqlParser(new SqlParser(reader), 4);
+        reading.await();
+        parser.close();
+        assertEquals(1, closed.getCount());
+
+        release.countDown();
+        closed.await();
+        assertFalse(closedWhileReading.get());
+    }
+
+    @Test
+    @Timeout(10)
+    void close_while_blocked() throws Exception {
+        var text = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            text.append("SELECT * FROM T").append(i).append(";\n");
+        }
+        try (var parser = new PipelinedSqlParser(new SqlParser(new StringReader(text.toString())), 2)) {
+            assertEquals("SELECT * FROM T0", parser.next().getText());
+            // the parser thread is blocked on the full queue
+        }
+    }
+
+    private static List<Statement> parse(String text, int capacity) throws IOException, InterruptedException {
+        var results = new ArrayList<Statement>();
+        try (var parser = new PipelinedSqlParser(new SqlParser(new StringReader(text)), capacity)) {
+            while (true) {
+                var next = parser.next();
+                if (next == null) {
+                    break;
+                }
+                results.add(next);
+            }
+        }
+        return results;
+    }
+}
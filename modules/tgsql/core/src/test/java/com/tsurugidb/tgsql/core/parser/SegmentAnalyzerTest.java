@@ -17,6 +17,7 @@ package com.tsurugidb.tgsql.core.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.StringReader;
@@ -33,6 +34,8 @@ import com.tsurugidb.tgsql.core.model.CommitStatement;
 import com.tsurugidb.tgsql.core.model.CommitStatement.CommitStatus;
 import com.tsurugidb.tgsql.core.model.ErroneousStatement.ErrorKind;
 import com.tsurugidb.tgsql.core.model.ExplainStatement;
+import com.tsurugidb.tgsql.core.model.GenericStatement;
+import com.tsurugidb.tgsql.core.model.GenericStatement.Category;
 import com.tsurugidb.tgsql.core.model.Regioned;
 import com.tsurugidb.tgsql.core.model.SpecialStatement;
 import com.tsurugidb.tgsql.core.model.StartTransactionStatement;
@@ -51,6 +54,89 @@ class SegmentAnalyzerTest {
         assertEquals("SELECT * FROM TBL", s.getText());
     }
 
+    @Test
+    void generic_category_query() throws Exception {
+        assertEquals(Category.QUERY, category("SELECT * FROM TBL"));
+        assertEquals(Category.QUERY, category("select * from TBL"));
+        assertEquals(Category.QUERY, category("(SELECT * FROM A) UNION (SELECT * FROM B)"));
+        assertEquals(Category.QUERY, category("WITH A AS (SELECT * FROM TBL) SELECT * FROM A"));
+        assertEquals(Category.QUERY, category("VALUES (1)"));
+        assertEquals(Category.QUERY, category("SELECT 'UPDATE' FROM TBL"));
+    }
+
+    @Test
+    void generic_category_dml() throws Exception {
+        assertEquals(Category.DML, category("INSERT INTO TBL VALUES (1)"));
+        assertEquals(Category.DML, category("UPDATE TBL SET C = 1"));
+        assertEquals(Category.DML, category("DELETE FROM TBL"));
+        assertEquals(Category.DML, category("WITH A AS (SELECT * FROM S) INSERT INTO TBL SELECT * FROM A"));
+        assertEquals(Category.DML, category("SELECT * FROM TBL FOR UPDATE"));
+    }
+
+    @Test
+    void generic_category_ddl() throws Exception {
+        assertEquals(Category.DDL, category("CREATE TABLE TBL (C INT)"));
+        assertEquals(Category.DDL, category("DROP TABLE TBL"));
+    }
+
+    @Test
+    void generic_category_unknown() throws Exception {
+        assertEquals(Category.UNKNOWN, category("VACUUM TBL"));
+        assertEquals(Category.UNKNOWN, category("CALL f(1 + 2)"));
+    }
+
+    @Test
+    void generic_tables_select() throws Exception {
+        var s = generic("SELECT * FROM a, b AS x, c y JOIN d ON y.k = d.k WHERE EXISTS (SELECT * FROM e)");
+        assertEquals(List.of("a", "b", "c", "d", "e"), unwrapList(s.getReadTables()));
+        assertEquals(List.of(), unwrapList(s.getWriteTables()));
+    }
+
+    @Test
+    void generic_tables_qualified() throws Exception {
+        var s = generic("SELECT * FROM s.a");
+        assertEquals(List.of("s.a"), unwrapList(s.getReadTables()));
+    }
+
+    @Test
+    void generic_tables_function() throws Exception {
+        var s = generic("SELECT EXTRACT(YEAR FROM c), COUNT(*) FROM a");
+        assertEquals(List.of("a"), unwrapList(s.getReadTables()));
+    }
+
+    @Test
+    void generic_tables_with() throws Exception {
+        var s = generic("WITH q AS (SELECT * FROM a) SELECT * FROM q JOIN b ON q.k = b.k");
+        assertEquals(List.of("a", "b"), unwrapList(s.getReadTables()));
+    }
+
+    @Test
+    void generic_tables_insert() throws Exception {
+        var s = generic("INSERT INTO a (k, v) SELECT k, v FROM b");
+        assertEquals(List.of("b"), unwrapList(s.getReadTables()));
+        assertEquals(List.of("a"), unwrapList(s.getWriteTables()));
+    }
+
+    @Test
+    void generic_tables_update() throws Exception {
+        var s = generic("UPDATE a SET v = (SELECT MAX(v) FROM b) WHERE k = 1");
+        assertEquals(List.of("b"), unwrapList(s.getReadTables()));
+        assertEquals(List.of("a"), unwrapList(s.getWriteTables()));
+    }
+
+    @Test
+    void generic_tables_delete() throws Exception {
+        var s = generic("DELETE FROM a WHERE k IN (SELECT k FROM b)");
+        assertEquals(List.of("b"), unwrapList(s.getReadTables()));
+        assertEquals(List.of("a"), unwrapList(s.getWriteTables()));
+    }
+
+    @Test
+    void generic_tables_unresolved() throws Exception {
+        assertTrue(generic("SELECT * FROM f(1)").getReadTables().isEmpty());
+        assertTrue(generic("CREATE TABLE a (k INT)").getReadTables().isEmpty());
+    }
+
     @Test
     void empty_eof() throws Exception {
         Statement s = analyze("");
@@ -1146,6 +1232,18 @@ class SegmentAnalyzerTest {
         assertEquals(Map.of("a", Value.of()), unwrapMap(t.getProperties()));
     }
 
+    private static GenericStatement generic(String text) throws IOException, ParseException {
+        Statement s = analyze(text);
+        assertEquals(Statement.Kind.GENERIC, s.getKind());
+        return (GenericStatement) s;
+    }
+
+    private static Category category(String text) throws IOException, ParseException {
+        Statement s = analyze(text);
+        assertEquals(Statement.Kind.GENERIC, s.getKind());
+        return ((GenericStatement) s).getCategory();
+    }
+
     private static Statement analyze(String text) throws IOException, ParseException {
         try (var scanner = new SqlScanner(new StringReader(text))) {
             return SegmentAnalyzer.analyze(scanner.next());
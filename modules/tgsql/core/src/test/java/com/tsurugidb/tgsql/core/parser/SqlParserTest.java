@@ -16,7 +16,9 @@
 package com.tsurugidb.tgsql.core.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.ArrayList;
@@ -115,6 +117,44 @@ class SqlParserTest {
         assertEquals("SELECT * FROM T", ss.get(0).getText());
     }
 
+    @Test
+    void skip() throws Exception {
+        String text = "SELECT 1;\n-- comment\nSELECT 2;\r\n  SELECT\n 3;\nSELECT 4";
+        var all = parse(text);
+        assertEquals(4, all.size());
+
+        var start = all.get(1).getRegion();
+        try (var parser = new SqlParser(new StringReader(text))) {
+            parser.skip(start.getPosition(), start.getStartLine(), start.getStartColumn());
+            var rest = parse0(parser);
+            assertEquals(3, rest.size());
+            for (int i = 0; i < rest.size(); i++) {
+                assertEquals(all.get(i + 1).getText(), rest.get(i).getText());
+                var expected = all.get(i + 1).getRegion();
+                var actual = rest.get(i).getRegion();
+                assertEquals(expected.getPosition(), actual.getPosition());
+                assertEquals(expected.getSize(), actual.getSize());
+                assertEquals(expected.getStartLine(), actual.getStartLine());
+                assertEquals(expected.getStartColumn(), actual.getStartColumn());
+            }
+        }
+    }
+
+    @Test
+    void skip_beyond_eof() throws Exception {
+        try (var parser = new SqlParser(new StringReader("SELECT 1"))) {
+            assertThrows(EOFException.class, () -> parser.skip(100, 0, 0));
+        }
+    }
+
+    @Test
+    void skip_after_started() throws Exception {
+        try (var parser = new SqlParser(new StringReader("SELECT 1; SELECT 2"))) {
+            parser.next();
+            assertThrows(IllegalStateException.class, () -> parser.skip(10, 0, 10));
+        }
+    }
+
     private static List<Statement> parse(String text) throws IOException {
         try (var parser = new SqlParser(new StringReader(text))) {
             return parse0(parser);
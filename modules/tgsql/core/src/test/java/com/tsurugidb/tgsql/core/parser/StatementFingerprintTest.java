@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.tgsql.core.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class StatementFingerprintTest {
+
+    @Test
+    void simple() {
+        assertEquals("select * from t", StatementFingerprint.of("SELECT * FROM T"));
+    }
+
+    @Test
+    void literal() {
+        assertEquals("select * from t where k = ? and v = ?", StatementFingerprint.of("select * from t where k = 1 and v = 'abc'"));
+        assertEquals("select * from t where k = ? and v = ?", StatementFingerprint.of("select * from t where k = 200 and v = 'xyz'"));
+        assertEquals("update t set v = ? where k = ?", StatementFingerprint.of("update t set v = true where k = X'0102'"));
+    }
+
+    @Test
+    void null_literal() {
+        assertEquals("select * from t where v is null", StatementFingerprint.of("SELECT * FROM t WHERE v IS NULL"));
+    }
+
+    @Test
+    void literal_list() {
+        assertEquals("select * from t where k in (?)", StatementFingerprint.of("select * from t where k in (1, 2, 3)"));
+        assertEquals("insert into t (k, v) values (?)", StatementFingerprint.of("INSERT INTO t(k,v) VALUES (1,'a')"));
+        assertEquals("update t set a = ?, b = ?", StatementFingerprint.of("update t set a = 1, b = 2"));
+    }
+
+    @Test
+    void whitespace_and_comment() {
+        assertEquals("select a.k from t a where a.k = ?", //
+                StatementFingerprint.of("select  a . k\n  from t a /* comment */ where a.k=1 -- comment\n"));
+    }
+
+    @Test
+    void delimited_identifier() {
+        assertEquals("select \"Key\" from t", StatementFingerprint.of("SELECT \"Key\" FROM T"));
+    }
+
+    @Test
+    void delimiter() {
+        assertEquals("select * from t", StatementFingerprint.of("select * from t;"));
+    }
+}